@@ -47,7 +47,7 @@ public class DiagramLabelProvider implements Function<VariableManager, String> {
 
     @Override
     public String apply(VariableManager variableManager) {
-        Object label = variableManager.getVariables().get(DiagramDescription.LABEL);
+        Object label = variableManager.getVariableScope().get(DiagramDescription.LABEL);
 
         // @formatter:off
         var optionalLabel = Optional.ofNullable(label)
@@ -56,7 +56,7 @@ public class DiagramLabelProvider implements Function<VariableManager, String> {
         // @formatter:on
 
         return optionalLabel.orElseGet(() -> {
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.labelExpression);
+            Result result = this.interpreter.evaluateExpression(variableManager.getVariableScope(), this.labelExpression);
             return result.asString().orElse(""); //$NON-NLS-1$
         });
     }
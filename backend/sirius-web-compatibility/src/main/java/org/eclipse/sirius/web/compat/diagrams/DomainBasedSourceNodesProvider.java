@@ -14,16 +14,14 @@ package org.eclipse.sirius.web.compat.diagrams;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import org.eclipse.sirius.diagram.description.DiagramElementMapping;
 import org.eclipse.sirius.diagram.description.EdgeMapping;
 import org.eclipse.sirius.web.compat.api.IIdentifierProvider;
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.interpreter.Result;
@@ -58,29 +56,23 @@ public class DomainBasedSourceNodesProvider implements Function<VariableManager,
         DiagramRenderingCache cache = optionalCache.get();
         String sourceFinderExpression = this.edgeMapping.getSourceFinderExpression();
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), sourceFinderExpression);
+        Result result = this.interpreter.evaluateExpression(variableManager.getVariableScope(), sourceFinderExpression);
         List<Object> semanticCandidates = result.asObjects().orElse(List.of());
 
         // @formatter:off
+        List<UUID> sourceNodeDescriptionIds = this.getNodeDescriptionIds();
         return semanticCandidates.stream()
-                .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
-                .filter(this.isFromCompatibleSourceMapping())
-                .filter(Objects::nonNull)
+                .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject, sourceNodeDescriptionIds).stream())
                 .collect(Collectors.toList());
         // @formatter:on
     }
 
-    private Predicate<Element> isFromCompatibleSourceMapping() {
-        return nodeElement -> {
-            return this.edgeMapping.getSourceMapping().stream().anyMatch(srcMapping -> this.isFromMapping(nodeElement, srcMapping));
-        };
-    }
-
-    private boolean isFromMapping(Element nodeElement, DiagramElementMapping mapping) {
-        if (nodeElement.getProps() instanceof NodeElementProps) {
-            NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-            return Objects.equals(this.identifierProvider.getIdentifier(mapping), props.getDescriptionId().toString());
-        }
-        return false;
+    private List<UUID> getNodeDescriptionIds() {
+        // @formatter:off
+        return this.edgeMapping.getSourceMapping().stream()
+                .map(this.identifierProvider::getIdentifier)
+                .map(UUID::fromString)
+                .collect(Collectors.toList());
+        // @formatter:on
     }
 }
@@ -71,7 +71,7 @@ public class EAttributeCustomizationProvider {
         if (eAttributeCustomization.eContainer() instanceof VSMElementCustomization) {
             VSMElementCustomization elementCustomization = (VSMElementCustomization) eAttributeCustomization.eContainer();
             String predicate = elementCustomization.getPredicateExpression();
-            Result result = this.interpreter.evaluateExpression(this.variableManager.getVariables(), predicate);
+            Result result = this.interpreter.evaluateExpression(this.variableManager.getVariableScope(), predicate);
             return result.asBoolean().orElse(false);
         }
         return false;
@@ -47,7 +47,7 @@ public class EdgeMappingStyleProvider implements Function<VariableManager, EdgeS
     }
 
     private EdgeStyle getEdgeStyle(VariableManager variableManager, EdgeStyleDescription style) {
-        Map<String, Object> variables = variableManager.getVariables();
+        Map<String, Object> variables = variableManager.getVariableScope();
         ColorDescriptionConverter colorDescriptionConverter = new ColorDescriptionConverter(this.interpreter, variables);
         LineStyleConverter lineStyleConverter = new LineStyleConverter();
         ArrowStyleConverter arrowStyleConverter = new ArrowStyleConverter();
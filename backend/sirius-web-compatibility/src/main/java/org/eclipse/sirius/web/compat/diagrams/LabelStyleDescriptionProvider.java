@@ -53,7 +53,7 @@ public class LabelStyleDescriptionProvider implements Function<VariableManager,
             List<ConditionalNodeStyleDescription> conditionnalStyles = nodeMapping.getConditionnalStyles();
             for (ConditionalNodeStyleDescription conditionalStyle : conditionnalStyles) {
                 String predicateExpression = conditionalStyle.getPredicateExpression();
-                Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), predicateExpression);
+                Result result = this.interpreter.evaluateExpression(variableManager.getVariableScope(), predicateExpression);
                 boolean shouldUseStyle = result.asBoolean().orElse(Boolean.FALSE).booleanValue();
                 if (shouldUseStyle) {
                     labelStyleDescription = conditionalStyle.getStyle();
@@ -67,7 +67,7 @@ public class LabelStyleDescriptionProvider implements Function<VariableManager,
             List<ConditionalContainerStyleDescription> conditionnalStyles = containerMapping.getConditionnalStyles();
             for (ConditionalContainerStyleDescription conditionalStyle : conditionnalStyles) {
                 String predicateExpression = conditionalStyle.getPredicateExpression();
-                Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), predicateExpression);
+                Result result = this.interpreter.evaluateExpression(variableManager.getVariableScope(), predicateExpression);
                 boolean shouldUseStyle = result.asBoolean().orElse(Boolean.FALSE).booleanValue();
                 if (shouldUseStyle) {
                     labelStyleDescription = conditionalStyle.getStyle();
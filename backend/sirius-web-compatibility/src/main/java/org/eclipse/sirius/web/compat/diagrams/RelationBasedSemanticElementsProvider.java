@@ -12,15 +12,12 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.compat.diagrams;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
 
-import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.web.representations.VariableManager;
 
@@ -39,25 +36,12 @@ public class RelationBasedSemanticElementsProvider implements Function<VariableM
 
     @Override
     public List<Object> apply(VariableManager variableManager) {
-        List<Object> objects = new ArrayList<>();
-
         var optionalCache = variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class);
         if (optionalCache.isEmpty()) {
             return List.of();
         }
 
-        DiagramRenderingCache cache = optionalCache.get();
-        for (Element nodeElement : cache.getNodeToObject().keySet()) {
-            if (nodeElement.getProps() instanceof NodeElementProps) {
-                NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-                if (this.sourceNodeDescriptionIds.contains(props.getDescriptionId())) {
-                    Object object = cache.getNodeToObject().get(nodeElement);
-                    objects.add(object);
-                }
-            }
-        }
-
-        return objects;
+        return optionalCache.get().getObjectsRepresentedBy(this.sourceNodeDescriptionIds);
     }
 
 }
@@ -14,16 +14,14 @@ package org.eclipse.sirius.web.compat.diagrams;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import org.eclipse.sirius.diagram.description.DiagramElementMapping;
 import org.eclipse.sirius.diagram.description.EdgeMapping;
 import org.eclipse.sirius.web.compat.api.IIdentifierProvider;
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.web.representations.VariableManager;
 
@@ -53,25 +51,15 @@ public class RelationBasedSourceNodesProvider implements Function<VariableManage
         DiagramRenderingCache cache = optionalCache.get();
         Object object = optionalObject.get();
 
+        return cache.getElementsRepresenting(object, this.getNodeDescriptionIds());
+    }
+
+    private List<UUID> getNodeDescriptionIds() {
         // @formatter:off
-        return cache.getElementsRepresenting(object).stream()
-                .filter(this.isFromCompatibleSourceMapping())
-                .filter(Objects::nonNull)
+        return this.edgeMapping.getSourceMapping().stream()
+                .map(this.identifierProvider::getIdentifier)
+                .map(UUID::fromString)
                 .collect(Collectors.toList());
         // @formatter:on
     }
-
-    private Predicate<Element> isFromCompatibleSourceMapping() {
-        return nodeElement -> {
-            return this.edgeMapping.getSourceMapping().stream().anyMatch(srcMapping -> this.isFromMapping(nodeElement, srcMapping));
-        };
-    }
-
-    private boolean isFromMapping(Element nodeElement, DiagramElementMapping mapping) {
-        if (nodeElement.getProps() instanceof NodeElementProps) {
-            NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-            return Objects.equals(this.identifierProvider.getIdentifier(mapping), props.getDescriptionId().toString());
-        }
-        return false;
-    }
 }
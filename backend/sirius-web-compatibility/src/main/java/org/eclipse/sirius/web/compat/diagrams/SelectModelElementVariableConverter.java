@@ -57,7 +57,7 @@ public class SelectModelElementVariableConverter implements ISelectModelElementV
         // @formatter:off
         SelectionDescription selectionDescription = SelectionDescription.newSelectionDescription(UUID.fromString(this.identifierProvider.getIdentifier(selectModelElementVariable)))
                 .objectsProvider(variableManager -> {
-                    Result result = interpreter.evaluateExpression(variableManager.getVariables(), selectModelElementVariable.getCandidatesExpression());
+                    Result result = interpreter.evaluateExpression(variableManager.getVariableScope(), selectModelElementVariable.getCandidatesExpression());
                     return result.asObjects().orElse(List.of()).stream()
                             .filter(Objects::nonNull)
                             .collect(Collectors.toList());
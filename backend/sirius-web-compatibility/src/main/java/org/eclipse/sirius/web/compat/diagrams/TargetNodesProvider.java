@@ -14,16 +14,14 @@ package org.eclipse.sirius.web.compat.diagrams;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import org.eclipse.sirius.diagram.description.DiagramElementMapping;
 import org.eclipse.sirius.diagram.description.EdgeMapping;
 import org.eclipse.sirius.web.compat.api.IIdentifierProvider;
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.interpreter.Result;
@@ -57,28 +55,22 @@ public class TargetNodesProvider implements Function<VariableManager, List<Eleme
         }
 
         DiagramRenderingCache cache = optionalCache.get();
+        List<UUID> targetNodeDescriptionIds = this.getNodeDescriptionIds();
 
         // @formatter:off
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.edgeMapping.getTargetFinderExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getVariableScope(), this.edgeMapping.getTargetFinderExpression());
         return result.asObjects().orElse(List.of()).stream()
-                .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
-                .filter(this.isFromCompatibleTargetMapping())
-                .filter(Objects::nonNull)
+                .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject, targetNodeDescriptionIds).stream())
                 .collect(Collectors.toList());
         // @formatter:on
     }
 
-    private Predicate<Element> isFromCompatibleTargetMapping() {
-        return nodeElement -> {
-            return this.edgeMapping.getTargetMapping().stream().anyMatch(targetMapping -> this.isFromMapping(nodeElement, targetMapping));
-        };
-    }
-
-    private boolean isFromMapping(Element nodeElement, DiagramElementMapping mapping) {
-        if (nodeElement.getProps() instanceof NodeElementProps) {
-            NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-            return Objects.equals(this.identifierProvider.getIdentifier(mapping), props.getDescriptionId().toString());
-        }
-        return false;
+    private List<UUID> getNodeDescriptionIds() {
+        // @formatter:off
+        return this.edgeMapping.getTargetMapping().stream()
+                .map(this.identifierProvider::getIdentifier)
+                .map(UUID::fromString)
+                .collect(Collectors.toList());
+        // @formatter:on
     }
 }
@@ -54,7 +54,7 @@ public class WorkspaceImageDescriptionConverter {
                 .orElse(this.workspaceImageDescription.getWorkspacePath());
         // @formatter:on
 
-        Result scalingFactorResult = this.interpreter.evaluateExpression(this.variableManager.getVariables(), this.workspaceImageDescription.getSizeComputationExpression());
+        Result scalingFactorResult = this.interpreter.evaluateExpression(this.variableManager.getVariableScope(), this.workspaceImageDescription.getSizeComputationExpression());
         int scalingFactor = scalingFactorResult.asInt().orElse(DEFAULT_SCALING_FACTOR);
 
         // @formatter:off
@@ -68,7 +68,7 @@ public class GroupDescriptionConverter {
         GroupDescription groupDescription = GroupDescription.newGroupDescription(this.identifierProvider.getIdentifier(siriusGroupDescription))
                 .idProvider(idProvider)
                 .labelProvider(labelProvider)
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariableScope().get(VariableManager.SELF)))
                 .controlDescriptions(controlDescriptions)
                 .build();
         // @formatter:on
@@ -86,7 +86,7 @@ public class ViewExtensionDescriptionConverter implements IViewExtensionDescript
                 .map(pageDescription -> pageDescriptionConverter.convert(pageDescription, siriusGroup2SiriusWebGroup))
                 .collect(Collectors.toList());
 
-        Function<VariableManager, String> labelProvider = variableManager -> Optional.ofNullable(variableManager.getVariables().get(VariableManager.SELF))
+        Function<VariableManager, String> labelProvider = variableManager -> Optional.ofNullable(variableManager.getVariableScope().get(VariableManager.SELF))
                 .map(this.objectService::getLabel)
                 .orElse("Properties"); //$NON-NLS-1$
 
@@ -161,19 +161,19 @@ public class WidgetDescriptionConverter {
         StringValueProvider labelProvider = new StringValueProvider(this.interpreter, labelExpression);
 
         Function<VariableManager, String> optionIdProvider = variableManager -> {
-            Object candidate = variableManager.getVariables().get(RadioComponent.CANDIDATE_VARIABLE);
+            Object candidate = variableManager.getVariableScope().get(RadioComponent.CANDIDATE_VARIABLE);
             return this.objectService.getId(candidate);
         };
 
         Function<VariableManager, Boolean> optionSelectedProvider = variableManager -> {
-            Optional<Object> optionalResult = this.interpreter.evaluateExpression(variableManager.getVariables(), radioDescription.getValueExpression()).asObject();
-            Object candidate = variableManager.getVariables().get(RadioComponent.CANDIDATE_VARIABLE);
+            Optional<Object> optionalResult = this.interpreter.evaluateExpression(variableManager.getVariableScope(), radioDescription.getValueExpression()).asObject();
+            Object candidate = variableManager.getVariableScope().get(RadioComponent.CANDIDATE_VARIABLE);
 
             return optionalResult.map(candidate::equals).orElse(Boolean.FALSE);
         };
 
         Function<VariableManager, List<Object>> optionsProvider = variableManager -> {
-            Optional<List<Object>> optional = this.interpreter.evaluateExpression(variableManager.getVariables(), radioDescription.getCandidatesExpression()).asObjects();
+            Optional<List<Object>> optional = this.interpreter.evaluateExpression(variableManager.getVariableScope(), radioDescription.getCandidatesExpression()).asObjects();
             return optional.orElse(Collections.emptyList());
         };
 
@@ -223,20 +223,20 @@ public class WidgetDescriptionConverter {
         StringValueProvider labelProvider = new StringValueProvider(this.interpreter, selectDescription.getLabelExpression());
         Function<VariableManager, String> valueProvider = variableManager -> {
             String valueExpression = selectDescription.getValueExpression();
-            return this.interpreter.evaluateExpression(variableManager.getVariables(), valueExpression).asObject().map(this.objectService::getId).orElse(null);
+            return this.interpreter.evaluateExpression(variableManager.getVariableScope(), valueExpression).asObject().map(this.objectService::getId).orElse(null);
         };
         // @formatter:on
 
         Function<VariableManager, List<Object>> optionsProvider = (variableManager) -> {
             String candidateExpression = selectDescription.getCandidatesExpression();
-            return this.interpreter.evaluateExpression(variableManager.getVariables(), candidateExpression).asObjects().orElse(new ArrayList<>());
+            return this.interpreter.evaluateExpression(variableManager.getVariableScope(), candidateExpression).asObjects().orElse(new ArrayList<>());
         };
 
         String candidateDisplayExpression = Optional.ofNullable(selectDescription.getCandidateDisplayExpression()).orElse(""); //$NON-NLS-1$
         StringValueProvider optionLabelProvider = new StringValueProvider(this.interpreter, candidateDisplayExpression);
 
         Function<VariableManager, String> optionIdProvider = variableManager -> {
-            Object candidate = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object candidate = variableManager.getVariableScope().get(SelectComponent.CANDIDATE_VARIABLE);
             return this.objectService.getId(candidate);
         };
 
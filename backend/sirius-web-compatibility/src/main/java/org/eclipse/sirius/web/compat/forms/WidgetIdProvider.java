@@ -31,11 +31,11 @@ public class WidgetIdProvider implements Function<VariableManager, String> {
     @Override
     public String apply(VariableManager variableManager) {
         // @formatter:off
-        var optionalEObject = Optional.of(variableManager.getVariables().get(VariableManager.SELF))
+        var optionalEObject = Optional.of(variableManager.getVariableScope().get(VariableManager.SELF))
                 .filter(EObject.class::isInstance)
                 .map(EObject.class::cast);
 
-        Optional<WidgetIdCounter> optionalCounter = Optional.of(variableManager.getVariables().get(GroupComponent.WIDGET_ID_PROVIDER_COUNTER))
+        Optional<WidgetIdCounter> optionalCounter = Optional.of(variableManager.getVariableScope().get(GroupComponent.WIDGET_ID_PROVIDER_COUNTER))
                 .filter(WidgetIdCounter.class::isInstance)
                 .map(WidgetIdCounter.class::cast);
         // @formatter:on
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.diagrams.layout.api;
 
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.events.IDiagramEvent;
@@ -25,6 +26,18 @@ import org.eclipse.sirius.web.diagrams.events.IDiagramEvent;
 public interface ILayoutService {
     Diagram layout(Diagram diagram);
 
+    /**
+     * Performs the full layout of the given diagram, giving up as soon as possible once it has been canceled.
+     *
+     * @param diagram
+     *            The diagram to layout
+     * @param isCanceled
+     *            Indicates if the layout has been canceled, it is polled by the layout algorithms while they are running
+     *            and it can thus be called from any thread
+     * @return The layouted diagram, which should be ignored if the layout has been canceled
+     */
+    Diagram layout(Diagram diagram, BooleanSupplier isCanceled);
+
     /**
      * A partial layout that layouts only impacted elements.
      *
@@ -49,6 +62,11 @@ public interface ILayoutService {
             return diagram;
         }
 
+        @Override
+        public Diagram layout(Diagram diagram, BooleanSupplier isCanceled) {
+            return diagram;
+        }
+
         @Override
         public Diagram incrementalLayout(Diagram diagram, Optional<IDiagramEvent> optionalDiagramElementEvent) {
             return diagram;
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout;
+
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+
+/**
+ * Progress monitor reporting to the ELK algorithms that the layout has been canceled as soon as the given indicator says
+ * so.
+ *
+ * <p>
+ * The sub-monitors created by the algorithms share the indicator of their parent since the algorithms only check the
+ * monitor of their own task.
+ * </p>
+ *
+ * @author agent
+ */
+public class CancelableProgressMonitor extends BasicProgressMonitor {
+
+    private final BooleanSupplier isCanceled;
+
+    public CancelableProgressMonitor(BooleanSupplier isCanceled) {
+        this.isCanceled = Objects.requireNonNull(isCanceled);
+    }
+
+    private CancelableProgressMonitor(BooleanSupplier isCanceled, int maxHierarchyLevels) {
+        super(maxHierarchyLevels);
+        this.isCanceled = Objects.requireNonNull(isCanceled);
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return this.isCanceled.getAsBoolean();
+    }
+
+    @Override
+    protected BasicProgressMonitor doSubTask(float work, int maxHierarchyLevels) {
+        return new CancelableProgressMonitor(this.isCanceled, maxHierarchyLevels);
+    }
+
+}
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.eclipse.elk.graph.ElkBendPoint;
@@ -26,6 +27,7 @@ import org.eclipse.elk.graph.ElkGraphElement;
 import org.eclipse.elk.graph.ElkLabel;
 import org.eclipse.elk.graph.ElkNode;
 import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.DiagramIndex;
 import org.eclipse.sirius.web.diagrams.Edge;
 import org.eclipse.sirius.web.diagrams.Label;
 import org.eclipse.sirius.web.diagrams.Node;
@@ -47,9 +49,11 @@ public class ELKLayoutedDiagramProvider {
         Size size = Size.of(elkDiagram.getWidth(), elkDiagram.getHeight());
         Position position = Position.at(elkDiagram.getX(), elkDiagram.getY());
 
+        DiagramIndex diagramIndex = new DiagramIndex(diagram);
+
         // @formatter:off
-        List<Node> nodes = this.getLayoutedNodes(diagram.getNodes(), id2ElkGraphElements);
-        List<Edge> edges = this.getLayoutedEdges(diagram.getEdges(), id2ElkGraphElements);
+        List<Node> nodes = this.getLayoutedNodes(diagram.getNodes(), diagramIndex, elkDiagram, id2ElkGraphElements);
+        List<Edge> edges = this.getLayoutedEdges(diagram.getEdges(), diagramIndex, elkDiagram, id2ElkGraphElements);
 
         return Diagram.newDiagram(diagram)
                 .position(position)
@@ -60,27 +64,27 @@ public class ELKLayoutedDiagramProvider {
         // @formatter:on
     }
 
-    private List<Node> getLayoutedNodes(List<Node> nodes, Map<String, ElkGraphElement> id2ElkGraphElements) {
+    private List<Node> getLayoutedNodes(List<Node> nodes, DiagramIndex diagramIndex, ElkNode elkDiagram, Map<String, ElkGraphElement> id2ElkGraphElements) {
         // @formatter:off
         return nodes.stream().flatMap(node -> {
             return Optional.ofNullable(id2ElkGraphElements.get(node.getId().toString()))
                     .filter(ElkConnectableShape.class::isInstance)
                     .map(ElkConnectableShape.class::cast)
-                    .map(elkNode -> this.getLayoutedNode(node, elkNode, id2ElkGraphElements))
+                    .map(elkNode -> this.getLayoutedNode(node, elkNode, diagramIndex, elkDiagram, id2ElkGraphElements))
                     .stream();
         }).collect(Collectors.toUnmodifiableList());
         // @formatter:on
     }
 
-    private Node getLayoutedNode(Node node, ElkConnectableShape elkConnectableShape, Map<String, ElkGraphElement> id2ElkGraphElements) {
+    private Node getLayoutedNode(Node node, ElkConnectableShape elkConnectableShape, DiagramIndex diagramIndex, ElkNode elkDiagram, Map<String, ElkGraphElement> id2ElkGraphElements) {
         Size size = Size.of(elkConnectableShape.getWidth(), elkConnectableShape.getHeight());
         Position position = Position.at(elkConnectableShape.getX(), elkConnectableShape.getY());
 
         // @formatter:off
-        Label label = this.getLayoutedLabel(node.getLabel(), id2ElkGraphElements, 0, 0);
+        Label label = this.getLayoutedLabel(node.getLabel(), diagramIndex, elkDiagram, id2ElkGraphElements);
 
-        List<Node> childNodes = this.getLayoutedNodes(node.getChildNodes(), id2ElkGraphElements);
-        List<Node> borderNodes = this.getLayoutedNodes(node.getBorderNodes(), id2ElkGraphElements);
+        List<Node> childNodes = this.getLayoutedNodes(node.getChildNodes(), diagramIndex, elkDiagram, id2ElkGraphElements);
+        List<Node> borderNodes = this.getLayoutedNodes(node.getBorderNodes(), diagramIndex, elkDiagram, id2ElkGraphElements);
         return Node.newNode(node)
                 .label(label)
                 .size(size)
@@ -91,61 +95,48 @@ public class ELKLayoutedDiagramProvider {
         // @formatter:on
     }
 
-    private List<Edge> getLayoutedEdges(List<Edge> edges, Map<String, ElkGraphElement> id2ElkGraphElements) {
+    private List<Edge> getLayoutedEdges(List<Edge> edges, DiagramIndex diagramIndex, ElkNode elkDiagram, Map<String, ElkGraphElement> id2ElkGraphElements) {
         // @formatter:off
         return edges.stream().flatMap(edge -> {
             return Optional.ofNullable(id2ElkGraphElements.get(edge.getId().toString()))
                     .filter(ElkEdge.class::isInstance)
                     .map(ElkEdge.class::cast)
-                    .map(elkEdge -> this.getLayoutedEdge(edge, elkEdge, id2ElkGraphElements))
+                    .map(elkEdge -> this.getLayoutedEdge(edge, elkEdge, diagramIndex, elkDiagram, id2ElkGraphElements))
                     .stream();
         }).collect(Collectors.toUnmodifiableList());
         // @formatter:on
     }
 
-    private Edge getLayoutedEdge(Edge edge, ElkEdge elkEdge, Map<String, ElkGraphElement> id2ElkGraphElements) {
+    private Edge getLayoutedEdge(Edge edge, ElkEdge elkEdge, DiagramIndex diagramIndex, ElkNode elkDiagram, Map<String, ElkGraphElement> id2ElkGraphElements) {
         List<Position> routingPoints = new ArrayList<>();
 
-        ElkNode containingNode = elkEdge.getContainingNode();
-        double xOffset = 0;
-        double yOffset = 0;
-        if (containingNode != null) {
-            xOffset = containingNode.getX();
-            yOffset = containingNode.getY();
-            ElkNode parent = containingNode.getParent();
-            while (parent instanceof ElkNode) {
-                xOffset += parent.getX();
-                yOffset += parent.getY();
-                parent = parent.getParent();
-            }
-        }
-
+        Position offset = this.getOffset(elkEdge, diagramIndex, elkDiagram, id2ElkGraphElements);
         if (!elkEdge.getSections().isEmpty()) {
             ElkEdgeSection section = elkEdge.getSections().get(0);
 
-            Position startPosition = Position.at(xOffset + section.getStartX(), yOffset + section.getStartY());
+            Position startPosition = Position.at(offset.getX() + section.getStartX(), offset.getY() + section.getStartY());
             routingPoints.add(startPosition);
 
             for (ElkBendPoint bendPoint : section.getBendPoints()) {
-                Position position = Position.at(xOffset + bendPoint.getX(), yOffset + bendPoint.getY());
+                Position position = Position.at(offset.getX() + bendPoint.getX(), offset.getY() + bendPoint.getY());
                 routingPoints.add(position);
             }
 
-            Position endPosition = Position.at(xOffset + section.getEndX(), yOffset + section.getEndY());
+            Position endPosition = Position.at(offset.getX() + section.getEndX(), offset.getY() + section.getEndY());
             routingPoints.add(endPosition);
         }
 
         Label beginLabel = edge.getBeginLabel();
         if (beginLabel != null) {
-            beginLabel = this.getLayoutedLabel(beginLabel, id2ElkGraphElements, xOffset, yOffset);
+            beginLabel = this.getLayoutedLabel(beginLabel, diagramIndex, elkDiagram, id2ElkGraphElements);
         }
         Label centerLabel = edge.getCenterLabel();
         if (centerLabel != null) {
-            centerLabel = this.getLayoutedLabel(centerLabel, id2ElkGraphElements, xOffset, yOffset);
+            centerLabel = this.getLayoutedLabel(centerLabel, diagramIndex, elkDiagram, id2ElkGraphElements);
         }
         Label endLabel = edge.getEndLabel();
         if (endLabel != null) {
-            endLabel = this.getLayoutedLabel(endLabel, id2ElkGraphElements, xOffset, yOffset);
+            endLabel = this.getLayoutedLabel(endLabel, diagramIndex, elkDiagram, id2ElkGraphElements);
         }
 
         // @formatter:off
@@ -158,15 +149,60 @@ public class ELKLayoutedDiagramProvider {
         // @formatter:on
     }
 
-    private Label getLayoutedLabel(Label label, Map<String, ElkGraphElement> id2ElkGraphElements, double xOffset, double yOffset) {
+    /**
+     * Returns the absolute position of the node containing the given edge, since the routing points and the labels of
+     * an edge are computed by ELK relatively to this node. The position of this node is the sum of the positions of the
+     * node and of all its parents, found thanks to the index of the diagram, and of the position of the diagram.
+     *
+     * @param elkEdge
+     *            The ELK edge
+     * @param diagramIndex
+     *            The index of the diagram
+     * @param elkDiagram
+     *            The root ELK node
+     * @param id2ElkGraphElements
+     *            The ELK elements by identifier
+     * @return The offset to apply to the positions computed by ELK for the edge
+     */
+    private Position getOffset(ElkEdge elkEdge, DiagramIndex diagramIndex, ElkNode elkDiagram, Map<String, ElkGraphElement> id2ElkGraphElements) {
+        double xOffset = elkDiagram.getX();
+        double yOffset = elkDiagram.getY();
+
+        ElkNode containingNode = elkEdge.getContainingNode();
+        if (containingNode != null && containingNode != elkDiagram) {
+            Optional<Node> optionalNode = diagramIndex.findNodeById(UUID.fromString(containingNode.getIdentifier()));
+            while (optionalNode.isPresent()) {
+                Node node = optionalNode.get();
+                ElkGraphElement elkNode = id2ElkGraphElements.get(node.getId().toString());
+                if (elkNode instanceof ElkConnectableShape) {
+                    xOffset += ((ElkConnectableShape) elkNode).getX();
+                    yOffset += ((ElkConnectableShape) elkNode).getY();
+                }
+                optionalNode = diagramIndex.findParentNode(node.getId());
+            }
+        }
+        return Position.at(xOffset, yOffset);
+    }
+
+    private Label getLayoutedLabel(Label label, DiagramIndex diagramIndex, ElkNode elkDiagram, Map<String, ElkGraphElement> id2ElkGraphElements) {
         Label layoutedLabel = label;
-        var optionalElkBeginLabel = Optional.of(id2ElkGraphElements.get(label.getId().toString())).filter(ElkLabel.class::isInstance).map(ElkLabel.class::cast);
-        if (optionalElkBeginLabel.isPresent()) {
-            ElkLabel elkLabel = optionalElkBeginLabel.get();
+        var optionalElkLabel = Optional.ofNullable(id2ElkGraphElements.get(label.getId().toString())).filter(ElkLabel.class::isInstance).map(ElkLabel.class::cast);
+        if (optionalElkLabel.isPresent()) {
+            ElkLabel elkLabel = optionalElkLabel.get();
 
             Size size = Size.of(elkLabel.getWidth(), elkLabel.getHeight());
 
-            Position position = Position.at(xOffset + elkLabel.getX(), yOffset + elkLabel.getY());
+            // The labels of the edges are positioned relatively to the node containing the edge, like its routing points
+            // @formatter:off
+            Position offset = diagramIndex.findEdgeByLabelId(label.getId())
+                    .map(edge -> id2ElkGraphElements.get(edge.getId().toString()))
+                    .filter(ElkEdge.class::isInstance)
+                    .map(ElkEdge.class::cast)
+                    .map(elkEdge -> this.getOffset(elkEdge, diagramIndex, elkDiagram, id2ElkGraphElements))
+                    .orElse(Position.at(0, 0));
+            // @formatter:on
+
+            Position position = Position.at(offset.getX() + elkLabel.getX(), offset.getY() + elkLabel.getY());
 
             // @formatter:off
             Position alignment = elkLabel.eAdapters().stream()
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
 
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
 import org.eclipse.elk.core.IGraphLayoutEngine;
@@ -23,6 +24,7 @@ import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
 import org.eclipse.elk.core.data.LayoutMetaDataService;
 import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.core.util.ElkUtil;
+import org.eclipse.elk.core.util.IElkProgressMonitor;
 import org.eclipse.elk.graph.ElkGraphElement;
 import org.eclipse.elk.graph.ElkNode;
 import org.eclipse.elk.graph.json.ElkGraphJson;
@@ -80,6 +82,15 @@ public class LayoutService implements ILayoutService {
 
     @Override
     public Diagram layout(Diagram diagram) {
+        return this.layout(diagram, new BasicProgressMonitor());
+    }
+
+    @Override
+    public Diagram layout(Diagram diagram, BooleanSupplier isCanceled) {
+        return this.layout(diagram, new CancelableProgressMonitor(isCanceled));
+    }
+
+    private Diagram layout(Diagram diagram, IElkProgressMonitor progressMonitor) {
         ELKConvertedDiagram convertedDiagram = this.elkDiagramConverter.convert(diagram);
 
         ElkNode elkDiagram = convertedDiagram.getElkDiagram();
@@ -93,7 +104,7 @@ public class LayoutService implements ILayoutService {
 
         ElkUtil.applyVisitors(elkDiagram, layoutConfigurator);
         IGraphLayoutEngine engine = new RecursiveGraphLayoutEngine();
-        engine.layout(elkDiagram, new BasicProgressMonitor());
+        engine.layout(elkDiagram, progressMonitor);
 
         Map<String, ElkGraphElement> id2ElkGraphElements = convertedDiagram.getId2ElkGraphElements();
         Diagram layoutedDiagram = this.elkLayoutedDiagramProvider.getLayoutedDiagram(diagram, elkDiagram, id2ElkGraphElements);
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.diagrams.layout;
 
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -27,11 +28,19 @@ import org.eclipse.sirius.web.diagrams.TextBounds;
 import org.eclipse.sirius.web.diagrams.TextBoundsProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
  * Utility class used to compute the size of a piece of text.
  *
+ * <p>
+ * The text bounds computed are kept in a bounded cache since the same labels are measured again during each layout.
+ * </p>
+ *
  * @author sbegaudeau
  * @author hmarchadour
  */
@@ -44,9 +53,13 @@ public class TextBoundsService {
 
     private final ExecutorService executorService;
 
-    public TextBoundsService() {
-        this.textBoundsProvider = new TextBoundsProvider();
+    private final Cache<TextBoundsKey, TextBounds> textBoundsCache;
+
+    public TextBoundsService(@Value("${org.eclipse.sirius.web.diagrams.textBounds.cacheSize:10000}") long cacheSize,
+            @Value("${org.eclipse.sirius.web.diagrams.textBounds.glyphAdvanceTable:false}") boolean isGlyphAdvanceTableEnabled) {
+        this.textBoundsProvider = new TextBoundsProvider(isGlyphAdvanceTableEnabled);
         this.executorService = Executors.newSingleThreadExecutor();
+        this.textBoundsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
     }
 
     @PostConstruct
@@ -87,7 +100,71 @@ public class TextBoundsService {
     }
 
     public TextBounds getBounds(Label label) {
-        return this.textBoundsProvider.computeBounds(label.getStyle(), label.getText());
+        return this.getBounds(label.getStyle(), label.getText());
+    }
+
+    public TextBounds getBounds(LabelStyle labelStyle, String text) {
+        var key = new TextBoundsKey(labelStyle, text);
+        TextBounds textBounds = this.textBoundsCache.getIfPresent(key);
+        if (textBounds == null) {
+            textBounds = this.textBoundsProvider.computeBounds(labelStyle, text);
+            this.textBoundsCache.put(key, textBounds);
+        }
+        return textBounds;
+    }
+
+    public long getHitCount() {
+        return this.textBoundsCache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return this.textBoundsCache.stats().missCount();
+    }
+
+    public long getSize() {
+        return this.textBoundsCache.size();
+    }
+
+    /**
+     * The part of a label used to compute its text bounds.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TextBoundsKey {
+
+        private final boolean isBold;
+
+        private final boolean isItalic;
+
+        private final int fontSize;
+
+        private final boolean hasIcon;
+
+        private final String text;
+
+        TextBoundsKey(LabelStyle labelStyle, String text) {
+            this.isBold = labelStyle.isBold();
+            this.isItalic = labelStyle.isItalic();
+            this.fontSize = labelStyle.getFontSize();
+            this.hasIcon = !labelStyle.getIconURL().isEmpty();
+            this.text = Objects.requireNonNull(text);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            boolean isEqual = object instanceof TextBoundsKey;
+            if (isEqual) {
+                TextBoundsKey key = (TextBoundsKey) object;
+                isEqual = this.isBold == key.isBold && this.isItalic == key.isItalic && this.fontSize == key.fontSize;
+                isEqual = isEqual && this.hasIcon == key.hasIcon && this.text.equals(key.text);
+            }
+            return isEqual;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.isBold, this.isItalic, this.fontSize, this.hasIcon, this.text);
+        }
     }
 
 }
@@ -16,15 +16,17 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.diagrams.CustomizableProperties;
 import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.DiagramIndex;
 import org.eclipse.sirius.web.diagrams.Edge;
 import org.eclipse.sirius.web.diagrams.Label;
 import org.eclipse.sirius.web.diagrams.Node;
 import org.eclipse.sirius.web.diagrams.TextBounds;
-import org.eclipse.sirius.web.diagrams.TextBoundsProvider;
+import org.eclipse.sirius.web.diagrams.layout.TextBoundsService;
 import org.eclipse.sirius.web.diagrams.layout.incremental.data.DiagramLayoutData;
 import org.eclipse.sirius.web.diagrams.layout.incremental.data.EdgeLayoutData;
 import org.eclipse.sirius.web.diagrams.layout.incremental.data.IContainerLayoutData;
@@ -41,6 +43,12 @@ import org.springframework.stereotype.Service;
 @Service
 public class IncrementalLayoutDiagramConverter {
 
+    private final TextBoundsService textBoundsService;
+
+    public IncrementalLayoutDiagramConverter(TextBoundsService textBoundsService) {
+        this.textBoundsService = Objects.requireNonNull(textBoundsService);
+    }
+
     public IncrementalLayoutConvertedDiagram convert(Diagram diagram) {
         Map<UUID, ILayoutData> id2LayoutData = new HashMap<>();
 
@@ -52,9 +60,11 @@ public class IncrementalLayoutDiagramConverter {
         layoutData.setPosition(diagram.getPosition());
         layoutData.setSize(diagram.getSize());
 
+        DiagramIndex diagramIndex = new DiagramIndex(diagram);
+
         List<NodeLayoutData> nodes = new ArrayList<>();
         for (Node node : diagram.getNodes()) {
-            nodes.add(this.convertNode(node, layoutData, id2LayoutData));
+            nodes.add(this.convertNode(node, diagramIndex, layoutData, id2LayoutData));
         }
         layoutData.setChildrenNodes(nodes);
 
@@ -67,12 +77,20 @@ public class IncrementalLayoutDiagramConverter {
         return new IncrementalLayoutConvertedDiagram(layoutData, id2LayoutData);
     }
 
-    private NodeLayoutData convertNode(Node node, IContainerLayoutData parent, Map<UUID, ILayoutData> id2LayoutData) {
+    private NodeLayoutData convertNode(Node node, DiagramIndex diagramIndex, DiagramLayoutData diagramLayoutData, Map<UUID, ILayoutData> id2LayoutData) {
         NodeLayoutData layoutData = new NodeLayoutData();
         UUID id = node.getId();
         layoutData.setId(id);
         id2LayoutData.put(id, layoutData);
 
+        // The parent node has been converted before its border and child nodes
+        // @formatter:off
+        IContainerLayoutData parent = diagramIndex.findParentNode(id)
+                .map(parentNode -> id2LayoutData.get(parentNode.getId()))
+                .filter(IContainerLayoutData.class::isInstance)
+                .map(IContainerLayoutData.class::cast)
+                .orElse(diagramLayoutData);
+        // @formatter:on
         layoutData.setParent(parent);
         layoutData.setNodeType(node.getType());
         layoutData.setStyle(node.getStyle());
@@ -82,13 +100,13 @@ public class IncrementalLayoutDiagramConverter {
 
         List<NodeLayoutData> borderNodes = new ArrayList<>();
         for (Node borderNode : node.getBorderNodes()) {
-            borderNodes.add(this.convertNode(borderNode, layoutData, id2LayoutData));
+            borderNodes.add(this.convertNode(borderNode, diagramIndex, diagramLayoutData, id2LayoutData));
         }
         layoutData.setBorderNodes(borderNodes);
 
         List<NodeLayoutData> childNodes = new ArrayList<>();
         for (Node childNode : node.getChildNodes()) {
-            childNodes.add(this.convertNode(childNode, layoutData, id2LayoutData));
+            childNodes.add(this.convertNode(childNode, diagramIndex, diagramLayoutData, id2LayoutData));
         }
         layoutData.setChildrenNodes(childNodes);
 
@@ -132,7 +150,7 @@ public class IncrementalLayoutDiagramConverter {
         layoutData.setPosition(label.getPosition());
         layoutData.setLabelType(label.getType());
 
-        TextBounds textBounds = new TextBoundsProvider().computeBounds(label.getStyle(), label.getText());
+        TextBounds textBounds = this.textBoundsService.getBounds(label);
         layoutData.setTextBounds(textBounds);
 
         return layoutData;
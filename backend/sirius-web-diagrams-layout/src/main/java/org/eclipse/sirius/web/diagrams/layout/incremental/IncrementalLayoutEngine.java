@@ -70,13 +70,16 @@ public class IncrementalLayoutEngine {
         this.nodeLabelPositionProvider = new NodeLabelPositionProvider(layoutConfigurator);
         this.edgeLabelPositionProvider = new EdgeLabelPositionProvider(layoutConfigurator);
 
+        // the nodes moved to solve an overlap stay fixed during the whole layout
+        OverlapsUpdater overlapsUpdater = new OverlapsUpdater();
+
         // first we layout all the nodes
         for (NodeLayoutData node : diagram.getChildrenNodes()) {
-            this.layoutNode(optionalDiagramElementEvent, node, layoutConfigurator);
+            this.layoutNode(optionalDiagramElementEvent, node, layoutConfigurator, overlapsUpdater);
         }
 
         // resolve overlaps due to previous changes
-        new OverlapsUpdater().update(diagram);
+        overlapsUpdater.update(diagram);
 
         // resize according to the content
         new ContainmentUpdater().update(diagram);
@@ -89,13 +92,13 @@ public class IncrementalLayoutEngine {
         }
     }
 
-    private void layoutNode(Optional<IDiagramEvent> optionalDiagramElementEvent, NodeLayoutData node, ISiriusWebLayoutConfigurator layoutConfigurator) {
+    private void layoutNode(Optional<IDiagramEvent> optionalDiagramElementEvent, NodeLayoutData node, ISiriusWebLayoutConfigurator layoutConfigurator, OverlapsUpdater overlapsUpdater) {
         // first layout border & child nodes
         for (NodeLayoutData borderNode : node.getBorderNodes()) {
-            this.layoutNode(optionalDiagramElementEvent, borderNode, layoutConfigurator);
+            this.layoutNode(optionalDiagramElementEvent, borderNode, layoutConfigurator, overlapsUpdater);
         }
         for (NodeLayoutData childNode : node.getChildrenNodes()) {
-            this.layoutNode(optionalDiagramElementEvent, childNode, layoutConfigurator);
+            this.layoutNode(optionalDiagramElementEvent, childNode, layoutConfigurator, overlapsUpdater);
         }
 
         // compute the node size according to what has been done in the previous steps
@@ -113,7 +116,7 @@ public class IncrementalLayoutEngine {
         }
 
         // resolve overlaps due to previous changes
-        new OverlapsUpdater().update(node);
+        overlapsUpdater.update(node);
 
         // resize / change position according to the content
         new ContainmentUpdater().update(node);
@@ -14,8 +14,11 @@ package org.eclipse.sirius.web.diagrams.layout.incremental.updater;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -26,11 +29,23 @@ import org.eclipse.sirius.web.diagrams.layout.incremental.data.IContainerLayoutD
 import org.eclipse.sirius.web.diagrams.layout.incremental.data.NodeLayoutData;
 import org.eclipse.sirius.web.diagrams.layout.incremental.utils.Bounds;
 import org.eclipse.sirius.web.diagrams.layout.incremental.utils.Geometry;
+import org.eclipse.sirius.web.diagrams.layout.incremental.utils.SpatialGrid;
 
 /**
  * An algorithm dedicated to solve overlaps issues. Any node in a given container might be moved to avoid overlaps,
  * except those that have been moved by an user.
  *
+ * <p>
+ * The overlaps are found using a spatial grid of the children of the container. After the first pass, only the nodes
+ * moved during the previous iteration are checked again since the overlaps between the other nodes have already been
+ * solved. The overlaps are still processed in the order of the children of the container.
+ * </p>
+ *
+ * <p>
+ * A single instance is used for a whole layout, the nodes moved to solve an overlap are thus never moved again by the
+ * following updates of this layout.
+ * </p>
+ *
  * @author wpiers
  */
 public class OverlapsUpdater {
@@ -41,20 +56,23 @@ public class OverlapsUpdater {
      */
     private static final int MAX_OVERLAP_ITERATION = 100;
 
-    private Set<NodeLayoutData> fixedNodes = new HashSet<>();
+    private final Set<NodeLayoutData> fixedNodes = new HashSet<>();
 
     public void update(IContainerLayoutData container) {
-        Collection<NodeLayoutData[]> overlaps = this.findAllOverlaps(container);
+        List<NodeLayoutData> children = container.getChildrenNodes();
+        Collection<NodeLayoutData[]> overlaps = this.findOverlaps(children, children);
         int iteration = 0;
         while (!overlaps.isEmpty() && iteration <= MAX_OVERLAP_ITERATION) {
+            Set<NodeLayoutData> movedNodes = new HashSet<>();
             for (NodeLayoutData[] overlap : overlaps) {
                 NodeLayoutData fixedNode = overlap[0];
                 NodeLayoutData nodeToMove = overlap[1];
                 nodeToMove.setPosition(this.computeNewPosition(fixedNode, nodeToMove));
                 nodeToMove.setChanged(true);
                 this.fixedNodes.add(nodeToMove);
+                movedNodes.add(nodeToMove);
             }
-            overlaps = this.findAllOverlaps(container);
+            overlaps = this.findOverlaps(children, movedNodes);
             iteration++;
         }
         if (container instanceof NodeLayoutData) {
@@ -62,34 +80,70 @@ public class OverlapsUpdater {
         }
     }
 
-    private Collection<NodeLayoutData[]> findAllOverlaps(IContainerLayoutData container) {
-        List<NodeLayoutData[]> overlaps = new ArrayList<>();
-        for (NodeLayoutData node : container.getChildrenNodes()) {
-            overlaps.addAll(this.findOverlaps(node));
+    /**
+     * Finds the overlaps between the given children involving at least one of the nodes to check.
+     *
+     * @param children
+     *            The children of a container
+     * @param nodesToCheck
+     *            The nodes whose overlaps should be found
+     * @return The overlaps found, as pairs of the node to keep and of the node to move, sorted by the position of the
+     *         first node in the children and then by the position of the second one
+     */
+    private Collection<NodeLayoutData[]> findOverlaps(List<NodeLayoutData> children, Collection<NodeLayoutData> nodesToCheck) {
+        Map<NodeLayoutData, Integer> indexes = new HashMap<>();
+        SpatialGrid<NodeLayoutData> spatialGrid = new SpatialGrid<>(this.computeCellSize(children));
+        for (NodeLayoutData child : children) {
+            indexes.put(child, indexes.size());
+            spatialGrid.add(child, this.getBounds(child));
         }
-        return overlaps;
-    }
 
-    private Collection<NodeLayoutData[]> findOverlaps(NodeLayoutData node) {
-        List<NodeLayoutData[]> overlaps = new ArrayList<>();
-        for (NodeLayoutData sibling : node.getParent().getChildrenNodes()) {
-            // we only consider solvable overlaps
-            if (!sibling.equals(node) && !sibling.isPinned() && !this.fixedNodes.contains(sibling)) {
-                Position siblingPosition = sibling.getPosition();
-                Size siblingSize = sibling.getSize();
-                // @formatter:off
-                if (node.getPosition().getX() < siblingPosition.getX() + siblingSize.getWidth() &&
-                        node.getPosition().getX() + node.getSize().getWidth() > siblingPosition.getX() &&
-                        node.getPosition().getY() < siblingPosition.getY() + siblingSize.getHeight() &&
-                        node.getPosition().getY() + node.getSize().getHeight() > siblingPosition.getY()) {
-                    overlaps.add(new NodeLayoutData[] {node, sibling});
+        Map<Long, NodeLayoutData[]> overlaps = new HashMap<>();
+        for (NodeLayoutData node : nodesToCheck) {
+            for (NodeLayoutData sibling : spatialGrid.getCandidates(this.getBounds(node))) {
+                if (!sibling.equals(node) && this.overlaps(node, sibling)) {
+                    this.addOverlap(overlaps, indexes, node, sibling);
+                    this.addOverlap(overlaps, indexes, sibling, node);
                 }
-                // @formatter:on
             }
         }
+
+        List<NodeLayoutData[]> sortedOverlaps = new ArrayList<>(overlaps.values());
+        Comparator<NodeLayoutData[]> comparator = Comparator.comparing(overlap -> indexes.get(overlap[0]));
+        sortedOverlaps.sort(comparator.thenComparing(overlap -> indexes.get(overlap[1])));
+        return sortedOverlaps;
+    }
+
+    private void addOverlap(Map<Long, NodeLayoutData[]> overlaps, Map<NodeLayoutData, Integer> indexes, NodeLayoutData node, NodeLayoutData sibling) {
+        // we only consider solvable overlaps
+        if (!sibling.isPinned() && !this.fixedNodes.contains(sibling)) {
+            long key = ((long) indexes.get(node) << 32) | indexes.get(sibling);
+            overlaps.putIfAbsent(key, new NodeLayoutData[] {node, sibling});
+        }
+    }
+
+    private boolean overlaps(NodeLayoutData node, NodeLayoutData sibling) {
+        Position siblingPosition = sibling.getPosition();
+        Size siblingSize = sibling.getSize();
+        boolean overlaps = node.getPosition().getX() < siblingPosition.getX() + siblingSize.getWidth();
+        overlaps = overlaps && node.getPosition().getX() + node.getSize().getWidth() > siblingPosition.getX();
+        overlaps = overlaps && node.getPosition().getY() < siblingPosition.getY() + siblingSize.getHeight();
+        overlaps = overlaps && node.getPosition().getY() + node.getSize().getHeight() > siblingPosition.getY();
         return overlaps;
     }
 
+    private double computeCellSize(List<NodeLayoutData> children) {
+        double totalSize = 0;
+        for (NodeLayoutData child : children) {
+            totalSize = totalSize + Math.max(child.getSize().getWidth(), child.getSize().getHeight());
+        }
+        double cellSize = totalSize / Math.max(children.size(), 1);
+        if (!(cellSize >= 1) || Double.isInfinite(cellSize)) {
+            cellSize = 1;
+        }
+        return cellSize;
+    }
+
     private Position computeNewPosition(NodeLayoutData node1, NodeLayoutData node2) {
         Position center1 = this.getCenter(node1);
         Position center2 = this.getCenter(node2);
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout.incremental.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A uniform grid used to find quickly the elements whose bounds may intersect a given area.
+ *
+ * <p>
+ * Each element is registered in all the cells covered by its bounds. A query returns the elements registered in the
+ * cells covered by the area, it may thus return elements which do not intersect the area but it never misses one of
+ * them. The elements covering too many cells, or with bounds which are not finite, are returned by all the queries.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the elements
+ * @author agent
+ */
+public class SpatialGrid<T> {
+
+    /**
+     * The maximal number of cells in which an element is registered.
+     */
+    private static final long MAX_CELL_COUNT = 1024;
+
+    private final double cellSize;
+
+    private final Map<Long, List<T>> cells = new HashMap<>();
+
+    private final List<T> oversizedElements = new ArrayList<>();
+
+    /**
+     * Creates a grid.
+     *
+     * @param cellSize
+     *            The size of the cells, which should be close to the size of the elements registered
+     */
+    public SpatialGrid(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    public void add(T element, Bounds bounds) {
+        CellRange cellRange = this.getCellRange(bounds);
+        if (cellRange == null) {
+            this.oversizedElements.add(element);
+        } else {
+            for (long x = cellRange.minX; x <= cellRange.maxX; x++) {
+                for (long y = cellRange.minY; y <= cellRange.maxY; y++) {
+                    this.cells.computeIfAbsent(this.getKey(x, y), key -> new ArrayList<>()).add(element);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the elements whose bounds may intersect the given ones.
+     *
+     * @param bounds
+     *            The bounds of the area
+     * @return The elements which may intersect the area, without duplicates
+     */
+    public Set<T> getCandidates(Bounds bounds) {
+        Set<T> candidates = new LinkedHashSet<>(this.oversizedElements);
+        CellRange cellRange = this.getCellRange(bounds);
+        if (cellRange == null) {
+            this.cells.values().forEach(candidates::addAll);
+        } else {
+            for (long x = cellRange.minX; x <= cellRange.maxX; x++) {
+                for (long y = cellRange.minY; y <= cellRange.maxY; y++) {
+                    candidates.addAll(this.cells.getOrDefault(this.getKey(x, y), List.of()));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private CellRange getCellRange(Bounds bounds) {
+        double x = bounds.getPosition().getX();
+        double y = bounds.getPosition().getY();
+        CellRange cellRange = new CellRange();
+        cellRange.minX = this.getCell(x);
+        cellRange.maxX = this.getCell(x + bounds.getSize().getWidth());
+        cellRange.minY = this.getCell(y);
+        cellRange.maxY = this.getCell(y + bounds.getSize().getHeight());
+
+        boolean isValid = cellRange.minX != Long.MAX_VALUE && cellRange.maxX != Long.MAX_VALUE;
+        isValid = isValid && cellRange.minY != Long.MAX_VALUE && cellRange.maxY != Long.MAX_VALUE;
+        isValid = isValid && cellRange.minX <= cellRange.maxX && cellRange.minY <= cellRange.maxY;
+        isValid = isValid && (cellRange.maxX - cellRange.minX + 1) * (cellRange.maxY - cellRange.minY + 1) <= MAX_CELL_COUNT;
+
+        CellRange result = null;
+        if (isValid) {
+            result = cellRange;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cell containing the given coordinate.
+     *
+     * @param coordinate
+     *            The coordinate
+     * @return The index of the cell or Long.MAX_VALUE if the coordinate is not finite or too far away
+     */
+    private long getCell(double coordinate) {
+        double cell = Math.floor(coordinate / this.cellSize);
+        long result = Long.MAX_VALUE;
+        if (Math.abs(cell) < Integer.MAX_VALUE) {
+            result = (long) cell;
+        }
+        return result;
+    }
+
+    private Long getKey(long x, long y) {
+        return (x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The range of cells covered by some bounds.
+     *
+     * @author agent
+     */
+    private static final class CellRange {
+        private long minX;
+
+        private long maxX;
+
+        private long minY;
+
+        private long maxY;
+    }
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout.incremental.updater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.layout.incremental.data.DiagramLayoutData;
+import org.eclipse.sirius.web.diagrams.layout.incremental.data.NodeLayoutData;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link OverlapsUpdater}.
+ *
+ * @author agent
+ */
+public class OverlapsUpdaterTests {
+
+    private static final Size NODE_SIZE = Size.of(150, 70);
+
+    private static final int GRID_SIDE = 12;
+
+    @Test
+    public void testOverlapsAreSolved() {
+        DiagramLayoutData diagram = new DiagramLayoutData();
+        diagram.setId(UUID.randomUUID());
+        diagram.setPosition(Position.at(0, 0));
+
+        List<NodeLayoutData> nodes = new ArrayList<>();
+        for (int i = 0; i < GRID_SIDE * GRID_SIDE; i++) {
+            // Each node overlaps its neighbors
+            Position position = Position.at((i % GRID_SIDE) * NODE_SIZE.getWidth() / 2, (i / GRID_SIDE) * NODE_SIZE.getHeight() / 2);
+            nodes.add(this.createNode(diagram, position, i == 0));
+        }
+        diagram.setChildrenNodes(nodes);
+
+        new OverlapsUpdater().update(diagram);
+
+        assertThat(nodes.get(0).getPosition()).isEqualTo(Position.at(0, 0));
+        assertThat(nodes.get(0).hasChanged()).isFalse();
+        for (NodeLayoutData node : nodes) {
+            for (NodeLayoutData sibling : nodes) {
+                if (node != sibling && this.overlaps(node, sibling)) {
+                    // Only the overlaps between nodes which cannot be moved anymore may remain
+                    assertThat(node.isPinned() || node.hasChanged()).isTrue();
+                    assertThat(sibling.isPinned() || sibling.hasChanged()).isTrue();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPinnedNodesAreNotMoved() {
+        DiagramLayoutData diagram = new DiagramLayoutData();
+        diagram.setId(UUID.randomUUID());
+        diagram.setPosition(Position.at(0, 0));
+
+        NodeLayoutData movedNode = this.createNode(diagram, Position.at(10, 10), false);
+        NodeLayoutData pinnedNode = this.createNode(diagram, Position.at(0, 0), true);
+        NodeLayoutData farNode = this.createNode(diagram, Position.at(5000, 5000), false);
+        diagram.setChildrenNodes(List.of(movedNode, pinnedNode, farNode));
+
+        new OverlapsUpdater().update(diagram);
+
+        assertThat(pinnedNode.getPosition()).isEqualTo(Position.at(0, 0));
+        assertThat(farNode.getPosition()).isEqualTo(Position.at(5000, 5000));
+        assertThat(farNode.hasChanged()).isFalse();
+        assertThat(movedNode.hasChanged()).isTrue();
+        assertThat(this.overlaps(movedNode, pinnedNode)).isFalse();
+    }
+
+    @Test
+    public void testNodesMovedDuringALayoutAreNotMovedAgain() {
+        DiagramLayoutData diagram = new DiagramLayoutData();
+        diagram.setId(UUID.randomUUID());
+        diagram.setPosition(Position.at(0, 0));
+
+        NodeLayoutData node = this.createNode(diagram, Position.at(0, 0), false);
+        NodeLayoutData movedNode = this.createNode(diagram, Position.at(10, 10), false);
+        diagram.setChildrenNodes(List.of(node, movedNode));
+
+        OverlapsUpdater overlapsUpdater = new OverlapsUpdater();
+        overlapsUpdater.update(diagram);
+        Position movedNodePosition = movedNode.getPosition();
+        assertThat(movedNode.hasChanged()).isTrue();
+
+        NodeLayoutData newNode = this.createNode(diagram, movedNodePosition, false);
+        diagram.setChildrenNodes(List.of(newNode, node, movedNode));
+        overlapsUpdater.update(diagram);
+
+        assertThat(movedNode.getPosition()).isEqualTo(movedNodePosition);
+        assertThat(newNode.hasChanged()).isTrue();
+        assertThat(this.overlaps(newNode, movedNode)).isFalse();
+    }
+
+    private boolean overlaps(NodeLayoutData node, NodeLayoutData sibling) {
+        boolean overlaps = node.getPosition().getX() < sibling.getPosition().getX() + sibling.getSize().getWidth();
+        overlaps = overlaps && node.getPosition().getX() + node.getSize().getWidth() > sibling.getPosition().getX();
+        overlaps = overlaps && node.getPosition().getY() < sibling.getPosition().getY() + sibling.getSize().getHeight();
+        overlaps = overlaps && node.getPosition().getY() + node.getSize().getHeight() > sibling.getPosition().getY();
+        return overlaps;
+    }
+
+    private NodeLayoutData createNode(DiagramLayoutData diagram, Position position, boolean isPinned) {
+        NodeLayoutData node = new NodeLayoutData();
+        node.setId(UUID.randomUUID());
+        node.setParent(diagram);
+        node.setPosition(position);
+        node.setSize(NODE_SIZE);
+        node.setChildrenNodes(List.of());
+        node.setBorderNodes(List.of());
+        node.setPinned(isPinned);
+        return node;
+    }
+}
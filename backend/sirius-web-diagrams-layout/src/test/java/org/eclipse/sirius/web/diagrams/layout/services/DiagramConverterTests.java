@@ -63,7 +63,7 @@ public class DiagramConverterTests {
 
     private static final UUID FIRST_EDGE_ID = UUID.randomUUID();
 
-    private TextBoundsService textBoundsService = new TextBoundsService() {
+    private TextBoundsService textBoundsService = new TextBoundsService(0, false) {
         @Override
         public TextBounds getBounds(Label label) {
             Size size = Size.of(TEXT_WIDTH, TEXT_HEIGHT);
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.data.Offset;
+import org.eclipse.sirius.web.diagrams.LabelStyle;
+import org.eclipse.sirius.web.diagrams.TextBounds;
+import org.eclipse.sirius.web.diagrams.TextBoundsProvider;
+import org.eclipse.sirius.web.diagrams.layout.TextBoundsService;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the text bounds service.
+ *
+ * @author agent
+ */
+public class TextBoundsServiceTests {
+
+    private static final String TEXT = "Label text 42"; //$NON-NLS-1$
+
+    private LabelStyle createLabelStyle(boolean isBold, String iconURL) {
+        // @formatter:off
+        return LabelStyle.newLabelStyle()
+                .color("#000000") //$NON-NLS-1$
+                .fontSize(14)
+                .bold(isBold)
+                .iconURL(iconURL)
+                .build();
+        // @formatter:on
+    }
+
+    @Test
+    public void testTextBoundsAreComputedOnce() {
+        TextBoundsService textBoundsService = new TextBoundsService(10, false);
+
+        TextBounds textBounds = textBoundsService.getBounds(this.createLabelStyle(false, ""), TEXT); //$NON-NLS-1$
+        assertThat(textBoundsService.getBounds(this.createLabelStyle(false, ""), TEXT)).isSameAs(textBounds); //$NON-NLS-1$
+        assertThat(textBoundsService.getBounds(this.createLabelStyle(false, "icon.svg"), TEXT)).isNotSameAs(textBounds); //$NON-NLS-1$
+        assertThat(textBoundsService.getBounds(this.createLabelStyle(true, ""), TEXT)).isNotSameAs(textBounds); //$NON-NLS-1$
+
+        assertThat(textBoundsService.getHitCount()).isEqualTo(1);
+        assertThat(textBoundsService.getMissCount()).isEqualTo(3);
+        assertThat(textBoundsService.getSize()).isEqualTo(3);
+    }
+
+    @Test
+    public void testGlyphAdvanceTableMatchesTheFontMetrics() {
+        LabelStyle labelStyle = this.createLabelStyle(true, ""); //$NON-NLS-1$
+
+        TextBounds expected = new TextBoundsProvider(false).computeBounds(labelStyle, TEXT);
+        TextBounds actual = new TextBoundsProvider(true).computeBounds(labelStyle, TEXT);
+
+        assertThat(actual.getSize().getWidth()).isCloseTo(expected.getSize().getWidth(), Offset.offset(0.01));
+        assertThat(actual.getSize().getHeight()).isCloseTo(expected.getSize().getHeight(), Offset.offset(0.01));
+        assertThat(actual.getAlignment().getX()).isCloseTo(expected.getAlignment().getX(), Offset.offset(0.01));
+        assertThat(actual.getAlignment().getY()).isCloseTo(expected.getAlignment().getY(), Offset.offset(0.01));
+    }
+}
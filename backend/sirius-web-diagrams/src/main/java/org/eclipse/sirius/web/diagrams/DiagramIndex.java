@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Index of the elements of a diagram by identifier.
+ *
+ * <p>
+ * The index is computed once for a given diagram, which is immutable, in order to look up its nodes, border nodes,
+ * edges and labels without walking the whole tree of nodes on each query. When several elements have the same
+ * identifier, the first one found by a depth-first traversal of the nodes is kept.
+ * </p>
+ *
+ * @author agent
+ */
+public class DiagramIndex {
+
+    private final Map<UUID, Node> nodesById = new HashMap<>();
+
+    private final Map<UUID, Node> nodesByLabelId = new HashMap<>();
+
+    private final Map<UUID, Node> parentNodesById = new HashMap<>();
+
+    private final Map<UUID, Edge> edgesById = new HashMap<>();
+
+    private final Map<UUID, Edge> edgesByLabelId = new HashMap<>();
+
+    public DiagramIndex(Diagram diagram) {
+        Objects.requireNonNull(diagram);
+        this.indexNodes(diagram.getNodes(), null);
+        for (Edge edge : diagram.getEdges()) {
+            this.edgesById.putIfAbsent(edge.getId(), edge);
+            for (Label label : new Label[] { edge.getBeginLabel(), edge.getCenterLabel(), edge.getEndLabel() }) {
+                if (label != null) {
+                    this.edgesByLabelId.putIfAbsent(label.getId(), edge);
+                }
+            }
+        }
+    }
+
+    private void indexNodes(List<Node> nodes, Node parentNode) {
+        for (Node node : nodes) {
+            if (this.nodesById.putIfAbsent(node.getId(), node) == null && parentNode != null) {
+                this.parentNodesById.put(node.getId(), parentNode);
+            }
+            this.nodesByLabelId.putIfAbsent(node.getLabel().getId(), node);
+            this.indexNodes(node.getBorderNodes(), node);
+            this.indexNodes(node.getChildNodes(), node);
+        }
+    }
+
+    public Optional<Node> findNodeById(UUID nodeId) {
+        return Optional.ofNullable(this.nodesById.get(nodeId));
+    }
+
+    public Optional<Node> findNodeByLabelId(UUID labelId) {
+        return Optional.ofNullable(this.nodesByLabelId.get(labelId));
+    }
+
+    /**
+     * Returns the node containing the given node as a border or child node.
+     *
+     * @param nodeId
+     *            The identifier of a node
+     * @return The parent node or an empty optional if the node is unknown or directly contained by the diagram
+     */
+    public Optional<Node> findParentNode(UUID nodeId) {
+        return Optional.ofNullable(this.parentNodesById.get(nodeId));
+    }
+
+    public Optional<Edge> findEdgeById(UUID edgeId) {
+        return Optional.ofNullable(this.edgesById.get(edgeId));
+    }
+
+    public Optional<Edge> findEdgeByLabelId(UUID labelId) {
+        return Optional.ofNullable(this.edgesByLabelId.get(labelId));
+    }
+
+}
@@ -72,6 +72,22 @@ public final class EdgeStyle {
         return this.color;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = this == obj;
+        if (!isEqual && obj != null && this.getClass() == obj.getClass()) {
+            EdgeStyle other = (EdgeStyle) obj;
+            isEqual = this.size == other.size && Objects.equals(this.lineStyle, other.lineStyle) && Objects.equals(this.sourceArrow, other.sourceArrow);
+            isEqual = isEqual && Objects.equals(this.targetArrow, other.targetArrow) && Objects.equals(this.color, other.color);
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.size, this.lineStyle, this.sourceArrow, this.targetArrow, this.color);
+    }
+
     public static Builder newEdgeStyle() {
         return new Builder();
     }
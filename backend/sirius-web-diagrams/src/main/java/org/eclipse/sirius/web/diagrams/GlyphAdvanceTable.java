@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Advances of the printable ASCII characters of a font, used to measure ASCII texts without going through AWT.
+ *
+ * <p>
+ * The logical bounds of a text without kerning nor ligatures only depend on the advances of its glyphs and on the line
+ * metrics of the font, they are thus computed once for each character and summed afterwards.
+ * </p>
+ *
+ * @author agent
+ */
+public class GlyphAdvanceTable {
+
+    private static final char FIRST_CHARACTER = ' ';
+
+    private static final char LAST_CHARACTER = '~';
+
+    private final float[] advances = new float[LAST_CHARACTER - FIRST_CHARACTER + 1];
+
+    private final Rectangle2D lineBounds;
+
+    public GlyphAdvanceTable(Font font, FontRenderContext fontRenderContext) {
+        Objects.requireNonNull(font);
+        Objects.requireNonNull(fontRenderContext);
+        for (char character = FIRST_CHARACTER; character <= LAST_CHARACTER; character++) {
+            this.advances[character - FIRST_CHARACTER] = (float) font.getStringBounds(String.valueOf(character), fontRenderContext).getWidth();
+        }
+        this.lineBounds = font.getStringBounds(String.valueOf(FIRST_CHARACTER), fontRenderContext);
+    }
+
+    /**
+     * Returns the logical bounds of the given text if it only contains printable ASCII characters.
+     *
+     * @param text
+     *            The text to measure
+     * @return The logical bounds of the text or an empty optional if it contains other characters
+     */
+    public Optional<Rectangle2D> getStringBounds(String text) {
+        float width = 0;
+        boolean isSupported = !text.isEmpty();
+        for (int i = 0; isSupported && i < text.length(); i++) {
+            char character = text.charAt(i);
+            isSupported = FIRST_CHARACTER <= character && character <= LAST_CHARACTER;
+            if (isSupported) {
+                width = width + this.advances[character - FIRST_CHARACTER];
+            }
+        }
+
+        Optional<Rectangle2D> optionalStringBounds = Optional.empty();
+        if (isSupported) {
+            optionalStringBounds = Optional.of(new Rectangle2D.Double(this.lineBounds.getX(), this.lineBounds.getY(), width, this.lineBounds.getHeight()));
+        }
+        return optionalStringBounds;
+    }
+}
@@ -47,6 +47,21 @@ public final class ImageNodeStyle implements INodeStyle {
         return this.scalingFactor;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = this == obj;
+        if (!isEqual && obj != null && this.getClass() == obj.getClass()) {
+            ImageNodeStyle other = (ImageNodeStyle) obj;
+            isEqual = Objects.equals(this.imageURL, other.imageURL) && this.scalingFactor == other.scalingFactor;
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.imageURL, this.scalingFactor);
+    }
+
     public static Builder newImageNodeStyle() {
         return new Builder();
     }
@@ -88,6 +88,23 @@ public final class LabelStyle {
         return this.iconURL;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = this == obj;
+        if (!isEqual && obj != null && this.getClass() == obj.getClass()) {
+            LabelStyle other = (LabelStyle) obj;
+            isEqual = Objects.equals(this.color, other.color) && this.fontSize == other.fontSize && this.bold == other.bold;
+            isEqual = isEqual && this.italic == other.italic && this.underline == other.underline;
+            isEqual = isEqual && this.strikeThrough == other.strikeThrough && Objects.equals(this.iconURL, other.iconURL);
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.color, this.fontSize, this.bold, this.italic, this.underline, this.strikeThrough, this.iconURL);
+    }
+
     public static Builder newLabelStyle() {
         return new Builder();
     }
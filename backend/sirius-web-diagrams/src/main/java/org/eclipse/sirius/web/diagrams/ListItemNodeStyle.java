@@ -41,6 +41,21 @@ public final class ListItemNodeStyle implements INodeStyle {
         return this.backgroundColor;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = this == obj;
+        if (!isEqual && obj != null && this.getClass() == obj.getClass()) {
+            ListItemNodeStyle other = (ListItemNodeStyle) obj;
+            isEqual = Objects.equals(this.backgroundColor, other.backgroundColor);
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.backgroundColor);
+    }
+
     public static Builder newListItemNodeStyle() {
         return new Builder();
     }
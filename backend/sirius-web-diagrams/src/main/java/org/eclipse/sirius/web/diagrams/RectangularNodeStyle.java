@@ -73,6 +73,22 @@ public final class RectangularNodeStyle implements INodeStyle {
         return this.borderStyle;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = this == obj;
+        if (!isEqual && obj != null && this.getClass() == obj.getClass()) {
+            RectangularNodeStyle other = (RectangularNodeStyle) obj;
+            isEqual = Objects.equals(this.color, other.color) && Objects.equals(this.borderColor, other.borderColor) && this.borderSize == other.borderSize;
+            isEqual = isEqual && this.borderRadius == other.borderRadius && Objects.equals(this.borderStyle, other.borderStyle);
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.color, this.borderColor, this.borderSize, this.borderRadius, this.borderStyle);
+    }
+
     public static Builder newRectangularNodeStyle() {
         return new Builder();
     }
@@ -17,10 +17,17 @@ import java.awt.GraphicsEnvironment;
 import java.awt.font.FontRenderContext;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides the TextBounds of a given text applied to a LabelStyle.
  *
+ * <p>
+ * The fonts are created once for each style and size. If the glyph advance tables are enabled, the texts made of
+ * printable ASCII characters are measured from the advances of their characters instead of going through AWT.
+ * </p>
+ *
  * @author wpiers
  */
 public class TextBoundsProvider {
@@ -40,6 +47,20 @@ public class TextBoundsProvider {
 
     private static String fontName;
 
+    private final boolean isGlyphAdvanceTableEnabled;
+
+    private final Map<Integer, Font> fonts = new ConcurrentHashMap<>();
+
+    private final Map<Font, GlyphAdvanceTable> glyphAdvanceTables = new ConcurrentHashMap<>();
+
+    public TextBoundsProvider() {
+        this(false);
+    }
+
+    public TextBoundsProvider(boolean isGlyphAdvanceTableEnabled) {
+        this.isGlyphAdvanceTableEnabled = isGlyphAdvanceTableEnabled;
+    }
+
     /**
      * Computes the text bounds for a label with the given text.
      *
@@ -57,8 +78,8 @@ public class TextBoundsProvider {
         if (labelStyle.isItalic()) {
             fontStyle = fontStyle | Font.ITALIC;
         }
-        Font font = new Font(this.getFontName(), fontStyle, labelStyle.getFontSize());
-        Rectangle2D stringBounds = font.getStringBounds(text, FONT_RENDER_CONTEXT);
+        Font font = this.getFont(fontStyle, labelStyle.getFontSize());
+        Rectangle2D stringBounds = this.getStringBounds(font, text);
         double width = stringBounds.getWidth();
         double height = stringBounds.getHeight();
 
@@ -79,6 +100,24 @@ public class TextBoundsProvider {
         return new TextBounds(size, alignment);
     }
 
+    private Font getFont(int fontStyle, int fontSize) {
+        // The style only uses the two lowest bits: Font.BOLD and Font.ITALIC
+        int key = (fontSize << 2) | fontStyle;
+        return this.fonts.computeIfAbsent(key, k -> new Font(this.getFontName(), fontStyle, fontSize));
+    }
+
+    private Rectangle2D getStringBounds(Font font, String text) {
+        Rectangle2D stringBounds = null;
+        if (this.isGlyphAdvanceTableEnabled) {
+            GlyphAdvanceTable glyphAdvanceTable = this.glyphAdvanceTables.computeIfAbsent(font, f -> new GlyphAdvanceTable(f, FONT_RENDER_CONTEXT));
+            stringBounds = glyphAdvanceTable.getStringBounds(text).orElse(null);
+        }
+        if (stringBounds == null) {
+            stringBounds = font.getStringBounds(text, FONT_RENDER_CONTEXT);
+        }
+        return stringBounds;
+    }
+
     private String getFontName() {
         if (fontName == null) {
             if (this.isDefaultFontAvailable()) {
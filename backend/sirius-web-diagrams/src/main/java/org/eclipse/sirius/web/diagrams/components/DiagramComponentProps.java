@@ -21,6 +21,7 @@ import org.eclipse.sirius.web.components.IProps;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
@@ -38,6 +39,8 @@ public final class DiagramComponentProps implements IProps {
 
     private List<ViewCreationRequest> viewCreationRequests;
 
+    private DiagramRenderingMemo renderingMemo;
+
     private DiagramComponentProps() {
         // Prevent instantiation
     }
@@ -58,6 +61,10 @@ public final class DiagramComponentProps implements IProps {
         return this.viewCreationRequests;
     }
 
+    public DiagramRenderingMemo getRenderingMemo() {
+        return this.renderingMemo;
+    }
+
     public static Builder newDiagramComponentProps() {
         return new Builder();
     }
@@ -77,6 +84,8 @@ public final class DiagramComponentProps implements IProps {
 
         private List<ViewCreationRequest> viewCreationRequests;
 
+        private DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -97,12 +106,18 @@ public final class DiagramComponentProps implements IProps {
             return this;
         }
 
+        public Builder renderingMemo(DiagramRenderingMemo renderingMemo) {
+            this.renderingMemo = Objects.requireNonNull(renderingMemo);
+            return this;
+        }
+
         public DiagramComponentProps build() {
             DiagramComponentProps diagramComponentProps = new DiagramComponentProps();
             diagramComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
             diagramComponentProps.diagramDescription = Objects.requireNonNull(this.diagramDescription);
             diagramComponentProps.previousDiagram = Objects.requireNonNull(this.previousDiagram);
             diagramComponentProps.viewCreationRequests = List.copyOf(Objects.requireNonNull(this.viewCreationRequests));
+            diagramComponentProps.renderingMemo = Objects.requireNonNull(this.renderingMemo);
             return diagramComponentProps;
         }
     }
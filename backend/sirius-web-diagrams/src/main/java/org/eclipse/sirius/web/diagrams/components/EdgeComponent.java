@@ -33,8 +33,10 @@ import org.eclipse.sirius.web.diagrams.description.LabelDescription;
 import org.eclipse.sirius.web.diagrams.description.NodeDescription;
 import org.eclipse.sirius.web.diagrams.description.SynchronizationPolicy;
 import org.eclipse.sirius.web.diagrams.elements.EdgeElementProps;
+import org.eclipse.sirius.web.diagrams.elements.MemoizedElementProps;
 import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
@@ -58,6 +60,7 @@ public class EdgeComponent implements IComponent {
         EdgeDescription edgeDescription = this.props.getEdgeDescription();
         IEdgesRequestor edgesRequestor = this.props.getEdgesRequestor();
         DiagramRenderingCache cache = this.props.getCache();
+        DiagramRenderingMemo renderingMemo = this.props.getRenderingMemo();
 
         List<Element> children = new ArrayList<>();
 
@@ -68,8 +71,7 @@ public class EdgeComponent implements IComponent {
         // @formatter:on
 
         if (hasCandidates) {
-            VariableManager semanticElementsVariableManager = new VariableManager();
-            variableManager.getVariables().forEach(semanticElementsVariableManager::put);
+            VariableManager semanticElementsVariableManager = variableManager.createChild();
             semanticElementsVariableManager.put(DiagramDescription.CACHE, cache);
 
             List<Object> semanticElements = edgeDescription.getSemanticElementsProvider().apply(semanticElementsVariableManager);
@@ -99,7 +101,15 @@ public class EdgeComponent implements IComponent {
                             boolean shouldRender = synchronizationPolicy == SynchronizationPolicy.SYNCHRONIZED
                                     || (synchronizationPolicy == SynchronizationPolicy.UNSYNCHRONIZED && optionalPreviousEdge.isPresent());
 
-                            if (shouldRender) {
+                            // @formatter:off
+                            var optionalReusableEdge = optionalPreviousEdge
+                                    .filter(previousEdge -> edgeDescription.isMemoizable())
+                                    .filter(previousEdge -> renderingMemo.canReuse(previousEdge, targetObjectId, sourceNode, targetNode));
+                            // @formatter:on
+                            if (shouldRender && optionalReusableEdge.isPresent()) {
+                                children.add(new Element(MemoizedElementProps.TYPE, new MemoizedElementProps(optionalReusableEdge.get())));
+                                count++;
+                            } else if (shouldRender) {
                                 EdgeStyle style = edgeDescription.getStyleProvider().apply(edgeInstanceVariableManager);
 
                                 UUID sourceId = this.getId(sourceNode);
@@ -17,6 +17,7 @@ import java.util.Objects;
 import org.eclipse.sirius.web.components.IProps;
 import org.eclipse.sirius.web.diagrams.description.EdgeDescription;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
@@ -34,11 +35,14 @@ public class EdgeComponentProps implements IProps {
 
     private final DiagramRenderingCache cache;
 
-    public EdgeComponentProps(VariableManager variableManager, EdgeDescription edgeDescription, IEdgesRequestor edgesRequestor, DiagramRenderingCache cache) {
+    private final DiagramRenderingMemo renderingMemo;
+
+    public EdgeComponentProps(VariableManager variableManager, EdgeDescription edgeDescription, IEdgesRequestor edgesRequestor, DiagramRenderingCache cache, DiagramRenderingMemo renderingMemo) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.edgeDescription = Objects.requireNonNull(edgeDescription);
         this.edgesRequestor = Objects.requireNonNull(edgesRequestor);
         this.cache = Objects.requireNonNull(cache);
+        this.renderingMemo = Objects.requireNonNull(renderingMemo);
     }
 
     public VariableManager getVariableManager() {
@@ -56,4 +60,8 @@ public class EdgeComponentProps implements IProps {
     public DiagramRenderingCache getCache() {
         return this.cache;
     }
+
+    public DiagramRenderingMemo getRenderingMemo() {
+        return this.renderingMemo;
+    }
 }
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.components;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.components.IComponent;
+import org.eclipse.sirius.web.diagrams.elements.MemoizedElementProps;
+
+/**
+ * The component used to reuse a node of the previous diagram, along with all its descendants, without evaluating its
+ * description again.
+ *
+ * <p>
+ * The node itself has already been registered in the rendering cache by its parent component. The descendants of the
+ * node are registered when this component is rendered, that is to say at the very moment they would have been rendered
+ * by a complete rendering, in order to let the edges find their source and target nodes in the same order.
+ * </p>
+ *
+ * @author agent
+ */
+public class MemoizedNodeComponent implements IComponent {
+
+    private final MemoizedNodeComponentProps props;
+
+    public MemoizedNodeComponent(MemoizedNodeComponentProps props) {
+        this.props = Objects.requireNonNull(props);
+    }
+
+    @Override
+    public Element render() {
+        this.props.getRenderingMemo().reuseDescendants(this.props.getPreviousNode(), this.props.getCache());
+        return new Element(MemoizedElementProps.TYPE, new MemoizedElementProps(this.props.getPreviousNode()));
+    }
+
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.components;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.components.IProps;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingMemo;
+
+/**
+ * The properties of the component used to reuse a node of the previous diagram.
+ *
+ * @author agent
+ */
+public class MemoizedNodeComponentProps implements IProps {
+
+    private final Node previousNode;
+
+    private final DiagramRenderingMemo renderingMemo;
+
+    private final DiagramRenderingCache cache;
+
+    public MemoizedNodeComponentProps(Node previousNode, DiagramRenderingMemo renderingMemo, DiagramRenderingCache cache) {
+        this.previousNode = Objects.requireNonNull(previousNode);
+        this.renderingMemo = Objects.requireNonNull(renderingMemo);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    public Node getPreviousNode() {
+        return this.previousNode;
+    }
+
+    public DiagramRenderingMemo getRenderingMemo() {
+        return this.renderingMemo;
+    }
+
+    public DiagramRenderingCache getCache() {
+        return this.cache;
+    }
+}
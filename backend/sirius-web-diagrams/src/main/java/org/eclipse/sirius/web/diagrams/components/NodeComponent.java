@@ -36,6 +36,7 @@ import org.eclipse.sirius.web.diagrams.description.NodeDescription;
 import org.eclipse.sirius.web.diagrams.description.SynchronizationPolicy;
 import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
@@ -57,6 +58,7 @@ public class NodeComponent implements IComponent {
         NodeDescription nodeDescription = this.props.getNodeDescription();
         INodesRequestor nodesRequestor = this.props.getNodesRequestor();
         DiagramRenderingCache cache = this.props.getCache();
+        DiagramRenderingMemo renderingMemo = this.props.getRenderingMemo();
 
         List<Element> children = new ArrayList<>();
         List<Object> semanticElements = nodeDescription.getSemanticElementsProvider().apply(variableManager);
@@ -69,11 +71,28 @@ public class NodeComponent implements IComponent {
             var optionalPreviousNode = nodesRequestor.getByTargetObjectId(targetObjectId);
 
             if (this.shouldRender(targetObjectId, optionalPreviousNode)) {
-                Element nodeElement = this.doRender(nodeVariableManager, targetObjectId, optionalPreviousNode);
-                children.add(nodeElement);
-
-                cache.put(nodeDescription.getId(), nodeElement);
-                cache.put(semanticElement, nodeElement);
+                // @formatter:off
+                var optionalReusableNode = optionalPreviousNode
+                        .filter(previousNode -> nodeDescription.isMemoizable())
+                        .filter(previousNode -> renderingMemo.canReuse(previousNode, semanticElement, this.props.getViewCreationRequests()));
+                // @formatter:on
+                if (optionalReusableNode.isPresent()) {
+                    Node previousNode = optionalReusableNode.get();
+                    renderingMemo.reuse(previousNode, semanticElement, cache);
+
+                    MemoizedNodeComponentProps memoizedNodeComponentProps = new MemoizedNodeComponentProps(previousNode, renderingMemo, cache);
+                    children.add(new Element(MemoizedNodeComponent.class, memoizedNodeComponentProps));
+                } else {
+                    UUID nodeId = optionalPreviousNode.map(Node::getId).orElseGet(() -> this.computeNodeId(targetObjectId));
+                    Element nodeElement = this.doRender(nodeVariableManager, nodeId, targetObjectId, optionalPreviousNode);
+                    children.add(nodeElement);
+
+                    cache.put(nodeDescription.getId(), nodeElement);
+                    cache.put(semanticElement, nodeElement);
+                    if (nodeDescription.isMemoizable()) {
+                        renderingMemo.record(nodeId, semanticElement);
+                    }
+                }
             }
 
         }
@@ -105,11 +124,10 @@ public class NodeComponent implements IComponent {
         // @formatter:on
     }
 
-    private Element doRender(VariableManager nodeVariableManager, String targetObjectId, Optional<Node> optionalPreviousNode) {
+    private Element doRender(VariableManager nodeVariableManager, UUID nodeId, String targetObjectId, Optional<Node> optionalPreviousNode) {
         NodeDescription nodeDescription = this.props.getNodeDescription();
         NodeContainmentKind containmentKind = this.props.getContainmentKind();
 
-        UUID nodeId = optionalPreviousNode.map(Node::getId).orElseGet(() -> this.computeNodeId(targetObjectId));
         Optional<Label> optionalPreviousLabel = optionalPreviousNode.map(Node::getLabel);
         String type = nodeDescription.getTypeProvider().apply(nodeVariableManager);
         String targetObjectKind = nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager);
@@ -217,6 +235,7 @@ public class NodeComponent implements IComponent {
                     .cache(cache)
                     .viewCreationRequests(this.props.getViewCreationRequests())
                     .parentElementId(nodeId)
+                    .renderingMemo(this.props.getRenderingMemo())
                     .build();
             //@formatter:on
             return new Element(NodeComponent.class, nodeComponentProps);
@@ -239,6 +258,7 @@ public class NodeComponent implements IComponent {
                     .cache(cache)
                     .viewCreationRequests(this.props.getViewCreationRequests())
                     .parentElementId(nodeId)
+                    .renderingMemo(this.props.getRenderingMemo())
                     .build();
 
             // @formatter:on
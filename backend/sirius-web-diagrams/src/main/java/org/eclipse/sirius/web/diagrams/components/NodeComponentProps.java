@@ -21,6 +21,7 @@ import org.eclipse.sirius.web.components.IProps;
 import org.eclipse.sirius.web.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.web.diagrams.description.NodeDescription;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
@@ -45,6 +46,8 @@ public final class NodeComponentProps implements IProps {
 
     private UUID parentElementId;
 
+    private DiagramRenderingMemo renderingMemo;
+
     private NodeComponentProps() {
         // Prevent instantiation
     }
@@ -77,6 +80,10 @@ public final class NodeComponentProps implements IProps {
         return this.parentElementId;
     }
 
+    public DiagramRenderingMemo getRenderingMemo() {
+        return this.renderingMemo;
+    }
+
     public static Builder newNodeComponentProps() {
         return new Builder();
     }
@@ -102,6 +109,8 @@ public final class NodeComponentProps implements IProps {
 
         private UUID parentElementId;
 
+        private DiagramRenderingMemo renderingMemo;
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -137,6 +146,11 @@ public final class NodeComponentProps implements IProps {
             return this;
         }
 
+        public Builder renderingMemo(DiagramRenderingMemo renderingMemo) {
+            this.renderingMemo = Objects.requireNonNull(renderingMemo);
+            return this;
+        }
+
         public NodeComponentProps build() {
             NodeComponentProps nodeComponentProps = new NodeComponentProps();
             nodeComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
@@ -146,6 +160,7 @@ public final class NodeComponentProps implements IProps {
             nodeComponentProps.cache = Objects.requireNonNull(this.cache);
             nodeComponentProps.viewCreationRequests = Objects.requireNonNull(this.viewCreationRequests);
             nodeComponentProps.parentElementId = Objects.requireNonNull(this.parentElementId);
+            nodeComponentProps.renderingMemo = Objects.requireNonNull(this.renderingMemo);
             return nodeComponentProps;
         }
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -45,6 +45,8 @@ public final class EdgeDescription {
 
     private SynchronizationPolicy synchronizationPolicy;
 
+    private boolean memoizable;
+
     private Function<VariableManager, String> targetObjectIdProvider;
 
     private Function<VariableManager, String> targetObjectKindProvider;
@@ -83,6 +85,16 @@ public final class EdgeDescription {
         return this.synchronizationPolicy;
     }
 
+    /**
+     * Indicates if the elements of this description are only computed from their target object, and can thus be reused
+     * by an incremental rendering as long as this object has not been modified.
+     *
+     * @return <code>true</code> if the elements of this description can be reused, <code>false</code> otherwise
+     */
+    public boolean isMemoizable() {
+        return this.memoizable;
+    }
+
     public Function<VariableManager, String> getTargetObjectIdProvider() {
         return this.targetObjectIdProvider;
     }
@@ -156,6 +168,8 @@ public final class EdgeDescription {
 
         private SynchronizationPolicy synchronizationPolicy = SynchronizationPolicy.SYNCHRONIZED;
 
+        private boolean memoizable;
+
         private Function<VariableManager, String> targetObjectIdProvider;
 
         private Function<VariableManager, String> targetObjectKindProvider;
@@ -191,6 +205,11 @@ public final class EdgeDescription {
             return this;
         }
 
+        public Builder memoizable(boolean memoizable) {
+            this.memoizable = memoizable;
+            return this;
+        }
+
         public Builder targetObjectIdProvider(Function<VariableManager, String> targetObjectIdProvider) {
             this.targetObjectIdProvider = Objects.requireNonNull(targetObjectIdProvider);
             return this;
@@ -261,6 +280,7 @@ public final class EdgeDescription {
             EdgeDescription edgeDescription = new EdgeDescription();
             edgeDescription.id = Objects.requireNonNull(this.id);
             edgeDescription.synchronizationPolicy = this.synchronizationPolicy;
+            edgeDescription.memoizable = this.memoizable;
             edgeDescription.targetObjectIdProvider = Objects.requireNonNull(this.targetObjectIdProvider);
             edgeDescription.targetObjectKindProvider = Objects.requireNonNull(this.targetObjectKindProvider);
             edgeDescription.targetObjectLabelProvider = Objects.requireNonNull(this.targetObjectLabelProvider);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -42,6 +42,8 @@ public final class NodeDescription {
 
     private SynchronizationPolicy synchronizationPolicy;
 
+    private boolean memoizable;
+
     private Function<VariableManager, String> typeProvider;
 
     private Function<VariableManager, String> targetObjectIdProvider;
@@ -81,6 +83,16 @@ public final class NodeDescription {
         return this.synchronizationPolicy;
     }
 
+    /**
+     * Indicates if the elements of this description are only computed from their target object, and can thus be reused
+     * by an incremental rendering as long as this object has not been modified.
+     *
+     * @return <code>true</code> if the elements of this description can be reused, <code>false</code> otherwise
+     */
+    public boolean isMemoizable() {
+        return this.memoizable;
+    }
+
     public Function<VariableManager, String> getTypeProvider() {
         return this.typeProvider;
     }
@@ -150,6 +162,8 @@ public final class NodeDescription {
 
         private SynchronizationPolicy synchronizationPolicy = SynchronizationPolicy.SYNCHRONIZED;
 
+        private boolean memoizable;
+
         private Function<VariableManager, String> typeProvider;
 
         private Function<VariableManager, String> targetObjectIdProvider;
@@ -183,6 +197,11 @@ public final class NodeDescription {
             return this;
         }
 
+        public Builder memoizable(boolean memoizable) {
+            this.memoizable = memoizable;
+            return this;
+        }
+
         public Builder typeProvider(Function<VariableManager, String> typeProvider) {
             this.typeProvider = Objects.requireNonNull(typeProvider);
             return this;
@@ -247,6 +266,7 @@ public final class NodeDescription {
             NodeDescription nodeDescription = new NodeDescription();
             nodeDescription.id = Objects.requireNonNull(this.id);
             nodeDescription.synchronizationPolicy = this.synchronizationPolicy;
+            nodeDescription.memoizable = this.memoizable;
             nodeDescription.typeProvider = Objects.requireNonNull(this.typeProvider);
             nodeDescription.targetObjectIdProvider = Objects.requireNonNull(this.targetObjectIdProvider);
             nodeDescription.targetObjectKindProvider = Objects.requireNonNull(this.targetObjectKindProvider);
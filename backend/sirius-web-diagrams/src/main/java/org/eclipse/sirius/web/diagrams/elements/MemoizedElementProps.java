@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.elements;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import org.eclipse.sirius.web.components.IProps;
+
+/**
+ * The properties of an element whose instance has been rendered during a previous rendering and is reused as is.
+ *
+ * @author agent
+ */
+public final class MemoizedElementProps implements IProps {
+
+    public static final String TYPE = "Memoized"; //$NON-NLS-1$
+
+    private final Object instance;
+
+    public MemoizedElementProps(Object instance) {
+        this.instance = Objects.requireNonNull(instance);
+    }
+
+    public Object getInstance() {
+        return this.instance;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'instance: {1}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.instance);
+    }
+}
@@ -20,6 +20,8 @@ import org.eclipse.sirius.web.diagrams.components.EdgeComponent;
 import org.eclipse.sirius.web.diagrams.components.EdgeComponentProps;
 import org.eclipse.sirius.web.diagrams.components.LabelComponent;
 import org.eclipse.sirius.web.diagrams.components.LabelComponentProps;
+import org.eclipse.sirius.web.diagrams.components.MemoizedNodeComponent;
+import org.eclipse.sirius.web.diagrams.components.MemoizedNodeComponentProps;
 import org.eclipse.sirius.web.diagrams.components.NodeComponent;
 import org.eclipse.sirius.web.diagrams.components.NodeComponentProps;
 
@@ -42,6 +44,8 @@ public class DiagramComponentPropsValidator implements IComponentPropsValidator
             checkValidProps = props instanceof EdgeComponentProps;
         } else if (LabelComponent.class.equals(componentType)) {
             checkValidProps = props instanceof LabelComponentProps;
+        } else if (MemoizedNodeComponent.class.equals(componentType)) {
+            checkValidProps = props instanceof MemoizedNodeComponentProps;
         }
 
         return checkValidProps;
@@ -25,6 +25,7 @@ import org.eclipse.sirius.web.diagrams.components.LabelType;
 import org.eclipse.sirius.web.diagrams.elements.DiagramElementProps;
 import org.eclipse.sirius.web.diagrams.elements.EdgeElementProps;
 import org.eclipse.sirius.web.diagrams.elements.LabelElementProps;
+import org.eclipse.sirius.web.diagrams.elements.MemoizedElementProps;
 import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +50,8 @@ public class DiagramElementFactory implements IElementFactory {
             object = this.instantiateEdge((EdgeElementProps) props, children);
         } else if (LabelElementProps.TYPE.equals(type) && props instanceof LabelElementProps) {
             object = this.instantiateLabel((LabelElementProps) props);
+        } else if (MemoizedElementProps.TYPE.equals(type) && props instanceof MemoizedElementProps) {
+            object = ((MemoizedElementProps) props).getInstance();
         }
         return object;
     }
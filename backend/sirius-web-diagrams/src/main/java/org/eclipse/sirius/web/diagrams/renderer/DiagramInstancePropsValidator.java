@@ -17,6 +17,7 @@ import org.eclipse.sirius.web.components.IProps;
 import org.eclipse.sirius.web.diagrams.elements.DiagramElementProps;
 import org.eclipse.sirius.web.diagrams.elements.EdgeElementProps;
 import org.eclipse.sirius.web.diagrams.elements.LabelElementProps;
+import org.eclipse.sirius.web.diagrams.elements.MemoizedElementProps;
 import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 
 /**
@@ -38,6 +39,8 @@ public class DiagramInstancePropsValidator implements IInstancePropsValidator {
             checkValidProps = props instanceof EdgeElementProps;
         } else if (LabelElementProps.TYPE.equals(type)) {
             checkValidProps = props instanceof LabelElementProps;
+        } else if (MemoizedElementProps.TYPE.equals(type)) {
+            checkValidProps = props instanceof MemoizedElementProps;
         }
 
         return checkValidProps;
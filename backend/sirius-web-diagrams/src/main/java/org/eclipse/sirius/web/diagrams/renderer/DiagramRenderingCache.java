@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,18 +13,30 @@
 package org.eclipse.sirius.web.diagrams.renderer;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 
 /**
  * Cache used during the rendering of a diagram.
  *
+ * <p>
+ * The nodes are also indexed by node description while they are rendered, in order to let the edges find their
+ * semantic elements and their source and target nodes without going through all the nodes of the diagram.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramRenderingCache {
@@ -35,6 +47,18 @@ public class DiagramRenderingCache {
 
     private final Map<Object, List<Element>> objectToNodes = new LinkedHashMap<>();
 
+    /**
+     * The semantic objects of the nodes, in the order of their rendering.
+     */
+    private final List<Object> renderedObjects = new ArrayList<>();
+
+    /**
+     * The positions in {@link #renderedObjects} of the nodes of each node description, in ascending order.
+     */
+    private final Map<UUID, List<Integer>> nodeDescriptionIdToRenderingIndexes = new HashMap<>();
+
+    private final Map<UUID, Map<Object, List<Element>>> nodeDescriptionIdToObjectToNodes = new HashMap<>();
+
     public void put(UUID nodeDescriptionId, Element nodeElement) {
         this.nodeDescriptionIdToNodes.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).add(nodeElement);
     }
@@ -42,6 +66,25 @@ public class DiagramRenderingCache {
     public void put(Object object, Element nodeElement) {
         this.nodeToObject.put(nodeElement, object);
         this.objectToNodes.computeIfAbsent(object, obj -> new ArrayList<>()).add(nodeElement);
+
+        UUID nodeDescriptionId = this.getNodeDescriptionId(nodeElement);
+        if (nodeDescriptionId != null) {
+            this.nodeDescriptionIdToRenderingIndexes.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).add(this.renderedObjects.size());
+            this.renderedObjects.add(object);
+            // @formatter:off
+            this.nodeDescriptionIdToObjectToNodes.computeIfAbsent(nodeDescriptionId, id -> new HashMap<>())
+                    .computeIfAbsent(object, obj -> new ArrayList<>())
+                    .add(nodeElement);
+            // @formatter:on
+        }
+    }
+
+    private UUID getNodeDescriptionId(Element nodeElement) {
+        UUID nodeDescriptionId = null;
+        if (nodeElement.getProps() instanceof NodeElementProps) {
+            nodeDescriptionId = ((NodeElementProps) nodeElement.getProps()).getDescriptionId();
+        }
+        return nodeDescriptionId;
     }
 
     public Map<UUID, List<Element>> getNodeDescriptionIdToNodes() {
@@ -56,6 +99,54 @@ public class DiagramRenderingCache {
         return this.objectToNodes.getOrDefault(semanticObject, Collections.emptyList());
     }
 
+    /**
+     * Returns the elements representing the given semantic object which have been created by one of the given node
+     * descriptions, in the order of their rendering.
+     *
+     * @param semanticObject
+     *            The semantic object
+     * @param nodeDescriptionIds
+     *            The identifiers of the node descriptions
+     * @return The elements representing the semantic object
+     */
+    public List<Element> getElementsRepresenting(Object semanticObject, Collection<UUID> nodeDescriptionIds) {
+        List<Element> elements = List.of();
+        if (nodeDescriptionIds.size() == 1) {
+            UUID nodeDescriptionId = nodeDescriptionIds.iterator().next();
+            elements = this.nodeDescriptionIdToObjectToNodes.getOrDefault(nodeDescriptionId, Map.of()).getOrDefault(semanticObject, List.of());
+        } else if (!nodeDescriptionIds.isEmpty()) {
+            Set<UUID> nodeDescriptionIdsSet = new HashSet<>(nodeDescriptionIds);
+            // @formatter:off
+            elements = this.getElementsRepresenting(semanticObject).stream()
+                    .filter(nodeElement -> nodeDescriptionIdsSet.contains(this.getNodeDescriptionId(nodeElement)))
+                    .collect(Collectors.toList());
+            // @formatter:on
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the semantic objects represented by the nodes of the given node descriptions, one for each node.
+     *
+     * @param nodeDescriptionIds
+     *            The identifiers of the node descriptions
+     * @return The semantic objects represented, in the order of the rendering of their nodes
+     */
+    public List<Object> getObjectsRepresentedBy(Collection<UUID> nodeDescriptionIds) {
+        Stream<Integer> renderingIndexes = Stream.empty();
+        Set<UUID> nodeDescriptionIdsSet = new LinkedHashSet<>(nodeDescriptionIds);
+        if (nodeDescriptionIdsSet.size() == 1) {
+            renderingIndexes = this.nodeDescriptionIdToRenderingIndexes.getOrDefault(nodeDescriptionIdsSet.iterator().next(), List.of()).stream();
+        } else if (!nodeDescriptionIdsSet.isEmpty()) {
+            // @formatter:off
+            renderingIndexes = nodeDescriptionIdsSet.stream()
+                    .flatMap(nodeDescriptionId -> this.nodeDescriptionIdToRenderingIndexes.getOrDefault(nodeDescriptionId, List.of()).stream())
+                    .sorted();
+            // @formatter:on
+        }
+        return renderingIndexes.map(this.renderedObjects::get).collect(Collectors.toList());
+    }
+
     public Map<Object, List<Element>> getObjectToNodes() {
         return this.objectToNodes;
     }
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.renderer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.ViewCreationRequest;
+import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
+
+/**
+ * Remembers the semantic element of each node rendered in order to reuse the nodes and edges of the previous diagram
+ * during the next rendering.
+ *
+ * <p>
+ * A node of the previous diagram is reused as is, along with all its border and child nodes, if it represents the same
+ * semantic element and if neither its target object nor the target object of one of its descendants has been modified
+ * since the previous rendering. Since the semantic objects modified are reported with all their containers, adding or
+ * removing an object inside the target object of a node is enough to render this node again. An edge is reused if
+ * neither its target object nor the target objects of its source and target nodes have been modified.
+ * </p>
+ * <p>
+ * The nodes and edges reused are not evaluated again. Only the elements of the descriptions flagged as memoizable, which
+ * are computed from their target object alone, are thus recorded and reused. A node is only reused if all its
+ * descendants have been recorded too.
+ * </p>
+ *
+ * @author agent
+ */
+public class DiagramRenderingMemo {
+
+    private final boolean isIncremental;
+
+    private final Map<UUID, Object> previousSemanticElements;
+
+    private final Set<String> changedObjectIds;
+
+    private final Map<UUID, Object> semanticElements = new HashMap<>();
+
+    /**
+     * Creates the memo of a complete rendering, which does not reuse anything from the previous diagram.
+     */
+    public DiagramRenderingMemo() {
+        this(false, Map.of(), Set.of());
+    }
+
+    private DiagramRenderingMemo(boolean isIncremental, Map<UUID, Object> previousSemanticElements, Set<String> changedObjectIds) {
+        this.isIncremental = isIncremental;
+        this.previousSemanticElements = Objects.requireNonNull(previousSemanticElements);
+        this.changedObjectIds = Objects.requireNonNull(changedObjectIds);
+    }
+
+    /**
+     * Creates the memo of the next rendering, which will reuse the nodes and edges rendered with this memo unless they
+     * display one of the given semantic objects.
+     *
+     * @param modifiedObjectIds
+     *            The identifiers of the semantic objects modified since the rendering of this memo
+     * @return The memo of the next rendering
+     */
+    public DiagramRenderingMemo next(Set<String> modifiedObjectIds) {
+        return new DiagramRenderingMemo(true, this.semanticElements, Set.copyOf(modifiedObjectIds));
+    }
+
+    /**
+     * Records the semantic element of a node of a memoizable description which has just been rendered.
+     *
+     * @param nodeId
+     *            The identifier of the node
+     * @param semanticElement
+     *            The semantic element of the node
+     */
+    public void record(UUID nodeId, Object semanticElement) {
+        this.semanticElements.put(nodeId, semanticElement);
+    }
+
+    /**
+     * Indicates if the given node of the previous diagram can be reused, along with all its descendants.
+     *
+     * @param previousNode
+     *            The node of the previous diagram
+     * @param semanticElement
+     *            The semantic element which should be represented by the node
+     * @param viewCreationRequests
+     *            The requests of creation of unsynchronized nodes
+     * @return <code>true</code> if the previous node can be reused, <code>false</code> otherwise
+     */
+    public boolean canReuse(Node previousNode, Object semanticElement, List<ViewCreationRequest> viewCreationRequests) {
+        return this.isIncremental && Objects.equals(this.previousSemanticElements.get(previousNode.getId()), semanticElement) && this.isUnchanged(previousNode, viewCreationRequests);
+    }
+
+    private boolean isUnchanged(Node node, List<ViewCreationRequest> viewCreationRequests) {
+        boolean isUnchanged = !this.changedObjectIds.contains(node.getTargetObjectId());
+        isUnchanged = isUnchanged && viewCreationRequests.stream().noneMatch(viewCreationRequest -> Objects.equals(viewCreationRequest.getParentElementId(), node.getId()));
+        isUnchanged = isUnchanged && this.areUnchanged(node.getBorderNodes(), viewCreationRequests);
+        isUnchanged = isUnchanged && this.areUnchanged(node.getChildNodes(), viewCreationRequests);
+        return isUnchanged;
+    }
+
+    private boolean areUnchanged(List<Node> nodes, List<ViewCreationRequest> viewCreationRequests) {
+        boolean areUnchanged = true;
+        for (Node node : nodes) {
+            areUnchanged = areUnchanged && this.previousSemanticElements.containsKey(node.getId()) && this.isUnchanged(node, viewCreationRequests);
+        }
+        return areUnchanged;
+    }
+
+    /**
+     * Indicates if the given edge of the previous diagram can be reused.
+     *
+     * @param previousEdge
+     *            The edge of the previous diagram with the identifier of the edge to render
+     * @param targetObjectId
+     *            The identifier of the target object of the edge to render
+     * @param sourceNode
+     *            The source node of the edge to render
+     * @param targetNode
+     *            The target node of the edge to render
+     * @return <code>true</code> if the previous edge can be reused, <code>false</code> otherwise
+     */
+    public boolean canReuse(Edge previousEdge, String targetObjectId, Element sourceNode, Element targetNode) {
+        boolean canReuse = this.isIncremental && Objects.equals(previousEdge.getTargetObjectId(), targetObjectId) && !this.changedObjectIds.contains(targetObjectId);
+        return canReuse && this.isUnchanged(sourceNode) && this.isUnchanged(targetNode);
+    }
+
+    private boolean isUnchanged(Element nodeElement) {
+        // @formatter:off
+        return Optional.of(nodeElement.getProps())
+                .filter(NodeElementProps.class::isInstance)
+                .map(NodeElementProps.class::cast)
+                .map(NodeElementProps::getTargetObjectId)
+                .filter(this.changedObjectIds::contains)
+                .isEmpty();
+        // @formatter:on
+    }
+
+    /**
+     * Reuses a node of the previous diagram by registering it in the rendering cache as if it had just been rendered.
+     *
+     * @param previousNode
+     *            The node of the previous diagram
+     * @param semanticElement
+     *            The semantic element represented by the node
+     * @param cache
+     *            The cache of the current rendering
+     */
+    public void reuse(Node previousNode, Object semanticElement, DiagramRenderingCache cache) {
+        // @formatter:off
+        NodeElementProps nodeElementProps = NodeElementProps.newNodeElementProps(previousNode.getId())
+                .type(previousNode.getType())
+                .targetObjectId(previousNode.getTargetObjectId())
+                .targetObjectKind(previousNode.getTargetObjectKind())
+                .targetObjectLabel(previousNode.getTargetObjectLabel())
+                .descriptionId(previousNode.getDescriptionId())
+                .borderNode(previousNode.isBorderNode())
+                .style(previousNode.getStyle())
+                .position(previousNode.getPosition())
+                .size(previousNode.getSize())
+                .children(List.of())
+                .customizableProperties(previousNode.getCustomizedProperties())
+                .build();
+        // @formatter:on
+        Element nodeElement = new Element(NodeElementProps.TYPE, nodeElementProps);
+
+        cache.put(previousNode.getDescriptionId(), nodeElement);
+        cache.put(semanticElement, nodeElement);
+        this.record(previousNode.getId(), semanticElement);
+    }
+
+    /**
+     * Reuses the border and child nodes of a node of the previous diagram.
+     *
+     * <p>
+     * The descendants are registered in the rendering cache in the order used by a complete rendering: all the nodes of
+     * a description first and then the descendants of each of them.
+     * </p>
+     *
+     * @param previousNode
+     *            The node of the previous diagram
+     * @param cache
+     *            The cache of the current rendering
+     */
+    public void reuseDescendants(Node previousNode, DiagramRenderingCache cache) {
+        this.reuseAll(previousNode.getBorderNodes(), cache);
+        this.reuseAll(previousNode.getChildNodes(), cache);
+    }
+
+    private void reuseAll(List<Node> previousNodes, DiagramRenderingCache cache) {
+        int start = 0;
+        while (start < previousNodes.size()) {
+            UUID descriptionId = previousNodes.get(start).getDescriptionId();
+            int end = start;
+            while (end < previousNodes.size() && descriptionId.equals(previousNodes.get(end).getDescriptionId())) {
+                Node previousNode = previousNodes.get(end);
+                this.reuse(previousNode, this.previousSemanticElements.get(previousNode.getId()), cache);
+                end++;
+            }
+            for (Node previousNode : previousNodes.subList(start, end)) {
+                this.reuseDescendants(previousNode, cache);
+            }
+            start = end;
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.diagrams.ImageNodeStyle;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the indexes of the diagram rendering cache.
+ *
+ * @author agent
+ */
+public class DiagramRenderingCacheTests {
+
+    private static final UUID FIRST_DESCRIPTION_ID = UUID.randomUUID();
+
+    private static final UUID SECOND_DESCRIPTION_ID = UUID.randomUUID();
+
+    @Test
+    public void testElementsRepresentingByNodeDescription() {
+        Object firstObject = new Object();
+        Object secondObject = new Object();
+
+        Element firstNode = this.createNodeElement(FIRST_DESCRIPTION_ID);
+        Element secondNode = this.createNodeElement(SECOND_DESCRIPTION_ID);
+        Element thirdNode = this.createNodeElement(FIRST_DESCRIPTION_ID);
+
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        cache.put(firstObject, firstNode);
+        cache.put(firstObject, secondNode);
+        cache.put(secondObject, thirdNode);
+
+        assertThat(cache.getElementsRepresenting(firstObject, List.of(FIRST_DESCRIPTION_ID))).containsExactly(firstNode);
+        assertThat(cache.getElementsRepresenting(firstObject, List.of(SECOND_DESCRIPTION_ID))).containsExactly(secondNode);
+        assertThat(cache.getElementsRepresenting(firstObject, List.of(SECOND_DESCRIPTION_ID, FIRST_DESCRIPTION_ID))).containsExactly(firstNode, secondNode);
+        assertThat(cache.getElementsRepresenting(secondObject, List.of(SECOND_DESCRIPTION_ID))).isEmpty();
+        assertThat(cache.getElementsRepresenting(new Object(), List.of(FIRST_DESCRIPTION_ID))).isEmpty();
+        assertThat(cache.getElementsRepresenting(firstObject, List.of())).isEmpty();
+    }
+
+    @Test
+    public void testObjectsRepresentedByNodeDescription() {
+        Object firstObject = new Object();
+        Object secondObject = new Object();
+
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        cache.put(firstObject, this.createNodeElement(FIRST_DESCRIPTION_ID));
+        cache.put(secondObject, this.createNodeElement(SECOND_DESCRIPTION_ID));
+        cache.put(secondObject, this.createNodeElement(FIRST_DESCRIPTION_ID));
+
+        assertThat(cache.getObjectsRepresentedBy(List.of(FIRST_DESCRIPTION_ID))).containsExactly(firstObject, secondObject);
+        assertThat(cache.getObjectsRepresentedBy(List.of(SECOND_DESCRIPTION_ID, SECOND_DESCRIPTION_ID))).containsExactly(secondObject);
+        assertThat(cache.getObjectsRepresentedBy(List.of(UUID.randomUUID()))).isEmpty();
+    }
+
+    @Test
+    public void testObjectsRepresentedBySeveralNodeDescriptionsKeepTheRenderingOrder() {
+        Object firstObject = new Object();
+        Object secondObject = new Object();
+
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        cache.put(firstObject, this.createNodeElement(FIRST_DESCRIPTION_ID));
+        cache.put(secondObject, this.createNodeElement(SECOND_DESCRIPTION_ID));
+        cache.put(secondObject, this.createNodeElement(FIRST_DESCRIPTION_ID));
+
+        assertThat(cache.getObjectsRepresentedBy(List.of(SECOND_DESCRIPTION_ID, FIRST_DESCRIPTION_ID))).containsExactly(firstObject, secondObject, secondObject);
+        assertThat(cache.getObjectsRepresentedBy(List.of())).isEmpty();
+    }
+
+    private Element createNodeElement(UUID descriptionId) {
+        // @formatter:off
+        NodeElementProps nodeElementProps = NodeElementProps.newNodeElementProps(UUID.randomUUID())
+                .type("type") //$NON-NLS-1$
+                .targetObjectId("targetObjectId") //$NON-NLS-1$
+                .targetObjectKind("targetObjectKind") //$NON-NLS-1$
+                .targetObjectLabel("targetObjectLabel") //$NON-NLS-1$
+                .descriptionId(descriptionId)
+                .style(ImageNodeStyle.newImageNodeStyle().imageURL("").build()) //$NON-NLS-1$
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .children(List.of())
+                .build();
+        // @formatter:on
+        return new Element(NodeElementProps.TYPE, nodeElementProps);
+    }
+}
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.diagrams.ArrowStyle;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.EdgeStyle;
+import org.eclipse.sirius.web.diagrams.INodeStyle;
+import org.eclipse.sirius.web.diagrams.LineStyle;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.web.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.web.diagrams.description.LabelDescription;
+import org.eclipse.sirius.web.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.web.diagrams.description.NodeDescription;
+import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
+import org.eclipse.sirius.web.representations.Status;
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the incremental rendering of the diagrams.
+ *
+ * @author agent
+ */
+public class DiagramRenderingMemoTests {
+
+    private static final UUID DIAGRAM_DESCRIPTION_ID = UUID.randomUUID();
+
+    private static final UUID NODE_DESCRIPTION_ID = UUID.randomUUID();
+
+    private static final UUID CHILD_NODE_DESCRIPTION_ID = UUID.randomUUID();
+
+    private static final UUID EDGE_DESCRIPTION_ID = UUID.randomUUID();
+
+    private static final String FIRST_OBJECT_ID = "First"; //$NON-NLS-1$
+
+    private static final String SECOND_OBJECT_ID = "Second"; //$NON-NLS-1$
+
+    private static final String CHILD_SUFFIX = "::child"; //$NON-NLS-1$
+
+    private final AtomicInteger nodeStyleCount = new AtomicInteger();
+
+    private final AtomicInteger edgeStyleCount = new AtomicInteger();
+
+    /**
+     * Renders a diagram again after a change of the object "Second" and checks that only the nodes and the edges
+     * displaying this object have been evaluated again.
+     */
+    @Test
+    public void testOnlyTheNodesAndEdgesAffectedAreRenderedAgain() {
+        DiagramDescription diagramDescription = this.getDiagramDescription(true);
+
+        DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+        Diagram initialDiagram = this.render(diagramDescription, Optional.empty(), renderingMemo);
+        assertThat(this.nodeStyleCount.get()).isEqualTo(4);
+        assertThat(this.edgeStyleCount.get()).isEqualTo(1);
+
+        this.nodeStyleCount.set(0);
+        this.edgeStyleCount.set(0);
+        DiagramRenderingMemo nextRenderingMemo = renderingMemo.next(Set.of(SECOND_OBJECT_ID));
+        Diagram diagram = this.render(diagramDescription, Optional.of(initialDiagram), nextRenderingMemo);
+
+        assertThat(this.nodeStyleCount.get()).isEqualTo(1);
+        assertThat(this.edgeStyleCount.get()).isEqualTo(1);
+        assertThat(diagram.getNodes()).hasSize(2);
+        assertThat(diagram.getNodes().get(0)).isSameAs(initialDiagram.getNodes().get(0));
+        assertThat(diagram.getNodes().get(1)).isNotSameAs(initialDiagram.getNodes().get(1));
+        assertThat(diagram.getNodes().get(1).getChildNodes().get(0)).isSameAs(initialDiagram.getNodes().get(1).getChildNodes().get(0));
+        assertThat(diagram.getEdges().get(0)).isNotSameAs(initialDiagram.getEdges().get(0));
+
+        Diagram completeDiagram = this.render(diagramDescription, Optional.of(initialDiagram), new DiagramRenderingMemo());
+        assertThat(this.getIds(diagram)).isEqualTo(this.getIds(completeDiagram));
+        assertThat(diagram.getEdges().get(0).getSourceId()).isEqualTo(completeDiagram.getEdges().get(0).getSourceId());
+        assertThat(diagram.getEdges().get(0).getTargetId()).isEqualTo(completeDiagram.getEdges().get(0).getTargetId());
+    }
+
+    /**
+     * Renders a diagram again after a change of an object which is not displayed and checks that everything has been
+     * reused.
+     */
+    @Test
+    public void testEverythingIsReusedWithoutChangeOfTheObjectsDisplayed() {
+        DiagramDescription diagramDescription = this.getDiagramDescription(true);
+
+        DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+        Diagram initialDiagram = this.render(diagramDescription, Optional.empty(), renderingMemo);
+
+        this.nodeStyleCount.set(0);
+        this.edgeStyleCount.set(0);
+        DiagramRenderingMemo nextRenderingMemo = renderingMemo.next(Set.of("Third")); //$NON-NLS-1$
+        Diagram diagram = this.render(diagramDescription, Optional.of(initialDiagram), nextRenderingMemo);
+
+        assertThat(this.nodeStyleCount.get()).isEqualTo(0);
+        assertThat(this.edgeStyleCount.get()).isEqualTo(0);
+        assertThat(diagram.getNodes().get(0)).isSameAs(initialDiagram.getNodes().get(0));
+        assertThat(diagram.getNodes().get(1)).isSameAs(initialDiagram.getNodes().get(1));
+        assertThat(diagram.getEdges().get(0)).isSameAs(initialDiagram.getEdges().get(0));
+
+        this.nodeStyleCount.set(0);
+        Diagram nextDiagram = this.render(diagramDescription, Optional.of(diagram), nextRenderingMemo.next(Set.of(FIRST_OBJECT_ID + CHILD_SUFFIX)));
+        assertThat(this.nodeStyleCount.get()).isEqualTo(2);
+        assertThat(nextDiagram.getNodes().get(0)).isNotSameAs(diagram.getNodes().get(0));
+        assertThat(nextDiagram.getNodes().get(1)).isSameAs(diagram.getNodes().get(1));
+    }
+
+    /**
+     * Renders a diagram again after a change of an object which is not displayed and checks that the nodes whose
+     * descriptions are not memoizable, along with their ancestors, have been evaluated again.
+     */
+    @Test
+    public void testNodesOfDescriptionsWhichAreNotMemoizableAreRenderedAgain() {
+        DiagramDescription diagramDescription = this.getDiagramDescription(false);
+
+        DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+        Diagram initialDiagram = this.render(diagramDescription, Optional.empty(), renderingMemo);
+
+        this.nodeStyleCount.set(0);
+        this.edgeStyleCount.set(0);
+        DiagramRenderingMemo nextRenderingMemo = renderingMemo.next(Set.of("Third")); //$NON-NLS-1$
+        Diagram diagram = this.render(diagramDescription, Optional.of(initialDiagram), nextRenderingMemo);
+
+        assertThat(this.nodeStyleCount.get()).isEqualTo(4);
+        assertThat(this.edgeStyleCount.get()).isEqualTo(0);
+        assertThat(diagram.getNodes().get(0)).isNotSameAs(initialDiagram.getNodes().get(0));
+        assertThat(diagram.getNodes().get(1)).isNotSameAs(initialDiagram.getNodes().get(1));
+        assertThat(diagram.getEdges().get(0)).isSameAs(initialDiagram.getEdges().get(0));
+    }
+
+    private List<UUID> getIds(Diagram diagram) {
+        // @formatter:off
+        return diagram.getNodes().stream()
+                .flatMap(node -> Stream.concat(Stream.of(node), node.getChildNodes().stream()))
+                .map(Node::getId)
+                .collect(Collectors.toList());
+        // @formatter:on
+    }
+
+    private Diagram render(DiagramDescription diagramDescription, Optional<Diagram> previousDiagram, DiagramRenderingMemo renderingMemo) {
+        // @formatter:off
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(new VariableManager())
+                .diagramDescription(diagramDescription)
+                .viewCreationRequests(List.of())
+                .previousDiagram(previousDiagram)
+                .renderingMemo(renderingMemo)
+                .build();
+        // @formatter:on
+        return new DiagramRenderer().render(new Element(DiagramComponent.class, props));
+    }
+
+    private DiagramDescription getDiagramDescription(boolean isChildNodeDescriptionMemoizable) {
+        NodeDescription childNodeDescription = this.getNodeDescription(CHILD_NODE_DESCRIPTION_ID, List.of(), isChildNodeDescriptionMemoizable);
+        NodeDescription nodeDescription = this.getNodeDescription(NODE_DESCRIPTION_ID, List.of(childNodeDescription), true);
+
+        // @formatter:off
+        return DiagramDescription.newDiagramDescription(DIAGRAM_DESCRIPTION_ID)
+                .label("") //$NON-NLS-1$
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId") //$NON-NLS-1$
+                .labelProvider(variableManager -> "Diagram") //$NON-NLS-1$
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(List.of(this.getEdgeDescription(nodeDescription)))
+                .toolSections(List.of())
+                .build();
+        // @formatter:on
+    }
+
+    private NodeDescription getNodeDescription(UUID nodeDescriptionId, List<NodeDescription> childNodeDescriptions, boolean memoizable) {
+        // @formatter:off
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .colorProvider(variableManager -> "#000000") //$NON-NLS-1$
+                .fontSizeProvider(variableManager -> 16)
+                .boldProvider(variableManager -> false)
+                .italicProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .iconURLProvider(variableManager -> "") //$NON-NLS-1$
+                .build();
+
+        LabelDescription labelDescription = LabelDescription.newLabelDescription("labelDescriptionId") //$NON-NLS-1$
+                .idProvider(variableManager -> "labelId") //$NON-NLS-1$
+                .textProvider(variableManager -> "Node") //$NON-NLS-1$
+                .styleDescriptionProvider(variableManager -> labelStyleDescription)
+                .build();
+
+        Function<VariableManager, INodeStyle> nodeStyleProvider = variableManager -> {
+            this.nodeStyleCount.incrementAndGet();
+            return RectangularNodeStyle.newRectangularNodeStyle()
+                    .color("") //$NON-NLS-1$
+                    .borderColor("") //$NON-NLS-1$
+                    .borderSize(0)
+                    .borderStyle(LineStyle.Solid)
+                    .build();
+        };
+
+        Function<VariableManager, List<Object>> semanticElementsProvider = variableManager -> {
+            return variableManager.get(VariableManager.SELF, String.class)
+                    .map(self -> List.<Object>of(self + CHILD_SUFFIX))
+                    .orElse(List.of(FIRST_OBJECT_ID, SECOND_OBJECT_ID));
+        };
+
+        return NodeDescription.newNodeDescription(nodeDescriptionId)
+                .memoizable(memoizable)
+                .typeProvider(variableManager -> "") //$NON-NLS-1$
+                .semanticElementsProvider(semanticElementsProvider)
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null))
+                .targetObjectKindProvider(variableManager -> "") //$NON-NLS-1$
+                .targetObjectLabelProvider(variableManager -> "")//$NON-NLS-1$
+                .labelDescription(labelDescription)
+                .styleProvider(nodeStyleProvider)
+                .sizeProvider(variableManager -> Size.UNDEFINED)
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(childNodeDescriptions)
+                .labelEditHandler((variableManager, newLabel) -> Status.OK)
+                .deleteHandler(variableManager -> Status.OK)
+                .build();
+        // @formatter:on
+    }
+
+    private EdgeDescription getEdgeDescription(NodeDescription nodeDescription) {
+        // @formatter:off
+        Function<VariableManager, EdgeStyle> edgeStyleProvider = variableManager -> {
+            this.edgeStyleCount.incrementAndGet();
+            return EdgeStyle.newEdgeStyle()
+                    .size(2)
+                    .lineStyle(LineStyle.Solid)
+                    .sourceArrow(ArrowStyle.None)
+                    .targetArrow(ArrowStyle.InputArrow)
+                    .color("rgb(1, 2, 3)") //$NON-NLS-1$
+                    .build();
+        };
+
+        return EdgeDescription.newEdgeDescription(EDGE_DESCRIPTION_ID)
+                .memoizable(true)
+                .semanticElementsProvider(variableManager -> List.of("Edge")) //$NON-NLS-1$
+                .sourceNodesProvider(variableManager -> this.getNodes(variableManager, FIRST_OBJECT_ID))
+                .targetNodesProvider(variableManager -> this.getNodes(variableManager, SECOND_OBJECT_ID))
+                .sourceNodeDescriptions(List.of(nodeDescription))
+                .targetNodeDescriptions(List.of(nodeDescription))
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null))
+                .targetObjectKindProvider(variableManager -> "") //$NON-NLS-1$
+                .targetObjectLabelProvider(variableManager -> "")//$NON-NLS-1$
+                .styleProvider(edgeStyleProvider)
+                .deleteHandler(variableManager -> Status.ERROR)
+                .build();
+        // @formatter:on
+    }
+
+    private List<Element> getNodes(VariableManager variableManager, String semanticElement) {
+        // @formatter:off
+        return variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class)
+                .map(cache -> cache.getElementsRepresenting(semanticElement))
+                .orElse(List.of())
+                .stream()
+                .filter(node -> ((NodeElementProps) node.getProps()).getDescriptionId().equals(NODE_DESCRIPTION_ID))
+                .collect(Collectors.toList());
+        // @formatter:on
+    }
+}
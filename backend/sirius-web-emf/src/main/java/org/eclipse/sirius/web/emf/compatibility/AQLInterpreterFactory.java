@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.ecore.EPackage;
@@ -26,6 +27,7 @@ import org.eclipse.sirius.viewpoint.description.Group;
 import org.eclipse.sirius.viewpoint.description.JavaExtension;
 import org.eclipse.sirius.viewpoint.description.Viewpoint;
 import org.eclipse.sirius.web.compat.api.IAQLInterpreterFactory;
+import org.eclipse.sirius.web.emf.services.ExtentServices;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +52,7 @@ public class AQLInterpreterFactory implements IAQLInterpreterFactory {
                 .map(this::getJavaServices)
                 .orElse(new ArrayList<>());
         // @formatter:on
+        javaClasses.add(ExtentServices.class);
 
         List<EPackage> ePackages = diagramDescription.getMetamodel();
         return new AQLInterpreter(javaClasses, ePackages);
@@ -64,9 +67,7 @@ public class AQLInterpreterFactory implements IAQLInterpreterFactory {
                 .map(Group::getOwnedViewpoints)
                 .orElse(new BasicEList<>());
 
-        var javaClasses = viewpoints.stream()
-                .map(this::getJavaServices)
-                .flatMap(Collection::stream)
+        var javaClasses = Stream.concat(viewpoints.stream().map(this::getJavaServices).flatMap(Collection::stream), Stream.of(ExtentServices.class))
                 .collect(Collectors.toUnmodifiableList());
         // @formatter:on
 
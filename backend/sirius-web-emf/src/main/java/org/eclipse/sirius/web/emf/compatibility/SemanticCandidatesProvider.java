@@ -17,10 +17,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.web.emf.services.EClassExtentIndexProvider;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.interpreter.Result;
 import org.eclipse.sirius.web.representations.VariableManager;
@@ -28,6 +30,11 @@ import org.eclipse.sirius.web.representations.VariableManager;
 /**
  * Utility class used to provide the semantic candidates.
  *
+ * <p>
+ * The semantic candidates found with the default expression are retrieved from the {@link EClassExtentIndexProvider
+ * extent index} of the resource instead of walking the whole resource each time.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class SemanticCandidatesProvider implements Function<VariableManager, List<Object>> {
@@ -40,7 +47,7 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
      * semantic resources of the session's ResourceSet, while the expression below will only look into the current
      * resource.
      */
-    private static final String DEFAULT_SEMANTIC_CANDIDATES_EXPRESSION = "aql:self.eResource().getContents().eAllContents()"; //$NON-NLS-1$
+    public static final String DEFAULT_SEMANTIC_CANDIDATES_EXPRESSION = "aql:self.eResource().getContents().eAllContents()"; //$NON-NLS-1$
 
     private AQLInterpreter interpreter;
 
@@ -50,6 +57,8 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
 
     private String preconditionExpression;
 
+    private final EClassExtentIndexProvider eClassExtentIndexProvider = new EClassExtentIndexProvider();
+
     public SemanticCandidatesProvider(AQLInterpreter interpreter, String domainClass, String semanticCandidatesExpression, String preconditionExpression) {
         this.interpreter = Objects.requireNonNull(interpreter);
         this.domainClass = Objects.requireNonNull(domainClass);
@@ -65,16 +74,17 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
     public List<Object> apply(VariableManager variableManager) {
         List<Object> semanticCandidates = new ArrayList<>();
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.semanticCandidatesExpression);
-
         DomainClassPredicate domainClassPredicate = new DomainClassPredicate(this.domainClass);
 
         // @formatter:off
-        List<EObject> eObjects = result.asObjects().orElse(List.of()).stream()
-                .filter(EObject.class::isInstance)
-                .map(EObject.class::cast)
-                .filter(domainClassPredicate::test)
-                .collect(Collectors.toList());
+        List<EObject> eObjects = this.getIndexedCandidates(variableManager, domainClassPredicate).orElseGet(() -> {
+            Result result = this.interpreter.evaluateExpression(variableManager.getVariableScope(), this.semanticCandidatesExpression);
+            return result.asObjects().orElse(List.of()).stream()
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .filter(domainClassPredicate::test)
+                    .collect(Collectors.toList());
+        });
         // @formatter:on
 
         for (EObject eObject : eObjects) {
@@ -96,4 +106,25 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
         }
         return semanticCandidates;
     }
+
+    /**
+     * Returns the semantic candidates of the default expression from the extent index of the resource of self.
+     *
+     * @param variableManager
+     *            The variable manager
+     * @param domainClassPredicate
+     *            The predicate of the domain class
+     * @return The semantic candidates or an empty optional if they cannot be retrieved from the index
+     */
+    private Optional<List<EObject>> getIndexedCandidates(VariableManager variableManager, DomainClassPredicate domainClassPredicate) {
+        Optional<List<EObject>> optionalCandidates = Optional.empty();
+        if (DEFAULT_SEMANTIC_CANDIDATES_EXPRESSION.equals(this.semanticCandidatesExpression)) {
+            // @formatter:off
+            optionalCandidates = variableManager.get(VariableManager.SELF, EObject.class)
+                    .flatMap(self -> this.eClassExtentIndexProvider.getInstances(self, List.of(DEFAULT_SEMANTIC_CANDIDATES_EXPRESSION, this.domainClass),
+                            eObject -> eObject.eContainer() != null && domainClassPredicate.test(eObject)));
+            // @formatter:on
+        }
+        return optionalCandidates;
+    }
 }
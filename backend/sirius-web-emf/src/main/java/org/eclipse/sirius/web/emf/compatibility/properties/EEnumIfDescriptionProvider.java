@@ -104,7 +104,7 @@ public class EEnumIfDescriptionProvider {
 
     private Function<VariableManager, List<Object>> getOptionsProvider() {
         return variableManager -> {
-            Object feature = variableManager.getVariables().get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE);
+            Object feature = variableManager.getVariableScope().get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE);
             if (feature instanceof EAttribute) {
                 EDataType eEnum = ((EAttribute) feature).getEAttributeType();
                 if (eEnum instanceof EEnum) {
@@ -121,7 +121,7 @@ public class EEnumIfDescriptionProvider {
 
     private Function<VariableManager, String> getOptionIdProvider() {
         return variableManager -> {
-            Object litteral = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object litteral = variableManager.getVariableScope().get(SelectComponent.CANDIDATE_VARIABLE);
             if (litteral instanceof Enumerator) {
                 return Integer.valueOf(((Enumerator) litteral).getValue()).toString();
             }
@@ -131,7 +131,7 @@ public class EEnumIfDescriptionProvider {
 
     private Function<VariableManager, String> getOptionLabelProvider() {
         return variableManager -> {
-            Object litteral = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object litteral = variableManager.getVariableScope().get(SelectComponent.CANDIDATE_VARIABLE);
             if (litteral instanceof Enumerator) {
                 return ((Enumerator) litteral).getName();
             }
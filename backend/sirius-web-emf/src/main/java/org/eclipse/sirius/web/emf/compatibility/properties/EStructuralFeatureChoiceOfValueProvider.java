@@ -13,21 +13,33 @@
 package org.eclipse.sirius.web.emf.compatibility.properties;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.notify.AdapterFactory;
+import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.edit.provider.IItemPropertyDescriptor;
 import org.eclipse.emf.edit.provider.IItemPropertySource;
+import org.eclipse.emf.edit.provider.ItemPropertyDescriptor;
+import org.eclipse.sirius.web.emf.services.EClassExtentIndexProvider;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
  * Utility class used to provide a choice of values for a structural feature and an object in the variable manager.
  *
+ * <p>
+ * When the property descriptor of the feature relies on the default behavior of {@link ItemPropertyDescriptor}, which
+ * scans the whole resource set to find the instances of the type of the reference, these instances are retrieved from
+ * the {@link EClassExtentIndexProvider extent index} of the resource set instead.
+ * </p>
+ *
  * @author lfasani
  */
 public class EStructuralFeatureChoiceOfValueProvider implements Function<VariableManager, List<Object>> {
@@ -36,6 +48,8 @@ public class EStructuralFeatureChoiceOfValueProvider implements Function<Variabl
 
     private AdapterFactory adapterFactory;
 
+    private final EClassExtentIndexProvider eClassExtentIndexProvider = new EClassExtentIndexProvider();
+
     public EStructuralFeatureChoiceOfValueProvider(String featureVariableName, AdapterFactory adapterFactory) {
         this.featureVariableName = Objects.requireNonNull(featureVariableName);
         this.adapterFactory = Objects.requireNonNull(adapterFactory);
@@ -50,22 +64,75 @@ public class EStructuralFeatureChoiceOfValueProvider implements Function<Variabl
             EObject eObject = optionalEObject.get();
             EReference eReference = optionalEReference.get();
 
-            Object adapter = this.adapterFactory.adapt(eObject, IItemPropertySource.class);
-            if (adapter instanceof IItemPropertySource) {
-                IItemPropertySource itemPropertySource = (IItemPropertySource) adapter;
-                IItemPropertyDescriptor descriptor = itemPropertySource.getPropertyDescriptor(eObject, eReference);
-                if (descriptor != null) {
-                    // @formatter:off
-                    List<Object> choiceOfValues = descriptor.getChoiceOfValues(eObject).stream()
-                            .filter(Objects::nonNull)
-                            .collect(Collectors.toList());
-                    // @formatter:on
-                    return choiceOfValues;
-                }
+            Optional<IItemPropertyDescriptor> optionalDescriptor = this.getPropertyDescriptor(eObject, eReference);
+            if (optionalDescriptor.isPresent()) {
+                IItemPropertyDescriptor descriptor = optionalDescriptor.get();
+                // @formatter:off
+                List<Object> choiceOfValues = this.getIndexedChoiceOfValues(descriptor, eObject, eReference)
+                        .orElseGet(() -> descriptor.getChoiceOfValues(eObject)).stream()
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+                // @formatter:on
+                return choiceOfValues;
             }
         }
 
         return new ArrayList<>();
     }
 
+    /**
+     * Returns the number of values which can be chosen, without copying them when they come from the extent index.
+     *
+     * @param variableManager
+     *            The variable manager
+     * @return The number of values which can be chosen
+     */
+    public int getChoiceOfValuesCount(VariableManager variableManager) {
+        int count = 0;
+        var optionalEObject = variableManager.get(VariableManager.SELF, EObject.class);
+        var optionalEReference = variableManager.get(this.featureVariableName, EReference.class);
+
+        if (optionalEObject.isPresent() && optionalEReference.isPresent()) {
+            EObject eObject = optionalEObject.get();
+            EReference eReference = optionalEReference.get();
+
+            Optional<IItemPropertyDescriptor> optionalDescriptor = this.getPropertyDescriptor(eObject, eReference);
+            if (optionalDescriptor.isPresent()) {
+                IItemPropertyDescriptor descriptor = optionalDescriptor.get();
+                Optional<Integer> optionalIndexedCount = Optional.empty();
+                EClassifier eType = eReference.getEType();
+                if (this.isIndexed(descriptor, eType)) {
+                    optionalIndexedCount = this.eClassExtentIndexProvider.getInstancesCountInResourceSet(eObject, eType, eType::isInstance);
+                }
+                count = optionalIndexedCount.orElseGet(() -> (int) descriptor.getChoiceOfValues(eObject).stream().filter(Objects::nonNull).count());
+            }
+        }
+
+        return count;
+    }
+
+    private Optional<IItemPropertyDescriptor> getPropertyDescriptor(EObject eObject, EReference eReference) {
+        Optional<IItemPropertyDescriptor> optionalDescriptor = Optional.empty();
+        Object adapter = this.adapterFactory.adapt(eObject, IItemPropertySource.class);
+        if (adapter instanceof IItemPropertySource) {
+            IItemPropertySource itemPropertySource = (IItemPropertySource) adapter;
+            optionalDescriptor = Optional.ofNullable(itemPropertySource.getPropertyDescriptor(eObject, eReference));
+        }
+        return optionalDescriptor;
+    }
+
+    private Optional<Collection<?>> getIndexedChoiceOfValues(IItemPropertyDescriptor descriptor, EObject eObject, EReference eReference) {
+        Optional<Collection<?>> optionalChoiceOfValues = Optional.empty();
+        EClassifier eType = eReference.getEType();
+        if (this.isIndexed(descriptor, eType)) {
+            optionalChoiceOfValues = this.eClassExtentIndexProvider.getInstancesInResourceSet(eObject, eType, eType::isInstance).map(instances -> instances);
+        }
+        return optionalChoiceOfValues;
+    }
+
+    private boolean isIndexed(IItemPropertyDescriptor descriptor, EClassifier eType) {
+        boolean isDefaultDescriptor = descriptor.getClass() == ItemPropertyDescriptor.class;
+        return isDefaultDescriptor && eType != null && eType.getEPackage() != EcorePackage.eINSTANCE;
+    }
+
 }
@@ -41,8 +41,8 @@ public class EStructuralFeatureLabelProvider implements Function<VariableManager
 
     @Override
     public String apply(VariableManager variableManager) {
-        Object object = variableManager.getVariables().get(VariableManager.SELF);
-        Object feature = variableManager.getVariables().get(this.featureVariableName);
+        Object object = variableManager.getVariableScope().get(VariableManager.SELF);
+        Object feature = variableManager.getVariableScope().get(this.featureVariableName);
 
         if (object instanceof EObject && feature instanceof EStructuralFeature) {
             EObject eObject = (EObject) object;
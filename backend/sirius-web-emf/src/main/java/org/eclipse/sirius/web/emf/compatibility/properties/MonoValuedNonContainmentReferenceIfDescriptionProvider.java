@@ -49,13 +49,19 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
 
     private final IPropertiesValidationProvider propertiesValidationProvider;
 
+    private final int lazyOptionsThreshold;
+
+    private final EStructuralFeatureChoiceOfValueProvider choiceOfValueProvider;
+
     private final Logger logger = LoggerFactory.getLogger(MonoValuedNonContainmentReferenceIfDescriptionProvider.class);
 
     public MonoValuedNonContainmentReferenceIfDescriptionProvider(ComposedAdapterFactory composedAdapterFactory, IObjectService objectService,
-            IPropertiesValidationProvider propertiesValidationProvider) {
+            IPropertiesValidationProvider propertiesValidationProvider, int lazyOptionsThreshold) {
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
         this.objectService = Objects.requireNonNull(objectService);
         this.propertiesValidationProvider = Objects.requireNonNull(propertiesValidationProvider);
+        this.lazyOptionsThreshold = lazyOptionsThreshold;
+        this.choiceOfValueProvider = new EStructuralFeatureChoiceOfValueProvider(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE, this.composedAdapterFactory);
     }
 
     public IfDescription getIfDescription() {
@@ -85,9 +91,12 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
                 .idProvider(new WidgetIdProvider())
                 .labelProvider(this.getLabelProvider())
                 .valueProvider(this.getValueProvider())
-                .optionsProvider(this.getOptionsProvider())
+                .optionsProvider(this.choiceOfValueProvider)
                 .optionIdProvider(this.getOptionIdProvider())
                 .optionLabelProvider(this.getOptionLabelProvider())
+                .selectedOptionsProvider(this.getSelectedOptionsProvider())
+                .optionsCountProvider(this.choiceOfValueProvider::getChoiceOfValuesCount)
+                .lazyOptionsThreshold(this.lazyOptionsThreshold)
                 .newValueHandler(this.getNewValueHandler())
                 .diagnosticsProvider(this.propertiesValidationProvider.getDiagnosticsProvider())
                 .kindProvider(this.propertiesValidationProvider.getKindProvider())
@@ -141,8 +150,8 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
 
     private Function<VariableManager, String> getValueProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(VariableManager.SELF);
-            Object eStructuralFeature = variableManager.getVariables().get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE);
+            Object object = variableManager.getVariableScope().get(VariableManager.SELF);
+            Object eStructuralFeature = variableManager.getVariableScope().get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE);
 
             if (object instanceof EObject && eStructuralFeature instanceof EReference) {
                 EObject eObject = (EObject) object;
@@ -157,13 +166,25 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
         };
     }
 
-    private Function<VariableManager, List<Object>> getOptionsProvider() {
-        return new EStructuralFeatureChoiceOfValueProvider(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE, this.composedAdapterFactory);
+    private Function<VariableManager, List<Object>> getSelectedOptionsProvider() {
+        return variableManager -> {
+            var optionalEObject = variableManager.get(VariableManager.SELF, EObject.class);
+            var optionalEReference = variableManager.get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE, EReference.class);
+
+            List<Object> selectedOptions = List.of();
+            if (optionalEObject.isPresent() && optionalEReference.isPresent()) {
+                Object value = optionalEObject.get().eGet(optionalEReference.get());
+                if (value != null) {
+                    selectedOptions = List.of(value);
+                }
+            }
+            return selectedOptions;
+        };
     }
 
     private Function<VariableManager, String> getOptionIdProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object object = variableManager.getVariableScope().get(SelectComponent.CANDIDATE_VARIABLE);
             String objectId = this.objectService.getId(object);
             return objectId;
         };
@@ -171,7 +192,7 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
 
     private Function<VariableManager, String> getOptionLabelProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object object = variableManager.getVariableScope().get(SelectComponent.CANDIDATE_VARIABLE);
             String objectLabel = this.objectService.getFullLabel(object);
             return objectLabel;
         };
@@ -52,13 +52,19 @@ public class MultiValuedNonContainmentReferenceIfDescriptionProvider {
 
     private final IPropertiesValidationProvider propertiesValidationProvider;
 
+    private final int lazyOptionsThreshold;
+
+    private final EStructuralFeatureChoiceOfValueProvider choiceOfValueProvider;
+
     private final Logger logger = LoggerFactory.getLogger(MultiValuedNonContainmentReferenceIfDescriptionProvider.class);
 
     public MultiValuedNonContainmentReferenceIfDescriptionProvider(ComposedAdapterFactory composedAdapterFactory, IObjectService objectService,
-            IPropertiesValidationProvider propertiesValidationProvider) {
+            IPropertiesValidationProvider propertiesValidationProvider, int lazyOptionsThreshold) {
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
         this.objectService = Objects.requireNonNull(objectService);
         this.propertiesValidationProvider = Objects.requireNonNull(propertiesValidationProvider);
+        this.lazyOptionsThreshold = lazyOptionsThreshold;
+        this.choiceOfValueProvider = new EStructuralFeatureChoiceOfValueProvider(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE, this.composedAdapterFactory);
     }
 
     public IfDescription getIfDescription() {
@@ -88,9 +94,12 @@ public class MultiValuedNonContainmentReferenceIfDescriptionProvider {
                 .idProvider(new WidgetIdProvider())
                 .labelProvider(this.getLabelProvider())
                 .valuesProvider(this.getValuesProvider())
-                .optionsProvider(this.getOptionsProvider())
+                .optionsProvider(this.choiceOfValueProvider)
                 .optionIdProvider(this.getOptionIdProvider())
                 .optionLabelProvider(this.getOptionLabelProvider())
+                .selectedOptionsProvider(this.getSelectedOptionsProvider())
+                .optionsCountProvider(this.choiceOfValueProvider::getChoiceOfValuesCount)
+                .lazyOptionsThreshold(this.lazyOptionsThreshold)
                 .newValuesHandler(this.getNewValuesHandler())
                 .diagnosticsProvider(this.propertiesValidationProvider.getDiagnosticsProvider())
                 .kindProvider(this.propertiesValidationProvider.getKindProvider())
@@ -147,8 +156,8 @@ public class MultiValuedNonContainmentReferenceIfDescriptionProvider {
 
     private Function<VariableManager, List<String>> getValuesProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(VariableManager.SELF);
-            Object eStructuralFeature = variableManager.getVariables().get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE);
+            Object object = variableManager.getVariableScope().get(VariableManager.SELF);
+            Object eStructuralFeature = variableManager.getVariableScope().get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE);
 
             if (object instanceof EObject && eStructuralFeature instanceof EReference) {
                 EObject eObject = (EObject) object;
@@ -163,13 +172,25 @@ public class MultiValuedNonContainmentReferenceIfDescriptionProvider {
         };
     }
 
-    private Function<VariableManager, List<Object>> getOptionsProvider() {
-        return new EStructuralFeatureChoiceOfValueProvider(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE, this.composedAdapterFactory);
+    private Function<VariableManager, List<Object>> getSelectedOptionsProvider() {
+        return variableManager -> {
+            var optionalEObject = variableManager.get(VariableManager.SELF, EObject.class);
+            var optionalEReference = variableManager.get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE, EReference.class);
+
+            List<Object> selectedOptions = List.of();
+            if (optionalEObject.isPresent() && optionalEReference.isPresent()) {
+                Object value = optionalEObject.get().eGet(optionalEReference.get());
+                if (value instanceof EList<?>) {
+                    selectedOptions = new ArrayList<>((EList<?>) value);
+                }
+            }
+            return selectedOptions;
+        };
     }
 
     private Function<VariableManager, String> getOptionIdProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object object = variableManager.getVariableScope().get(SelectComponent.CANDIDATE_VARIABLE);
             String objectId = this.objectService.getId(object);
             return objectId;
         };
@@ -177,7 +198,7 @@ public class MultiValuedNonContainmentReferenceIfDescriptionProvider {
 
     private Function<VariableManager, String> getOptionLabelProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object object = variableManager.getVariableScope().get(SelectComponent.CANDIDATE_VARIABLE);
             String objectLabel = this.objectService.getFullLabel(object);
             return objectLabel;
         };
@@ -37,11 +37,17 @@ import org.eclipse.sirius.web.forms.description.PageDescription;
 import org.eclipse.sirius.web.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.web.representations.VariableManager;
 import org.eclipse.sirius.web.spring.collaborative.forms.api.IPropertiesDefaultDescriptionProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Used to provide the default form description.
  *
+ * <p>
+ * The options of the reference widgets are only sent on demand once their number reaches the lazy options threshold.
+ * It is disabled by default since the clients have to search the options of such widgets page by page.
+ * </p>
+ *
  * @author lfasani
  */
 @Service
@@ -55,10 +61,14 @@ public class PropertiesDefaultDescriptionProvider implements IPropertiesDefaultD
 
     private final IPropertiesValidationProvider propertiesValidationProvider;
 
-    public PropertiesDefaultDescriptionProvider(IObjectService objectService, ComposedAdapterFactory composedAdapterFactory, IPropertiesValidationProvider propertiesValidationProvider) {
+    private final int lazyOptionsThreshold;
+
+    public PropertiesDefaultDescriptionProvider(IObjectService objectService, ComposedAdapterFactory composedAdapterFactory, IPropertiesValidationProvider propertiesValidationProvider,
+            @Value("${org.eclipse.sirius.web.properties.lazyOptionsThreshold:2147483647}") int lazyOptionsThreshold) {
         this.objectService = Objects.requireNonNull(objectService);
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
         this.propertiesValidationProvider = Objects.requireNonNull(propertiesValidationProvider);
+        this.lazyOptionsThreshold = lazyOptionsThreshold;
     }
 
     @Override
@@ -74,7 +84,7 @@ public class PropertiesDefaultDescriptionProvider implements IPropertiesDefaultD
 
         // @formatter:off
         Function<VariableManager, String> labelProvider = variableManager -> {
-            return Optional.ofNullable(variableManager.getVariables().get(VariableManager.SELF))
+            return Optional.ofNullable(variableManager.getVariableScope().get(VariableManager.SELF))
                     .map(this.objectService::getFullLabel)
                     .orElse("Properties"); //$NON-NLS-1$
         };
@@ -100,7 +110,7 @@ public class PropertiesDefaultDescriptionProvider implements IPropertiesDefaultD
         return PageDescription.newPageDescription("firstPageId") //$NON-NLS-1$
                 .idProvider(variableManager -> "Main") //$NON-NLS-1$
                 .labelProvider(variableManager -> "Main") //$NON-NLS-1$
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariableScope().get(VariableManager.SELF)))
                 .groupDescriptions(groupDescriptions)
                 .canCreatePredicate(variableManager -> true)
                 .build();
@@ -113,7 +123,7 @@ public class PropertiesDefaultDescriptionProvider implements IPropertiesDefaultD
         Function<VariableManager, List<Object>> iterableProvider = variableManager -> {
             List<Object> objects = new ArrayList<>();
 
-            Object self = variableManager.getVariables().get(VariableManager.SELF);
+            Object self = variableManager.getVariableScope().get(VariableManager.SELF);
             if (self instanceof EObject) {
                 EObject eObject = (EObject) self;
 
@@ -139,8 +149,8 @@ public class PropertiesDefaultDescriptionProvider implements IPropertiesDefaultD
         ifDescriptions.add(new EBooleanIfDescriptionProvider(this.composedAdapterFactory, this.propertiesValidationProvider).getIfDescription());
         ifDescriptions.add(new EEnumIfDescriptionProvider(this.composedAdapterFactory, this.propertiesValidationProvider).getIfDescription());
 
-        ifDescriptions.add(new MonoValuedNonContainmentReferenceIfDescriptionProvider(this.composedAdapterFactory, this.objectService, this.propertiesValidationProvider).getIfDescription());
-        ifDescriptions.add(new MultiValuedNonContainmentReferenceIfDescriptionProvider(this.composedAdapterFactory, this.objectService, this.propertiesValidationProvider).getIfDescription());
+        ifDescriptions.add(new MonoValuedNonContainmentReferenceIfDescriptionProvider(this.composedAdapterFactory, this.objectService, this.propertiesValidationProvider, this.lazyOptionsThreshold).getIfDescription());
+        ifDescriptions.add(new MultiValuedNonContainmentReferenceIfDescriptionProvider(this.composedAdapterFactory, this.objectService, this.propertiesValidationProvider, this.lazyOptionsThreshold).getIfDescription());
 
         ifDescriptions.add(new NumberIfDescriptionProvider(EcorePackage.Literals.EINT, this.composedAdapterFactory, this.propertiesValidationProvider).getIfDescription());
         ifDescriptions.add(new NumberIfDescriptionProvider(EcorePackage.Literals.EINTEGER_OBJECT, this.composedAdapterFactory, this.propertiesValidationProvider).getIfDescription());
@@ -167,7 +177,7 @@ public class PropertiesDefaultDescriptionProvider implements IPropertiesDefaultD
         return GroupDescription.newGroupDescription("groupId") //$NON-NLS-1$
                 .idProvider(variableManager -> "Core Properties") //$NON-NLS-1$
                 .labelProvider(variableManager -> "Core Properties") //$NON-NLS-1$
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariableScope().get(VariableManager.SELF)))
                 .controlDescriptions(controlDescriptions)
                 .build();
         // @formatter:on
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.emf.configuration;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.emf.common.notify.AdapterFactory;
 import org.eclipse.emf.ecore.EPackage;
@@ -30,10 +31,18 @@ import org.eclipse.sirius.web.emf.services.ILabelFeatureProvider;
 import org.eclipse.sirius.web.emf.services.ISuggestedRootObjectTypesProvider;
 import org.eclipse.sirius.web.emf.services.LabelFeatureProviderRegistry;
 import org.eclipse.sirius.web.emf.view.ViewValidator;
+import org.eclipse.sirius.web.interpreter.AQLInterpreterCache;
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
 import org.eclipse.sirius.web.view.ViewPackage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Configuration of the EMF beans.
  *
@@ -68,6 +77,24 @@ public class EMFConfiguration {
         return EPackageHelper::getEClassRootElements;
     }
 
+    @Bean
+    public AQLInterpreterCache aqlInterpreterCache(@Value("${org.eclipse.sirius.web.aql.interpreterCacheSize:100}") long interpreterCacheSize, MeterRegistry meterRegistry) {
+        AQLInterpreterCache aqlInterpreterCache = new AQLInterpreterCache(interpreterCacheSize);
+
+        // @formatter:off
+        FunctionCounter.builder(Monitoring.AQL_INTERPRETERS_HITS, aqlInterpreterCache, AQLInterpreterCache::getHitCount)
+                .register(meterRegistry);
+        FunctionCounter.builder(Monitoring.AQL_INTERPRETERS_MISSES, aqlInterpreterCache, AQLInterpreterCache::getMissCount)
+                .register(meterRegistry);
+        Gauge.builder(Monitoring.AQL_INTERPRETERS_SIZE, aqlInterpreterCache, AQLInterpreterCache::getSize)
+                .register(meterRegistry);
+        FunctionTimer.builder(Monitoring.AQL_PARSING, aqlInterpreterCache, AQLInterpreterCache::getParsingCount, cache -> cache.getParsingTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                .register(meterRegistry);
+        // @formatter:on
+
+        return aqlInterpreterCache;
+    }
+
     @Bean
     public EValidator.Registry getEValidatorRegistry() {
         Registry eValidatorRegistry = new EValidatorRegistryImpl(EValidator.Registry.INSTANCE);
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.configuration;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.web.emf.services.ObjectService;
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration used to publish the metrics of the index used to retrieve the semantic objects by identifier.
+ *
+ * @author agent
+ */
+@Configuration
+public class ObjectServiceMetricsConfiguration {
+
+    public ObjectServiceMetricsConfiguration(ObjectService objectService, MeterRegistry meterRegistry) {
+        // @formatter:off
+        Gauge.builder(Monitoring.OBJECT_INDEX_SIZE, objectService, ObjectService::getIndexedObjectCount)
+                .register(meterRegistry);
+        FunctionTimer.builder(Monitoring.OBJECT_INDEX_BUILD, objectService, ObjectService::getIndexBuildCount, service -> service.getIndexBuildTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                .register(meterRegistry);
+        // @formatter:on
+    }
+}
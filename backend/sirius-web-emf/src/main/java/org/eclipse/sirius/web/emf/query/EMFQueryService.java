@@ -23,10 +23,13 @@ import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.emf.services.IEditingContextEPackageService;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
+import org.eclipse.sirius.web.interpreter.AQLInterpreterCache;
 import org.eclipse.sirius.web.interpreter.Result;
 import org.eclipse.sirius.web.spring.collaborative.api.IQueryService;
+import org.eclipse.sirius.web.spring.collaborative.dto.EditingContextDisposedEvent;
 import org.eclipse.sirius.web.spring.collaborative.dto.QueryBasedIntInput;
 import org.eclipse.sirius.web.spring.collaborative.dto.QueryBasedIntSuccessPayload;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 /**
@@ -39,8 +42,11 @@ public class EMFQueryService implements IQueryService {
 
     private final IEditingContextEPackageService editingContextEPackageService;
 
-    public EMFQueryService(IEditingContextEPackageService editingContextEPackageService) {
+    private final AQLInterpreterCache aqlInterpreterCache;
+
+    public EMFQueryService(IEditingContextEPackageService editingContextEPackageService, AQLInterpreterCache aqlInterpreterCache) {
         this.editingContextEPackageService = Objects.requireNonNull(editingContextEPackageService);
+        this.aqlInterpreterCache = Objects.requireNonNull(aqlInterpreterCache);
     }
 
     @Override
@@ -53,6 +59,17 @@ public class EMFQueryService implements IQueryService {
         }
     }
 
+    /**
+     * Evicts the interpreters of the editing context which has been disposed.
+     *
+     * @param editingContextDisposedEvent
+     *            The event indicating that an editing context has been disposed
+     */
+    @EventListener
+    public void onEditingContextDisposed(EditingContextDisposedEvent editingContextDisposedEvent) {
+        this.aqlInterpreterCache.invalidate(editingContextDisposedEvent.getEditingContextId());
+    }
+
     private Result executeQuery(IEditingContext editingContext, QueryBasedIntInput input) {
         List<Class<?>> classes = List.of(EditingContextServices.class);
         List<EPackage> ePackages = this.editingContextEPackageService.getEPackages(editingContext.getId());
@@ -60,7 +77,7 @@ public class EMFQueryService implements IQueryService {
         Map<String, Object> variables = new HashMap<>();
         variables.put(IEditingContext.EDITING_CONTEXT, editingContext);
 
-        var interpreter = new AQLInterpreter(classes, ePackages);
+        AQLInterpreter interpreter = this.aqlInterpreterCache.getInterpreter(editingContext.getId(), classes, ePackages);
         String query = input.getQuery();
         return interpreter.evaluateExpression(variables, query);
     }
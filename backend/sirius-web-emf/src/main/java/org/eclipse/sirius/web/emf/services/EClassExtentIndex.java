@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Index of the instances of the types used to find semantic candidates in the resources of a resource set.
+ *
+ * <p>
+ * The instances matching a given predicate are computed the first time they are requested for a resource and they are
+ * kept, in the order of the contents of the resource, until an object matching this predicate is added or moved in
+ * this resource, or until any object is removed from this resource. The objects removed are already detached when the
+ * notification is received, the predicates depending on the container of the objects cannot be evaluated on them. The
+ * modification of an attribute or of a non-containment reference does not invalidate anything.
+ * </p>
+ *
+ * @author agent
+ */
+public class EClassExtentIndex extends EContentAdapter {
+
+    private final Map<Resource, ResourceExtents> resourceExtents = new HashMap<>();
+
+    /**
+     * Returns all the objects of the given resource, including its roots, matching the given predicate.
+     *
+     * @param resource
+     *            A resource of the resource set
+     * @param key
+     *            The key identifying the predicate, such as the type of the instances
+     * @param predicate
+     *            The predicate that the instances must match
+     * @return The instances in the order of the contents of the resource
+     */
+    public synchronized List<EObject> getInstances(Resource resource, Object key, Predicate<EObject> predicate) {
+        return this.resourceExtents.computeIfAbsent(resource, ResourceExtents::new).getInstances(key, predicate);
+    }
+
+    public synchronized int size() {
+        return this.resourceExtents.values().stream().mapToInt(ResourceExtents::size).sum();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        Object notifier = notification.getNotifier();
+        Object feature = notification.getFeature();
+        if (!notification.isTouch()) {
+            if (notifier instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+                this.removeResources(notification.getOldValue());
+            } else if (notifier instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_LOADED) {
+                this.removeResources(notifier);
+            } else if (notifier instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+                this.invalidate((Resource) notifier, notification);
+            } else if (notifier instanceof EObject && feature instanceof EReference && ((EReference) feature).isContainment()) {
+                this.invalidate(((EObject) notifier).eResource(), notification);
+            }
+        }
+    }
+
+    private synchronized void removeResources(Object value) {
+        if (value instanceof Resource) {
+            this.resourceExtents.remove(value);
+        } else if (value instanceof Collection<?>) {
+            ((Collection<?>) value).forEach(this.resourceExtents::remove);
+        }
+    }
+
+    private synchronized void invalidate(Resource resource, Notification notification) {
+        ResourceExtents extents = this.resourceExtents.get(resource);
+        if (extents != null) {
+            List<EObject> removedObjects = new ArrayList<>();
+            this.collectObjects(notification.getOldValue(), removedObjects);
+            if (removedObjects.isEmpty()) {
+                List<EObject> addedObjects = new ArrayList<>();
+                this.collectObjects(notification.getNewValue(), addedObjects);
+                extents.invalidate(addedObjects);
+            } else {
+                extents.invalidateAll();
+            }
+        }
+    }
+
+    private void collectObjects(Object value, List<EObject> eObjects) {
+        if (value instanceof EObject) {
+            EObject eObject = (EObject) value;
+            eObjects.add(eObject);
+            eObject.eAllContents().forEachRemaining(eObjects::add);
+        } else if (value instanceof Collection<?>) {
+            ((Collection<?>) value).forEach(element -> this.collectObjects(element, eObjects));
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == EClassExtentIndex.class;
+    }
+
+    /**
+     * The instances computed for a single resource.
+     *
+     * @author agent
+     */
+    private static final class ResourceExtents {
+
+        private final Resource resource;
+
+        private final Map<Object, Extent> extents = new HashMap<>();
+
+        private List<EObject> contents;
+
+        ResourceExtents(Resource resource) {
+            this.resource = Objects.requireNonNull(resource);
+        }
+
+        List<EObject> getInstances(Object key, Predicate<EObject> predicate) {
+            Extent extent = this.extents.get(key);
+            if (extent == null) {
+                // @formatter:off
+                List<EObject> instances = this.getContents().stream()
+                        .filter(predicate)
+                        .collect(Collectors.toUnmodifiableList());
+                // @formatter:on
+                extent = new Extent(predicate, instances);
+                this.extents.put(key, extent);
+            }
+            return extent.instances;
+        }
+
+        private List<EObject> getContents() {
+            if (this.contents == null) {
+                List<EObject> allContents = new ArrayList<>();
+                TreeIterator<EObject> iterator = this.resource.getAllContents();
+                iterator.forEachRemaining(allContents::add);
+                this.contents = allContents;
+            }
+            return this.contents;
+        }
+
+        void invalidate(List<EObject> addedObjects) {
+            this.contents = null;
+            this.extents.values().removeIf(extent -> addedObjects.stream().anyMatch(extent.predicate));
+        }
+
+        void invalidateAll() {
+            this.contents = null;
+            this.extents.clear();
+        }
+
+        int size() {
+            return this.extents.values().stream().mapToInt(extent -> extent.instances.size()).sum();
+        }
+    }
+
+    /**
+     * The instances matching a predicate.
+     *
+     * @author agent
+     */
+    private static final class Extent {
+
+        private final Predicate<EObject> predicate;
+
+        private final List<EObject> instances;
+
+        Extent(Predicate<EObject> predicate, List<EObject> instances) {
+            this.predicate = Objects.requireNonNull(predicate);
+            this.instances = Objects.requireNonNull(instances);
+        }
+    }
+}
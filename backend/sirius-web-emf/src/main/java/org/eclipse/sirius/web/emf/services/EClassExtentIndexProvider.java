@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Gives access to the {@link EClassExtentIndex} of the resource set of an object, which is created the first time it
+ * is needed.
+ *
+ * @author agent
+ */
+public class EClassExtentIndexProvider {
+
+    /**
+     * Returns all the objects of the resource of the given object matching the given predicate.
+     *
+     * @param eObject
+     *            An object
+     * @param key
+     *            The key identifying the predicate, such as the type of the instances
+     * @param predicate
+     *            The predicate that the instances must match
+     * @return The instances in the order of the contents of the resource or an empty optional if the object is not in a
+     *         resource set
+     */
+    public Optional<List<EObject>> getInstances(EObject eObject, Object key, Predicate<EObject> predicate) {
+        Optional<List<EObject>> optionalInstances = Optional.empty();
+        Resource resource = eObject.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            EClassExtentIndex eClassExtentIndex = this.getEClassExtentIndex(resource.getResourceSet());
+            optionalInstances = Optional.of(eClassExtentIndex.getInstances(resource, key, predicate));
+        }
+        return optionalInstances;
+    }
+
+    /**
+     * Returns all the objects of the resource set of the given object matching the given predicate.
+     *
+     * @param eObject
+     *            An object
+     * @param key
+     *            The key identifying the predicate, such as the type of the instances
+     * @param predicate
+     *            The predicate that the instances must match
+     * @return The instances in the order of the resources and of their contents or an empty optional if the object is
+     *         not in a resource set
+     */
+    public Optional<List<EObject>> getInstancesInResourceSet(EObject eObject, Object key, Predicate<EObject> predicate) {
+        return this.getInstancesPerResource(eObject, key, predicate).map(instancesPerResource -> {
+            List<EObject> instances = new ArrayList<>();
+            instancesPerResource.forEach(instances::addAll);
+            return instances;
+        });
+    }
+
+    /**
+     * Returns the number of objects of the resource set of the given object matching the given predicate, without
+     * copying the instances.
+     *
+     * @param eObject
+     *            An object
+     * @param key
+     *            The key identifying the predicate, such as the type of the instances
+     * @param predicate
+     *            The predicate that the instances must match
+     * @return The number of instances or an empty optional if the object is not in a resource set
+     */
+    public Optional<Integer> getInstancesCountInResourceSet(EObject eObject, Object key, Predicate<EObject> predicate) {
+        return this.getInstancesPerResource(eObject, key, predicate).map(instancesPerResource -> instancesPerResource.stream().mapToInt(List::size).sum());
+    }
+
+    private Optional<List<List<EObject>>> getInstancesPerResource(EObject eObject, Object key, Predicate<EObject> predicate) {
+        Optional<List<List<EObject>>> optionalInstancesPerResource = Optional.empty();
+        Resource resource = eObject.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            ResourceSet resourceSet = resource.getResourceSet();
+            EClassExtentIndex eClassExtentIndex = this.getEClassExtentIndex(resourceSet);
+
+            List<List<EObject>> instancesPerResource = new ArrayList<>();
+            for (Resource resourceToSearch : List.copyOf(resourceSet.getResources())) {
+                instancesPerResource.add(eClassExtentIndex.getInstances(resourceToSearch, key, predicate));
+            }
+            optionalInstancesPerResource = Optional.of(instancesPerResource);
+        }
+        return optionalInstancesPerResource;
+    }
+
+    private EClassExtentIndex getEClassExtentIndex(ResourceSet resourceSet) {
+        synchronized (resourceSet) {
+            Adapter adapter = EcoreUtil.getExistingAdapter(resourceSet, EClassExtentIndex.class);
+            EClassExtentIndex eClassExtentIndex;
+            if (adapter instanceof EClassExtentIndex) {
+                eClassExtentIndex = (EClassExtentIndex) adapter;
+            } else {
+                eClassExtentIndex = new EClassExtentIndex();
+                resourceSet.eAdapters().add(eClassExtentIndex);
+            }
+            return eClassExtentIndex;
+        }
+    }
+}
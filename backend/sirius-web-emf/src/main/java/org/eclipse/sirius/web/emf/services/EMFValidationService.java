@@ -12,21 +12,24 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.emf.services;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EValidator;
 import org.eclipse.emf.ecore.EValidator.Registry;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.Diagnostician;
-import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.IItemLabelProvider;
 import org.eclipse.sirius.web.core.api.IEditingContext;
@@ -36,6 +39,12 @@ import org.springframework.stereotype.Service;
 /**
  * Used to validate EMF elements.
  *
+ * <p>
+ * The objects are validated one by one and their diagnostics are kept in a {@link ValidationCache} attached to the
+ * resource set of their editing context, the objects which have not been modified since their last validation are thus
+ * not validated again. The widgets of a form displaying the same object share its diagnostics.
+ * </p>
+ *
  * @author gcoutable
  */
 @Service
@@ -45,9 +54,15 @@ public class EMFValidationService implements IValidationService {
 
     private final ComposedAdapterFactory composedAdapterFactory;
 
+    /**
+     * Shared by all the validations since it does not keep any state between two validations.
+     */
+    private final Diagnostician diagnostician;
+
     public EMFValidationService(EValidator.Registry eValidatorRegistry, ComposedAdapterFactory composedAdapterFactory) {
         this.eValidatorRegistry = Objects.requireNonNull(eValidatorRegistry);
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
+        this.diagnostician = this.getNewDiagnostician();
     }
 
     @Override
@@ -64,16 +79,12 @@ public class EMFValidationService implements IValidationService {
     @Override
     public List<Object> validate(Object object, Object feature) {
         if (object instanceof EObject) {
-            Diagnostician diagnostician = this.getNewDiagnostician();
-            Diagnostic diagnostic = diagnostician.validate((EObject) object);
-            if (Diagnostic.OK != diagnostic.getSeverity()) {
-                // @formatter:off
-                return diagnostic.getChildren().stream()
-                        .filter(diag -> this.filterDiagnosticByObject(diag, object))
-                        .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
-                        .collect(Collectors.toList());
-                // @formatter:on
-            }
+            // @formatter:off
+            return this.getDiagnostics((EObject) object).stream()
+                    .filter(diag -> this.filterDiagnosticByObject(diag, object))
+                    .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
+                    .collect(Collectors.toList());
+            // @formatter:on
         }
 
         return List.of();
@@ -100,23 +111,77 @@ public class EMFValidationService implements IValidationService {
     }
 
     private List<Object> validate(EditingContext editingContext) {
-        AdapterFactoryEditingDomain domain = editingContext.getDomain();
+        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
+        ValidationCache validationCache = this.getValidationCache(resourceSet);
+
+        Map<List<Object>, Diagnostic> diagnostics = new LinkedHashMap<>();
+        for (Resource resource : resourceSet.getResources()) {
+            TreeIterator<EObject> iterator = resource.getAllContents();
+            while (iterator.hasNext()) {
+                for (Diagnostic diagnostic : validationCache.getDiagnostics(iterator.next(), this::doValidate)) {
+                    diagnostics.putIfAbsent(this.getKey(diagnostic), diagnostic);
+                }
+            }
+        }
+        return List.copyOf(diagnostics.values());
+    }
 
-        Map<Object, Object> options = new HashMap<>();
-        options.put(Diagnostician.VALIDATE_RECURSIVELY, true);
-        Diagnostician diagnostician = this.getNewDiagnostician();
+    /**
+     * Returns the key used to report only once the diagnostics found both by the validation of an object and by the
+     * validation of its container.
+     *
+     * @param diagnostic
+     *            A diagnostic
+     * @return The key of the diagnostic
+     */
+    private List<Object> getKey(Diagnostic diagnostic) {
+        return Arrays.asList(diagnostic.getSeverity(), diagnostic.getSource(), diagnostic.getCode(), diagnostic.getMessage(), diagnostic.getData());
+    }
 
+    private List<Diagnostic> getDiagnostics(EObject eObject) {
         // @formatter:off
-        return domain.getResourceSet().getResources().stream()
-            .map(Resource::getContents)
-            .flatMap(Collection::stream)
-            .map(eObject -> diagnostician.validate(eObject, options))
-            .map(Diagnostic::getChildren)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
+        return Optional.ofNullable(eObject.eResource())
+                .map(Resource::getResourceSet)
+                .map(this::getValidationCache)
+                .map(validationCache -> validationCache.getDiagnostics(eObject, this::doValidate))
+                .orElseGet(() -> this.doValidate(eObject));
         // @formatter:on
     }
 
+    /**
+     * Returns the validation cache of the given resource set, which is created the first time it is needed.
+     *
+     * @param resourceSet
+     *            The resource set of an editing context
+     * @return The validation cache of the resource set
+     */
+    private ValidationCache getValidationCache(ResourceSet resourceSet) {
+        synchronized (resourceSet) {
+            Adapter adapter = EcoreUtil.getExistingAdapter(resourceSet, ValidationCache.class);
+            ValidationCache validationCache;
+            if (adapter instanceof ValidationCache) {
+                validationCache = (ValidationCache) adapter;
+            } else {
+                validationCache = new ValidationCache();
+                resourceSet.eAdapters().add(validationCache);
+            }
+            return validationCache;
+        }
+    }
+
+    /**
+     * Validates the given object without its contents.
+     *
+     * @param eObject
+     *            The object to validate
+     * @return The diagnostics of the object
+     */
+    private List<Diagnostic> doValidate(EObject eObject) {
+        Map<Object, Object> context = this.diagnostician.createDefaultContext();
+        context.put(Diagnostician.VALIDATE_RECURSIVELY, false);
+        return List.copyOf(this.diagnostician.validate(eObject, context).getChildren());
+    }
+
     private Diagnostician getNewDiagnostician() {
         return new Diagnostician(this.eValidatorRegistry) {
             @Override
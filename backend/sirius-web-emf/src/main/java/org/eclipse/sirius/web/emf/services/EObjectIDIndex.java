@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Index of the objects of a resource set by the identifier stored in their {@link IDAdapter}.
+ *
+ * <p>
+ * The index is kept up to date incrementally: objects are indexed when they are added to the resource set and removed
+ * from the index when they leave it. Since adding an {@link IDAdapter} does not send any notification, the
+ * {@link EObjectIDManager} registers the new identifier of an object itself.
+ * </p>
+ *
+ * @author agent
+ */
+public class EObjectIDIndex extends EContentAdapter {
+
+    private final Map<String, EObject> eObjectsById = new ConcurrentHashMap<>();
+
+    public Optional<EObject> find(String id) {
+        return Optional.ofNullable(this.eObjectsById.get(id));
+    }
+
+    public void put(String id, EObject eObject) {
+        this.eObjectsById.put(id, eObject);
+    }
+
+    public int size() {
+        return this.eObjectsById.size();
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        super.setTarget(target);
+        String id = this.getId(target);
+        if (id != null) {
+            this.eObjectsById.put(id, target);
+        }
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        String id = this.getId(target);
+        if (id != null) {
+            this.eObjectsById.remove(id, target);
+        }
+    }
+
+    private String getId(EObject eObject) {
+        String id = null;
+        for (Adapter adapter : eObject.eAdapters()) {
+            if (adapter instanceof IDAdapter) {
+                id = ((IDAdapter) adapter).getId().toString();
+                break;
+            }
+        }
+        return id;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == EObjectIDIndex.class;
+    }
+
+}
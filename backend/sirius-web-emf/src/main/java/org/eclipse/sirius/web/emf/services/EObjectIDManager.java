@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.emf.services;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.sirius.emfjson.resource.IDManager;
 
@@ -81,7 +82,8 @@ public class EObjectIDManager implements IDManager {
 
     /**
      * Removes the previous ID if the given eObject already has an {@link IDAdapter} then adds a new {@link IDAdapter}
-     * holding the given id to the given eObject.
+     * holding the given id to the given eObject. The new ID is registered in the {@link EObjectIDIndex} of the resource
+     * set containing the eObject, if any.
      *
      * @param eObject
      *            The eObject on which add the given ID
@@ -93,6 +95,11 @@ public class EObjectIDManager implements IDManager {
         this.clearId(eObject);
 
         eObject.eAdapters().add(new IDAdapter(UUID.fromString(id)));
+        for (Adapter adapter : eObject.eAdapters()) {
+            if (adapter instanceof EObjectIDIndex) {
+                ((EObjectIDIndex) adapter).put(id, eObject);
+            }
+        }
     }
 
     /**
@@ -104,12 +111,15 @@ public class EObjectIDManager implements IDManager {
      * @return The attached {@link IDAdapter} or {@link Optional#empty()} otherwise
      */
     private Optional<IDAdapter> findAdapter(EObject eObject) {
-        // @formatter:off
-        return eObject.eAdapters().stream()
-                .filter(IDAdapter.class::isInstance)
-                .map(IDAdapter.class::cast)
-                .findFirst();
-        // @formatter:on
+        // Plain loop since this is called for each identifier read or written
+        Optional<IDAdapter> optionalAdapter = Optional.empty();
+        for (Adapter adapter : eObject.eAdapters()) {
+            if (adapter instanceof IDAdapter) {
+                optionalAdapter = Optional.of((IDAdapter) adapter);
+                break;
+            }
+        }
+        return optionalAdapter;
     }
 
 }
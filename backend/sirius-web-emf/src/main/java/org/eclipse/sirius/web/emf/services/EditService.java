@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.emf.services;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,7 +35,6 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EStructuralFeature;
-import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -59,6 +61,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class EditService implements IEditService {
 
+    /**
+     * The maximum number of editing contexts whose EPackages and creation descriptions are kept.
+     */
+    private static final long EDITING_CONTEXTS_CACHE_SIZE = 100;
+
     private final IEditingContextEPackageService editingContextEPackageService;
 
     private final ComposedAdapterFactory composedAdapterFactory;
@@ -67,6 +74,8 @@ public class EditService implements IEditService {
 
     private final ISuggestedRootObjectTypesProvider suggestedRootObjectTypesProvider;
 
+    private final Cache<UUID, EditingContextEPackages> editingContextEPackages = CacheBuilder.newBuilder().maximumSize(EDITING_CONTEXTS_CACHE_SIZE).build();
+
     public EditService(IEditingContextEPackageService editingContextEPackageService, ComposedAdapterFactory composedAdapterFactory, EPackage.Registry globalEPackageRegistry,
             ISuggestedRootObjectTypesProvider suggestedRootObjectsProvider) {
         this.editingContextEPackageService = Objects.requireNonNull(editingContextEPackageService);
@@ -77,36 +86,50 @@ public class EditService implements IEditService {
 
     @Override
     public Optional<Object> findClass(UUID editingContextId, String classId) {
-        EPackage.Registry ePackageRegistry = this.getPackageRegistry(editingContextId);
-        return this.getEClass(ePackageRegistry, classId).map(Object.class::cast);
+        return this.getEClass(this.getEPackages(editingContextId), classId).map(Object.class::cast);
     }
 
-    private Optional<EClass> getEClass(EPackage.Registry ePackageRegistry, String classId) {
+    private Optional<EClass> getEClass(EditingContextEPackages ePackages, String classId) {
         ClassIdService classIdService = new ClassIdService();
         String ePackageName = classIdService.getEPackageName(classId);
         String eClassName = classIdService.getEClassName(classId);
 
         // @formatter:off
-        return classIdService.findEPackage(ePackageRegistry, ePackageName)
+        return ePackages.findEPackage(ePackageName)
                 .map(ePackage -> ePackage.getEClassifier(eClassName))
                 .filter(EClass.class::isInstance)
                 .map(EClass.class::cast);
         // @formatter:on
     }
 
-    private EPackage.Registry getPackageRegistry(UUID editingContextId) {
-        EPackageRegistryImpl ePackageRegistry = new EPackageRegistryImpl();
-        this.globalEPackageRegistry.forEach(ePackageRegistry::put);
+    /**
+     * Returns the EPackages of the given editing context, which are computed again only if the EPackages provided for
+     * this editing context have changed.
+     */
+    private EditingContextEPackages getEPackages(UUID editingContextId) {
         List<EPackage> additionalEPackages = this.editingContextEPackageService.getEPackages(editingContextId);
-        additionalEPackages.forEach(ePackage -> ePackageRegistry.put(ePackage.getNsURI(), ePackage));
-        return ePackageRegistry;
+        EditingContextEPackages ePackages = this.editingContextEPackages.getIfPresent(editingContextId);
+        if (ePackages == null || !ePackages.getAdditionalEPackages().equals(additionalEPackages)) {
+            ePackages = new EditingContextEPackages(this.globalEPackageRegistry, additionalEPackages);
+            this.editingContextEPackages.put(editingContextId, ePackages);
+        }
+        return ePackages;
     }
 
     @Override
     public List<ChildCreationDescription> getChildCreationDescriptions(UUID editingContextId, String classId) {
-        List<ChildCreationDescription> childCreationDescriptions = new ArrayList<>();
+        EditingContextEPackages ePackages = this.getEPackages(editingContextId);
+
+        // @formatter:off
+        return this.getEClass(ePackages, classId)
+                .filter(eClass -> !eClass.isAbstract() && !eClass.isInterface())
+                .map(eClass -> ePackages.getChildCreationDescriptions(eClass, this::computeChildCreationDescriptions))
+                .orElseGet(List::of);
+        // @formatter:on
+    }
 
-        EPackage.Registry ePackageRegistry = this.getPackageRegistry(editingContextId);
+    private List<ChildCreationDescription> computeChildCreationDescriptions(EPackage.Registry ePackageRegistry, EClass eClass) {
+        List<ChildCreationDescription> childCreationDescriptions = new ArrayList<>();
 
         AdapterFactoryEditingDomain editingDomain = new AdapterFactoryEditingDomain(this.composedAdapterFactory, new BasicCommandStack());
         ResourceSet resourceSet = editingDomain.getResourceSet();
@@ -114,36 +137,28 @@ public class EditService implements IEditService {
         Resource resource = new JsonResourceImpl(URI.createURI("inmemory"), Map.of()); //$NON-NLS-1$
         resourceSet.getResources().add(resource);
 
-        // @formatter:off
-        var optionalEClass = this.getEClass(ePackageRegistry, classId)
-                .filter(eClass -> !eClass.isAbstract() && !eClass.isInterface());
-        // @formatter:on
-
-        if (optionalEClass.isPresent()) {
-            EClass eClass = optionalEClass.get();
-            EObject eObject = EcoreUtil.create(eClass);
-            resource.getContents().add(eObject);
+        EObject eObject = EcoreUtil.create(eClass);
+        resource.getContents().add(eObject);
 
-            Collection<?> newChildDescriptors = editingDomain.getNewChildDescriptors(eObject, null);
+        Collection<?> newChildDescriptors = editingDomain.getNewChildDescriptors(eObject, null);
 
-            // @formatter:off
-            List<CommandParameter> commandParameters = newChildDescriptors.stream()
-                    .filter(CommandParameter.class::isInstance)
-                    .map(CommandParameter.class::cast)
-                    .collect(Collectors.toList());
-            // @formatter:on
+        // @formatter:off
+        List<CommandParameter> commandParameters = newChildDescriptors.stream()
+                .filter(CommandParameter.class::isInstance)
+                .map(CommandParameter.class::cast)
+                .collect(Collectors.toList());
+        // @formatter:on
 
-            Adapter adapter = editingDomain.getAdapterFactory().adapt(eObject, IEditingDomainItemProvider.class);
+        Adapter adapter = editingDomain.getAdapterFactory().adapt(eObject, IEditingDomainItemProvider.class);
 
-            if (adapter instanceof IEditingDomainItemProvider) {
-                IEditingDomainItemProvider editingDomainItemProvider = (IEditingDomainItemProvider) adapter;
-                if (editingDomainItemProvider instanceof Helper) {
-                    Helper helper = (Helper) editingDomainItemProvider;
-                    for (CommandParameter commandParameter : commandParameters) {
-                        String text = helper.getCreateChildText(eObject, commandParameter.getFeature(), commandParameter.getValue(), null);
-                        ChildCreationDescription childCreationDescription = new ChildCreationDescription(text, text);
-                        childCreationDescriptions.add(childCreationDescription);
-                    }
+        if (adapter instanceof IEditingDomainItemProvider) {
+            IEditingDomainItemProvider editingDomainItemProvider = (IEditingDomainItemProvider) adapter;
+            if (editingDomainItemProvider instanceof Helper) {
+                Helper helper = (Helper) editingDomainItemProvider;
+                for (CommandParameter commandParameter : commandParameters) {
+                    String text = helper.getCreateChildText(eObject, commandParameter.getFeature(), commandParameter.getValue(), null);
+                    ChildCreationDescription childCreationDescription = new ChildCreationDescription(text, text);
+                    childCreationDescriptions.add(childCreationDescription);
                 }
             }
         }
@@ -238,24 +253,24 @@ public class EditService implements IEditService {
 
     @Override
     public List<ChildCreationDescription> getRootCreationDescriptions(UUID editingContextId, String domainId, boolean suggested) {
-        List<ChildCreationDescription> rootObjectCreationDescription = new ArrayList<>();
+        EditingContextEPackages ePackages = this.getEPackages(editingContextId);
+        return ePackages.getRootCreationDescriptions(domainId, suggested, this::computeRootCreationDescriptions);
+    }
 
-        EPackage.Registry ePackageRegistry = this.getPackageRegistry(editingContextId);
+    private List<ChildCreationDescription> computeRootCreationDescriptions(EPackage ePackage, boolean suggested) {
+        List<ChildCreationDescription> rootObjectCreationDescription = new ArrayList<>();
 
-        EPackage ePackage = ePackageRegistry.getEPackage(domainId);
-        if (ePackage != null) {
-            List<EClass> classes = new ArrayList<>();
-            if (suggested) {
-                classes = this.suggestedRootObjectTypesProvider.getSuggestedRootObjectTypes(ePackage);
-                if (classes.isEmpty()) {
-                    classes = this.getConcreteClasses(ePackage);
-                }
-            } else {
+        List<EClass> classes = new ArrayList<>();
+        if (suggested) {
+            classes = this.suggestedRootObjectTypesProvider.getSuggestedRootObjectTypes(ePackage);
+            if (classes.isEmpty()) {
                 classes = this.getConcreteClasses(ePackage);
             }
-            for (EClass suggestedClass : classes) {
-                rootObjectCreationDescription.add(new ChildCreationDescription(suggestedClass.getName(), suggestedClass.getName()));
-            }
+        } else {
+            classes = this.getConcreteClasses(ePackage);
+        }
+        for (EClass suggestedClass : classes) {
+            rootObjectCreationDescription.add(new ChildCreationDescription(suggestedClass.getName(), suggestedClass.getName()));
         }
         return rootObjectCreationDescription;
     }
@@ -307,7 +322,7 @@ public class EditService implements IEditService {
     }
 
     private Optional<EClass> getMatchingEClass(UUID editingContextId, String domainId, String rootObjectCreationDescriptionId) {
-        EPackage.Registry ePackageRegistry = this.getPackageRegistry(editingContextId);
+        EPackage.Registry ePackageRegistry = this.getEPackages(editingContextId).getEPackageRegistry();
 
         // @formatter:off
         return Optional.ofNullable(ePackageRegistry.getEPackage(domainId))
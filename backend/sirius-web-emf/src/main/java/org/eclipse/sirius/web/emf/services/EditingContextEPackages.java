@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.sirius.web.core.api.ChildCreationDescription;
+
+/**
+ * The EPackages of an editing context and the creation descriptions computed for them.
+ *
+ * <p>
+ * The registry contains the additional EPackages of the editing context and delegates to the global registry for the
+ * others instead of copying it. The creation descriptions are kept as long as the additional EPackages of the editing
+ * context do not change, a new instance being created otherwise.
+ * </p>
+ *
+ * @author agent
+ */
+public class EditingContextEPackages {
+
+    private final EPackage.Registry globalEPackageRegistry;
+
+    /**
+     * Compared by identity since EPackage does not override equals.
+     */
+    private final List<EPackage> additionalEPackages;
+
+    private final EPackage.Registry ePackageRegistry;
+
+    private final Map<EClass, List<ChildCreationDescription>> childCreationDescriptions = new ConcurrentHashMap<>();
+
+    private final Map<List<Object>, List<ChildCreationDescription>> rootCreationDescriptions = new ConcurrentHashMap<>();
+
+    public EditingContextEPackages(EPackage.Registry globalEPackageRegistry, List<EPackage> additionalEPackages) {
+        this.globalEPackageRegistry = Objects.requireNonNull(globalEPackageRegistry);
+        this.additionalEPackages = Collections.unmodifiableList(new ArrayList<>(Objects.requireNonNull(additionalEPackages)));
+        this.ePackageRegistry = new EPackageRegistryImpl(globalEPackageRegistry);
+        this.additionalEPackages.forEach(ePackage -> this.ePackageRegistry.put(ePackage.getNsURI(), ePackage));
+    }
+
+    public List<EPackage> getAdditionalEPackages() {
+        return this.additionalEPackages;
+    }
+
+    public EPackage.Registry getEPackageRegistry() {
+        return this.ePackageRegistry;
+    }
+
+    public Optional<EPackage> findEPackage(String ePackageName) {
+        ClassIdService classIdService = new ClassIdService();
+        return classIdService.findEPackage(this.ePackageRegistry, ePackageName).or(() -> classIdService.findEPackage(this.globalEPackageRegistry, ePackageName));
+    }
+
+    public List<ChildCreationDescription> getChildCreationDescriptions(EClass eClass, BiFunction<EPackage.Registry, EClass, List<ChildCreationDescription>> provider) {
+        return this.childCreationDescriptions.computeIfAbsent(eClass, key -> List.copyOf(provider.apply(this.ePackageRegistry, eClass)));
+    }
+
+    public List<ChildCreationDescription> getRootCreationDescriptions(String nsURI, boolean suggested, BiFunction<EPackage, Boolean, List<ChildCreationDescription>> provider) {
+        // @formatter:off
+        return Optional.ofNullable(this.ePackageRegistry.getEPackage(nsURI))
+                .map(ePackage -> this.rootCreationDescriptions.computeIfAbsent(List.of(nsURI, suggested), key -> List.copyOf(provider.apply(ePackage, suggested))))
+                .orElseGet(List::of);
+        // @formatter:on
+    }
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * AQL services giving access to the instances of a type without walking the whole resource for each query.
+ *
+ * @author agent
+ */
+public class ExtentServices {
+
+    private final EClassExtentIndexProvider eClassExtentIndexProvider = new EClassExtentIndexProvider();
+
+    /**
+     * Returns all the instances of the given type in the resource of the given object, including its roots.
+     *
+     * @param self
+     *            An object
+     * @param type
+     *            The type of the instances
+     * @return The instances in the order of the contents of the resource
+     */
+    public List<EObject> allInstances(EObject self, EClass type) {
+        return this.eClassExtentIndexProvider.getInstances(self, type, type::isInstance).orElseGet(() -> this.findInstances(self.eResource(), type));
+    }
+
+    private List<EObject> findInstances(Resource resource, EClass type) {
+        List<EObject> instances = new ArrayList<>();
+        if (resource != null) {
+            resource.getAllContents().forEachRemaining(eObject -> {
+                if (type.isInstance(eObject)) {
+                    instances.add(eObject);
+                }
+            });
+        }
+        return instances;
+    }
+}
@@ -14,9 +14,14 @@ package org.eclipse.sirius.web.emf.services;
 
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.util.EList;
@@ -28,6 +33,7 @@ import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.DynamicEObjectImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.ComposedImage;
@@ -39,6 +45,12 @@ import org.springframework.stereotype.Service;
 /**
  * Add support for the Flow domain to the Sirius Web server.
  *
+ * <p>
+ * The objects are retrieved by identifier thanks to an {@link EObjectIDIndex} attached to the resource set of each
+ * editing context the first time one of its objects is requested. The objects which cannot be found in the index, for
+ * example those identified by their URI, are searched in the resources as before.
+ * </p>
+ *
  * @author sbegaudeau
  * @author hmarchadour
  */
@@ -53,6 +65,12 @@ public class ObjectService implements IObjectService {
 
     private final LabelFeatureProviderRegistry labelFeatureProviderRegistry;
 
+    private final Set<EObjectIDIndex> eObjectIDIndexes = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final LongAdder indexBuildCount = new LongAdder();
+
+    private final LongAdder indexBuildTime = new LongAdder();
+
     public ObjectService(ComposedAdapterFactory composedAdapterFactory, LabelFeatureProviderRegistry labelFeatureProviderRegistry) {
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
         this.labelFeatureProviderRegistry = Objects.requireNonNull(labelFeatureProviderRegistry);
@@ -86,15 +104,14 @@ public class ObjectService implements IObjectService {
     }
 
     private String getIdFromIDAdapter(EObject eObject) {
-        // @formatter:off
-        return eObject.eAdapters().stream()
-                .filter(IDAdapter.class::isInstance)
-                .map(IDAdapter.class::cast)
-                .findFirst()
-                .map(IDAdapter::getId)
-                .map(Object::toString)
-                .orElse(null);
-        // @formatter:on
+        String id = null;
+        for (Adapter adapter : eObject.eAdapters()) {
+            if (adapter instanceof IDAdapter) {
+                id = ((IDAdapter) adapter).getId().toString();
+                break;
+            }
+        }
+        return id;
     }
 
     private String getIdFromURIFragment(EObject eObject) {
@@ -191,32 +208,94 @@ public class ObjectService implements IObjectService {
                 .map(EditingContext::getDomain)
                 .map(EditingDomain::getResourceSet)
                 .flatMap(resourceSet -> {
-                    Optional<EObject> optionalEObject = Optional.empty();
-
-                    int index = objectId.indexOf(ID_SEPARATOR);
-                    if (index != -1) {
-                        String resourceLastSegment = objectId.substring(0, index);
-                        String eObjectURIFragment = objectId.substring(index + ID_SEPARATOR.length());
-                        optionalEObject = resourceSet.getResources().stream()
-                                .filter(resource -> resourceLastSegment.equals(resource.getURI().lastSegment())).findFirst()
-                                .map(resource -> resource.getEObject(eObjectURIFragment));
-                    } else {
-                        optionalEObject = resourceSet.getResources().stream()
-                                .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
-                                .findFirst();
-                    }
-
-                    // If not found in the resources of the ResourceSet, we search in the PackageRegistry resources
-                    if (!optionalEObject.isPresent()) {
-                        URI uri = URI.createURI(objectId);
-                        EObject eObject = resourceSet.getEObject(uri, false);
-                        optionalEObject = Optional.ofNullable(eObject);
+                    EObjectIDIndex eObjectIDIndex = this.getEObjectIDIndex(resourceSet);
+                    Optional<EObject> optionalEObject = eObjectIDIndex.find(objectId)
+                            .filter(eObject -> objectId.equals(this.getIdFromIDAdapter(eObject)));
+
+                    if (optionalEObject.isEmpty()) {
+                        optionalEObject = this.findEObject(resourceSet, objectId);
+                        optionalEObject.filter(eObject -> objectId.equals(this.getIdFromIDAdapter(eObject)))
+                                .filter(eObject -> eObject.eResource() != null && eObject.eResource().getResourceSet() == resourceSet)
+                                .ifPresent(eObject -> eObjectIDIndex.put(objectId, eObject));
                     }
                     return optionalEObject;
                 });
         // @formatter:on
     }
 
+    private Optional<EObject> findEObject(ResourceSet resourceSet, String objectId) {
+        Optional<EObject> optionalEObject = Optional.empty();
+
+        int index = objectId.indexOf(ID_SEPARATOR);
+        if (index != -1) {
+            String resourceLastSegment = objectId.substring(0, index);
+            String eObjectURIFragment = objectId.substring(index + ID_SEPARATOR.length());
+            // @formatter:off
+            optionalEObject = resourceSet.getResources().stream()
+                    .filter(resource -> resourceLastSegment.equals(resource.getURI().lastSegment())).findFirst()
+                    .map(resource -> resource.getEObject(eObjectURIFragment));
+            // @formatter:on
+        } else {
+            // @formatter:off
+            optionalEObject = resourceSet.getResources().stream()
+                    .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
+                    .findFirst();
+            // @formatter:on
+        }
+
+        // If not found in the resources of the ResourceSet, we search in the PackageRegistry resources
+        if (!optionalEObject.isPresent()) {
+            URI uri = URI.createURI(objectId);
+            EObject eObject = resourceSet.getEObject(uri, false);
+            optionalEObject = Optional.ofNullable(eObject);
+        }
+        return optionalEObject;
+    }
+
+    /**
+     * Returns the index of the objects of the given resource set, which is created the first time it is needed.
+     *
+     * @param resourceSet
+     *            The resource set of an editing context
+     * @return The index of the objects of the resource set
+     */
+    private EObjectIDIndex getEObjectIDIndex(ResourceSet resourceSet) {
+        synchronized (resourceSet) {
+            Adapter adapter = EcoreUtil.getExistingAdapter(resourceSet, EObjectIDIndex.class);
+            EObjectIDIndex eObjectIDIndex;
+            if (adapter instanceof EObjectIDIndex) {
+                eObjectIDIndex = (EObjectIDIndex) adapter;
+            } else {
+                long start = System.nanoTime();
+                eObjectIDIndex = new EObjectIDIndex();
+                resourceSet.eAdapters().add(eObjectIDIndex);
+                this.indexBuildTime.add(System.nanoTime() - start);
+                this.indexBuildCount.increment();
+                this.eObjectIDIndexes.add(eObjectIDIndex);
+            }
+            return eObjectIDIndex;
+        }
+    }
+
+    /**
+     * Returns the number of objects indexed for all the editing contexts still in use.
+     *
+     * @return The number of objects indexed
+     */
+    public int getIndexedObjectCount() {
+        synchronized (this.eObjectIDIndexes) {
+            return this.eObjectIDIndexes.stream().mapToInt(EObjectIDIndex::size).sum();
+        }
+    }
+
+    public long getIndexBuildCount() {
+        return this.indexBuildCount.sum();
+    }
+
+    public double getIndexBuildTime(TimeUnit timeUnit) {
+        return (double) this.indexBuildTime.sum() / TimeUnit.NANOSECONDS.convert(1, timeUnit);
+    }
+
     @Override
     public List<Object> getContents(IEditingContext editingContext, String objectId) {
         List<Object> contents = new ArrayList<>();
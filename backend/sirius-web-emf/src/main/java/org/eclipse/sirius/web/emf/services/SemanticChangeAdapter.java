@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.sirius.web.core.api.IObjectService;
+
+/**
+ * The EMF adapter used to collect the identifiers of the semantic objects modified in a resource set.
+ *
+ * <p>
+ * The identifier of an object modified is collected along with the identifiers of all its containers and the
+ * identifiers of the objects referenced before and after the change. Changes in the contents of a resource or of the
+ * resource set cannot be scoped to some semantic objects, they make the whole scope of the change unknown.
+ * </p>
+ *
+ * <p>
+ * Objects added or removed, or a new containment, make the whole scope of the change unknown too. The semantic
+ * elements of a representation may be computed from any object, for example with an expression retrieving all the
+ * instances of a type, so the creation or the deletion of an object which is not displayed may still add or remove
+ * some elements of the representation.
+ * </p>
+ *
+ * @author agent
+ */
+public class SemanticChangeAdapter extends EContentAdapter {
+
+    private final IObjectService objectService;
+
+    private final Set<String> changedObjectIds = new HashSet<>();
+
+    private boolean isScopeUnknown;
+
+    public SemanticChangeAdapter(IObjectService objectService) {
+        this.objectService = Objects.requireNonNull(objectService);
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            if (notifier instanceof EObject) {
+                this.addChangedObject((EObject) notifier);
+                this.addValues(notification.getOldValue());
+                this.addValues(notification.getNewValue());
+                this.isScopeUnknown = this.isScopeUnknown || this.isStructuralChange(notification);
+            } else if (notifier instanceof Resource) {
+                int featureID = notification.getFeatureID(Resource.class);
+                this.isScopeUnknown = this.isScopeUnknown || featureID == Resource.RESOURCE__CONTENTS || featureID == Resource.RESOURCE__IS_LOADED;
+            } else if (notifier instanceof ResourceSet) {
+                this.isScopeUnknown = true;
+            }
+        }
+    }
+
+    private boolean isStructuralChange(Notification notification) {
+        int eventType = notification.getEventType();
+        boolean isStructuralChange = eventType == Notification.ADD || eventType == Notification.ADD_MANY || eventType == Notification.REMOVE || eventType == Notification.REMOVE_MANY;
+        if (!isStructuralChange && notification.getFeature() instanceof EReference) {
+            isStructuralChange = ((EReference) notification.getFeature()).isContainment();
+        }
+        return isStructuralChange;
+    }
+
+    private void addChangedObject(EObject eObject) {
+        EObject current = eObject;
+        while (current != null) {
+            Optional.ofNullable(this.objectService.getId(current)).ifPresent(this.changedObjectIds::add);
+            current = current.eContainer();
+        }
+    }
+
+    private void addValues(Object value) {
+        if (value instanceof EObject) {
+            Optional.ofNullable(this.objectService.getId(value)).ifPresent(this.changedObjectIds::add);
+        } else if (value instanceof Collection<?>) {
+            ((Collection<?>) value).forEach(this::addValues);
+        }
+    }
+
+    /**
+     * Returns the identifiers of the semantic objects modified since the last time this adapter has been cleared.
+     *
+     * @return The identifiers of the semantic objects modified or an empty optional if they cannot be known
+     */
+    public Optional<Set<String>> getChangedObjectIds() {
+        Optional<Set<String>> optionalChangedObjectIds = Optional.empty();
+        if (!this.isScopeUnknown) {
+            optionalChangedObjectIds = Optional.of(Set.copyOf(this.changedObjectIds));
+        }
+        return optionalChangedObjectIds;
+    }
+
+    public void clear() {
+        this.changedObjectIds.clear();
+        this.isScopeUnknown = false;
+    }
+
+    @Override
+    protected boolean resolve() {
+        // The semantic objects which have not been loaded yet cannot have been modified
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IObjectService;
+import org.eclipse.sirius.web.spring.collaborative.api.ISemanticChangeRecorder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records the semantic objects modified in the resource set of an editing context.
+ *
+ * <p>
+ * The {@link SemanticChangeAdapter} is installed on the resource set the first time a recording starts and it is kept
+ * afterwards in order to avoid visiting the whole resource set for each input.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class SemanticChangeRecorder implements ISemanticChangeRecorder {
+
+    private final IObjectService objectService;
+
+    public SemanticChangeRecorder(IObjectService objectService) {
+        this.objectService = Objects.requireNonNull(objectService);
+    }
+
+    @Override
+    public void startRecording(IEditingContext editingContext) {
+        this.getSemanticChangeAdapter(editingContext).ifPresent(SemanticChangeAdapter::clear);
+    }
+
+    @Override
+    public Optional<Set<String>> stopRecording(IEditingContext editingContext) {
+        var optionalSemanticChangeAdapter = this.getSemanticChangeAdapter(editingContext);
+        var optionalChangedObjectIds = optionalSemanticChangeAdapter.flatMap(SemanticChangeAdapter::getChangedObjectIds);
+        optionalSemanticChangeAdapter.ifPresent(SemanticChangeAdapter::clear);
+        return optionalChangedObjectIds;
+    }
+
+    private Optional<SemanticChangeAdapter> getSemanticChangeAdapter(IEditingContext editingContext) {
+        Optional<SemanticChangeAdapter> optionalSemanticChangeAdapter = Optional.empty();
+        if (editingContext instanceof EditingContext) {
+            ResourceSet resourceSet = ((EditingContext) editingContext).getDomain().getResourceSet();
+
+            // @formatter:off
+            optionalSemanticChangeAdapter = resourceSet.eAdapters().stream()
+                    .filter(SemanticChangeAdapter.class::isInstance)
+                    .map(SemanticChangeAdapter.class::cast)
+                    .findFirst();
+            // @formatter:on
+
+            if (optionalSemanticChangeAdapter.isEmpty()) {
+                SemanticChangeAdapter semanticChangeAdapter = new SemanticChangeAdapter(this.objectService);
+                resourceSet.eAdapters().add(semanticChangeAdapter);
+                optionalSemanticChangeAdapter = Optional.of(semanticChangeAdapter);
+            }
+        }
+        return optionalSemanticChangeAdapter;
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Keeps the diagnostics of each object of a resource set until its resource is modified.
+ *
+ * <p>
+ * Each object is validated on its own, without its contents. The constraints of an object may depend on its contents,
+ * on its siblings or on the objects it references, a modification thus invalidates the diagnostics of all the objects
+ * of the modified resource. The constraints relating objects of different resources are only evaluated again once the
+ * resource of the object validated is modified. Adding or removing a resource invalidates all the diagnostics.
+ * </p>
+ *
+ * @author agent
+ */
+public class ValidationCache extends EContentAdapter {
+
+    private final Map<Resource, Map<EObject, List<Diagnostic>>> diagnostics = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the diagnostics of the given object, which are computed with the given validator if they are not known
+     * yet. The diagnostics of the objects which are not in a resource are not kept.
+     *
+     * @param eObject
+     *            The object to validate
+     * @param validator
+     *            Computes the diagnostics of the object alone
+     * @return The diagnostics of the object
+     */
+    public List<Diagnostic> getDiagnostics(EObject eObject, Function<EObject, List<Diagnostic>> validator) {
+        Resource resource = eObject.eResource();
+        List<Diagnostic> objectDiagnostics;
+        if (resource != null) {
+            objectDiagnostics = this.diagnostics.computeIfAbsent(resource, key -> new ConcurrentHashMap<>()).computeIfAbsent(eObject, validator);
+        } else {
+            objectDiagnostics = validator.apply(eObject);
+        }
+        return objectDiagnostics;
+    }
+
+    public int size() {
+        return this.diagnostics.values().stream().mapToInt(Map::size).sum();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            if (notifier instanceof EObject) {
+                Optional.ofNullable(((EObject) notifier).eResource()).ifPresent(this.diagnostics::remove);
+            } else if (notifier instanceof Resource) {
+                this.diagnostics.remove(notifier);
+            } else {
+                this.diagnostics.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ValidationCache.class;
+    }
+
+}
@@ -16,12 +16,10 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.interpreter.Result;
@@ -58,24 +56,11 @@ public class TargetNodesProvider implements Function<VariableManager, List<Eleme
         DiagramRenderingCache cache = optionalCache.get();
 
         // @formatter:off
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.edgeDescription.getTargetNodesExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getVariableScope(), this.edgeDescription.getTargetNodesExpression());
+        List<UUID> targetNodeDescriptionIds = List.of(this.idProvider.apply(this.edgeDescription.getTargetNodeDescription()));
         return result.asObjects().orElse(List.of()).stream()
-                .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
-                .filter(this.isFromCompatibleTargetMapping())
-                .filter(Objects::nonNull)
+                .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject, targetNodeDescriptionIds).stream())
                 .collect(Collectors.toList());
         // @formatter:on
     }
-
-    private Predicate<Element> isFromCompatibleTargetMapping() {
-        return nodeElement -> this.isFromDescription(nodeElement, this.edgeDescription.getTargetNodeDescription());
-    }
-
-    private boolean isFromDescription(Element nodeElement, DiagramElementDescription description) {
-        if (nodeElement.getProps() instanceof NodeElementProps) {
-            NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-            return Objects.equals(this.idProvider.apply(description), props.getDescriptionId());
-        }
-        return false;
-    }
 }
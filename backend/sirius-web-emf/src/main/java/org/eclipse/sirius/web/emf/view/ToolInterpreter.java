@@ -111,7 +111,7 @@ public class ToolInterpreter {
     }
 
     private Optional<VariableManager> executeChangeContext(VariableManager variableManager, ChangeContext changeContextOperation) {
-        Optional<Object> newContext = this.interpreter.evaluateExpression(variableManager.getVariables(), changeContextOperation.getExpression()).asObject();
+        Optional<Object> newContext = this.interpreter.evaluateExpression(variableManager.getVariableScope(), changeContextOperation.getExpression()).asObject();
         if (newContext.isPresent()) {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VariableManager.SELF, newContext.get());
@@ -124,7 +124,7 @@ public class ToolInterpreter {
     private Optional<VariableManager> executeSetValue(VariableManager variableManager, SetValue setValueOperation) {
         var optionalSelf = variableManager.get(VariableManager.SELF, EObject.class);
         if (optionalSelf.isPresent()) {
-            Result newValue = this.interpreter.evaluateExpression(variableManager.getVariables(), setValueOperation.getValueExpression());
+            Result newValue = this.interpreter.evaluateExpression(variableManager.getVariableScope(), setValueOperation.getValueExpression());
             if (newValue.asObject().isPresent()) {
                 Object instance = this.ecore.eAdd(optionalSelf.get(), setValueOperation.getFeatureName(), newValue.asObject().get());
                 if (instance != null) {
@@ -21,7 +21,6 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EClass;
@@ -40,7 +39,6 @@ import org.eclipse.sirius.web.diagrams.description.LabelDescription;
 import org.eclipse.sirius.web.diagrams.description.LabelStyleDescription;
 import org.eclipse.sirius.web.diagrams.description.NodeDescription;
 import org.eclipse.sirius.web.diagrams.description.SynchronizationPolicy;
-import org.eclipse.sirius.web.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.web.diagrams.tools.CreateEdgeTool;
 import org.eclipse.sirius.web.diagrams.tools.CreateNodeTool;
@@ -48,6 +46,9 @@ import org.eclipse.sirius.web.diagrams.tools.EdgeCandidate;
 import org.eclipse.sirius.web.diagrams.tools.ITool;
 import org.eclipse.sirius.web.diagrams.tools.ToolSection;
 import org.eclipse.sirius.web.emf.compatibility.DomainClassPredicate;
+import org.eclipse.sirius.web.emf.compatibility.SemanticCandidatesProvider;
+import org.eclipse.sirius.web.emf.services.EClassExtentIndexProvider;
+import org.eclipse.sirius.web.emf.services.ExtentServices;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.interpreter.Result;
 import org.eclipse.sirius.web.representations.IRepresentationDescription;
@@ -78,6 +79,8 @@ public class ViewConverter {
 
     private static final String EDGE_CREATION_TOOL_ICON = "/img/Relation.svg"; //$NON-NLS-1$
 
+    private static final String FEATURE_PREFIX = "feature:"; //$NON-NLS-1$
+
     private final List<IJavaServiceProvider> javaServiceProviders;
 
     private final IObjectService objectService;
@@ -101,6 +104,8 @@ public class ViewConverter {
 
     private final boolean isStudioDefinitionEnabled;
 
+    private final EClassExtentIndexProvider eClassExtentIndexProvider = new EClassExtentIndexProvider();
+
     private Map<org.eclipse.sirius.web.view.NodeDescription, NodeDescription> convertedNodes;
 
     private Map<org.eclipse.sirius.web.view.EdgeDescription, EdgeDescription> convertedEdges;
@@ -129,6 +134,7 @@ public class ViewConverter {
                                                 .flatMap(provider -> provider.getServiceClasses(view).stream())
                                                 .collect(Collectors.toList());
             // @formatter:on
+            serviceClasses.add(ExtentServices.class);
             AQLInterpreter interpreter = new AQLInterpreter(serviceClasses, List.of());
             try {
                 // @formatter:off
@@ -221,6 +227,7 @@ public class ViewConverter {
                 .targetObjectLabelProvider(this.semanticTargetLabelProvider)
                 .semanticElementsProvider(this.getSemanticElementsProvider(viewNodeDescription, interpreter))
                 .synchronizationPolicy(synchronizationPolicy)
+                .memoizable(this.isMemoizable(viewNodeDescription))
                 .typeProvider(variableManager -> nodeType)
                 .labelDescription(this.getLabelDescription(viewNodeDescription, interpreter))
                 .styleProvider(styleProvider)
@@ -235,8 +242,17 @@ public class ViewConverter {
         return result;
     }
 
+    /**
+     * Indicates if the nodes of the given description are only computed from their target object, i.e. if their label
+     * is the value of a feature of this object and if their style does not depend on any condition.
+     */
+    private boolean isMemoizable(org.eclipse.sirius.web.view.NodeDescription viewNodeDescription) {
+        String labelExpression = viewNodeDescription.getLabelExpression();
+        return labelExpression != null && labelExpression.startsWith(FEATURE_PREFIX) && viewNodeDescription.getConditionalStyles().isEmpty();
+    }
+
     private boolean matches(AQLInterpreter interpreter, String condition, VariableManager variableManager) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return interpreter.evaluateExpression(variableManager.getVariableScope(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 
     private List<ToolSection> createToolSections(AQLInterpreter interpreter) {
@@ -340,16 +356,32 @@ public class ViewConverter {
     }
 
     private Function<VariableManager, List<Object>> getSemanticElementsProvider(org.eclipse.sirius.web.view.DiagramElementDescription elementDescription, AQLInterpreter interpreter) {
+        String semanticCandidatesExpression = elementDescription.getSemanticCandidatesExpression();
+        String domainType = Optional.ofNullable(elementDescription.getDomainType()).orElse(""); //$NON-NLS-1$
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression());
-            List<Object> candidates = result.asObjects().orElse(List.of());
-            // @formatter:off
-            return candidates.stream()
-                    .filter(EObject.class::isInstance)
-                    .map(EObject.class::cast)
-                    .filter(candidate -> new DomainClassPredicate(Optional.ofNullable(elementDescription.getDomainType()).orElse("")).test(candidate)) //$NON-NLS-1$
-                    .collect(Collectors.toList());
-            // @formatter:on
+            DomainClassPredicate domainClassPredicate = new DomainClassPredicate(domainType);
+            Optional<List<EObject>> optionalIndexedCandidates = Optional.empty();
+            if (SemanticCandidatesProvider.DEFAULT_SEMANTIC_CANDIDATES_EXPRESSION.equals(semanticCandidatesExpression)) {
+                // @formatter:off
+                optionalIndexedCandidates = this.self(variableManager)
+                        .filter(EObject.class::isInstance)
+                        .map(EObject.class::cast)
+                        .flatMap(self -> this.eClassExtentIndexProvider.getInstances(self, List.of(semanticCandidatesExpression, domainType),
+                                eObject -> eObject.eContainer() != null && domainClassPredicate.test(eObject)));
+                // @formatter:on
+            }
+
+            return optionalIndexedCandidates.<List<Object>> map(ArrayList::new).orElseGet(() -> {
+                Result result = interpreter.evaluateExpression(variableManager.getVariableScope(), semanticCandidatesExpression);
+                List<Object> candidates = result.asObjects().orElse(List.of());
+                // @formatter:off
+                return candidates.stream()
+                        .filter(EObject.class::isInstance)
+                        .map(EObject.class::cast)
+                        .filter(domainClassPredicate)
+                        .collect(Collectors.toList());
+                // @formatter:on
+            });
         };
     }
 
@@ -374,14 +406,13 @@ public class ViewConverter {
                 DiagramRenderingCache cache = optionalCache.get();
                 String sourceFinderExpression = viewEdgeDescription.getSourceNodesExpression();
 
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), sourceFinderExpression);
+                Result result = interpreter.evaluateExpression(variableManager.getVariableScope(), sourceFinderExpression);
                 List<Object> semanticCandidates = result.asObjects().orElse(List.of());
-                var nodeCandidates = semanticCandidates.stream().flatMap(semanticObject -> cache.getElementsRepresenting(semanticObject).stream());
+                List<UUID> sourceNodeDescriptionIds = List.of(this.idProvider.apply(viewEdgeDescription.getSourceNodeDescription()));
 
                 // @formatter:off
-                return nodeCandidates
-                        .filter(nodeElement -> this.isFromDescription(nodeElement, viewEdgeDescription.getSourceNodeDescription()))
-                        .filter(Objects::nonNull)
+                return semanticCandidates.stream()
+                        .flatMap(semanticObject -> cache.getElementsRepresenting(semanticObject, sourceNodeDescriptionIds).stream())
                         .collect(Collectors.toList());
                 // @formatter:on
             };
@@ -396,12 +427,7 @@ public class ViewConverter {
                 DiagramRenderingCache cache = optionalCache.get();
                 Object object = optionalObject.get();
 
-             // @formatter:off
-                return cache.getElementsRepresenting(object).stream()
-                        .filter(this.isFromCompatibleSourceMapping(viewEdgeDescription))
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
-                // @formatter:on
+                return cache.getElementsRepresenting(object, List.of(this.idProvider.apply(viewEdgeDescription.getSourceNodeDescription())));
             };
         }
 
@@ -426,6 +452,7 @@ public class ViewConverter {
                                      .sourceNodeDescriptions(List.of(this.convertedNodes.get(viewEdgeDescription.getSourceNodeDescription())))
                                      .targetNodeDescriptions(List.of(this.convertedNodes.get(viewEdgeDescription.getTargetNodeDescription())))
                                      .semanticElementsProvider(semanticElementsProvider)
+                                     .memoizable(viewEdgeDescription.getConditionalStyles().isEmpty())
                                      .sourceNodesProvider(sourceNodesProvider)
                                      .targetNodesProvider(targetNodesProvider)
                                      .styleProvider(styleProvider)
@@ -460,24 +487,12 @@ public class ViewConverter {
         }
     }
 
-    private Predicate<Element> isFromCompatibleSourceMapping(org.eclipse.sirius.web.view.EdgeDescription edgeDescription) {
-        return nodeElement -> this.isFromDescription(nodeElement, edgeDescription.getSourceNodeDescription());
-    }
-
-    private boolean isFromDescription(Element nodeElement, DiagramElementDescription diagramElementDescription) {
-        if (nodeElement.getProps() instanceof NodeElementProps) {
-            NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-            return Objects.equals(this.idProvider.apply(diagramElementDescription), props.getDescriptionId());
-        }
-        return false;
-    }
-
     private Optional<Object> self(VariableManager variableManager) {
         return variableManager.get(VariableManager.SELF, Object.class);
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse(""); //$NON-NLS-1$
+        return interpreter.evaluateExpression(variableManager.getVariableScope(), expression).asString().orElse(""); //$NON-NLS-1$
     }
 
 }
@@ -30,6 +30,7 @@ import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.emf.services.EditingContext;
 import org.eclipse.sirius.web.emf.services.EditingDomainFactory;
 import org.eclipse.sirius.web.emf.services.IEditingContextEPackageService;
+import org.eclipse.sirius.web.interpreter.AQLInterpreterCache;
 import org.eclipse.sirius.web.spring.collaborative.api.IQueryService;
 import org.eclipse.sirius.web.spring.collaborative.dto.QueryBasedIntInput;
 import org.eclipse.sirius.web.spring.collaborative.dto.QueryBasedIntSuccessPayload;
@@ -54,7 +55,7 @@ public class EMFQueryServiceTests {
                 return List.of(EcorePackage.eINSTANCE);
             }
         };
-        IQueryService queryService = new EMFQueryService(editingContextEPackageService);
+        IQueryService queryService = new EMFQueryService(editingContextEPackageService, new AQLInterpreterCache(10));
 
         QueryBasedIntInput input = new QueryBasedIntInput(UUID.randomUUID(), "aql:editingContext.eAllContents()->size()"); //$NON-NLS-1$
         IPayload payload = queryService.execute(editingContext, input);
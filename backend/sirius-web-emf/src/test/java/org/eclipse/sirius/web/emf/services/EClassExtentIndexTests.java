@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the index of the instances of the types.
+ *
+ * @author agent
+ */
+public class EClassExtentIndexTests {
+
+    @Test
+    public void testInstancesAreComputedAgainOnlyWhenMatchingObjectsAreAddedOrRemoved() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(firstEClass);
+        ePackage.getEClassifiers().add(secondEClass);
+
+        Resource resource = new XMIResourceImpl();
+        resource.getContents().add(ePackage);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        EClassExtentIndex index = new EClassExtentIndex();
+        resourceSet.eAdapters().add(index);
+
+        EClass eClass = EcorePackage.Literals.ECLASS;
+        List<EObject> instances = index.getInstances(resource, eClass, eClass::isInstance);
+        assertThat(instances).containsExactly(firstEClass, secondEClass);
+
+        firstEClass.setName("First"); //$NON-NLS-1$
+        ePackage.getEAnnotations().add(EcoreFactory.eINSTANCE.createEAnnotation());
+        assertThat(index.getInstances(resource, eClass, eClass::isInstance)).isSameAs(instances);
+
+        EClass thirdEClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(1, thirdEClass);
+        assertThat(index.getInstances(resource, eClass, eClass::isInstance)).containsExactly(firstEClass, thirdEClass, secondEClass);
+
+        EPackage subPackage = EcoreFactory.eINSTANCE.createEPackage();
+        subPackage.getEClassifiers().add(EcoreFactory.eINSTANCE.createEClass());
+        ePackage.getESubpackages().add(subPackage);
+        assertThat(index.getInstances(resource, eClass, eClass::isInstance)).hasSize(4);
+
+        ePackage.getEClassifiers().remove(firstEClass);
+        assertThat(index.getInstances(resource, eClass, eClass::isInstance)).hasSize(3).doesNotContain(firstEClass);
+
+        resourceSet.getResources().remove(resource);
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    public void testDeletedObjectsAreRemovedFromTheInstancesOfTheSemanticCandidates() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(firstEClass);
+        ePackage.getEClassifiers().add(secondEClass);
+
+        Resource resource = new XMIResourceImpl();
+        resource.getContents().add(ePackage);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        EClassExtentIndex index = new EClassExtentIndex();
+        resourceSet.eAdapters().add(index);
+
+        // Same predicate as the one used to find the semantic candidates of the representations
+        EClass eClass = EcorePackage.Literals.ECLASS;
+        Predicate<EObject> predicate = eObject -> eObject.eContainer() != null && eClass.isInstance(eObject);
+        assertThat(index.getInstances(resource, eClass, predicate)).containsExactly(firstEClass, secondEClass);
+
+        EcoreUtil.delete(firstEClass);
+        assertThat(index.getInstances(resource, eClass, predicate)).containsExactly(secondEClass);
+    }
+
+    @Test
+    public void testInstancesInResourceSet() {
+        EPackage firstEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        firstEPackage.getEClassifiers().add(firstEClass);
+        EPackage secondEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        secondEPackage.getEClassifiers().add(secondEClass);
+
+        Resource firstResource = new XMIResourceImpl();
+        firstResource.getContents().add(firstEPackage);
+        Resource secondResource = new XMIResourceImpl();
+        secondResource.getContents().add(secondEPackage);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(firstResource);
+        resourceSet.getResources().add(secondResource);
+
+        EClass eClass = EcorePackage.Literals.ECLASS;
+        EClassExtentIndexProvider provider = new EClassExtentIndexProvider();
+        assertThat(provider.getInstancesInResourceSet(firstEClass, eClass, eClass::isInstance)).contains(List.of(firstEClass, secondEClass));
+        assertThat(provider.getInstances(firstEClass, eClass, eClass::isInstance)).contains(List.of(firstEClass));
+        assertThat(provider.getInstancesInResourceSet(EcoreFactory.eINSTANCE.createEClass(), eClass, eClass::isInstance)).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.EValidatorRegistryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the EMF validation service.
+ *
+ * @author agent
+ */
+public class EMFValidationServiceTests {
+
+    @Test
+    public void testModifiedObjectsAreValidatedAgain() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample"); //$NON-NLS-1$
+        ePackage.setNsURI("sample"); //$NON-NLS-1$
+        ePackage.setNsPrefix("sample"); //$NON-NLS-1$
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        firstEClass.setName("Duplicate"); //$NON-NLS-1$
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        secondEClass.setName("Duplicate"); //$NON-NLS-1$
+        ePackage.getEClassifiers().add(firstEClass);
+        ePackage.getEClassifiers().add(secondEClass);
+
+        Resource resource = new XMIResourceImpl();
+        resource.getContents().add(ePackage);
+        EditingContext editingContext = new EditingContext(UUID.randomUUID(), new EditingDomainFactory().create(resource));
+
+        EValidator.Registry eValidatorRegistry = new EValidatorRegistryImpl(EValidator.Registry.INSTANCE);
+        EMFValidationService validationService = new EMFValidationService(eValidatorRegistry, new ComposedAdapterFactory());
+
+        assertThat(validationService.validate(editingContext)).hasSize(1);
+
+        secondEClass.setName("Valid"); //$NON-NLS-1$
+        assertThat(validationService.validate(editingContext)).isEmpty();
+
+        secondEClass.setName("Not well formed"); //$NON-NLS-1$
+        int expectedSize = new Diagnostician(eValidatorRegistry).validate(ePackage).getChildren().size();
+        assertThat(validationService.validate(editingContext)).hasSize(expectedSize);
+        assertThat(validationService.validate(secondEClass, EcorePackage.Literals.ENAMED_ELEMENT__NAME)).hasSize(1);
+        assertThat(validationService.validate(firstEClass, EcorePackage.Literals.ENAMED_ELEMENT__NAME)).isEmpty();
+    }
+
+    @Test
+    public void testObjectsReferencingAModifiedObjectAreValidatedAgain() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample"); //$NON-NLS-1$
+        ePackage.setNsURI("sample"); //$NON-NLS-1$
+        ePackage.setNsPrefix("sample"); //$NON-NLS-1$
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        firstEClass.setName("First"); //$NON-NLS-1$
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        secondEClass.setName("Second"); //$NON-NLS-1$
+        ePackage.getEClassifiers().add(firstEClass);
+        ePackage.getEClassifiers().add(secondEClass);
+
+        EReference firstEReference = EcoreFactory.eINSTANCE.createEReference();
+        firstEReference.setName("second"); //$NON-NLS-1$
+        firstEReference.setEType(secondEClass);
+        firstEClass.getEStructuralFeatures().add(firstEReference);
+        EReference secondEReference = EcoreFactory.eINSTANCE.createEReference();
+        secondEReference.setName("first"); //$NON-NLS-1$
+        secondEReference.setEType(firstEClass);
+        secondEClass.getEStructuralFeatures().add(secondEReference);
+        firstEReference.setEOpposite(secondEReference);
+        secondEReference.setEOpposite(firstEReference);
+
+        Resource resource = new XMIResourceImpl();
+        resource.getContents().add(ePackage);
+        EditingContext editingContext = new EditingContext(UUID.randomUUID(), new EditingDomainFactory().create(resource));
+
+        EMFValidationService validationService = new EMFValidationService(new EValidatorRegistryImpl(EValidator.Registry.INSTANCE), new ComposedAdapterFactory());
+        assertThat(validationService.validate(firstEReference, EcorePackage.Literals.EREFERENCE__EOPPOSITE)).isEmpty();
+
+        // The opposite of the first reference is not consistent anymore even if the first reference has not changed
+        secondEReference.setEOpposite(null);
+        assertThat(validationService.validate(firstEReference, EcorePackage.Literals.EREFERENCE__EOPPOSITE)).hasSize(1);
+    }
+}
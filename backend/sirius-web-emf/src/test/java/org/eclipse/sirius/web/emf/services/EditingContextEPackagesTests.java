@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.sirius.web.core.api.ChildCreationDescription;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the EPackages of an editing context.
+ *
+ * @author agent
+ */
+public class EditingContextEPackagesTests {
+
+    private static final String SAMPLE = "sample"; //$NON-NLS-1$
+
+    @Test
+    public void testRegistryDelegatesToTheGlobalRegistry() {
+        EPackage.Registry globalEPackageRegistry = new EPackageRegistryImpl();
+        globalEPackageRegistry.put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(SAMPLE);
+        ePackage.setNsURI(SAMPLE);
+
+        EditingContextEPackages ePackages = new EditingContextEPackages(globalEPackageRegistry, List.of(ePackage));
+        assertThat(ePackages.getEPackageRegistry().getEPackage(SAMPLE)).isSameAs(ePackage);
+        assertThat(ePackages.getEPackageRegistry().getEPackage(EcorePackage.eNS_URI)).isSameAs(EcorePackage.eINSTANCE);
+        assertThat(ePackages.findEPackage(SAMPLE)).contains(ePackage);
+        assertThat(ePackages.findEPackage(EcorePackage.eNAME)).contains(EcorePackage.eINSTANCE);
+        assertThat(globalEPackageRegistry).doesNotContainKey(SAMPLE);
+    }
+
+    @Test
+    public void testCreationDescriptionsAreComputedOnce() {
+        EPackage.Registry globalEPackageRegistry = new EPackageRegistryImpl();
+        globalEPackageRegistry.put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        EditingContextEPackages ePackages = new EditingContextEPackages(globalEPackageRegistry, List.of());
+
+        AtomicInteger computations = new AtomicInteger();
+        EClass eClass = EcorePackage.Literals.EPACKAGE;
+        for (int i = 0; i < 2; i++) {
+            List<ChildCreationDescription> childCreationDescriptions = ePackages.getChildCreationDescriptions(eClass, (ePackageRegistry, type) -> {
+                computations.incrementAndGet();
+                return List.of(new ChildCreationDescription(type.getName(), type.getName()));
+            });
+            assertThat(childCreationDescriptions).hasSize(1);
+
+            List<ChildCreationDescription> rootCreationDescriptions = ePackages.getRootCreationDescriptions(EcorePackage.eNS_URI, true, (ePackage, suggested) -> {
+                computations.incrementAndGet();
+                return List.of();
+            });
+            assertThat(rootCreationDescriptions).isEmpty();
+        }
+        assertThat(computations.get()).isEqualTo(2);
+        assertThat(ePackages.getRootCreationDescriptions("unknown", true, (ePackage, suggested) -> List.of())).isEmpty(); //$NON-NLS-1$
+    }
+}
@@ -15,13 +15,17 @@ package org.eclipse.sirius.web.emf.services;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.UUID;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.provider.EcoreItemProviderAdapterFactory;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.EcoreAdapterFactory;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
@@ -65,4 +69,36 @@ public class ObjectServiceTests {
         assertThat(objectService.getId(eObject)).isNotNull();
     }
 
+    @Test
+    public void testGetObjectFollowsTheChangesOfTheResourceSet() {
+        ObjectService objectService = new ObjectService(new ComposedAdapterFactory(), new LabelFeatureProviderRegistry());
+        EObjectIDManager idManager = new EObjectIDManager();
+
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(eClass);
+        idManager.setId(ePackage, UUID.randomUUID().toString());
+        idManager.setId(eClass, UUID.randomUUID().toString());
+
+        Resource resource = new XMIResourceImpl(URI.createURI("test.xmi")); //$NON-NLS-1$
+        resource.getContents().add(ePackage);
+        EditingContext editingContext = new EditingContext(UUID.randomUUID(), new EditingDomainFactory().create(resource));
+
+        assertThat(objectService.getObject(editingContext, objectService.getId(eClass))).containsSame(eClass);
+        assertThat(objectService.getIndexBuildCount()).isEqualTo(1);
+        assertThat(objectService.getIndexedObjectCount()).isEqualTo(2);
+
+        EClass newEClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(newEClass);
+        String newId = UUID.randomUUID().toString();
+        idManager.setId(newEClass, newId);
+        assertThat(objectService.getObject(editingContext, newId)).containsSame(newEClass);
+        assertThat(objectService.getIndexedObjectCount()).isEqualTo(3);
+
+        String eClassId = objectService.getId(eClass);
+        EcoreUtil.delete(eClass);
+        assertThat(objectService.getObject(editingContext, eClassId)).isEmpty();
+        assertThat(objectService.getIndexedObjectCount()).isEqualTo(2);
+        assertThat(objectService.getIndexBuildCount()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the semantic change recorder.
+ *
+ * @author agent
+ */
+public class SemanticChangeRecorderTests {
+
+    @Test
+    public void testChangedObjectsAndTheirContainersAreRecorded() {
+        ObjectService objectService = new ObjectService(new ComposedAdapterFactory(), new LabelFeatureProviderRegistry());
+
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass changedEClass = EcoreFactory.eINSTANCE.createEClass();
+        EClass otherEClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().addAll(List.of(changedEClass, otherEClass));
+
+        Resource resource = new XMIResourceImpl(URI.createURI("test.xmi")); //$NON-NLS-1$
+        resource.getContents().add(ePackage);
+        EditingContext editingContext = new EditingContext(UUID.randomUUID(), new EditingDomainFactory().create(resource));
+
+        SemanticChangeRecorder semanticChangeRecorder = new SemanticChangeRecorder(objectService);
+        semanticChangeRecorder.startRecording(editingContext);
+        changedEClass.setName("Changed"); //$NON-NLS-1$
+        Optional<Set<String>> optionalChangedObjectIds = semanticChangeRecorder.stopRecording(editingContext);
+
+        assertThat(optionalChangedObjectIds).isPresent();
+        assertThat(optionalChangedObjectIds.get()).contains(objectService.getId(changedEClass), objectService.getId(ePackage));
+        assertThat(optionalChangedObjectIds.get()).doesNotContain(objectService.getId(otherEClass));
+
+        semanticChangeRecorder.startRecording(editingContext);
+        ePackage.getEClassifiers().add(EcoreFactory.eINSTANCE.createEClass());
+        assertThat(semanticChangeRecorder.stopRecording(editingContext)).isEmpty();
+
+        semanticChangeRecorder.startRecording(editingContext);
+        resource.getContents().add(EcoreFactory.eINSTANCE.createEPackage());
+        assertThat(semanticChangeRecorder.stopRecording(editingContext)).isEmpty();
+    }
+}
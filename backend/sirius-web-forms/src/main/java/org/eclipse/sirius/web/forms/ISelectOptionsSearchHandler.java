@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms;
+
+import java.util.List;
+
+/**
+ * Finds a page of the options of a select or a multi-select widget.
+ *
+ * @author agent
+ */
+public interface ISelectOptionsSearchHandler {
+
+    /**
+     * Returns a page of the options whose label contains the given filter, in the order of the options.
+     *
+     * @param filter
+     *            The text contained in the label of the options, all the options are returned if it is null or blank
+     * @param offset
+     *            The number of matching options to skip
+     * @param limit
+     *            The maximum number of options to return
+     * @return The options of the page
+     */
+    List<SelectOption> search(String filter, int offset, int limit);
+}
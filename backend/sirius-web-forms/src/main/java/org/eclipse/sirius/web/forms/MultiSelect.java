@@ -41,6 +41,12 @@ public final class MultiSelect extends AbstractWidget {
 
     private Function<List<String>, Status> newValuesHandler;
 
+    private int optionsCount;
+
+    private boolean lazyOptions;
+
+    private ISelectOptionsSearchHandler optionsSearchHandler;
+
     private MultiSelect() {
         // Prevent instantiation
     }
@@ -62,10 +68,34 @@ public final class MultiSelect extends AbstractWidget {
         return this.values;
     }
 
+    @GraphQLField
+    @GraphQLNonNull
+    public int getOptionsCount() {
+        return this.optionsCount;
+    }
+
+    /**
+     * Indicates if only the selected options have been rendered, the other ones being retrieved on demand with the
+     * options search handler.
+     */
+    @GraphQLField
+    @GraphQLNonNull
+    public boolean isLazyOptions() {
+        return this.lazyOptions;
+    }
+
     public Function<List<String>, Status> getNewValuesHandler() {
         return this.newValuesHandler;
     }
 
+    /**
+     * Returns the handler used to find a page of the options whose label contains a given text, the options being only
+     * created for the requested page.
+     */
+    public ISelectOptionsSearchHandler getOptionsSearchHandler() {
+        return this.optionsSearchHandler;
+    }
+
     public static Builder newMultiSelect(String id) {
         return new Builder(id);
     }
@@ -93,6 +123,12 @@ public final class MultiSelect extends AbstractWidget {
 
         private Function<List<String>, Status> newValuesHandler;
 
+        private int optionsCount;
+
+        private boolean lazyOptions;
+
+        private ISelectOptionsSearchHandler optionsSearchHandler;
+
         private List<Diagnostic> diagnostics;
 
         private Builder(String id) {
@@ -119,6 +155,21 @@ public final class MultiSelect extends AbstractWidget {
             return this;
         }
 
+        public Builder optionsCount(int optionsCount) {
+            this.optionsCount = optionsCount;
+            return this;
+        }
+
+        public Builder lazyOptions(boolean lazyOptions) {
+            this.lazyOptions = lazyOptions;
+            return this;
+        }
+
+        public Builder optionsSearchHandler(ISelectOptionsSearchHandler optionsSearchHandler) {
+            this.optionsSearchHandler = Objects.requireNonNull(optionsSearchHandler);
+            return this;
+        }
+
         public Builder diagnostics(List<Diagnostic> diagnostics) {
             this.diagnostics = Objects.requireNonNull(diagnostics);
             return this;
@@ -131,6 +182,9 @@ public final class MultiSelect extends AbstractWidget {
             select.options = Objects.requireNonNull(this.options);
             select.values = this.values;
             select.newValuesHandler = Objects.requireNonNull(this.newValuesHandler);
+            select.optionsCount = this.optionsCount;
+            select.lazyOptions = this.lazyOptions;
+            select.optionsSearchHandler = Objects.requireNonNull(this.optionsSearchHandler);
             select.diagnostics = Objects.requireNonNull(this.diagnostics);
             return select;
         }
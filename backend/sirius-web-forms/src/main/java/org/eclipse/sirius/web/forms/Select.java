@@ -40,6 +40,12 @@ public final class Select extends AbstractWidget {
 
     private Function<String, Status> newValueHandler;
 
+    private int optionsCount;
+
+    private boolean lazyOptions;
+
+    private ISelectOptionsSearchHandler optionsSearchHandler;
+
     private Select() {
         // Prevent instantiation
     }
@@ -61,10 +67,34 @@ public final class Select extends AbstractWidget {
         return this.value;
     }
 
+    @GraphQLField
+    @GraphQLNonNull
+    public int getOptionsCount() {
+        return this.optionsCount;
+    }
+
+    /**
+     * Indicates if only the selected options have been rendered, the other ones being retrieved on demand with the
+     * options search handler.
+     */
+    @GraphQLField
+    @GraphQLNonNull
+    public boolean isLazyOptions() {
+        return this.lazyOptions;
+    }
+
     public Function<String, Status> getNewValueHandler() {
         return this.newValueHandler;
     }
 
+    /**
+     * Returns the handler used to find a page of the options whose label contains a given text, the options being only
+     * created for the requested page.
+     */
+    public ISelectOptionsSearchHandler getOptionsSearchHandler() {
+        return this.optionsSearchHandler;
+    }
+
     public static Builder newSelect(String id) {
         return new Builder(id);
     }
@@ -92,6 +122,12 @@ public final class Select extends AbstractWidget {
 
         private Function<String, Status> newValueHandler;
 
+        private int optionsCount;
+
+        private boolean lazyOptions;
+
+        private ISelectOptionsSearchHandler optionsSearchHandler;
+
         private List<Diagnostic> diagnostics;
 
         private Builder(String id) {
@@ -118,6 +154,21 @@ public final class Select extends AbstractWidget {
             return this;
         }
 
+        public Builder optionsCount(int optionsCount) {
+            this.optionsCount = optionsCount;
+            return this;
+        }
+
+        public Builder lazyOptions(boolean lazyOptions) {
+            this.lazyOptions = lazyOptions;
+            return this;
+        }
+
+        public Builder optionsSearchHandler(ISelectOptionsSearchHandler optionsSearchHandler) {
+            this.optionsSearchHandler = Objects.requireNonNull(optionsSearchHandler);
+            return this;
+        }
+
         public Builder diagnostics(List<Diagnostic> diagnostics) {
             this.diagnostics = Objects.requireNonNull(diagnostics);
             return this;
@@ -130,6 +181,9 @@ public final class Select extends AbstractWidget {
             select.options = Objects.requireNonNull(this.options);
             select.value = this.value;
             select.newValueHandler = Objects.requireNonNull(this.newValueHandler);
+            select.optionsCount = this.optionsCount;
+            select.lazyOptions = this.lazyOptions;
+            select.optionsSearchHandler = Objects.requireNonNull(this.optionsSearchHandler);
             select.diagnostics = Objects.requireNonNull(this.diagnostics);
             return select;
         }
@@ -16,9 +16,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.components.IComponent;
+import org.eclipse.sirius.web.forms.ISelectOptionsSearchHandler;
 import org.eclipse.sirius.web.forms.SelectOption;
 import org.eclipse.sirius.web.forms.description.MultiSelectDescription;
 import org.eclipse.sirius.web.forms.elements.MultiSelectElementProps;
@@ -50,27 +52,30 @@ public class MultiSelectComponent implements IComponent {
 
         String id = multiSelectDescription.getIdProvider().apply(variableManager);
         String label = multiSelectDescription.getLabelProvider().apply(variableManager);
-        List<Object> optionCandidates = multiSelectDescription.getOptionsProvider().apply(variableManager);
         List<String> values = multiSelectDescription.getValuesProvider().apply(variableManager);
 
         List<Element> children = List.of(new Element(DiagnosticComponent.class, new DiagnosticComponentProps(multiSelectDescription, variableManager)));
 
-        List<SelectOption> options = new ArrayList<>();
-        for (Object candidate : optionCandidates) {
-            VariableManager optionVariableManager = variableManager.createChild();
-            optionVariableManager.put(CANDIDATE_VARIABLE, candidate);
-
-            String optionId = multiSelectDescription.getOptionIdProvider().apply(optionVariableManager);
-            String optionLabel = multiSelectDescription.getOptionLabelProvider().apply(optionVariableManager);
-
-            // @formatter:off
-            SelectOption option = SelectOption.newSelectOption(optionId)
-                    .label(optionLabel)
-                    .build();
-            // @formatter:on
+        int optionsCount = multiSelectDescription.getOptionsCountProvider().apply(variableManager);
+        boolean lazyOptions = optionsCount > multiSelectDescription.getLazyOptionsThreshold();
+        List<Object> renderedCandidates;
+        Supplier<List<Object>> candidatesProvider;
+        if (lazyOptions) {
+            renderedCandidates = multiSelectDescription.getSelectedOptionsProvider().apply(variableManager);
+            candidatesProvider = () -> multiSelectDescription.getOptionsProvider().apply(variableManager);
+        } else {
+            List<Object> optionCandidates = multiSelectDescription.getOptionsProvider().apply(variableManager);
+            renderedCandidates = optionCandidates;
+            candidatesProvider = () -> optionCandidates;
+            optionsCount = optionCandidates.size();
+        }
 
-            options.add(option);
+        List<SelectOption> options = new ArrayList<>();
+        for (Object candidate : renderedCandidates) {
+            options.add(this.createOption(variableManager, candidate));
         }
+        ISelectOptionsSearchHandler optionsSearchHandler = new SelectOptionsSearchHandler(candidatesProvider, candidate -> this.getOptionLabel(variableManager, candidate),
+                candidate -> this.createOption(variableManager, candidate));
         Function<List<String>, Status> newValuesHandler = newValues -> {
             return multiSelectDescription.getNewValuesHandler().apply(variableManager, newValues);
         };
@@ -81,9 +86,33 @@ public class MultiSelectComponent implements IComponent {
                 .options(options)
                 .values(values)
                 .newValuesHandler(newValuesHandler)
+                .optionsCount(optionsCount)
+                .lazyOptions(lazyOptions)
+                .optionsSearchHandler(optionsSearchHandler)
                 .children(children)
                 .build();
         return new Element(MultiSelectElementProps.TYPE, selectElementProps);
         // @formatter:on
     }
+
+    private String getOptionLabel(VariableManager variableManager, Object candidate) {
+        VariableManager optionVariableManager = variableManager.createChild();
+        optionVariableManager.put(CANDIDATE_VARIABLE, candidate);
+        return this.props.getMultiSelectDescription().getOptionLabelProvider().apply(optionVariableManager);
+    }
+
+    private SelectOption createOption(VariableManager variableManager, Object candidate) {
+        MultiSelectDescription description = this.props.getMultiSelectDescription();
+        VariableManager optionVariableManager = variableManager.createChild();
+        optionVariableManager.put(CANDIDATE_VARIABLE, candidate);
+
+        String optionId = description.getOptionIdProvider().apply(optionVariableManager);
+        String optionLabel = description.getOptionLabelProvider().apply(optionVariableManager);
+
+        // @formatter:off
+        return SelectOption.newSelectOption(optionId)
+                .label(optionLabel)
+                .build();
+        // @formatter:on
+    }
 }
@@ -16,9 +16,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.components.IComponent;
+import org.eclipse.sirius.web.forms.ISelectOptionsSearchHandler;
 import org.eclipse.sirius.web.forms.SelectOption;
 import org.eclipse.sirius.web.forms.description.SelectDescription;
 import org.eclipse.sirius.web.forms.elements.SelectElementProps;
@@ -49,27 +51,30 @@ public class SelectComponent implements IComponent {
 
         String id = selectDescription.getIdProvider().apply(variableManager);
         String label = selectDescription.getLabelProvider().apply(variableManager);
-        List<Object> optionCandidates = selectDescription.getOptionsProvider().apply(variableManager);
         String value = selectDescription.getValueProvider().apply(variableManager);
 
         List<Element> children = List.of(new Element(DiagnosticComponent.class, new DiagnosticComponentProps(selectDescription, variableManager)));
 
-        List<SelectOption> options = new ArrayList<>();
-        for (Object candidate : optionCandidates) {
-            VariableManager optionVariableManager = variableManager.createChild();
-            optionVariableManager.put(CANDIDATE_VARIABLE, candidate);
-
-            String optionId = selectDescription.getOptionIdProvider().apply(optionVariableManager);
-            String optionLabel = selectDescription.getOptionLabelProvider().apply(optionVariableManager);
-
-            // @formatter:off
-            SelectOption option = SelectOption.newSelectOption(optionId)
-                    .label(optionLabel)
-                    .build();
-            // @formatter:on
+        int optionsCount = selectDescription.getOptionsCountProvider().apply(variableManager);
+        boolean lazyOptions = optionsCount > selectDescription.getLazyOptionsThreshold();
+        List<Object> renderedCandidates;
+        Supplier<List<Object>> candidatesProvider;
+        if (lazyOptions) {
+            renderedCandidates = selectDescription.getSelectedOptionsProvider().apply(variableManager);
+            candidatesProvider = () -> selectDescription.getOptionsProvider().apply(variableManager);
+        } else {
+            List<Object> optionCandidates = selectDescription.getOptionsProvider().apply(variableManager);
+            renderedCandidates = optionCandidates;
+            candidatesProvider = () -> optionCandidates;
+            optionsCount = optionCandidates.size();
+        }
 
-            options.add(option);
+        List<SelectOption> options = new ArrayList<>();
+        for (Object candidate : renderedCandidates) {
+            options.add(this.createOption(variableManager, candidate));
         }
+        ISelectOptionsSearchHandler optionsSearchHandler = new SelectOptionsSearchHandler(candidatesProvider, candidate -> this.getOptionLabel(variableManager, candidate),
+                candidate -> this.createOption(variableManager, candidate));
         Function<String, Status> specializedHandler = newValue -> {
             return selectDescription.getNewValueHandler().apply(variableManager, newValue);
         };
@@ -80,9 +85,33 @@ public class SelectComponent implements IComponent {
                 .options(options)
                 .value(value)
                 .newValueHandler(specializedHandler)
+                .optionsCount(optionsCount)
+                .lazyOptions(lazyOptions)
+                .optionsSearchHandler(optionsSearchHandler)
                 .children(children)
                 .build();
         return new Element(SelectElementProps.TYPE, selectElementProps);
         // @formatter:on
     }
+
+    private String getOptionLabel(VariableManager variableManager, Object candidate) {
+        VariableManager optionVariableManager = variableManager.createChild();
+        optionVariableManager.put(CANDIDATE_VARIABLE, candidate);
+        return this.props.getSelectDescription().getOptionLabelProvider().apply(optionVariableManager);
+    }
+
+    private SelectOption createOption(VariableManager variableManager, Object candidate) {
+        SelectDescription description = this.props.getSelectDescription();
+        VariableManager optionVariableManager = variableManager.createChild();
+        optionVariableManager.put(CANDIDATE_VARIABLE, candidate);
+
+        String optionId = description.getOptionIdProvider().apply(optionVariableManager);
+        String optionLabel = description.getOptionLabelProvider().apply(optionVariableManager);
+
+        // @formatter:off
+        return SelectOption.newSelectOption(optionId)
+                .label(optionLabel)
+                .build();
+        // @formatter:on
+    }
 }
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms.components;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.sirius.web.forms.ISelectOptionsSearchHandler;
+import org.eclipse.sirius.web.forms.SelectOption;
+
+/**
+ * Finds the options of a select widget whose label contains a given text.
+ *
+ * <p>
+ * The candidates are only computed when a search is performed and the options are only created for the candidates of
+ * the requested page. When a filter is given, the label of the candidates is computed until the page is filled.
+ * </p>
+ *
+ * @author agent
+ */
+public class SelectOptionsSearchHandler implements ISelectOptionsSearchHandler {
+
+    private final Supplier<List<Object>> candidatesProvider;
+
+    private final Function<Object, String> labelProvider;
+
+    private final Function<Object, SelectOption> optionProvider;
+
+    public SelectOptionsSearchHandler(Supplier<List<Object>> candidatesProvider, Function<Object, String> labelProvider, Function<Object, SelectOption> optionProvider) {
+        this.candidatesProvider = Objects.requireNonNull(candidatesProvider);
+        this.labelProvider = Objects.requireNonNull(labelProvider);
+        this.optionProvider = Objects.requireNonNull(optionProvider);
+    }
+
+    @Override
+    public List<SelectOption> search(String filter, int offset, int limit) {
+        Stream<Object> candidates = this.candidatesProvider.get().stream();
+        if (filter != null && !filter.isBlank()) {
+            String lowerCaseFilter = filter.toLowerCase(Locale.ROOT);
+            candidates = candidates.filter(candidate -> this.labelProvider.apply(candidate).toLowerCase(Locale.ROOT).contains(lowerCaseFilter));
+        }
+
+        // @formatter:off
+        return candidates.skip(offset)
+                .limit(limit)
+                .map(this.optionProvider)
+                .collect(Collectors.toList());
+        // @formatter:on
+    }
+
+}
@@ -45,6 +45,12 @@ public final class MultiSelectDescription extends AbstractWidgetDescription {
 
     private BiFunction<VariableManager, List<String>, Status> newValuesHandler;
 
+    private Function<VariableManager, List<Object>> selectedOptionsProvider;
+
+    private Function<VariableManager, Integer> optionsCountProvider;
+
+    private int lazyOptionsThreshold;
+
     private MultiSelectDescription() {
         // Prevent instantiation
     }
@@ -77,6 +83,18 @@ public final class MultiSelectDescription extends AbstractWidgetDescription {
         return this.newValuesHandler;
     }
 
+    public Function<VariableManager, List<Object>> getSelectedOptionsProvider() {
+        return this.selectedOptionsProvider;
+    }
+
+    public Function<VariableManager, Integer> getOptionsCountProvider() {
+        return this.optionsCountProvider;
+    }
+
+    public int getLazyOptionsThreshold() {
+        return this.lazyOptionsThreshold;
+    }
+
     public static Builder newMultiSelectDescription(String id) {
         return new Builder(id);
     }
@@ -111,6 +129,12 @@ public final class MultiSelectDescription extends AbstractWidgetDescription {
 
         private BiFunction<VariableManager, List<String>, Status> newValuesHandler;
 
+        private Function<VariableManager, List<Object>> selectedOptionsProvider = variableManager -> List.of();
+
+        private Function<VariableManager, Integer> optionsCountProvider = variableManager -> 0;
+
+        private int lazyOptionsThreshold = Integer.MAX_VALUE;
+
         private Function<VariableManager, List<Object>> diagnosticsProvider;
 
         private Function<Object, String> kindProvider;
@@ -156,6 +180,33 @@ public final class MultiSelectDescription extends AbstractWidgetDescription {
             return this;
         }
 
+        /**
+         * Sets the provider of the candidates currently selected, which are the only options rendered when there are
+         * more candidates than the lazy options threshold.
+         */
+        public Builder selectedOptionsProvider(Function<VariableManager, List<Object>> selectedOptionsProvider) {
+            this.selectedOptionsProvider = Objects.requireNonNull(selectedOptionsProvider);
+            return this;
+        }
+
+        /**
+         * Sets the provider of the number of candidates, used to know if the options should be retrieved on demand
+         * without computing the candidates during the rendering.
+         */
+        public Builder optionsCountProvider(Function<VariableManager, Integer> optionsCountProvider) {
+            this.optionsCountProvider = Objects.requireNonNull(optionsCountProvider);
+            return this;
+        }
+
+        /**
+         * Sets the number of candidates, as given by the options count provider, above which only the selected options
+         * are rendered, the other ones being retrieved on demand.
+         */
+        public Builder lazyOptionsThreshold(int lazyOptionsThreshold) {
+            this.lazyOptionsThreshold = lazyOptionsThreshold;
+            return this;
+        }
+
         public Builder diagnosticsProvider(Function<VariableManager, List<Object>> diagnosticsProvider) {
             this.diagnosticsProvider = Objects.requireNonNull(diagnosticsProvider);
             return this;
@@ -181,6 +232,9 @@ public final class MultiSelectDescription extends AbstractWidgetDescription {
             multiSelectDescription.optionLabelProvider = Objects.requireNonNull(this.optionLabelProvider);
             multiSelectDescription.valuesProvider = Objects.requireNonNull(this.valuesProvider);
             multiSelectDescription.newValuesHandler = Objects.requireNonNull(this.newValuesHandler);
+            multiSelectDescription.selectedOptionsProvider = Objects.requireNonNull(this.selectedOptionsProvider);
+            multiSelectDescription.optionsCountProvider = Objects.requireNonNull(this.optionsCountProvider);
+            multiSelectDescription.lazyOptionsThreshold = this.lazyOptionsThreshold;
             multiSelectDescription.diagnosticsProvider = Objects.requireNonNull(this.diagnosticsProvider);
             multiSelectDescription.kindProvider = Objects.requireNonNull(this.kindProvider);
             multiSelectDescription.messageProvider = Objects.requireNonNull(this.messageProvider);
@@ -44,6 +44,12 @@ public final class SelectDescription extends AbstractWidgetDescription {
 
     private BiFunction<VariableManager, String, Status> newValueHandler;
 
+    private Function<VariableManager, List<Object>> selectedOptionsProvider;
+
+    private Function<VariableManager, Integer> optionsCountProvider;
+
+    private int lazyOptionsThreshold;
+
     private SelectDescription() {
         // Prevent instantiation
     }
@@ -76,6 +82,18 @@ public final class SelectDescription extends AbstractWidgetDescription {
         return this.newValueHandler;
     }
 
+    public Function<VariableManager, List<Object>> getSelectedOptionsProvider() {
+        return this.selectedOptionsProvider;
+    }
+
+    public Function<VariableManager, Integer> getOptionsCountProvider() {
+        return this.optionsCountProvider;
+    }
+
+    public int getLazyOptionsThreshold() {
+        return this.lazyOptionsThreshold;
+    }
+
     public static Builder newSelectDescription(String id) {
         return new Builder(id);
     }
@@ -109,6 +127,12 @@ public final class SelectDescription extends AbstractWidgetDescription {
 
         private BiFunction<VariableManager, String, Status> newValueHandler;
 
+        private Function<VariableManager, List<Object>> selectedOptionsProvider = variableManager -> List.of();
+
+        private Function<VariableManager, Integer> optionsCountProvider = variableManager -> 0;
+
+        private int lazyOptionsThreshold = Integer.MAX_VALUE;
+
         private Function<VariableManager, List<Object>> diagnosticsProvider;
 
         private Function<Object, String> kindProvider;
@@ -154,6 +178,33 @@ public final class SelectDescription extends AbstractWidgetDescription {
             return this;
         }
 
+        /**
+         * Sets the provider of the candidates currently selected, which are the only options rendered when there are
+         * more candidates than the lazy options threshold.
+         */
+        public Builder selectedOptionsProvider(Function<VariableManager, List<Object>> selectedOptionsProvider) {
+            this.selectedOptionsProvider = Objects.requireNonNull(selectedOptionsProvider);
+            return this;
+        }
+
+        /**
+         * Sets the provider of the number of candidates, used to know if the options should be retrieved on demand
+         * without computing the candidates during the rendering.
+         */
+        public Builder optionsCountProvider(Function<VariableManager, Integer> optionsCountProvider) {
+            this.optionsCountProvider = Objects.requireNonNull(optionsCountProvider);
+            return this;
+        }
+
+        /**
+         * Sets the number of candidates, as given by the options count provider, above which only the selected options
+         * are rendered, the other ones being retrieved on demand.
+         */
+        public Builder lazyOptionsThreshold(int lazyOptionsThreshold) {
+            this.lazyOptionsThreshold = lazyOptionsThreshold;
+            return this;
+        }
+
         public Builder diagnosticsProvider(Function<VariableManager, List<Object>> diagnosticsProvider) {
             this.diagnosticsProvider = Objects.requireNonNull(diagnosticsProvider);
             return this;
@@ -179,6 +230,9 @@ public final class SelectDescription extends AbstractWidgetDescription {
             selectDescription.optionLabelProvider = Objects.requireNonNull(this.optionLabelProvider);
             selectDescription.valueProvider = Objects.requireNonNull(this.valueProvider);
             selectDescription.newValueHandler = Objects.requireNonNull(this.newValueHandler);
+            selectDescription.selectedOptionsProvider = Objects.requireNonNull(this.selectedOptionsProvider);
+            selectDescription.optionsCountProvider = Objects.requireNonNull(this.optionsCountProvider);
+            selectDescription.lazyOptionsThreshold = this.lazyOptionsThreshold;
             selectDescription.diagnosticsProvider = Objects.requireNonNull(this.diagnosticsProvider);
             selectDescription.kindProvider = Objects.requireNonNull(this.kindProvider);
             selectDescription.messageProvider = Objects.requireNonNull(this.messageProvider);
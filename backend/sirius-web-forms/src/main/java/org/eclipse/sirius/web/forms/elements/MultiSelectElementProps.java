@@ -20,6 +20,7 @@ import java.util.function.Function;
 import org.eclipse.sirius.web.annotations.Immutable;
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.components.IProps;
+import org.eclipse.sirius.web.forms.ISelectOptionsSearchHandler;
 import org.eclipse.sirius.web.forms.SelectOption;
 import org.eclipse.sirius.web.representations.Status;
 
@@ -43,6 +44,12 @@ public final class MultiSelectElementProps implements IProps {
 
     private Function<List<String>, Status> newValuesHandler;
 
+    private int optionsCount;
+
+    private boolean lazyOptions;
+
+    private ISelectOptionsSearchHandler optionsSearchHandler;
+
     private List<Element> children;
 
     private MultiSelectElementProps() {
@@ -69,6 +76,18 @@ public final class MultiSelectElementProps implements IProps {
         return this.newValuesHandler;
     }
 
+    public int getOptionsCount() {
+        return this.optionsCount;
+    }
+
+    public boolean isLazyOptions() {
+        return this.lazyOptions;
+    }
+
+    public ISelectOptionsSearchHandler getOptionsSearchHandler() {
+        return this.optionsSearchHandler;
+    }
+
     @Override
     public List<Element> getChildren() {
         return this.children;
@@ -102,6 +121,12 @@ public final class MultiSelectElementProps implements IProps {
 
         private Function<List<String>, Status> newValuesHandler;
 
+        private int optionsCount;
+
+        private boolean lazyOptions;
+
+        private ISelectOptionsSearchHandler optionsSearchHandler;
+
         private List<Element> children;
 
         private Builder(String id) {
@@ -128,6 +153,21 @@ public final class MultiSelectElementProps implements IProps {
             return this;
         }
 
+        public Builder optionsCount(int optionsCount) {
+            this.optionsCount = optionsCount;
+            return this;
+        }
+
+        public Builder lazyOptions(boolean lazyOptions) {
+            this.lazyOptions = lazyOptions;
+            return this;
+        }
+
+        public Builder optionsSearchHandler(ISelectOptionsSearchHandler optionsSearchHandler) {
+            this.optionsSearchHandler = Objects.requireNonNull(optionsSearchHandler);
+            return this;
+        }
+
         public Builder children(List<Element> children) {
             this.children = Objects.requireNonNull(children);
             return this;
@@ -140,6 +180,9 @@ public final class MultiSelectElementProps implements IProps {
             multiSelectElementProps.options = Objects.requireNonNull(this.options);
             multiSelectElementProps.values = List.copyOf(this.values);
             multiSelectElementProps.newValuesHandler = Objects.requireNonNull(this.newValuesHandler);
+            multiSelectElementProps.optionsCount = this.optionsCount;
+            multiSelectElementProps.lazyOptions = this.lazyOptions;
+            multiSelectElementProps.optionsSearchHandler = Objects.requireNonNull(this.optionsSearchHandler);
             multiSelectElementProps.children = Objects.requireNonNull(this.children);
             return multiSelectElementProps;
         }
@@ -20,6 +20,7 @@ import java.util.function.Function;
 import org.eclipse.sirius.web.annotations.Immutable;
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.components.IProps;
+import org.eclipse.sirius.web.forms.ISelectOptionsSearchHandler;
 import org.eclipse.sirius.web.forms.SelectOption;
 import org.eclipse.sirius.web.representations.Status;
 
@@ -42,6 +43,12 @@ public final class SelectElementProps implements IProps {
 
     private Function<String, Status> newValueHandler;
 
+    private int optionsCount;
+
+    private boolean lazyOptions;
+
+    private ISelectOptionsSearchHandler optionsSearchHandler;
+
     private List<Element> children;
 
     private SelectElementProps() {
@@ -68,6 +75,18 @@ public final class SelectElementProps implements IProps {
         return this.newValueHandler;
     }
 
+    public int getOptionsCount() {
+        return this.optionsCount;
+    }
+
+    public boolean isLazyOptions() {
+        return this.lazyOptions;
+    }
+
+    public ISelectOptionsSearchHandler getOptionsSearchHandler() {
+        return this.optionsSearchHandler;
+    }
+
     @Override
     public List<Element> getChildren() {
         return this.children;
@@ -101,6 +120,12 @@ public final class SelectElementProps implements IProps {
 
         private Function<String, Status> newValueHandler;
 
+        private int optionsCount;
+
+        private boolean lazyOptions;
+
+        private ISelectOptionsSearchHandler optionsSearchHandler;
+
         private List<Element> children;
 
         private Builder(String id) {
@@ -127,6 +152,21 @@ public final class SelectElementProps implements IProps {
             return this;
         }
 
+        public Builder optionsCount(int optionsCount) {
+            this.optionsCount = optionsCount;
+            return this;
+        }
+
+        public Builder lazyOptions(boolean lazyOptions) {
+            this.lazyOptions = lazyOptions;
+            return this;
+        }
+
+        public Builder optionsSearchHandler(ISelectOptionsSearchHandler optionsSearchHandler) {
+            this.optionsSearchHandler = Objects.requireNonNull(optionsSearchHandler);
+            return this;
+        }
+
         public Builder children(List<Element> children) {
             this.children = Objects.requireNonNull(children);
             return this;
@@ -139,6 +179,9 @@ public final class SelectElementProps implements IProps {
             selectElementProps.options = Objects.requireNonNull(this.options);
             selectElementProps.value = this.value;
             selectElementProps.newValueHandler = Objects.requireNonNull(this.newValueHandler);
+            selectElementProps.optionsCount = this.optionsCount;
+            selectElementProps.lazyOptions = this.lazyOptions;
+            selectElementProps.optionsSearchHandler = Objects.requireNonNull(this.optionsSearchHandler);
             selectElementProps.children = Objects.requireNonNull(this.children);
             return selectElementProps;
         }
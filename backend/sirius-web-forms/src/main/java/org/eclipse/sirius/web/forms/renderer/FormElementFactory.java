@@ -167,6 +167,9 @@ public class FormElementFactory implements IElementFactory {
                 .options(props.getOptions())
                 .value(props.getValue())
                 .newValueHandler(props.getNewValueHandler())
+                .optionsCount(props.getOptionsCount())
+                .lazyOptions(props.isLazyOptions())
+                .optionsSearchHandler(props.getOptionsSearchHandler())
                 .diagnostics(diagnostics)
                 .build();
         // @formatter:on
@@ -181,6 +184,9 @@ public class FormElementFactory implements IElementFactory {
                 .options(props.getOptions())
                 .values(props.getValues())
                 .newValuesHandler(props.getNewValuesHandler())
+                .optionsCount(props.getOptionsCount())
+                .lazyOptions(props.isLazyOptions())
+                .optionsSearchHandler(props.getOptionsSearchHandler())
                 .diagnostics(diagnostics)
                 .build();
         // @formatter:on
@@ -18,9 +18,11 @@ import com.google.common.cache.LoadingCache;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.function.LongConsumer;
 
 import org.eclipse.acceleo.query.runtime.EvaluationResult;
 import org.eclipse.acceleo.query.runtime.IQueryBuilderEngine;
@@ -64,6 +66,11 @@ public class AQLInterpreter {
      */
     private IQueryEnvironment queryEnvironment;
 
+    /**
+     * Receives the time spent parsing each expression, in nanoseconds.
+     */
+    private final LongConsumer parsingTimeRecorder;
+
     /**
      * The constructor.
      *
@@ -74,6 +81,23 @@ public class AQLInterpreter {
      *            to classes, such as <semanticMM>::<AClass>, can be interpreted.
      */
     public AQLInterpreter(List<Class<?>> classes, List<EPackage> ePackages) {
+        this(classes, ePackages, parsingTime -> {
+            // Parsing time not recorded
+        });
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param classes
+     *            classes for java service that can called by AQLInterpreter
+     * @param ePackages
+     *            Additional meta-models
+     * @param parsingTimeRecorder
+     *            Receives the time spent parsing each expression which was not already in the cache, in nanoseconds
+     */
+    public AQLInterpreter(List<Class<?>> classes, List<EPackage> ePackages, LongConsumer parsingTimeRecorder) {
+        this.parsingTimeRecorder = Objects.requireNonNull(parsingTimeRecorder);
         this.queryEnvironment = Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider());
         this.queryEnvironment.registerEPackage(EcorePackage.eINSTANCE);
         this.queryEnvironment.registerCustomClassMapping(EcorePackage.eINSTANCE.getEStringToStringMapEntry(), EStringToStringMapEntryImpl.class);
@@ -102,7 +126,10 @@ public class AQLInterpreter {
         this.parsedExpressions = CacheBuilder.newBuilder().maximumSize(maxCacheSize).build(new CacheLoader<String, AstResult>() {
             @Override
             public AstResult load(String key) throws Exception {
-                return builder.build(key);
+                long start = System.nanoTime();
+                AstResult astResult = builder.build(key);
+                AQLInterpreter.this.parsingTimeRecorder.accept(System.nanoTime() - start);
+                return astResult;
             }
 
         });
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.interpreter;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EPackage;
+
+/**
+ * Keeps the AQL interpreters of the editing contexts for their Java services and their meta-models.
+ *
+ * <p>
+ * The creation of an interpreter is costly since the query environment has to be set up, the Java services have to be
+ * found by reflection and the expressions have to be parsed again. The interpreter of an editing context is thus kept
+ * as long as it is used with the exact same service classes and EPackages, the EPackages being compared by identity.
+ * When the EPackages of an editing context change, its interpreters created for its previous EPackages are evicted.
+ * </p>
+ *
+ * <p>
+ * The query environment of AQL is not thread-safe, its lookup engine and its EPackage provider fill their caches
+ * while expressions are parsed and evaluated. An interpreter is thus never shared between editing contexts. The work
+ * of an editing context is performed one task at a time by its mailbox, so its interpreter is only used by one thread
+ * at a time, whichever worker runs the task.
+ * </p>
+ *
+ * @author agent
+ */
+public class AQLInterpreterCache {
+
+    private final Cache<InterpreterKey, AQLInterpreter> interpreters;
+
+    private final Map<UUID, Set<InterpreterKey>> editingContextKeys = new ConcurrentHashMap<>();
+
+    private final LongAdder parsingCount = new LongAdder();
+
+    private final LongAdder parsingTime = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param maximumSize
+     *            The maximum number of interpreters kept
+     */
+    public AQLInterpreterCache(long maximumSize) {
+        this.interpreters = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    /**
+     * Returns the interpreter of the given editing context for the given Java services and meta-models, which is
+     * created if needed, and evicts the interpreters of its previous meta-models if they have changed.
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     * @param classes
+     *            The classes of the Java services
+     * @param ePackages
+     *            The meta-models of the editing context
+     * @return The interpreter
+     */
+    public AQLInterpreter getInterpreter(UUID editingContextId, List<Class<?>> classes, List<EPackage> ePackages) {
+        InterpreterKey key = new InterpreterKey(editingContextId, classes, ePackages);
+        Set<InterpreterKey> keys = this.editingContextKeys.computeIfAbsent(editingContextId, id -> ConcurrentHashMap.newKeySet());
+        if (keys.add(key)) {
+            List<InterpreterKey> previousKeys = keys.stream().filter(previousKey -> !previousKey.hasSameEPackages(key)).collect(Collectors.toList());
+            keys.removeAll(previousKeys);
+            this.interpreters.invalidateAll(previousKeys);
+        }
+
+        AQLInterpreter interpreter = this.interpreters.getIfPresent(key);
+        if (interpreter == null) {
+            interpreter = new AQLInterpreter(key.getClasses(), key.getEPackages(), this::recordParsing);
+            this.interpreters.put(key, interpreter);
+        }
+        return interpreter;
+    }
+
+    private void recordParsing(long nanoseconds) {
+        this.parsingCount.increment();
+        this.parsingTime.add(nanoseconds);
+    }
+
+    /**
+     * Evicts the interpreters of the given editing context.
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     */
+    public void invalidate(UUID editingContextId) {
+        Set<InterpreterKey> previousKeys = this.editingContextKeys.remove(editingContextId);
+        if (previousKeys != null) {
+            this.interpreters.invalidateAll(previousKeys);
+        }
+    }
+
+    public long getHitCount() {
+        return this.interpreters.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return this.interpreters.stats().missCount();
+    }
+
+    public long getSize() {
+        return this.interpreters.size();
+    }
+
+    public long getParsingCount() {
+        return this.parsingCount.sum();
+    }
+
+    public double getParsingTime(TimeUnit timeUnit) {
+        return (double) this.parsingTime.sum() / TimeUnit.NANOSECONDS.convert(1, timeUnit);
+    }
+
+    /**
+     * The editing context, the service classes and the meta-models used to create an interpreter.
+     *
+     * @author agent
+     */
+    private static final class InterpreterKey {
+
+        private final UUID editingContextId;
+
+        private final List<Class<?>> classes;
+
+        /**
+         * Compared by identity since EPackage does not override equals.
+         */
+        private final List<EPackage> ePackages;
+
+        InterpreterKey(UUID editingContextId, List<Class<?>> classes, List<EPackage> ePackages) {
+            this.editingContextId = Objects.requireNonNull(editingContextId);
+            this.classes = Collections.unmodifiableList(new ArrayList<>(Objects.requireNonNull(classes)));
+            this.ePackages = Collections.unmodifiableList(new ArrayList<>(Objects.requireNonNull(ePackages)));
+        }
+
+        /**
+         * Indicates if both keys are made of the same meta-models.
+         *
+         * @param key
+         *            Another key
+         * @return <code>true</code> if both keys have the same meta-models, <code>false</code> otherwise
+         */
+        public boolean hasSameEPackages(InterpreterKey key) {
+            return this.ePackages.equals(key.ePackages);
+        }
+
+        public List<Class<?>> getClasses() {
+            return this.classes;
+        }
+
+        public List<EPackage> getEPackages() {
+            return this.ePackages;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            boolean isEqual = this == object;
+            if (object instanceof InterpreterKey) {
+                InterpreterKey key = (InterpreterKey) object;
+                isEqual = this.editingContextId.equals(key.editingContextId) && this.classes.equals(key.classes) && this.ePackages.equals(key.ePackages);
+            }
+            return isEqual;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.editingContextId, this.classes, this.ePackages);
+        }
+
+    }
+
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.interpreter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.InternalEList;
+
+/**
+ * Index of the inverse references of the objects of a resource set, used instead of an
+ * {@link org.eclipse.emf.ecore.util.ECrossReferenceAdapter} to evaluate eInverse().
+ *
+ * <p>
+ * The index is built when it is attached and then kept up to date by the notifications of the objects. For each
+ * referenced object, it only stores two arrays containing the referencing objects and their references, the settings
+ * are created when they are requested. The proxies are not resolved.
+ * </p>
+ *
+ * @author agent
+ */
+public class InverseReferenceIndex extends EContentAdapter {
+
+    private final Map<EObject, InverseReferences> inverseReferences = new IdentityHashMap<>();
+
+    /**
+     * Returns the settings of the non-containment references pointing to the given object.
+     *
+     * @param eObject
+     *            The referenced object
+     * @return The settings, each referencing object and reference appearing only once
+     */
+    public synchronized Collection<Setting> getInverseReferences(EObject eObject) {
+        InverseReferences references = this.inverseReferences.get(eObject);
+        if (references == null) {
+            return Collections.emptyList();
+        }
+        return references.getSettings();
+    }
+
+    public synchronized int size() {
+        return this.inverseReferences.values().stream().mapToInt(references -> references.size).sum();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        Object notifier = notification.getNotifier();
+        Object feature = notification.getFeature();
+        if (notifier instanceof EObject && feature instanceof EReference && this.isIndexed((EReference) feature) && !notification.isTouch()) {
+            EObject source = (EObject) notifier;
+            EReference eReference = (EReference) feature;
+            switch (notification.getEventType()) {
+            case Notification.SET:
+            case Notification.UNSET:
+            case Notification.RESOLVE:
+                this.remove(source, eReference, notification.getOldValue());
+                this.add(source, eReference, notification.getNewValue());
+                break;
+            case Notification.ADD:
+            case Notification.ADD_MANY:
+                this.add(source, eReference, notification.getNewValue());
+                break;
+            case Notification.REMOVE:
+            case Notification.REMOVE_MANY:
+                this.remove(source, eReference, notification.getOldValue());
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        super.setTarget(target);
+        this.forEachReferencedObject(target, this::add);
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.forEachReferencedObject(target, this::remove);
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == InverseReferenceIndex.class;
+    }
+
+    private void forEachReferencedObject(EObject source, ReferenceConsumer consumer) {
+        for (EReference eReference : source.eClass().getEAllReferences()) {
+            if (this.isIndexed(eReference) && source.eIsSet(eReference)) {
+                consumer.accept(source, eReference, source.eGet(eReference, false));
+            }
+        }
+    }
+
+    private boolean isIndexed(EReference eReference) {
+        return !eReference.isContainment() && !eReference.isContainer() && !eReference.isDerived();
+    }
+
+    private synchronized void add(EObject source, EReference eReference, Object value) {
+        if (value instanceof EObject) {
+            this.inverseReferences.computeIfAbsent((EObject) value, target -> new InverseReferences()).add(source, eReference);
+        } else if (value instanceof InternalEList<?>) {
+            ((InternalEList<?>) value).basicIterator().forEachRemaining(element -> this.add(source, eReference, element));
+        } else if (value instanceof Collection<?>) {
+            ((Collection<?>) value).forEach(element -> this.add(source, eReference, element));
+        }
+    }
+
+    private synchronized void remove(EObject source, EReference eReference, Object value) {
+        if (value instanceof EObject) {
+            InverseReferences references = this.inverseReferences.get(value);
+            if (references != null) {
+                references.remove(source, eReference);
+                if (references.size == 0) {
+                    this.inverseReferences.remove(value);
+                }
+            }
+        } else if (value instanceof InternalEList<?>) {
+            ((InternalEList<?>) value).basicIterator().forEachRemaining(element -> this.remove(source, eReference, element));
+        } else if (value instanceof Collection<?>) {
+            ((Collection<?>) value).forEach(element -> this.remove(source, eReference, element));
+        }
+    }
+
+    /**
+     * Receives a referencing object, one of its references and its value.
+     *
+     * @author agent
+     */
+    @FunctionalInterface
+    private interface ReferenceConsumer {
+        void accept(EObject source, EReference eReference, Object value);
+    }
+
+    /**
+     * The objects referencing a given object, with the reference used, stored in two parallel arrays.
+     *
+     * @author agent
+     */
+    private static final class InverseReferences {
+
+        private EObject[] sources = new EObject[1];
+
+        private EReference[] eReferences = new EReference[1];
+
+        private int size;
+
+        void add(EObject source, EReference eReference) {
+            if (this.size == this.sources.length) {
+                int capacity = this.size * 2;
+                this.sources = Arrays.copyOf(this.sources, capacity);
+                this.eReferences = Arrays.copyOf(this.eReferences, capacity);
+            }
+            this.sources[this.size] = source;
+            this.eReferences[this.size] = eReference;
+            this.size++;
+        }
+
+        void remove(EObject source, EReference eReference) {
+            int index = 0;
+            while (index < this.size && (this.sources[index] != source || this.eReferences[index] != eReference)) {
+                index++;
+            }
+            if (index < this.size) {
+                this.size--;
+                System.arraycopy(this.sources, index + 1, this.sources, index, this.size - index);
+                System.arraycopy(this.eReferences, index + 1, this.eReferences, index, this.size - index);
+                this.sources[this.size] = null;
+                this.eReferences[this.size] = null;
+            }
+        }
+
+        List<Setting> getSettings() {
+            List<Setting> settings = new ArrayList<>(this.size);
+            Map<EObject, Set<EReference>> visitedReferences = new IdentityHashMap<>(this.size);
+            for (int i = 0; i < this.size; i++) {
+                EObject source = this.sources[i];
+                EReference eReference = this.eReferences[i];
+                if (visitedReferences.computeIfAbsent(source, key -> new HashSet<>(1)).add(eReference)) {
+                    settings.add(((InternalEObject) source).eSetting(eReference));
+                }
+            }
+            return settings;
+        }
+    }
+}
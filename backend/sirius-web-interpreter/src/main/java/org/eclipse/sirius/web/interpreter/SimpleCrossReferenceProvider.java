@@ -14,22 +14,34 @@ package org.eclipse.sirius.web.interpreter;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.eclipse.acceleo.query.runtime.CrossReferenceProvider;
+import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 
 /**
- * {@link CrossReferenceProvider} implementation which simply looks for an existing {@link ECrossReferenceAdapter}
- * already attached to the source {@link EObject}. Returns an empty set of references without any error if no
- * {@link ECrossReferenceAdapter} is found.
+ * {@link CrossReferenceProvider} implementation which uses an existing {@link ECrossReferenceAdapter} already attached
+ * to the source {@link EObject}.
+ *
+ * <p>
+ * If no {@link ECrossReferenceAdapter} is found and the source {@link EObject} belongs to a resource set, such as the
+ * one of an editing context, an {@link InverseReferenceIndex} is attached to this resource set the first time inverse
+ * references are requested and it is then reused by all the following evaluations. It is discarded with the resource
+ * set. Returns an empty set of references without any error otherwise.
+ * </p>
  *
  * @author pcdavid
  */
 public class SimpleCrossReferenceProvider implements CrossReferenceProvider {
     @Override
     public Collection<Setting> getInverseReferences(EObject self) {
+        Collection<Setting> inverseReferences = Collections.emptySet();
         if (self != null) {
             // @formatter:off
             var xref = self.eAdapters().stream()
@@ -38,9 +50,29 @@ public class SimpleCrossReferenceProvider implements CrossReferenceProvider {
                            .findFirst();
             // @formatter:on
             if (xref.isPresent()) {
-                return xref.get().getInverseReferences(self);
+                inverseReferences = xref.get().getInverseReferences(self);
+            } else {
+                // @formatter:off
+                inverseReferences = Optional.ofNullable(self.eResource())
+                        .map(Resource::getResourceSet)
+                        .map(this::getInverseReferenceIndex)
+                        .map(inverseReferenceIndex -> inverseReferenceIndex.getInverseReferences(self))
+                        .orElse(inverseReferences);
+                // @formatter:on
+            }
+        }
+        return inverseReferences;
+    }
+
+    private InverseReferenceIndex getInverseReferenceIndex(ResourceSet resourceSet) {
+        synchronized (resourceSet) {
+            Adapter adapter = EcoreUtil.getExistingAdapter(resourceSet, InverseReferenceIndex.class);
+            if (adapter instanceof InverseReferenceIndex) {
+                return (InverseReferenceIndex) adapter;
             }
+            InverseReferenceIndex inverseReferenceIndex = new InverseReferenceIndex();
+            resourceSet.eAdapters().add(inverseReferenceIndex);
+            return inverseReferenceIndex;
         }
-        return Collections.emptySet();
     }
 }
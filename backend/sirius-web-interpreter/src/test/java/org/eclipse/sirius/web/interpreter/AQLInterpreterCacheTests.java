@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.interpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test that the AQL interpreters of an editing context are shared by the cache until its meta-models change.
+ *
+ * @author agent
+ */
+public class AQLInterpreterCacheTests {
+
+    private static final String SELF = "self"; //$NON-NLS-1$
+
+    @Test
+    public void testInterpretersAreSharedWithinAnEditingContext() {
+        UUID editingContextId = UUID.randomUUID();
+        AQLInterpreterCache cache = new AQLInterpreterCache(10);
+        AQLInterpreter interpreter = cache.getInterpreter(editingContextId, List.of(), List.of(EcorePackage.eINSTANCE));
+        assertThat(cache.getInterpreter(editingContextId, List.of(), List.of(EcorePackage.eINSTANCE))).isSameAs(interpreter);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), "aql:self.name"); //$NON-NLS-1$
+        interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), "aql:self.name"); //$NON-NLS-1$
+        assertThat(cache.getParsingCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInterpretersAreNotSharedBetweenEditingContexts() {
+        AQLInterpreterCache cache = new AQLInterpreterCache(10);
+        AQLInterpreter interpreter = cache.getInterpreter(UUID.randomUUID(), List.of(), List.of(EcorePackage.eINSTANCE));
+        assertThat(cache.getInterpreter(UUID.randomUUID(), List.of(), List.of(EcorePackage.eINSTANCE))).isNotSameAs(interpreter);
+        assertThat(cache.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInterpreterIsEvictedWhenTheEPackagesOfTheEditingContextChange() {
+        UUID editingContextId = UUID.randomUUID();
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample"); //$NON-NLS-1$
+        ePackage.setNsURI("sample"); //$NON-NLS-1$
+
+        AQLInterpreterCache cache = new AQLInterpreterCache(10);
+        AQLInterpreter interpreter = cache.getInterpreter(editingContextId, List.of(), List.of(ePackage));
+        assertThat(cache.getInterpreter(editingContextId, List.of(), List.of(ePackage))).isSameAs(interpreter);
+
+        EPackage newEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        newEPackage.setName("sample"); //$NON-NLS-1$
+        newEPackage.setNsURI("sample"); //$NON-NLS-1$
+        assertThat(cache.getInterpreter(editingContextId, List.of(), List.of(newEPackage))).isNotSameAs(interpreter);
+        assertThat(cache.getSize()).isEqualTo(1);
+
+        cache.invalidate(editingContextId);
+        assertThat(cache.getSize()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.interpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the index of the inverse references.
+ *
+ * @author agent
+ */
+public class InverseReferenceIndexTests {
+
+    @Test
+    public void testInverseReferencesFollowTheModifications() {
+        EClass node = EcoreFactory.eINSTANCE.createEClass();
+        node.setName("Node"); //$NON-NLS-1$
+        EReference children = EcoreFactory.eINSTANCE.createEReference();
+        children.setName("children"); //$NON-NLS-1$
+        children.setEType(node);
+        children.setContainment(true);
+        children.setUpperBound(-1);
+        EReference next = EcoreFactory.eINSTANCE.createEReference();
+        next.setName("next"); //$NON-NLS-1$
+        next.setEType(node);
+        next.setUpperBound(-1);
+        node.getEStructuralFeatures().add(children);
+        node.getEStructuralFeatures().add(next);
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.getEClassifiers().add(node);
+
+        EObject root = EcoreUtil.create(node);
+        EObject first = EcoreUtil.create(node);
+        EObject second = EcoreUtil.create(node);
+        root.eSet(children, List.of(first, second));
+        first.eSet(next, List.of(second));
+
+        Resource resource = new XMIResourceImpl();
+        resource.getContents().add(root);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        SimpleCrossReferenceProvider crossReferenceProvider = new SimpleCrossReferenceProvider();
+        assertThat(this.getSources(crossReferenceProvider.getInverseReferences(second))).containsExactly(first);
+        assertThat(crossReferenceProvider.getInverseReferences(first)).isEmpty();
+
+        root.eSet(next, List.of(second));
+        second.eSet(next, List.of(first));
+        assertThat(this.getSources(crossReferenceProvider.getInverseReferences(second))).containsExactlyInAnyOrder(first, root);
+        assertThat(this.getSources(crossReferenceProvider.getInverseReferences(first))).containsExactly(second);
+
+        EcoreUtil.remove(first);
+        assertThat(this.getSources(crossReferenceProvider.getInverseReferences(second))).containsExactly(root);
+
+        resourceSet.getResources().remove(resource);
+        assertThat(crossReferenceProvider.getInverseReferences(second)).isEmpty();
+        InverseReferenceIndex inverseReferenceIndex = (InverseReferenceIndex) EcoreUtil.getExistingAdapter(resourceSet, InverseReferenceIndex.class);
+        assertThat(inverseReferenceIndex.size()).isZero();
+    }
+
+    private List<EObject> getSources(Collection<Setting> settings) {
+        return settings.stream().map(Setting::getEObject).collect(Collectors.toList());
+    }
+}
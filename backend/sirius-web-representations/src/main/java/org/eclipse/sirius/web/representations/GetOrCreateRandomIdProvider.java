@@ -29,7 +29,7 @@ public class GetOrCreateRandomIdProvider implements Function<VariableManager, UU
     @Override
     public UUID apply(VariableManager variableManager) {
         // @formatter:off
-        return Optional.ofNullable(variableManager.getVariables().get(PREVIOUS_REPRESENTATION_ID))
+        return Optional.ofNullable(variableManager.getVariableScope().get(PREVIOUS_REPRESENTATION_ID))
                 .filter(UUID.class::isInstance)
                 .map(UUID.class::cast)
                 .orElseGet(UUID::randomUUID);
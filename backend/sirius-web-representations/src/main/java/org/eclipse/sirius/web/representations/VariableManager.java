@@ -66,6 +66,22 @@ public class VariableManager {
         return new HashMap<>(this.variables);
     }
 
+    /**
+     * Returns a view of the variables visible from this variable manager, including the ones of its parents.
+     *
+     * <p>
+     * Contrary to {@link #getVariables()}, the variables are not copied: the lookups go through the chain of variable
+     * managers. The view should thus be used right away, to evaluate an expression for example. It can be modified
+     * safely since its first modification copies the variables visible in a private map, leaving the variable managers
+     * untouched.
+     * </p>
+     *
+     * @return A view of the variables visible from this variable manager
+     */
+    public Map<String, Object> getVariableScope() {
+        return new VariableScope(this);
+    }
+
     public <T> Optional<T> get(String name, Class<T> expectedType) {
         // @formatter:off
         return Optional.ofNullable(this.get(name))
@@ -74,14 +90,26 @@ public class VariableManager {
         // @formatter:on
     }
 
-    private Object get(String name) {
-        Object value = this.variables.get(name);
-        if (value == null && this.parent != null) {
-            value = this.parent.get(name);
+    Object get(String name) {
+        VariableManager variableManager = this;
+        Object value = null;
+        while (value == null && variableManager != null) {
+            value = variableManager.variables.get(name);
+            variableManager = variableManager.parent;
         }
         return value;
     }
 
+    boolean contains(String name) {
+        VariableManager variableManager = this;
+        boolean contains = false;
+        while (!contains && variableManager != null) {
+            contains = variableManager.variables.containsKey(name);
+            variableManager = variableManager.parent;
+        }
+        return contains;
+    }
+
     public VariableManager createChild() {
         return new VariableManager(this);
     }
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.representations;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Copy-on-write view of the variables visible from a variable manager.
+ *
+ * <p>
+ * Until its first modification, the lookups are delegated to the chain of variable managers without any copy. The bulk
+ * operations and the modifications work on a flattened copy of the variables, created once and kept afterwards.
+ * </p>
+ *
+ * @author agent
+ */
+class VariableScope extends AbstractMap<String, Object> {
+
+    private final VariableManager variableManager;
+
+    private Map<String, Object> variables;
+
+    VariableScope(VariableManager variableManager) {
+        this.variableManager = Objects.requireNonNull(variableManager);
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = null;
+        if (this.variables != null) {
+            value = this.variables.get(key);
+        } else if (key instanceof String) {
+            value = this.variableManager.get((String) key);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        boolean containsKey = false;
+        if (this.variables != null) {
+            containsKey = this.variables.containsKey(key);
+        } else if (key instanceof String) {
+            containsKey = this.variableManager.contains((String) key);
+        }
+        return containsKey;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return this.getCopy().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return this.getCopy().remove(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return this.getCopy().entrySet();
+    }
+
+    private Map<String, Object> getCopy() {
+        if (this.variables == null) {
+            this.variables = this.variableManager.getVariables();
+        }
+        return this.variables;
+    }
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Micro-benchmark comparing the creation of child scopes evaluated with {@link VariableManager#getVariableScope()}
+ * against the previous behavior, which copied the variables of the whole chain with
+ * {@link VariableManager#getVariables()} before each evaluation.
+ *
+ * <p>
+ * The render of a diagram creates a child variable manager for each semantic candidate and evaluates a few expressions
+ * with it. The bytes allocated by the current thread are measured since they do not depend on the load of the machine,
+ * contrary to the elapsed time.
+ * </p>
+ *
+ * @author agent
+ */
+public class VariableManagerBenchmarkTests {
+
+    private static final int CANDIDATES_COUNT = 3000;
+
+    private static final int EXPRESSIONS_COUNT = 3;
+
+    private static final int WARMUP_ITERATIONS = 5;
+
+    private static final String[] ROOT_VARIABLES = { "environment", "editingContext", "diagramContext", "representationId", "label" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
+    private static final String PARENT_NODE = "parentNode"; //$NON-NLS-1$
+
+    @Test
+    public void testChildScopesAllocateLessThanCopiedVariables() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled());
+
+        VariableManager rootVariableManager = new VariableManager();
+        for (String name : ROOT_VARIABLES) {
+            rootVariableManager.put(name, new Object());
+        }
+        VariableManager parentVariableManager = rootVariableManager.createChild();
+        parentVariableManager.put(PARENT_NODE, new Object());
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            this.render(parentVariableManager, VariableManager::getVariables);
+            this.render(parentVariableManager, VariableManager::getVariableScope);
+        }
+
+        long copiedVariablesAllocatedBytes = this.measureAllocatedBytes(allocationMXBean, () -> this.render(parentVariableManager, VariableManager::getVariables));
+        long variableScopeAllocatedBytes = this.measureAllocatedBytes(allocationMXBean, () -> this.render(parentVariableManager, VariableManager::getVariableScope));
+
+        assertThat(variableScopeAllocatedBytes).isLessThan(copiedVariablesAllocatedBytes / 2);
+    }
+
+    private long measureAllocatedBytes(com.sun.management.ThreadMXBean allocationMXBean, Runnable runnable) {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytesBefore = allocationMXBean.getThreadAllocatedBytes(threadId);
+        runnable.run();
+        return allocationMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+    }
+
+    private void render(VariableManager parentVariableManager, Function<VariableManager, Map<String, Object>> variablesProvider) {
+        int found = 0;
+        for (int i = 0; i < CANDIDATES_COUNT; i++) {
+            VariableManager childVariableManager = parentVariableManager.createChild();
+            childVariableManager.put(VariableManager.SELF, Integer.valueOf(i));
+            for (int j = 0; j < EXPRESSIONS_COUNT; j++) {
+                Map<String, Object> variables = variablesProvider.apply(childVariableManager);
+                if (variables.get(VariableManager.SELF) != null && variables.containsKey(PARENT_NODE)) {
+                    found++;
+                }
+            }
+        }
+        assertThat(found).isEqualTo(CANDIDATES_COUNT * EXPRESSIONS_COUNT);
+    }
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the variable manager.
+ *
+ * @author agent
+ */
+public class VariableManagerTests {
+
+    private static final String NAME = "name"; //$NON-NLS-1$
+
+    private static final String PARENT = "parent"; //$NON-NLS-1$
+
+    private static final String CHILD = "child"; //$NON-NLS-1$
+
+    @Test
+    public void testVariableScopeSeesTheVariablesOfTheParents() {
+        VariableManager parent = new VariableManager();
+        parent.put(NAME, PARENT);
+        parent.put(PARENT, PARENT);
+        VariableManager child = parent.createChild();
+        child.put(NAME, CHILD);
+
+        Map<String, Object> variableScope = child.getVariableScope();
+        assertThat(variableScope.get(NAME)).isEqualTo(CHILD);
+        assertThat(variableScope.get(PARENT)).isEqualTo(PARENT);
+        assertThat(variableScope.containsKey(CHILD)).isFalse();
+
+        parent.put(CHILD, CHILD);
+        assertThat(variableScope.get(CHILD)).isEqualTo(CHILD);
+        assertThat(variableScope).isEqualTo(child.getVariables());
+    }
+
+    @Test
+    public void testVariableScopeModificationsDoNotLeak() {
+        VariableManager parent = new VariableManager();
+        parent.put(NAME, PARENT);
+        VariableManager child = parent.createChild();
+
+        Map<String, Object> variableScope = child.getVariableScope();
+        variableScope.put(NAME, CHILD);
+        variableScope.put(CHILD, CHILD);
+
+        assertThat(variableScope).containsEntry(NAME, CHILD).containsEntry(CHILD, CHILD);
+        assertThat(child.getVariables()).containsOnly(Map.entry(NAME, PARENT));
+        assertThat(parent.getVariables()).containsOnly(Map.entry(NAME, PARENT));
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Objects;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.web.diagrams.events.IDiagramEvent;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramContext;
 
 /**
@@ -34,6 +35,8 @@ public class DiagramContext implements IDiagramContext {
 
     private IDiagramEvent diagramEvent;
 
+    private DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+
     public DiagramContext(Diagram initialDiagram) {
         this.diagram = Objects.requireNonNull(initialDiagram);
         this.viewCreationRequests = new ArrayList<>();
@@ -64,6 +67,16 @@ public class DiagramContext implements IDiagramContext {
         this.diagramEvent = diagramEvent;
     }
 
+    @Override
+    public DiagramRenderingMemo getRenderingMemo() {
+        return this.renderingMemo;
+    }
+
+    @Override
+    public void setRenderingMemo(DiagramRenderingMemo renderingMemo) {
+        this.renderingMemo = Objects.requireNonNull(renderingMemo);
+    }
+
     @Override
     public void reset() {
         this.diagramEvent = null;
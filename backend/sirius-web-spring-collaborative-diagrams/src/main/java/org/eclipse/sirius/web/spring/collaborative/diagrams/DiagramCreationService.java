@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.spring.collaborative.diagrams;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.sirius.web.components.Element;
@@ -31,11 +32,14 @@ import org.eclipse.sirius.web.diagrams.events.ArrangeAllEvent;
 import org.eclipse.sirius.web.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.web.representations.VariableManager;
 import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramCreationService;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramLayoutScheduler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -57,14 +61,21 @@ public class DiagramCreationService implements IDiagramCreationService {
 
     private final ILayoutService layoutService;
 
+    private final IDiagramLayoutScheduler diagramLayoutScheduler;
+
+    private final boolean incrementalRendering;
+
     private final Timer timer;
 
     public DiagramCreationService(IRepresentationDescriptionSearchService representationDescriptionSearchService, IRepresentationPersistenceService representationPersistenceService,
-            IObjectService objectService, ILayoutService layoutService, MeterRegistry meterRegistry) {
+            IObjectService objectService, ILayoutService layoutService, IDiagramLayoutScheduler diagramLayoutScheduler, MeterRegistry meterRegistry,
+            @Value("${org.eclipse.sirius.web.diagrams.incrementalRendering:false}") boolean incrementalRendering) {
         this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
         this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
         this.objectService = Objects.requireNonNull(objectService);
         this.layoutService = Objects.requireNonNull(layoutService);
+        this.diagramLayoutScheduler = Objects.requireNonNull(diagramLayoutScheduler);
+        this.incrementalRendering = incrementalRendering;
         // @formatter:off
         this.timer = Timer.builder(Monitoring.REPRESENTATION_EVENT_PROCESSOR_REFRESH)
                 .tag(Monitoring.NAME, "diagram") //$NON-NLS-1$
@@ -74,12 +85,26 @@ public class DiagramCreationService implements IDiagramCreationService {
 
     @Override
     public Diagram create(String label, Object targetObject, DiagramDescription diagramDescription, IEditingContext editingContext) {
-        Diagram newDiagram = this.doRender(label, targetObject, editingContext, diagramDescription, Optional.empty());
+        Diagram newDiagram = this.doRender(label, targetObject, editingContext, diagramDescription, Optional.empty(), new DiagramRenderingMemo());
+        this.representationPersistenceService.save(editingContext, newDiagram);
         return newDiagram;
     }
 
     @Override
     public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext) {
+        return this.refresh(editingContext, diagramContext, new DiagramRenderingMemo());
+    }
+
+    @Override
+    public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, Set<String> changedObjectIds) {
+        DiagramRenderingMemo renderingMemo = new DiagramRenderingMemo();
+        if (this.incrementalRendering) {
+            renderingMemo = diagramContext.getRenderingMemo().next(changedObjectIds);
+        }
+        return this.refresh(editingContext, diagramContext, renderingMemo);
+    }
+
+    private Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, DiagramRenderingMemo renderingMemo) {
         Diagram previousDiagram = diagramContext.getDiagram();
         var optionalObject = this.objectService.getObject(editingContext, previousDiagram.getTargetObjectId());
         // @formatter:off
@@ -91,13 +116,18 @@ public class DiagramCreationService implements IDiagramCreationService {
         if (optionalObject.isPresent() && optionalDiagramDescription.isPresent()) {
             Object object = optionalObject.get();
             DiagramDescription diagramDescription = optionalDiagramDescription.get();
-            Diagram diagram = this.doRender(previousDiagram.getLabel(), object, editingContext, diagramDescription, Optional.of(diagramContext));
+            Diagram diagram = this.doRender(previousDiagram.getLabel(), object, editingContext, diagramDescription, Optional.of(diagramContext), renderingMemo);
+            if (this.incrementalRendering) {
+                diagramContext.setRenderingMemo(renderingMemo);
+            }
+            this.representationPersistenceService.save(editingContext, diagram);
             return Optional.of(diagram);
         }
         return Optional.empty();
     }
 
-    private Diagram doRender(String label, Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, Optional<IDiagramContext> optionalDiagramContext) {
+    private Diagram doRender(String label, Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, Optional<IDiagramContext> optionalDiagramContext,
+            DiagramRenderingMemo renderingMemo) {
         long start = System.currentTimeMillis();
 
         VariableManager variableManager = new VariableManager();
@@ -114,7 +144,8 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .variableManager(variableManager)
                 .diagramDescription(diagramDescription)
                 .viewCreationRequests(viewCreationRequests)
-                .previousDiagram(optionalPreviousDiagram);
+                .previousDiagram(optionalPreviousDiagram)
+                .renderingMemo(renderingMemo);
         //@formatter:on
 
         DiagramComponentProps props = builder.build();
@@ -123,14 +154,17 @@ public class DiagramCreationService implements IDiagramCreationService {
         Diagram newDiagram = new DiagramRenderer().render(element);
 
         // The auto layout is used for the first rendering and after that if it is activated
-        if (this.shouldPerformFullLayout(optionalDiagramContext, diagramDescription)) {
+        boolean shouldPerformFullLayout = this.shouldPerformFullLayout(optionalDiagramContext, diagramDescription);
+        if (shouldPerformFullLayout && optionalDiagramContext.isPresent() && this.diagramLayoutScheduler.isEnabled()) {
+            // The incremental layout is served until the full layout computed in the background is applied
+            newDiagram = this.layoutService.incrementalLayout(newDiagram, optionalDiagramElementEvent);
+            this.diagramLayoutScheduler.schedule(editingContext, newDiagram);
+        } else if (shouldPerformFullLayout) {
             newDiagram = this.layoutService.layout(newDiagram);
         } else if (optionalDiagramContext.isPresent()) {
             newDiagram = this.layoutService.incrementalLayout(newDiagram, optionalDiagramElementEvent);
         }
 
-        this.representationPersistenceService.save(editingContext, newDiagram);
-
         long end = System.currentTimeMillis();
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
         return newDiagram;
@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.AddedNode;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.DiagramDeltaEventPayload;
+
+/**
+ * Computes the differences between two versions of a diagram by comparing their elements with the same identifier.
+ *
+ * @author agent
+ */
+public class DiagramDeltaProvider {
+
+    /**
+     * Computes the differences between two versions of a diagram.
+     *
+     * <p>
+     * Nothing is returned if the properties of the diagram itself, such as its label, have changed. The subscribers
+     * should receive the whole diagram in this case.
+     * </p>
+     *
+     * @param id
+     *            The identifier of the payload
+     * @param sequenceNumber
+     *            The sequence number of the refresh
+     * @param previousDiagram
+     *            The previous version of the diagram
+     * @param newDiagram
+     *            The refreshed version of the diagram
+     * @return The differences between the two versions of the diagram, if they can be described by a delta
+     */
+    public Optional<DiagramDeltaEventPayload> getDelta(UUID id, int sequenceNumber, Diagram previousDiagram, Diagram newDiagram) {
+        Optional<DiagramDeltaEventPayload> optionalDelta = Optional.empty();
+        if (this.isSameDiagram(previousDiagram, newDiagram)) {
+            Map<UUID, Node> previousNodes = new HashMap<>();
+            this.collectNodes(previousDiagram.getNodes(), previousNodes);
+
+            List<AddedNode> addedNodes = new ArrayList<>();
+            List<Node> updatedNodes = new ArrayList<>();
+            List<Label> updatedLabels = new ArrayList<>();
+            Set<UUID> nodeIds = new HashSet<>();
+            this.compareNodes(newDiagram.getId(), newDiagram.getNodes(), previousNodes, nodeIds, addedNodes, updatedNodes, updatedLabels);
+
+            List<UUID> removedNodeIds = new ArrayList<>();
+            this.collectRemovedNodeIds(previousDiagram.getNodes(), nodeIds, removedNodeIds);
+
+            Map<UUID, Edge> previousEdges = new HashMap<>();
+            previousDiagram.getEdges().forEach(edge -> previousEdges.put(edge.getId(), edge));
+
+            List<Edge> addedEdges = new ArrayList<>();
+            List<Edge> updatedEdges = new ArrayList<>();
+            Set<UUID> edgeIds = new HashSet<>();
+            for (Edge edge : newDiagram.getEdges()) {
+                edgeIds.add(edge.getId());
+                Edge previousEdge = previousEdges.get(edge.getId());
+                if (previousEdge == null) {
+                    addedEdges.add(edge);
+                } else if (!this.isSameEdge(previousEdge, edge)) {
+                    updatedEdges.add(edge);
+                } else {
+                    this.compareLabels(previousEdge.getBeginLabel(), edge.getBeginLabel(), updatedLabels);
+                    this.compareLabels(previousEdge.getCenterLabel(), edge.getCenterLabel(), updatedLabels);
+                    this.compareLabels(previousEdge.getEndLabel(), edge.getEndLabel(), updatedLabels);
+                }
+            }
+
+            List<UUID> removedEdgeIds = new ArrayList<>();
+            for (Edge previousEdge : previousDiagram.getEdges()) {
+                if (!edgeIds.contains(previousEdge.getId())) {
+                    removedEdgeIds.add(previousEdge.getId());
+                }
+            }
+
+            // @formatter:off
+            var delta = DiagramDeltaEventPayload.newDiagramDeltaEventPayload(id)
+                    .diagramId(newDiagram.getId())
+                    .sequenceNumber(sequenceNumber)
+                    .addedNodes(addedNodes)
+                    .updatedNodes(updatedNodes)
+                    .removedNodeIds(removedNodeIds)
+                    .addedEdges(addedEdges)
+                    .updatedEdges(updatedEdges)
+                    .removedEdgeIds(removedEdgeIds)
+                    .updatedLabels(updatedLabels)
+                    .build();
+            // @formatter:on
+            optionalDelta = Optional.of(delta);
+        }
+        return optionalDelta;
+    }
+
+    private boolean isSameDiagram(Diagram previousDiagram, Diagram newDiagram) {
+        boolean isSame = Objects.equals(previousDiagram.getId(), newDiagram.getId()) && Objects.equals(previousDiagram.getLabel(), newDiagram.getLabel());
+        isSame = isSame && Objects.equals(previousDiagram.getTargetObjectId(), newDiagram.getTargetObjectId()) && Objects.equals(previousDiagram.getDescriptionId(), newDiagram.getDescriptionId());
+        return isSame && Objects.equals(previousDiagram.getPosition(), newDiagram.getPosition()) && Objects.equals(previousDiagram.getSize(), newDiagram.getSize());
+    }
+
+    private void collectNodes(List<Node> nodes, Map<UUID, Node> nodesById) {
+        for (Node node : nodes) {
+            nodesById.put(node.getId(), node);
+            this.collectNodes(node.getBorderNodes(), nodesById);
+            this.collectNodes(node.getChildNodes(), nodesById);
+        }
+    }
+
+    private void compareNodes(UUID parentId, List<Node> nodes, Map<UUID, Node> previousNodes, Set<UUID> nodeIds, List<AddedNode> addedNodes, List<Node> updatedNodes, List<Label> updatedLabels) {
+        for (Node node : nodes) {
+            nodeIds.add(node.getId());
+            Node previousNode = previousNodes.get(node.getId());
+            if (previousNode == null) {
+                addedNodes.add(new AddedNode(parentId, node));
+                this.collectNodeIds(node, nodeIds);
+            } else {
+                if (!this.isSameNode(previousNode, node)) {
+                    updatedNodes.add(Node.newNode(node).borderNodes(List.of()).childNodes(List.of()).build());
+                } else {
+                    this.compareLabels(previousNode.getLabel(), node.getLabel(), updatedLabels);
+                }
+                this.compareNodes(node.getId(), node.getBorderNodes(), previousNodes, nodeIds, addedNodes, updatedNodes, updatedLabels);
+                this.compareNodes(node.getId(), node.getChildNodes(), previousNodes, nodeIds, addedNodes, updatedNodes, updatedLabels);
+            }
+        }
+    }
+
+    private void collectNodeIds(Node node, Set<UUID> nodeIds) {
+        nodeIds.add(node.getId());
+        node.getBorderNodes().forEach(borderNode -> this.collectNodeIds(borderNode, nodeIds));
+        node.getChildNodes().forEach(childNode -> this.collectNodeIds(childNode, nodeIds));
+    }
+
+    /**
+     * Collects the identifiers of the nodes removed. The descendants of a node removed are not collected since they
+     * are removed along with it.
+     */
+    private void collectRemovedNodeIds(List<Node> previousNodes, Set<UUID> nodeIds, List<UUID> removedNodeIds) {
+        for (Node previousNode : previousNodes) {
+            if (!nodeIds.contains(previousNode.getId())) {
+                removedNodeIds.add(previousNode.getId());
+            } else {
+                this.collectRemovedNodeIds(previousNode.getBorderNodes(), nodeIds, removedNodeIds);
+                this.collectRemovedNodeIds(previousNode.getChildNodes(), nodeIds, removedNodeIds);
+            }
+        }
+    }
+
+    /**
+     * Compares the properties of two versions of a node, without their descendants and with only the identifier of
+     * their label.
+     */
+    private boolean isSameNode(Node previousNode, Node node) {
+        boolean isSame = previousNode == node;
+        if (!isSame) {
+            isSame = Objects.equals(previousNode.getType(), node.getType()) && Objects.equals(previousNode.getTargetObjectId(), node.getTargetObjectId());
+            isSame = isSame && Objects.equals(previousNode.getTargetObjectKind(), node.getTargetObjectKind()) && Objects.equals(previousNode.getTargetObjectLabel(), node.getTargetObjectLabel());
+            isSame = isSame && Objects.equals(previousNode.getDescriptionId(), node.getDescriptionId()) && previousNode.isBorderNode() == node.isBorderNode();
+            isSame = isSame && Objects.equals(previousNode.getStyle(), node.getStyle()) && Objects.equals(previousNode.getPosition(), node.getPosition());
+            isSame = isSame && Objects.equals(previousNode.getSize(), node.getSize()) && Objects.equals(previousNode.getCustomizedProperties(), node.getCustomizedProperties());
+            isSame = isSame && Objects.equals(this.getLabelId(previousNode.getLabel()), this.getLabelId(node.getLabel()));
+        }
+        return isSame;
+    }
+
+    /**
+     * Compares the properties of two versions of an edge, with only the identifier of their labels.
+     */
+    private boolean isSameEdge(Edge previousEdge, Edge edge) {
+        boolean isSame = previousEdge == edge;
+        if (!isSame) {
+            isSame = Objects.equals(previousEdge.getType(), edge.getType()) && Objects.equals(previousEdge.getTargetObjectId(), edge.getTargetObjectId());
+            isSame = isSame && Objects.equals(previousEdge.getTargetObjectKind(), edge.getTargetObjectKind()) && Objects.equals(previousEdge.getTargetObjectLabel(), edge.getTargetObjectLabel());
+            isSame = isSame && Objects.equals(previousEdge.getDescriptionId(), edge.getDescriptionId()) && Objects.equals(previousEdge.getSourceId(), edge.getSourceId());
+            isSame = isSame && Objects.equals(previousEdge.getTargetId(), edge.getTargetId()) && Objects.equals(previousEdge.getStyle(), edge.getStyle());
+            isSame = isSame && Objects.equals(previousEdge.getRoutingPoints(), edge.getRoutingPoints());
+            isSame = isSame && Objects.equals(this.getLabelId(previousEdge.getBeginLabel()), this.getLabelId(edge.getBeginLabel()));
+            isSame = isSame && Objects.equals(this.getLabelId(previousEdge.getCenterLabel()), this.getLabelId(edge.getCenterLabel()));
+            isSame = isSame && Objects.equals(this.getLabelId(previousEdge.getEndLabel()), this.getLabelId(edge.getEndLabel()));
+        }
+        return isSame;
+    }
+
+    private UUID getLabelId(Label label) {
+        return Optional.ofNullable(label).map(Label::getId).orElse(null);
+    }
+
+    private void compareLabels(Label previousLabel, Label label, List<Label> updatedLabels) {
+        if (previousLabel != null && label != null && !this.isSameLabel(previousLabel, label)) {
+            updatedLabels.add(label);
+        }
+    }
+
+    private boolean isSameLabel(Label previousLabel, Label label) {
+        boolean isSame = previousLabel == label;
+        if (!isSame) {
+            isSame = Objects.equals(previousLabel.getType(), label.getType()) && Objects.equals(previousLabel.getText(), label.getText());
+            isSame = isSame && Objects.equals(previousLabel.getPosition(), label.getPosition()) && Objects.equals(previousLabel.getSize(), label.getSize());
+            isSame = isSame && Objects.equals(previousLabel.getAlignment(), label.getAlignment()) && Objects.equals(previousLabel.getStyle(), label.getStyle());
+        }
+        return isSame;
+    }
+}
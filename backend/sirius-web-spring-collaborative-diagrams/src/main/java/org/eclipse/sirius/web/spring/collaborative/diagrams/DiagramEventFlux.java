@@ -12,11 +12,13 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
+import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.DiagramEventInput;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +32,12 @@ import reactor.core.publisher.Sinks.Many;
 /**
  * Service used to manage the diagram event flux.
  *
+ * <p>
+ * By default, the subscribers receive the whole diagram after each refresh. The subscribers which have asked for delta
+ * updates receive the whole diagram once when they subscribe and then only the differences between two versions of the
+ * diagram.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramEventFlux {
@@ -38,31 +46,72 @@ public class DiagramEventFlux {
 
     private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
 
+    private final Many<IPayload> deltaSink = Sinks.many().multicast().directBestEffort();
+
+    private final DiagramDeltaProvider diagramDeltaProvider = new DiagramDeltaProvider();
+
+    private final Object lock = new Object();
+
     private Diagram currentDiagram;
 
+    private int sequenceNumber;
+
     public DiagramEventFlux(Diagram currentDiagram) {
         this.currentDiagram = Objects.requireNonNull(currentDiagram);
     }
 
     public void diagramRefreshed(IInput input, Diagram newDiagram) {
-        this.currentDiagram = newDiagram;
-        EmitResult emitResult = this.sink.tryEmitNext(new DiagramRefreshedEventPayload(input.getId(), this.currentDiagram));
+        Diagram previousDiagram;
+        int newSequenceNumber;
+        synchronized (this.lock) {
+            previousDiagram = this.currentDiagram;
+            this.currentDiagram = newDiagram;
+            this.sequenceNumber++;
+            newSequenceNumber = this.sequenceNumber;
+        }
+
+        if (this.sink.currentSubscriberCount() > 0) {
+            this.emit(this.sink, new DiagramRefreshedEventPayload(input.getId(), newSequenceNumber, newDiagram));
+        }
+        if (this.deltaSink.currentSubscriberCount() > 0) {
+            // @formatter:off
+            IPayload payload = this.diagramDeltaProvider.getDelta(input.getId(), newSequenceNumber, previousDiagram, newDiagram)
+                    .map(IPayload.class::cast)
+                    .orElseGet(() -> new DiagramRefreshedEventPayload(input.getId(), newSequenceNumber, newDiagram));
+            // @formatter:on
+            this.emit(this.deltaSink, payload);
+        }
+    }
+
+    private void emit(Many<IPayload> refreshSink, IPayload payload) {
+        EmitResult emitResult = refreshSink.tryEmitNext(payload);
         if (emitResult.isFailure()) {
-            String pattern = "An error has occurred while emitting a DiagramRefreshedEventPayload: {}"; //$NON-NLS-1$
-            this.logger.warn(pattern, emitResult);
+            String pattern = "An error has occurred while emitting a {}: {}"; //$NON-NLS-1$
+            this.logger.warn(pattern, payload.getClass().getSimpleName(), emitResult);
         }
     }
 
     public Flux<IPayload> getFlux(IInput input) {
-        var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(input.getId(), this.currentDiagram));
-        return Flux.concat(initialRefresh, this.sink.asFlux());
+        var initialRefresh = Mono.fromCallable(() -> {
+            synchronized (this.lock) {
+                return new DiagramRefreshedEventPayload(input.getId(), this.sequenceNumber, this.currentDiagram);
+            }
+        });
+
+        Many<IPayload> refreshSink = this.sink;
+        if (input instanceof DiagramEventInput && ((DiagramEventInput) input).isDeltaUpdates()) {
+            refreshSink = this.deltaSink;
+        }
+        return Flux.concat(initialRefresh, refreshSink.asFlux());
     }
 
     public void dispose() {
-        EmitResult emitResult = this.sink.tryEmitComplete();
-        if (emitResult.isFailure()) {
-            String pattern = "An error has occurred while marking the publisher as complete: {}"; //$NON-NLS-1$
-            this.logger.warn(pattern, emitResult);
+        for (Many<IPayload> refreshSink : List.of(this.sink, this.deltaSink)) {
+            EmitResult emitResult = refreshSink.tryEmitComplete();
+            if (emitResult.isFailure()) {
+                String pattern = "An error has occurred while marking the publisher as complete: {}"; //$NON-NLS-1$
+                this.logger.warn(pattern, emitResult);
+            }
         }
     }
 
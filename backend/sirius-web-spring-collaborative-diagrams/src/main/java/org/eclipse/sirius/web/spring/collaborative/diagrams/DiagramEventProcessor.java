@@ -12,9 +12,11 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.core.api.IEditingContext;
@@ -22,16 +24,22 @@ import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.core.api.IRepresentationInput;
 import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Node;
 import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.spring.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.web.spring.collaborative.api.ChangeKind;
 import org.eclipse.sirius.web.spring.collaborative.api.EventHandlerResponse;
+import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.web.spring.collaborative.api.ISubscriptionManager;
+import org.eclipse.sirius.web.spring.collaborative.api.IWriteBehindPersistenceService;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramCreationService;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramInput;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.ApplyDiagramLayoutInput;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.ArrangeAllSuccessPayload;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.RenameDiagramInput;
 import org.eclipse.sirius.web.spring.collaborative.dto.RenameRepresentationInput;
 import org.slf4j.Logger;
@@ -47,6 +55,12 @@ import reactor.core.publisher.Sinks.Many;
  * Reacts to input that target a specific diagram, and {@link #getDiagramUpdates() publishes} updated versions of the
  * diagram to interested subscribers.
  *
+ * <p>
+ * With the fast reopen, the diagram loaded from the database is sent as is to the first subscribers. It is then
+ * refreshed on the thread of the editing context, once the opening of the diagram is notified, and the reconciled
+ * diagram is sent as a regular refresh.
+ * </p>
+ *
  * @author sbegaudeau
  * @author pcdavid
  */
@@ -64,12 +78,20 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     private final IDiagramCreationService diagramCreationService;
 
+    private final IRepresentationPersistenceService representationPersistenceService;
+
     private final Many<Boolean> canBeDisposedSink = Sinks.many().unicast().onBackpressureBuffer();
 
     private final DiagramEventFlux diagramEventFlux;
 
+    /**
+     * Indicates that the diagram is still the one loaded from the database, only accessed from the thread of the
+     * editing context once the processor has been created.
+     */
+    private boolean isReconciliationPending;
+
     public DiagramEventProcessor(IEditingContext editingContext, IDiagramContext diagramContext, List<IDiagramEventHandler> diagramEventHandlers, ISubscriptionManager subscriptionManager,
-            IDiagramCreationService diagramCreationService) {
+            IDiagramCreationService diagramCreationService, IRepresentationPersistenceService representationPersistenceService, boolean isFastReopenEnabled) {
         this.logger.trace("Creating the diagram event processor {}", diagramContext.getDiagram().getId()); //$NON-NLS-1$
 
         this.editingContext = Objects.requireNonNull(editingContext);
@@ -77,11 +99,17 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
         this.subscriptionManager = Objects.requireNonNull(subscriptionManager);
         this.diagramCreationService = Objects.requireNonNull(diagramCreationService);
+        this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
 
         // We automatically refresh the representation before using it since things may have changed since the moment it
         // has been saved in the database. This is quite similar to the auto-refresh on loading in Sirius.
-        Diagram diagram = this.diagramCreationService.refresh(editingContext, diagramContext).orElse(null);
-        diagramContext.update(diagram);
+        Diagram diagram = diagramContext.getDiagram();
+        if (isFastReopenEnabled) {
+            this.isReconciliationPending = true;
+        } else {
+            diagram = this.diagramCreationService.refresh(editingContext, diagramContext).orElse(null);
+            diagramContext.update(diagram);
+        }
         this.diagramEventFlux = new DiagramEventFlux(diagram);
 
         if (diagram != null) {
@@ -107,7 +135,10 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
             effectiveInput = new RenameDiagramInput(renameRepresentationInput.getId(), renameRepresentationInput.getEditingContextId(), renameRepresentationInput.getRepresentationId(),
                     renameRepresentationInput.getNewLabel());
         }
-        if (effectiveInput instanceof IDiagramInput) {
+        Optional<EventHandlerResponse> optionalResponse = Optional.empty();
+        if (effectiveInput instanceof ApplyDiagramLayoutInput) {
+            optionalResponse = Optional.of(this.applyLayout((ApplyDiagramLayoutInput) effectiveInput));
+        } else if (effectiveInput instanceof IDiagramInput) {
             IDiagramInput diagramInput = (IDiagramInput) effectiveInput;
 
             Optional<IDiagramEventHandler> optionalDiagramEventHandler = this.diagramEventHandlers.stream().filter(handler -> handler.canHandle(diagramInput)).findFirst();
@@ -118,18 +149,46 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
                 this.refresh(representationInput, eventHandlerResponse.getChangeDescription());
 
-                return Optional.of(eventHandlerResponse);
+                optionalResponse = Optional.of(eventHandlerResponse);
             } else {
                 this.logger.warn("No handler found for event: {}", diagramInput); //$NON-NLS-1$
             }
         }
-        return Optional.empty();
+        return optionalResponse;
+    }
+
+    /**
+     * Applies the full layout computed in the background, unless the diagram has been refreshed since then.
+     *
+     * @param input
+     *            The input holding the layouted diagram
+     * @return The response of the input, which does not trigger any refresh
+     */
+    private EventHandlerResponse applyLayout(ApplyDiagramLayoutInput input) {
+        if (this.diagramContext.getDiagram() == input.getDiagram()) {
+            Diagram layoutedDiagram = input.getLayoutedDiagram();
+            this.diagramContext.update(layoutedDiagram);
+            this.representationPersistenceService.save(this.editingContext, layoutedDiagram);
+            this.diagramEventFlux.diagramRefreshed(input, layoutedDiagram);
+        } else {
+            this.logger.debug("The layout of the diagram {} has been discarded since the diagram has changed", input.getRepresentationId()); //$NON-NLS-1$
+        }
+        return new EventHandlerResponse(new ChangeDescription(ChangeKind.NOTHING, input.getRepresentationId()), new ArrangeAllSuccessPayload(input.getId()));
     }
 
     @Override
     public void refresh(IInput input, ChangeDescription changeDescription) {
         if (this.shouldRefresh(changeDescription)) {
-            Diagram refreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
+            this.isReconciliationPending = false;
+
+            Optional<Diagram> optionalRefreshedDiagram;
+            Optional<Set<String>> optionalChangedObjectIds = changeDescription.getChangedObjectIds();
+            if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind()) && optionalChangedObjectIds.isPresent()) {
+                optionalRefreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext, optionalChangedObjectIds.get());
+            } else {
+                optionalRefreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext);
+            }
+            Diagram refreshedDiagram = optionalRefreshedDiagram.orElse(null);
             if (refreshedDiagram != null) {
                 this.logger.trace("Diagram refreshed: {}", refreshedDiagram.getId()); //$NON-NLS-1$
             }
@@ -142,15 +201,57 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     /**
      * A diagram is refresh if there is a semantic change or if there is a diagram layout change coming from this very
-     * diagram (not other diagrams)
+     * diagram (not other diagrams). A semantic change whose modified objects are known is ignored if none of them is
+     * displayed by the diagram. The opening of the diagram triggers its reconciliation if it has not been refreshed
+     * since it has been loaded.
      *
      * @param changeDescription
      *            The change description
      * @return <code>true</code> if the diagram should be refreshed, <code>false</code> otherwise
      */
     private boolean shouldRefresh(ChangeDescription changeDescription) {
-        return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())
-                || (DiagramChangeKind.DIAGRAM_LAYOUT_CHANGE.equals(changeDescription.getKind()) && changeDescription.getSourceId().equals(this.diagramContext.getDiagram().getId()));
+        String kind = changeDescription.getKind();
+        boolean shouldRefresh = ChangeKind.SEMANTIC_CHANGE.equals(kind) && this.mayBeAffectedBy(changeDescription);
+        shouldRefresh = shouldRefresh || (DiagramChangeKind.DIAGRAM_LAYOUT_CHANGE.equals(kind) && changeDescription.getSourceId().equals(this.diagramContext.getDiagram().getId()));
+        shouldRefresh = shouldRefresh || (ChangeKind.REPRESENTATION_OPENING.equals(kind) && this.isReconciliationPending);
+        return shouldRefresh;
+    }
+
+    /**
+     * Indicates if the semantic change may have modified one of the semantic objects displayed by the diagram.
+     *
+     * <p>
+     * Since the semantic objects modified are reported with all their containers, a change performed on a semantic
+     * object which is not displayed, for example one which does not match the precondition of a node description, is
+     * still detected thanks to the object displayed containing it. The objects added or removed are not known
+     * precisely, since they may be retrieved by the semantic candidates expressions from anywhere, so such changes
+     * always refresh the diagram.
+     * </p>
+     *
+     * @param changeDescription
+     *            The description of a semantic change
+     * @return <code>true</code> if the diagram may have been affected by the change, <code>false</code> otherwise
+     */
+    private boolean mayBeAffectedBy(ChangeDescription changeDescription) {
+        boolean mayBeAffected = true;
+        Diagram diagram = this.diagramContext.getDiagram();
+        if (changeDescription.getChangedObjectIds().isPresent() && diagram != null) {
+            Set<String> displayedObjectIds = new HashSet<>();
+            displayedObjectIds.add(diagram.getTargetObjectId());
+            this.collectTargetObjectIds(diagram.getNodes(), displayedObjectIds);
+            diagram.getEdges().stream().map(Edge::getTargetObjectId).forEach(displayedObjectIds::add);
+
+            mayBeAffected = changeDescription.mayAffect(displayedObjectIds);
+        }
+        return mayBeAffected;
+    }
+
+    private void collectTargetObjectIds(List<Node> nodes, Set<String> targetObjectIds) {
+        for (Node node : nodes) {
+            targetObjectIds.add(node.getTargetObjectId());
+            this.collectTargetObjectIds(node.getBorderNodes(), targetObjectIds);
+            this.collectTargetObjectIds(node.getChildNodes(), targetObjectIds);
+        }
     }
 
     @Override
@@ -190,6 +291,10 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
     public void dispose() {
         this.logger.trace("Disposing the diagram event processor {}", this.diagramContext.getDiagram().getId()); //$NON-NLS-1$
 
+        if (this.representationPersistenceService instanceof IWriteBehindPersistenceService) {
+            ((IWriteBehindPersistenceService) this.representationPersistenceService).flush(this.diagramContext.getDiagram().getId());
+        }
+
         this.subscriptionManager.dispose();
         this.diagramEventFlux.dispose();
     }
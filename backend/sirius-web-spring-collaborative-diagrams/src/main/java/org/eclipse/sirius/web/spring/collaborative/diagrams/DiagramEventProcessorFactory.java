@@ -21,12 +21,14 @@ import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationConfiguration;
 import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationEventProcessor;
 import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationEventProcessorFactory;
+import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationSearchService;
 import org.eclipse.sirius.web.spring.collaborative.api.ISubscriptionManagerFactory;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.DiagramConfiguration;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramCreationService;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramEventProcessor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -45,12 +47,19 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
 
     private final ISubscriptionManagerFactory subscriptionManagerFactory;
 
+    private final IRepresentationPersistenceService representationPersistenceService;
+
+    private final boolean isFastReopenEnabled;
+
     public DiagramEventProcessorFactory(IRepresentationSearchService representationSearchService, IDiagramCreationService diagramCreationService, List<IDiagramEventHandler> diagramEventHandlers,
-            ISubscriptionManagerFactory subscriptionManagerFactory) {
+            ISubscriptionManagerFactory subscriptionManagerFactory, IRepresentationPersistenceService representationPersistenceService,
+            @Value("${org.eclipse.sirius.web.diagrams.fastReopen:false}") boolean isFastReopenEnabled) {
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
         this.diagramCreationService = Objects.requireNonNull(diagramCreationService);
         this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
+        this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
+        this.isFastReopenEnabled = isFastReopenEnabled;
     }
 
     @Override
@@ -70,7 +79,7 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
                 // @formatter:off
                 DiagramContext diagramContext = new DiagramContext(diagram);
                 IRepresentationEventProcessor diagramEventProcessor = new DiagramEventProcessor(editingContext, diagramContext,
-                        this.diagramEventHandlers, this.subscriptionManagerFactory.create(), this.diagramCreationService);
+                        this.diagramEventHandlers, this.subscriptionManagerFactory.create(), this.diagramCreationService, this.representationPersistenceService, this.isFastReopenEnabled);
 
                 return Optional.of(diagramEventProcessor)
                         .filter(representationEventProcessorClass::isInstance)
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
+import org.eclipse.sirius.web.spring.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramLayoutScheduler;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.ApplyDiagramLayoutInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Performs the full layout of the diagrams on a dedicated bounded pool of threads.
+ *
+ * <p>
+ * A layout is canceled through the progress monitor of ELK when it takes longer than the timeout or when a new layout
+ * of the same diagram is scheduled. The result is sent back to the editing context as an
+ * {@link ApplyDiagramLayoutInput}, the editing context event processor is looked up lazily since it is created with the
+ * diagram event processors.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class DiagramLayoutScheduler implements IDiagramLayoutScheduler {
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramLayoutScheduler.class);
+
+    private final ILayoutService layoutService;
+
+    private final ObjectProvider<IEditingContextEventProcessorRegistry> editingContextEventProcessorRegistryProvider;
+
+    private final boolean isEnabled;
+
+    private final Duration timeout;
+
+    private final ThreadPoolExecutor layoutPool;
+
+    private final Map<UUID, CompletableFuture<Diagram>> pendingLayouts = new ConcurrentHashMap<>();
+
+    public DiagramLayoutScheduler(ILayoutService layoutService, ObjectProvider<IEditingContextEventProcessorRegistry> editingContextEventProcessorRegistryProvider,
+            @Value("${org.eclipse.sirius.web.diagrams.asyncLayout.enabled:false}") boolean isEnabled, @Value("${org.eclipse.sirius.web.diagrams.asyncLayout.poolSize:2}") int poolSize,
+            @Value("${org.eclipse.sirius.web.diagrams.asyncLayout.queueCapacity:100}") int queueCapacity, @Value("${org.eclipse.sirius.web.diagrams.asyncLayout.timeout:60s}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        this.layoutService = Objects.requireNonNull(layoutService);
+        this.editingContextEventProcessorRegistryProvider = Objects.requireNonNull(editingContextEventProcessorRegistryProvider);
+        this.isEnabled = isEnabled;
+        this.timeout = Objects.requireNonNull(timeout);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.layoutPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity), (Runnable runnable) -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Diagram layout worker " + threadCount.incrementAndGet()); //$NON-NLS-1$
+            return thread;
+        });
+        new ExecutorServiceMetrics(this.layoutPool, Monitoring.DIAGRAM_LAYOUT_WORKERS, List.of()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    @Override
+    public void schedule(IEditingContext editingContext, Diagram diagram) {
+        CompletableFuture<Diagram> layoutFuture = new CompletableFuture<>();
+        CompletableFuture<Diagram> previousLayoutFuture = this.pendingLayouts.put(diagram.getId(), layoutFuture);
+        if (previousLayoutFuture != null) {
+            previousLayoutFuture.cancel(false);
+        }
+
+        try {
+            // The layout is canceled as soon as its future is completed, either by a timeout or by a new layout
+            CompletableFuture.supplyAsync(() -> this.layoutService.layout(diagram, layoutFuture::isDone), this.layoutPool).whenComplete((layoutedDiagram, throwable) -> {
+                if (throwable != null) {
+                    layoutFuture.completeExceptionally(throwable);
+                } else {
+                    layoutFuture.complete(layoutedDiagram);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            layoutFuture.completeExceptionally(exception);
+        }
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        layoutFuture.orTimeout(this.timeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((layoutedDiagram, throwable) -> {
+            this.pendingLayouts.remove(diagram.getId(), layoutFuture);
+            if (layoutedDiagram != null) {
+                Runnable dispatch = () -> this.dispatch(editingContext.getId(), diagram, layoutedDiagram);
+                DelegatingSecurityContextRunnable.create(dispatch, securityContext).run();
+            } else if (throwable instanceof TimeoutException) {
+                this.logger.warn("The layout of the diagram {} has been canceled after {}", diagram.getId(), this.timeout); //$NON-NLS-1$
+            } else if (!(throwable instanceof CancellationException)) {
+                this.logger.warn("The layout of the diagram {} has failed", diagram.getId(), throwable); //$NON-NLS-1$
+            }
+        });
+    }
+
+    /**
+     * Sends the layouted diagram to the editing context, unless it has been disposed in the meantime.
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     * @param diagram
+     *            The diagram which has been layouted
+     * @param layoutedDiagram
+     *            The layouted diagram
+     */
+    private void dispatch(UUID editingContextId, Diagram diagram, Diagram layoutedDiagram) {
+        var input = new ApplyDiagramLayoutInput(UUID.randomUUID(), editingContextId, diagram, layoutedDiagram);
+        // @formatter:off
+        this.editingContextEventProcessorRegistryProvider.getObject().getEditingContextEventProcessors().stream()
+                .filter(editingContextEventProcessor -> Objects.equals(editingContextEventProcessor.getEditingContextId(), editingContextId))
+                .findFirst()
+                .ifPresent(editingContextEventProcessor -> editingContextEventProcessor.handle(input));
+        // @formatter:on
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.layoutPool.shutdownNow();
+    }
+
+}
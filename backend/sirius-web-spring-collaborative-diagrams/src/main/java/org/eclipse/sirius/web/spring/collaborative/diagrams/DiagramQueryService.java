@@ -12,13 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
-import java.util.List;
-import java.util.Objects;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Predicate;
 
 import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.DiagramIndex;
 import org.eclipse.sirius.web.diagrams.Edge;
 import org.eclipse.sirius.web.diagrams.Node;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramQueryService;
@@ -27,39 +29,37 @@ import org.springframework.stereotype.Service;
 /**
  * Used to perform queries on a diagram.
  *
+ * <p>
+ * The elements of each diagram are indexed by identifier the first time the diagram is queried. Since the diagrams are
+ * immutable, the index is kept as long as the diagram is used and it is then garbage collected with it. The diagrams
+ * are compared by identity and the index of a diagram is computed only once, without blocking the queries on the
+ * other diagrams.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class DiagramQueryService implements IDiagramQueryService {
 
+    private final LoadingCache<Diagram, DiagramIndex> diagramIndexes = CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(DiagramIndex::new));
+
     @Override
     public Optional<Node> findNodeById(Diagram diagram, UUID nodeId) {
-        return this.findNode(node -> Objects.equals(node.getId(), nodeId), diagram.getNodes());
+        return this.getDiagramIndex(diagram).findNodeById(nodeId);
     }
 
     @Override
     public Optional<Node> findNodeByLabelId(Diagram diagram, UUID labelId) {
-        return this.findNode(node -> Objects.equals(node.getLabel().getId(), labelId), diagram.getNodes());
-    }
-
-    private Optional<Node> findNode(Predicate<Node> condition, List<Node> candidates) {
-        Optional<Node> result = Optional.empty();
-        for (Node node : candidates) {
-            if (condition.test(node)) {
-                result = Optional.of(node);
-            } else {
-                result = this.findNode(condition, node.getBorderNodes()).or(() -> this.findNode(condition, node.getChildNodes()));
-            }
-            if (result.isPresent()) {
-                break;
-            }
-        }
-        return result;
+        return this.getDiagramIndex(diagram).findNodeByLabelId(labelId);
     }
 
     @Override
     public Optional<Edge> findEdgeById(Diagram diagram, UUID edgeId) {
-        return diagram.getEdges().stream().filter(edge -> Objects.equals(edgeId, edge.getId())).findFirst();
+        return this.getDiagramIndex(diagram).findEdgeById(edgeId);
+    }
+
+    private DiagramIndex getDiagramIndex(Diagram diagram) {
+        return this.diagramIndexes.getUnchecked(diagram);
     }
 
 }
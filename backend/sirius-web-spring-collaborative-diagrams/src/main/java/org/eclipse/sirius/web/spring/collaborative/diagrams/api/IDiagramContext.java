@@ -17,6 +17,7 @@ import java.util.List;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.web.diagrams.events.IDiagramEvent;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingMemo;
 
 /**
  * Information used to perform some operations on the diagram.
@@ -42,4 +43,8 @@ public interface IDiagramContext {
 
     void setDiagramEvent(IDiagramEvent diagramElementEvent);
 
+    DiagramRenderingMemo getRenderingMemo();
+
+    void setRenderingMemo(DiagramRenderingMemo renderingMemo);
+
 }
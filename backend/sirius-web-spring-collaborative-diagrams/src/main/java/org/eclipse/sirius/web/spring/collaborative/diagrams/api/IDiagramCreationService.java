@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.spring.collaborative.diagrams.api;
 
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.diagrams.Diagram;
@@ -57,6 +58,25 @@ public interface IDiagramCreationService {
      */
     Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext);
 
+    /**
+     * Refresh an existing diagram after a semantic change.
+     *
+     * <p>
+     * Only the given semantic objects, along with their containers, have been modified since the previous rendering of
+     * the diagram. Implementations may thus reuse the nodes and edges of the previous diagram which do not display any
+     * of them.
+     * </p>
+     *
+     * @param editingContext
+     *            The editing context
+     * @param diagramContext
+     *            The diagram context
+     * @param changedObjectIds
+     *            The identifiers of the semantic objects modified since the previous rendering
+     * @return An updated diagram if we have been able to refresh it.
+     */
+    Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, Set<String> changedObjectIds);
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -74,6 +94,11 @@ public interface IDiagramCreationService {
             return Optional.empty();
         }
 
+        @Override
+        public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, Set<String> changedObjectIds) {
+            return Optional.empty();
+        }
+
     }
 
 }
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams.api;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.diagrams.Diagram;
+
+/**
+ * Performs the full layout of the diagrams in the background, outside of the thread of their editing context.
+ *
+ * @author agent
+ */
+public interface IDiagramLayoutScheduler {
+
+    /**
+     * Indicates if the full layout of existing diagrams should be performed in the background.
+     *
+     * @return <code>true</code> if the full layout should be scheduled, <code>false</code> if it should be performed
+     *         right away
+     */
+    boolean isEnabled();
+
+    /**
+     * Schedules the full layout of the given diagram.
+     *
+     * <p>
+     * The layout previously scheduled for the same diagram is canceled. Once computed, the layouted diagram is sent back
+     * to the editing context which will only apply it if the diagram has not been refreshed in the meantime.
+     * </p>
+     *
+     * @param editingContext
+     *            The editing context of the diagram
+     * @param diagram
+     *            The diagram to layout, which must be the one kept by the diagram context until the layout is applied
+     */
+    void schedule(IEditingContext editingContext, Diagram diagram);
+
+}
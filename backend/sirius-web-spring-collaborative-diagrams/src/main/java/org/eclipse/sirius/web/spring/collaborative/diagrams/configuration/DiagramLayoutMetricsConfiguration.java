@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams.configuration;
+
+import org.eclipse.sirius.web.diagrams.layout.TextBoundsService;
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration used to publish the metrics of the services used to layout the diagrams.
+ *
+ * @author agent
+ */
+@Configuration
+public class DiagramLayoutMetricsConfiguration {
+
+    public DiagramLayoutMetricsConfiguration(TextBoundsService textBoundsService, MeterRegistry meterRegistry) {
+        // @formatter:off
+        FunctionCounter.builder(Monitoring.TEXT_BOUNDS_HITS, textBoundsService, TextBoundsService::getHitCount)
+                .register(meterRegistry);
+        FunctionCounter.builder(Monitoring.TEXT_BOUNDS_MISSES, textBoundsService, TextBoundsService::getMissCount)
+                .register(meterRegistry);
+        Gauge.builder(Monitoring.TEXT_BOUNDS_SIZE, textBoundsService, TextBoundsService::getSize)
+                .register(meterRegistry);
+        // @formatter:on
+    }
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams.dto;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.diagrams.Node;
+
+/**
+ * A node added to a diagram, along with all its border and child nodes.
+ *
+ * @author agent
+ */
+@GraphQLObjectType
+public final class AddedNode {
+
+    private final UUID parentId;
+
+    private final Node node;
+
+    public AddedNode(UUID parentId, Node node) {
+        this.parentId = Objects.requireNonNull(parentId);
+        this.node = Objects.requireNonNull(node);
+    }
+
+    /**
+     * Returns the identifier of the parent of the node, which is either another node or the diagram itself.
+     *
+     * @return The identifier of the parent of the node
+     */
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getParentId() {
+        return this.parentId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public Node getNode() {
+        return this.node;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'parentId: {1}, node: '{'id: {2}'}''}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.parentId, this.node.getId());
+    }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams.dto;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramInput;
+
+/**
+ * Internal input used to bring back the result of a full layout computed in the background to the thread of the editing
+ * context.
+ *
+ * <p>
+ * The layout is only applied if the diagram is still the one which has been layouted, otherwise it is discarded.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ApplyDiagramLayoutInput implements IDiagramInput {
+
+    private final UUID id;
+
+    private final UUID editingContextId;
+
+    private final Diagram diagram;
+
+    private final Diagram layoutedDiagram;
+
+    public ApplyDiagramLayoutInput(UUID id, UUID editingContextId, Diagram diagram, Diagram layoutedDiagram) {
+        this.id = Objects.requireNonNull(id);
+        this.editingContextId = Objects.requireNonNull(editingContextId);
+        this.diagram = Objects.requireNonNull(diagram);
+        this.layoutedDiagram = Objects.requireNonNull(layoutedDiagram);
+    }
+
+    @Override
+    public UUID getId() {
+        return this.id;
+    }
+
+    public UUID getEditingContextId() {
+        return this.editingContextId;
+    }
+
+    @Override
+    public UUID getRepresentationId() {
+        return this.diagram.getId();
+    }
+
+    /**
+     * Returns the diagram which has been layouted.
+     *
+     * @return The diagram which has been layouted
+     */
+    public Diagram getDiagram() {
+        return this.diagram;
+    }
+
+    public Diagram getLayoutedDiagram() {
+        return this.layoutedDiagram;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, editingContextId: {2}, representationId: {3}}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.editingContextId, this.getRepresentationId());
+    }
+}
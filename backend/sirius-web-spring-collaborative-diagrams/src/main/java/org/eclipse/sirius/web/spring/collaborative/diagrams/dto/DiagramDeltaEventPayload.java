@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.Immutable;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.Node;
+
+/**
+ * Payload used to send the differences between the previous version of a diagram and its refreshed version.
+ *
+ * <p>
+ * The nodes added are sent with all their descendants while the nodes updated are sent without their border and child
+ * nodes, which are described by the other elements of the payload. The labels updated are the labels which have
+ * changed while their owner has not. The sequence number is incremented by one for each refresh of the diagram, a
+ * subscriber which notices a gap should subscribe again to receive a new snapshot of the diagram.
+ * </p>
+ *
+ * @author agent
+ */
+@Immutable
+@GraphQLObjectType
+public final class DiagramDeltaEventPayload implements IPayload {
+
+    private UUID id;
+
+    private UUID diagramId;
+
+    private int sequenceNumber;
+
+    private List<AddedNode> addedNodes;
+
+    private List<Node> updatedNodes;
+
+    private List<UUID> removedNodeIds;
+
+    private List<Edge> addedEdges;
+
+    private List<Edge> updatedEdges;
+
+    private List<UUID> removedEdgeIds;
+
+    private List<Label> updatedLabels;
+
+    private DiagramDeltaEventPayload() {
+        // Prevent instantiation
+    }
+
+    @Override
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getId() {
+        return this.id;
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getDiagramId() {
+        return this.diagramId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public int getSequenceNumber() {
+        return this.sequenceNumber;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull AddedNode> getAddedNodes() {
+        return this.addedNodes;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull Node> getUpdatedNodes() {
+        return this.updatedNodes;
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull UUID> getRemovedNodeIds() {
+        return this.removedNodeIds;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull Edge> getAddedEdges() {
+        return this.addedEdges;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull Edge> getUpdatedEdges() {
+        return this.updatedEdges;
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull UUID> getRemovedEdgeIds() {
+        return this.removedEdgeIds;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull Label> getUpdatedLabels() {
+        return this.updatedLabels;
+    }
+
+    /**
+     * Indicates if the diagram has not changed at all.
+     *
+     * @return <code>true</code> if the payload does not contain any difference, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        boolean isEmpty = this.addedNodes.isEmpty() && this.updatedNodes.isEmpty() && this.removedNodeIds.isEmpty();
+        isEmpty = isEmpty && this.addedEdges.isEmpty() && this.updatedEdges.isEmpty() && this.removedEdgeIds.isEmpty();
+        return isEmpty && this.updatedLabels.isEmpty();
+    }
+
+    public static Builder newDiagramDeltaEventPayload(UUID id) {
+        return new Builder(id);
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, diagramId: {2}, sequenceNumber: {3}, addedNodes: {4}, updatedNodes: {5}, removedNodes: {6}, addedEdges: {7}, updatedEdges: {8}, removedEdges: {9}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.diagramId, this.sequenceNumber, this.addedNodes.size(), this.updatedNodes.size(), this.removedNodeIds.size(),
+                this.addedEdges.size(), this.updatedEdges.size(), this.removedEdgeIds.size());
+    }
+
+    /**
+     * The builder used to create the payload.
+     *
+     * @author agent
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class Builder {
+        private UUID id;
+
+        private UUID diagramId;
+
+        private int sequenceNumber;
+
+        private List<AddedNode> addedNodes;
+
+        private List<Node> updatedNodes;
+
+        private List<UUID> removedNodeIds;
+
+        private List<Edge> addedEdges;
+
+        private List<Edge> updatedEdges;
+
+        private List<UUID> removedEdgeIds;
+
+        private List<Label> updatedLabels;
+
+        private Builder(UUID id) {
+            this.id = Objects.requireNonNull(id);
+        }
+
+        public Builder diagramId(UUID diagramId) {
+            this.diagramId = Objects.requireNonNull(diagramId);
+            return this;
+        }
+
+        public Builder sequenceNumber(int sequenceNumber) {
+            this.sequenceNumber = sequenceNumber;
+            return this;
+        }
+
+        public Builder addedNodes(List<AddedNode> addedNodes) {
+            this.addedNodes = Objects.requireNonNull(addedNodes);
+            return this;
+        }
+
+        public Builder updatedNodes(List<Node> updatedNodes) {
+            this.updatedNodes = Objects.requireNonNull(updatedNodes);
+            return this;
+        }
+
+        public Builder removedNodeIds(List<UUID> removedNodeIds) {
+            this.removedNodeIds = Objects.requireNonNull(removedNodeIds);
+            return this;
+        }
+
+        public Builder addedEdges(List<Edge> addedEdges) {
+            this.addedEdges = Objects.requireNonNull(addedEdges);
+            return this;
+        }
+
+        public Builder updatedEdges(List<Edge> updatedEdges) {
+            this.updatedEdges = Objects.requireNonNull(updatedEdges);
+            return this;
+        }
+
+        public Builder removedEdgeIds(List<UUID> removedEdgeIds) {
+            this.removedEdgeIds = Objects.requireNonNull(removedEdgeIds);
+            return this;
+        }
+
+        public Builder updatedLabels(List<Label> updatedLabels) {
+            this.updatedLabels = Objects.requireNonNull(updatedLabels);
+            return this;
+        }
+
+        public DiagramDeltaEventPayload build() {
+            DiagramDeltaEventPayload payload = new DiagramDeltaEventPayload();
+            payload.id = Objects.requireNonNull(this.id);
+            payload.diagramId = Objects.requireNonNull(this.diagramId);
+            payload.sequenceNumber = this.sequenceNumber;
+            payload.addedNodes = List.copyOf(Objects.requireNonNull(this.addedNodes));
+            payload.updatedNodes = List.copyOf(Objects.requireNonNull(this.updatedNodes));
+            payload.removedNodeIds = List.copyOf(Objects.requireNonNull(this.removedNodeIds));
+            payload.addedEdges = List.copyOf(Objects.requireNonNull(this.addedEdges));
+            payload.updatedEdges = List.copyOf(Objects.requireNonNull(this.updatedEdges));
+            payload.removedEdgeIds = List.copyOf(Objects.requireNonNull(this.removedEdgeIds));
+            payload.updatedLabels = List.copyOf(Objects.requireNonNull(this.updatedLabels));
+            return payload;
+        }
+    }
+}
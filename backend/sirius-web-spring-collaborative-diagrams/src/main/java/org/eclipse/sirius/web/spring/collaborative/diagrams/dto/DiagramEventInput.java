@@ -35,14 +35,21 @@ public final class DiagramEventInput implements IInput {
 
     private UUID diagramId;
 
+    private boolean deltaUpdates;
+
     public DiagramEventInput() {
         // Used by Jackson
     }
 
     public DiagramEventInput(UUID id, UUID editingContextId, UUID diagramId) {
+        this(id, editingContextId, diagramId, false);
+    }
+
+    public DiagramEventInput(UUID id, UUID editingContextId, UUID diagramId, boolean deltaUpdates) {
         this.id = Objects.requireNonNull(id);
         this.editingContextId = Objects.requireNonNull(editingContextId);
         this.diagramId = Objects.requireNonNull(diagramId);
+        this.deltaUpdates = deltaUpdates;
     }
 
     @Override
@@ -67,9 +74,20 @@ public final class DiagramEventInput implements IInput {
         return this.diagramId;
     }
 
+    /**
+     * Indicates if the subscriber wants to receive the differences between two versions of the diagram instead of the
+     * whole diagram after each refresh.
+     *
+     * @return <code>true</code> to receive {@link DiagramDeltaEventPayload}, <code>false</code> otherwise
+     */
+    @GraphQLField
+    public boolean isDeltaUpdates() {
+        return this.deltaUpdates;
+    }
+
     @Override
     public String toString() {
-        String pattern = "{0} '{'id: {1}, editingContextId: {2}, diagramId: {3}'}'"; //$NON-NLS-1$
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.editingContextId, this.diagramId);
+        String pattern = "{0} '{'id: {1}, editingContextId: {2}, diagramId: {3}, deltaUpdates: {4}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.editingContextId, this.diagramId, this.deltaUpdates);
     }
 }
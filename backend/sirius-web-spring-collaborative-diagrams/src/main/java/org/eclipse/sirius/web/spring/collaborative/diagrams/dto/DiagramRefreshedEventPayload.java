@@ -32,10 +32,13 @@ import org.eclipse.sirius.web.diagrams.Diagram;
 public final class DiagramRefreshedEventPayload implements IPayload {
     private final UUID id;
 
+    private final int sequenceNumber;
+
     private final Diagram diagram;
 
-    public DiagramRefreshedEventPayload(UUID id, Diagram diagram) {
+    public DiagramRefreshedEventPayload(UUID id, int sequenceNumber, Diagram diagram) {
         this.id = Objects.requireNonNull(id);
+        this.sequenceNumber = sequenceNumber;
         this.diagram = Objects.requireNonNull(diagram);
     }
 
@@ -47,6 +50,12 @@ public final class DiagramRefreshedEventPayload implements IPayload {
         return this.id;
     }
 
+    @GraphQLField
+    @GraphQLNonNull
+    public int getSequenceNumber() {
+        return this.sequenceNumber;
+    }
+
     @GraphQLField
     @GraphQLNonNull
     public Diagram getDiagram() {
@@ -55,7 +64,7 @@ public final class DiagramRefreshedEventPayload implements IPayload {
 
     @Override
     public String toString() {
-        String pattern = "{0} '{'id: {1}, diagram: '{'id: {2}, label: {3}'}''}'"; //$NON-NLS-1$
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.diagram.getId(), this.diagram.getLabel());
+        String pattern = "{0} '{'id: {1}, sequenceNumber: {2}, diagram: '{'id: {3}, label: {4}'}''}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.sequenceNumber, this.diagram.getId(), this.diagram.getLabel());
     }
 }
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.AddedNode;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.DiagramDeltaEventPayload;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the diagram delta provider.
+ *
+ * @author agent
+ */
+public class DiagramDeltaProviderTests {
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    @Test
+    public void testDeltaOfModifiedDiagram() {
+        Node movedNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node renamedNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node removedNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node parentNode = Node.newNode(this.testDiagramBuilder.getNode(UUID.randomUUID())).childNodes(List.of(removedNode)).build();
+        Edge removedEdge = this.testDiagramBuilder.getEdge(UUID.randomUUID(), movedNode.getId(), renamedNode.getId());
+
+        Diagram diagram = this.testDiagramBuilder.getDiagram(UUID.randomUUID());
+        Diagram previousDiagram = Diagram.newDiagram(diagram).nodes(List.of(movedNode, renamedNode, parentNode)).edges(List.of(removedEdge)).build();
+
+        Node newMovedNode = Node.newNode(movedNode).position(Position.at(10, 10)).build();
+        Label newLabel = Label.newLabel(renamedNode.getLabel()).text("newText").build(); //$NON-NLS-1$
+        Node newRenamedNode = Node.newNode(renamedNode).label(newLabel).build();
+        Node addedNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node newParentNode = Node.newNode(parentNode).childNodes(List.of(addedNode)).build();
+        Diagram newDiagram = Diagram.newDiagram(diagram).nodes(List.of(newMovedNode, newRenamedNode, newParentNode)).edges(List.of()).build();
+
+        Optional<DiagramDeltaEventPayload> optionalDelta = new DiagramDeltaProvider().getDelta(UUID.randomUUID(), 2, previousDiagram, newDiagram);
+        assertThat(optionalDelta).isPresent();
+
+        DiagramDeltaEventPayload delta = optionalDelta.get();
+        assertThat(delta.getSequenceNumber()).isEqualTo(2);
+        assertThat(delta.getUpdatedNodes()).extracting(Node::getId).containsExactly(movedNode.getId());
+        assertThat(delta.getUpdatedLabels()).containsExactly(newLabel);
+        assertThat(delta.getAddedNodes()).extracting(AddedNode::getParentId).containsExactly(parentNode.getId());
+        assertThat(delta.getAddedNodes()).extracting(AddedNode::getNode).containsExactly(addedNode);
+        assertThat(delta.getRemovedNodeIds()).containsExactly(removedNode.getId());
+        assertThat(delta.getRemovedEdgeIds()).containsExactly(removedEdge.getId());
+        assertThat(delta.getAddedEdges()).isEmpty();
+        assertThat(delta.getUpdatedEdges()).isEmpty();
+    }
+
+    @Test
+    public void testEmptyDeltaOfUnchangedDiagram() {
+        Node node = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Diagram diagram = Diagram.newDiagram(this.testDiagramBuilder.getDiagram(UUID.randomUUID())).nodes(List.of(node)).build();
+
+        Optional<DiagramDeltaEventPayload> optionalDelta = new DiagramDeltaProvider().getDelta(UUID.randomUUID(), 1, diagram, diagram);
+        assertThat(optionalDelta).isPresent();
+        assertThat(optionalDelta.get().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testNoDeltaWhenTheDiagramItselfChanged() {
+        Diagram diagram = this.testDiagramBuilder.getDiagram(UUID.randomUUID());
+        Diagram newDiagram = Diagram.newDiagram(diagram).label("newLabel").build(); //$NON-NLS-1$
+
+        assertThat(new DiagramDeltaProvider().getDelta(UUID.randomUUID(), 1, diagram, newDiagram)).isEmpty();
+    }
+}
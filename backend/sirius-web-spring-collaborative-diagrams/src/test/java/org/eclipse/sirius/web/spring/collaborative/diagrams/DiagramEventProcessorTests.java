@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.eclipse.sirius.web.spring.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.web.spring.collaborative.api.ChangeKind;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramCreationService;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.dto.ApplyDiagramLayoutInput;
+import org.eclipse.sirius.web.spring.collaborative.representations.SubscriptionManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the diagram event processor.
+ *
+ * @author agent
+ */
+public class DiagramEventProcessorTests {
+
+    @Test
+    public void testFastReopenServesThePersistedDiagramBeforeItsReconciliation() {
+        Diagram persistedDiagram = new TestDiagramBuilder().getDiagram(UUID.randomUUID());
+        Diagram reconciledDiagram = Diagram.newDiagram(persistedDiagram).label("reconciled").build(); //$NON-NLS-1$
+        AtomicInteger refreshCount = new AtomicInteger();
+
+        IDiagramCreationService diagramCreationService = new IDiagramCreationService.NoOp() {
+            @Override
+            public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext) {
+                refreshCount.incrementAndGet();
+                return Optional.of(reconciledDiagram);
+            }
+        };
+
+        IEditingContext editingContext = UUID::randomUUID;
+        IInput input = UUID::randomUUID;
+        var diagramEventProcessor = new DiagramEventProcessor(editingContext, new DiagramContext(persistedDiagram), List.of(), new SubscriptionManager(), diagramCreationService,
+                (savedEditingContext, savedRepresentation) -> {
+                }, true);
+
+        assertThat(refreshCount.get()).isEqualTo(0);
+        assertThat(diagramEventProcessor.getRepresentation()).isEqualTo(persistedDiagram);
+
+        ChangeDescription changeDescription = new ChangeDescription(ChangeKind.REPRESENTATION_OPENING, persistedDiagram.getId());
+        diagramEventProcessor.refresh(input, changeDescription);
+        assertThat(refreshCount.get()).isEqualTo(1);
+        assertThat(diagramEventProcessor.getRepresentation()).isEqualTo(reconciledDiagram);
+
+        diagramEventProcessor.refresh(input, changeDescription);
+        assertThat(refreshCount.get()).isEqualTo(1);
+
+        diagramEventProcessor.dispose();
+    }
+
+    @Test
+    public void testLayoutIsDiscardedOnceTheDiagramHasChanged() {
+        Diagram diagram = new TestDiagramBuilder().getDiagram(UUID.randomUUID());
+        Diagram refreshedDiagram = Diagram.newDiagram(diagram).label("refreshed").build(); //$NON-NLS-1$
+        Diagram staleLayoutedDiagram = Diagram.newDiagram(diagram).label("stale").build(); //$NON-NLS-1$
+        Diagram layoutedDiagram = Diagram.newDiagram(refreshedDiagram).label("layouted").build(); //$NON-NLS-1$
+        AtomicInteger saveCount = new AtomicInteger();
+
+        IDiagramCreationService diagramCreationService = new IDiagramCreationService.NoOp() {
+            @Override
+            public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext) {
+                return Optional.of(refreshedDiagram);
+            }
+        };
+
+        IEditingContext editingContext = UUID::randomUUID;
+        var diagramEventProcessor = new DiagramEventProcessor(editingContext, new DiagramContext(diagram), List.of(), new SubscriptionManager(), diagramCreationService,
+                (savedEditingContext, savedRepresentation) -> saveCount.incrementAndGet(), true);
+        diagramEventProcessor.refresh(UUID::randomUUID, new ChangeDescription(ChangeKind.REPRESENTATION_OPENING, diagram.getId()));
+        saveCount.set(0);
+
+        var staleInput = new ApplyDiagramLayoutInput(UUID.randomUUID(), editingContext.getId(), diagram, staleLayoutedDiagram);
+        assertThat(diagramEventProcessor.handle(staleInput)).isPresent();
+        assertThat(diagramEventProcessor.getRepresentation()).isSameAs(refreshedDiagram);
+        assertThat(saveCount.get()).isEqualTo(0);
+
+        var input = new ApplyDiagramLayoutInput(UUID.randomUUID(), editingContext.getId(), refreshedDiagram, layoutedDiagram);
+        assertThat(diagramEventProcessor.handle(input)).isPresent();
+        assertThat(diagramEventProcessor.getRepresentation()).isSameAs(layoutedDiagram);
+        assertThat(saveCount.get()).isEqualTo(1);
+
+        diagramEventProcessor.dispose();
+    }
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.DiagramIndex;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the diagram query service.
+ *
+ * @author agent
+ */
+public class DiagramQueryServiceTests {
+
+    @Test
+    public void testFindNestedElements() {
+        TestDiagramBuilder builder = new TestDiagramBuilder();
+        Node borderNode = builder.getNode(UUID.randomUUID());
+        Node childNode = builder.getNode(UUID.randomUUID());
+        Node node = Node.newNode(builder.getNode(UUID.randomUUID())).borderNodes(List.of(borderNode)).childNodes(List.of(childNode)).build();
+        Edge edge = builder.getEdge(UUID.randomUUID(), borderNode.getId(), childNode.getId());
+        Diagram diagram = Diagram.newDiagram(builder.getDiagram(UUID.randomUUID())).nodes(List.of(node)).edges(List.of(edge)).build();
+
+        DiagramQueryService diagramQueryService = new DiagramQueryService();
+        assertThat(diagramQueryService.findNodeById(diagram, node.getId())).containsSame(node);
+        assertThat(diagramQueryService.findNodeById(diagram, borderNode.getId())).containsSame(borderNode);
+        assertThat(diagramQueryService.findNodeById(diagram, childNode.getId())).containsSame(childNode);
+        assertThat(diagramQueryService.findNodeById(diagram, edge.getId())).isEmpty();
+        assertThat(diagramQueryService.findNodeByLabelId(diagram, childNode.getLabel().getId())).containsSame(childNode);
+        assertThat(diagramQueryService.findEdgeById(diagram, edge.getId())).containsSame(edge);
+
+        DiagramIndex diagramIndex = new DiagramIndex(diagram);
+        assertThat(diagramIndex.findParentNode(childNode.getId())).containsSame(node);
+        assertThat(diagramIndex.findParentNode(borderNode.getId())).containsSame(node);
+        assertThat(diagramIndex.findParentNode(node.getId())).isEmpty();
+    }
+
+    @Test
+    public void testEachDiagramHasItsOwnIndex() {
+        TestDiagramBuilder builder = new TestDiagramBuilder();
+        Node node = builder.getNode(UUID.randomUUID());
+        Diagram diagram = Diagram.newDiagram(builder.getDiagram(UUID.randomUUID())).nodes(List.of(node)).build();
+        Node movedNode = Node.newNode(node).build();
+        Diagram updatedDiagram = Diagram.newDiagram(diagram).nodes(List.of(movedNode)).build();
+
+        DiagramQueryService diagramQueryService = new DiagramQueryService();
+        assertThat(diagramQueryService.findNodeById(diagram, node.getId())).containsSame(node);
+        assertThat(diagramQueryService.findNodeById(updatedDiagram, node.getId())).containsSame(movedNode);
+    }
+}
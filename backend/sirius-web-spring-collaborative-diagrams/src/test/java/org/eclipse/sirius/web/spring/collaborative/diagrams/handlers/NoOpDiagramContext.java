@@ -17,6 +17,7 @@ import java.util.List;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.web.diagrams.events.IDiagramEvent;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.web.spring.collaborative.diagrams.api.IDiagramContext;
 
 /**
@@ -53,4 +54,13 @@ public class NoOpDiagramContext implements IDiagramContext {
     public void setDiagramEvent(IDiagramEvent diagramElementEvent) {
     }
 
+    @Override
+    public DiagramRenderingMemo getRenderingMemo() {
+        return new DiagramRenderingMemo();
+    }
+
+    @Override
+    public void setRenderingMemo(DiagramRenderingMemo renderingMemo) {
+    }
+
 }
@@ -33,36 +33,56 @@ import org.eclipse.sirius.web.representations.VariableManager;
  */
 public class FormDescriptionAggregator {
 
-    public Optional<FormDescription> aggregate(List<FormDescription> formDescriptions, Object object, IObjectService objectService) {
+    /**
+     * Returns the page descriptions which can be created for the given object.
+     *
+     * @param formDescriptions
+     *            The form descriptions
+     * @param object
+     *            The object
+     * @return The page descriptions whose predicate accepts the object, in the order of the form descriptions
+     */
+    public List<PageDescription> getPageDescriptions(List<FormDescription> formDescriptions, Object object) {
         VariableManager pageVariableManager = new VariableManager();
         pageVariableManager.put(VariableManager.SELF, object);
 
         // @formatter:off
-        List<PageDescription> pageDescriptions = formDescriptions.stream()
+        return formDescriptions.stream()
                 .flatMap(formDescription -> formDescription.getPageDescriptions().stream())
                 .filter(pageDescription -> pageDescription.getCanCreatePredicate().test(pageVariableManager))
-                .collect(Collectors.toList());
-
-        if (pageDescriptions.isEmpty()) {
-            return Optional.empty();
-        }
+                .collect(Collectors.toUnmodifiableList());
+        // @formatter:on
+    }
 
+    /**
+     * Aggregates the given page descriptions in a form description which does not depend on a specific object and can
+     * thus be reused for all the objects for which these pages can be created.
+     *
+     * @param pageDescriptions
+     *            The page descriptions
+     * @param objectService
+     *            The object service
+     * @return The aggregated form description
+     */
+    public FormDescription aggregate(List<PageDescription> pageDescriptions, IObjectService objectService) {
+        // @formatter:off
         List<GroupDescription> groupDescriptions = pageDescriptions.stream()
                 .flatMap(pageDescription -> pageDescription.getGroupDescriptions().stream())
                 .collect(Collectors.toUnmodifiableList());
 
-
         Function<VariableManager, String> labelProvider = variableManager -> {
-            return Optional.ofNullable(variableManager.getVariables().get(VariableManager.SELF))
+            return Optional.ofNullable(variableManager.getVariableScope().get(VariableManager.SELF))
                     .map(objectService::getFullLabel)
                     .orElse("Properties"); //$NON-NLS-1$
         };
 
         Function<VariableManager, String> targetObjectIdProvider = variableManager -> {
-            return Optional.ofNullable(object).map(objectService::getId).orElse(null);
+            return Optional.ofNullable(variableManager.getVariableScope().get(VariableManager.SELF))
+                    .map(objectService::getId)
+                    .orElse(null);
         };
 
-        return Optional.of(FormDescription.newFormDescription(UUID.randomUUID())
+        return FormDescription.newFormDescription(UUID.randomUUID())
                 .label("Aggregated form description") //$NON-NLS-1$
                 .idProvider(new GetOrCreateRandomIdProvider())
                 .labelProvider(labelProvider)
@@ -70,7 +90,7 @@ public class FormDescriptionAggregator {
                 .canCreatePredicate(variableManager -> false)
                 .pageDescriptions(pageDescriptions)
                 .groupDescriptions(groupDescriptions)
-                .build());
+                .build();
         // @formatter:on
     }
 }
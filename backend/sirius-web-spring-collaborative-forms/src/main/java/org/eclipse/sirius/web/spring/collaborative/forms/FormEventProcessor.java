@@ -56,6 +56,11 @@ import reactor.core.publisher.Sinks.Many;
  * Reacts to the input that target the property sheet of a specific object and publishes updated versions of the
  * {@link Form} to interested subscribers.
  *
+ * <p>
+ * The object and the form description can be replaced while the form event processor is alive, in order to reuse it
+ * when the selection of a properties view changes.
+ * </p>
+ *
  * @author pcdavid
  */
 public class FormEventProcessor implements IFormEventProcessor {
@@ -64,11 +69,13 @@ public class FormEventProcessor implements IFormEventProcessor {
 
     private final IEditingContext editingContext;
 
-    private final FormDescription formDescription;
-
     private final UUID formId;
 
-    private final Object object;
+    private final Object lock = new Object();
+
+    private FormDescription formDescription;
+
+    private Object object;
 
     private final List<IFormEventHandler> formEventHandlers;
 
@@ -104,6 +111,29 @@ public class FormEventProcessor implements IFormEventProcessor {
         return this.currentForm.get();
     }
 
+    /**
+     * Renders the form of another object with the given form description and publishes it to the subscribers.
+     *
+     * @param newObject
+     *            The object to display
+     * @param newFormDescription
+     *            The form description to use for this object
+     * @param input
+     *            The input which has triggered the change of object
+     */
+    public void retarget(Object newObject, FormDescription newFormDescription, IInput input) {
+        Form form;
+        synchronized (this.lock) {
+            this.object = Objects.requireNonNull(newObject);
+            this.formDescription = Objects.requireNonNull(newFormDescription);
+            form = this.refreshForm();
+            this.currentForm.set(form);
+        }
+
+        this.logger.trace("Form retargeted: {}", this.formId); //$NON-NLS-1$
+        this.emit(new FormRefreshedEventPayload(input.getId(), form));
+    }
+
     @Override
     public ISubscriptionManager getSubscriptionManager() {
         return this.subscriptionManager;
@@ -142,14 +172,20 @@ public class FormEventProcessor implements IFormEventProcessor {
     @Override
     public void refresh(IInput input, ChangeDescription changeDescription) {
         if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
-            Form form = this.refreshForm();
-
-            this.currentForm.set(form);
-            EmitResult emitResult = this.sink.tryEmitNext(new FormRefreshedEventPayload(input.getId(), form));
-            if (emitResult.isFailure()) {
-                String pattern = "An error has occurred while emitting a FormRefreshedEventPayload: {}"; //$NON-NLS-1$
-                this.logger.warn(pattern, emitResult);
+            Form form;
+            synchronized (this.lock) {
+                form = this.refreshForm();
+                this.currentForm.set(form);
             }
+            this.emit(new FormRefreshedEventPayload(input.getId(), form));
+        }
+    }
+
+    private void emit(FormRefreshedEventPayload payload) {
+        EmitResult emitResult = this.sink.tryEmitNext(payload);
+        if (emitResult.isFailure()) {
+            String pattern = "An error has occurred while emitting a FormRefreshedEventPayload: {}"; //$NON-NLS-1$
+            this.logger.warn(pattern, emitResult);
         }
     }
 
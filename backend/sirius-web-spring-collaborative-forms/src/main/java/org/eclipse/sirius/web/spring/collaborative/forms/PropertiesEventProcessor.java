@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.forms;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.core.api.IObjectService;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.core.api.IRepresentationInput;
+import org.eclipse.sirius.web.forms.description.FormDescription;
+import org.eclipse.sirius.web.representations.IRepresentation;
+import org.eclipse.sirius.web.spring.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.web.spring.collaborative.api.EventHandlerResponse;
+import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationConfiguration;
+import org.eclipse.sirius.web.spring.collaborative.api.ISubscriptionManager;
+import org.eclipse.sirius.web.spring.collaborative.forms.api.IFormEventProcessor;
+import org.eclipse.sirius.web.spring.collaborative.forms.api.PropertiesConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * The form event processor of a properties view, which can be retargeted to another object.
+ *
+ * <p>
+ * When the properties view is acquired again with the same identifier but another object, the form of the new object
+ * is rendered by the existing form event processor instead of creating a new one.
+ * </p>
+ *
+ * @author agent
+ */
+public class PropertiesEventProcessor implements IFormEventProcessor {
+
+    private final Logger logger = LoggerFactory.getLogger(PropertiesEventProcessor.class);
+
+    private final FormEventProcessor formEventProcessor;
+
+    private final IEditingContext editingContext;
+
+    private final IObjectService objectService;
+
+    private final PropertiesFormDescriptionProvider propertiesFormDescriptionProvider;
+
+    private String objectId;
+
+    public PropertiesEventProcessor(FormEventProcessor formEventProcessor, IEditingContext editingContext, String objectId, IObjectService objectService,
+            PropertiesFormDescriptionProvider propertiesFormDescriptionProvider) {
+        this.formEventProcessor = Objects.requireNonNull(formEventProcessor);
+        this.editingContext = Objects.requireNonNull(editingContext);
+        this.objectId = Objects.requireNonNull(objectId);
+        this.objectService = Objects.requireNonNull(objectService);
+        this.propertiesFormDescriptionProvider = Objects.requireNonNull(propertiesFormDescriptionProvider);
+    }
+
+    @Override
+    public void retarget(IRepresentationConfiguration configuration, IInput input) {
+        if (configuration instanceof PropertiesConfiguration) {
+            String newObjectId = ((PropertiesConfiguration) configuration).getObjectId();
+            if (!this.objectId.equals(newObjectId)) {
+                Optional<Object> optionalObject = this.objectService.getObject(this.editingContext, newObjectId);
+                if (optionalObject.isPresent()) {
+                    Object object = optionalObject.get();
+                    FormDescription formDescription = this.propertiesFormDescriptionProvider.getFormDescription(object);
+                    this.formEventProcessor.retarget(object, formDescription, input);
+                    this.objectId = newObjectId;
+                } else {
+                    this.logger.warn("The object with the id {} does not exist", newObjectId); //$NON-NLS-1$
+                }
+            }
+        }
+    }
+
+    @Override
+    public IRepresentation getRepresentation() {
+        return this.formEventProcessor.getRepresentation();
+    }
+
+    @Override
+    public Optional<EventHandlerResponse> handle(IRepresentationInput representationInput) {
+        return this.formEventProcessor.handle(representationInput);
+    }
+
+    @Override
+    public void refresh(IInput input, ChangeDescription changeDescription) {
+        this.formEventProcessor.refresh(input, changeDescription);
+    }
+
+    @Override
+    public ISubscriptionManager getSubscriptionManager() {
+        return this.formEventProcessor.getSubscriptionManager();
+    }
+
+    @Override
+    public Flux<IPayload> getOutputEvents(IInput input) {
+        return this.formEventProcessor.getOutputEvents(input);
+    }
+
+    @Override
+    public Flux<Boolean> canBeDisposed() {
+        return this.formEventProcessor.canBeDisposed();
+    }
+
+    @Override
+    public void dispose() {
+        this.formEventProcessor.dispose();
+    }
+
+}
@@ -34,14 +34,17 @@ import org.springframework.stereotype.Service;
 /**
  * Used to create the properties event processors.
  *
+ * <p>
+ * The form descriptions of the properties are shared by all the properties event processors created, see
+ * {@link PropertiesFormDescriptionProvider}.
+ * </p>
+ *
  * @author hmarchadour
  */
 @Service
 public class PropertiesEventProcessorFactory implements IRepresentationEventProcessorFactory {
 
-    private final IPropertiesDescriptionService propertiesDescriptionService;
-
-    private final IPropertiesDefaultDescriptionProvider propertiesDefaultDescriptionProvider;
+    private final PropertiesFormDescriptionProvider propertiesFormDescriptionProvider;
 
     private final IObjectService objectService;
 
@@ -54,8 +57,7 @@ public class PropertiesEventProcessorFactory implements IRepresentationEventProc
     public PropertiesEventProcessorFactory(IPropertiesDescriptionService propertiesDescriptionService, IPropertiesDefaultDescriptionProvider propertiesDefaultDescriptionProvider,
             IObjectService objectService, List<IFormEventHandler> formEventHandlers, ISubscriptionManagerFactory subscriptionManagerFactory,
             IWidgetSubscriptionManagerFactory widgetSubscriptionManagerFactory) {
-        this.propertiesDescriptionService = Objects.requireNonNull(propertiesDescriptionService);
-        this.propertiesDefaultDescriptionProvider = Objects.requireNonNull(propertiesDefaultDescriptionProvider);
+        this.propertiesFormDescriptionProvider = new PropertiesFormDescriptionProvider(propertiesDescriptionService, propertiesDefaultDescriptionProvider, objectService);
         this.objectService = Objects.requireNonNull(objectService);
         this.formEventHandlers = Objects.requireNonNull(formEventHandlers);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
@@ -73,20 +75,17 @@ public class PropertiesEventProcessorFactory implements IRepresentationEventProc
         if (IFormEventProcessor.class.isAssignableFrom(representationEventProcessorClass) && configuration instanceof PropertiesConfiguration) {
             PropertiesConfiguration propertiesConfiguration = (PropertiesConfiguration) configuration;
 
-            List<FormDescription> formDescriptions = this.propertiesDescriptionService.getPropertiesDescriptions();
             Optional<Object> optionalObject = this.objectService.getObject(editingContext, propertiesConfiguration.getObjectId());
             if (optionalObject.isPresent()) {
                 Object object = optionalObject.get();
-                Optional<FormDescription> optionalFormDescription = Optional.empty();
-                if (!formDescriptions.isEmpty()) {
-                    optionalFormDescription = new FormDescriptionAggregator().aggregate(formDescriptions, object, this.objectService);
-                }
-                FormDescription formDescription = optionalFormDescription.orElse(this.propertiesDefaultDescriptionProvider.getFormDescription());
-                IRepresentationEventProcessor formEventProcessor = new FormEventProcessor(editingContext, formDescription, propertiesConfiguration.getId(), object, this.formEventHandlers,
+                FormDescription formDescription = this.propertiesFormDescriptionProvider.getFormDescription(object);
+                FormEventProcessor formEventProcessor = new FormEventProcessor(editingContext, formDescription, propertiesConfiguration.getId(), object, this.formEventHandlers,
                         this.subscriptionManagerFactory.create(), this.widgetSubscriptionManagerFactory.create());
+                IRepresentationEventProcessor propertiesEventProcessor = new PropertiesEventProcessor(formEventProcessor, editingContext, propertiesConfiguration.getObjectId(),
+                        this.objectService, this.propertiesFormDescriptionProvider);
 
                 // @formatter:off
-                return Optional.of(formEventProcessor)
+                return Optional.of(propertiesEventProcessor)
                         .filter(representationEventProcessorClass::isInstance)
                         .map(representationEventProcessorClass::cast);
                 // @formatter:on
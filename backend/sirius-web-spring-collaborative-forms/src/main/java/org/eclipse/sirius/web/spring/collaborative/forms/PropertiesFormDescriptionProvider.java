@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.forms;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.sirius.web.core.api.IObjectService;
+import org.eclipse.sirius.web.forms.description.FormDescription;
+import org.eclipse.sirius.web.forms.description.PageDescription;
+import org.eclipse.sirius.web.spring.collaborative.forms.api.IPropertiesDefaultDescriptionProvider;
+import org.eclipse.sirius.web.spring.collaborative.forms.api.IPropertiesDescriptionService;
+
+/**
+ * Provides the form description used to display the properties of an object.
+ *
+ * <p>
+ * The predicates of the page descriptions are evaluated for each object since they may depend on its state. The form
+ * description aggregating the pages which can be created is only built once for each set of pages, as long as the
+ * properties descriptions do not change. The default form description is only built once.
+ * </p>
+ *
+ * @author agent
+ */
+public class PropertiesFormDescriptionProvider {
+
+    private final IPropertiesDescriptionService propertiesDescriptionService;
+
+    private final IPropertiesDefaultDescriptionProvider propertiesDefaultDescriptionProvider;
+
+    private final IObjectService objectService;
+
+    private final FormDescriptionAggregator formDescriptionAggregator = new FormDescriptionAggregator();
+
+    private List<FormDescription> formDescriptions = List.of();
+
+    private Map<List<PageDescription>, FormDescription> aggregatedFormDescriptions = new ConcurrentHashMap<>();
+
+    private FormDescription defaultFormDescription;
+
+    public PropertiesFormDescriptionProvider(IPropertiesDescriptionService propertiesDescriptionService, IPropertiesDefaultDescriptionProvider propertiesDefaultDescriptionProvider,
+            IObjectService objectService) {
+        this.propertiesDescriptionService = Objects.requireNonNull(propertiesDescriptionService);
+        this.propertiesDefaultDescriptionProvider = Objects.requireNonNull(propertiesDefaultDescriptionProvider);
+        this.objectService = Objects.requireNonNull(objectService);
+    }
+
+    public FormDescription getFormDescription(Object object) {
+        List<FormDescription> currentFormDescriptions = this.propertiesDescriptionService.getPropertiesDescriptions();
+        List<PageDescription> pageDescriptions = this.formDescriptionAggregator.getPageDescriptions(currentFormDescriptions, object);
+
+        FormDescription formDescription;
+        if (pageDescriptions.isEmpty()) {
+            formDescription = this.getDefaultFormDescription();
+        } else {
+            Map<List<PageDescription>, FormDescription> formDescriptionsByPages = this.getAggregatedFormDescriptions(currentFormDescriptions);
+            formDescription = formDescriptionsByPages.computeIfAbsent(pageDescriptions, pages -> this.formDescriptionAggregator.aggregate(pages, this.objectService));
+        }
+        return formDescription;
+    }
+
+    private synchronized Map<List<PageDescription>, FormDescription> getAggregatedFormDescriptions(List<FormDescription> currentFormDescriptions) {
+        boolean isSameVersion = this.formDescriptions.size() == currentFormDescriptions.size();
+        for (int i = 0; isSameVersion && i < currentFormDescriptions.size(); i++) {
+            isSameVersion = this.formDescriptions.get(i) == currentFormDescriptions.get(i);
+        }
+
+        if (!isSameVersion) {
+            this.formDescriptions = List.copyOf(currentFormDescriptions);
+            this.aggregatedFormDescriptions = new ConcurrentHashMap<>();
+        }
+        return this.aggregatedFormDescriptions;
+    }
+
+    private synchronized FormDescription getDefaultFormDescription() {
+        if (this.defaultFormDescription == null) {
+            this.defaultFormDescription = this.propertiesDefaultDescriptionProvider.getFormDescription();
+        }
+        return this.defaultFormDescription;
+    }
+}
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.spring.collaborative.forms.api;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationConfiguration;
@@ -20,6 +21,12 @@ import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationConfigurat
 /**
  * The configuration used to create a properties event processor.
  *
+ * <p>
+ * When the identifier of a properties view is given, like the one of the {@code propertiesEvent} subscription input,
+ * the same properties event processor is used for all the objects selected in this view. Otherwise, the identifier of
+ * the properties is computed from the identifier of the object.
+ * </p>
+ *
  * @author hmarchadour
  */
 public class PropertiesConfiguration implements IRepresentationConfiguration {
@@ -31,8 +38,12 @@ public class PropertiesConfiguration implements IRepresentationConfiguration {
     private final String objectId;
 
     public PropertiesConfiguration(String objectId) {
+        this(null, objectId);
+    }
+
+    public PropertiesConfiguration(UUID propertiesId, String objectId) {
         this.objectId = Objects.requireNonNull(objectId);
-        this.formId = UUID.nameUUIDFromBytes((PROPERTIES_PREFIX + objectId).getBytes());
+        this.formId = Optional.ofNullable(propertiesId).orElseGet(() -> UUID.nameUUIDFromBytes((PROPERTIES_PREFIX + objectId).getBytes()));
     }
 
     @Override
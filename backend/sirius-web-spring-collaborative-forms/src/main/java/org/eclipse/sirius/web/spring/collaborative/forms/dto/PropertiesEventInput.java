@@ -34,6 +34,8 @@ public final class PropertiesEventInput implements IInput {
 
     private String objectId;
 
+    private UUID propertiesId;
+
     @Override
     @GraphQLID
     @GraphQLField
@@ -56,9 +58,19 @@ public final class PropertiesEventInput implements IInput {
         return this.objectId;
     }
 
+    /**
+     * Returns the identifier of the properties view displaying the object, used to reuse the same properties event
+     * processor when the selection of this view changes, or null to use one properties event processor per object.
+     */
+    @GraphQLID
+    @GraphQLField
+    public UUID getPropertiesId() {
+        return this.propertiesId;
+    }
+
     @Override
     public String toString() {
-        String pattern = "{0} '{'id: {1}, editingContextId: {2}, objectId: {3}'}'"; //$NON-NLS-1$
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.editingContextId, this.objectId);
+        String pattern = "{0} '{'id: {1}, editingContextId: {2}, objectId: {3}, propertiesId: {4}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.editingContextId, this.objectId, this.propertiesId);
     }
 }
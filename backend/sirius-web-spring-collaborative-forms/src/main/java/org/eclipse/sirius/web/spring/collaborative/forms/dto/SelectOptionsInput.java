@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.forms.dto;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLInputObjectType;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.spring.collaborative.forms.api.IFormInput;
+
+/**
+ * The input object used to retrieve a page of the options of a select or a multi-select widget.
+ *
+ * @author agent
+ */
+@GraphQLInputObjectType
+public final class SelectOptionsInput implements IFormInput {
+
+    private UUID id;
+
+    private UUID editingContextId;
+
+    private UUID representationId;
+
+    private String selectId;
+
+    private String filter;
+
+    private int offset;
+
+    private int limit;
+
+    public SelectOptionsInput() {
+        // Used by Jackson
+    }
+
+    public SelectOptionsInput(UUID id, UUID editingContextId, UUID representationId, String selectId, String filter, int offset, int limit) {
+        this.id = Objects.requireNonNull(id);
+        this.editingContextId = Objects.requireNonNull(editingContextId);
+        this.representationId = Objects.requireNonNull(representationId);
+        this.selectId = Objects.requireNonNull(selectId);
+        this.filter = filter;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    @Override
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getId() {
+        return this.id;
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getEditingContextId() {
+        return this.editingContextId;
+    }
+
+    @Override
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getRepresentationId() {
+        return this.representationId;
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public String getSelectId() {
+        return this.selectId;
+    }
+
+    /**
+     * Returns the text which must be contained by the label of the options, all the options are returned if it is null
+     * or blank.
+     */
+    @GraphQLField
+    public String getFilter() {
+        return this.filter;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public int getOffset() {
+        return this.offset;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public int getLimit() {
+        return this.limit;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, editingContextId: {2}, representationId: {3}, selectId: {4}, filter: {5}, offset: {6}, limit: {7}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.editingContextId, this.representationId, this.selectId, this.filter, this.offset, this.limit);
+    }
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.forms.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.forms.SelectOption;
+
+/**
+ * The payload containing a page of the options of a select or a multi-select widget.
+ *
+ * @author agent
+ */
+@GraphQLObjectType
+public final class SelectOptionsSuccessPayload implements IPayload {
+
+    private final UUID id;
+
+    private final List<SelectOption> options;
+
+    private final boolean hasNextPage;
+
+    public SelectOptionsSuccessPayload(UUID id, List<SelectOption> options, boolean hasNextPage) {
+        this.id = Objects.requireNonNull(id);
+        this.options = Objects.requireNonNull(options);
+        this.hasNextPage = hasNextPage;
+    }
+
+    @Override
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getId() {
+        return this.id;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull SelectOption> getOptions() {
+        return this.options;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public boolean isHasNextPage() {
+        return this.hasNextPage;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, options: {2}, hasNextPage: {3}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.options.size(), this.hasNextPage);
+    }
+}
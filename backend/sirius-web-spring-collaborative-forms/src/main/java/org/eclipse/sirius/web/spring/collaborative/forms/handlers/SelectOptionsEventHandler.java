@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.forms.handlers;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.web.core.api.ErrorPayload;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.forms.AbstractWidget;
+import org.eclipse.sirius.web.forms.Form;
+import org.eclipse.sirius.web.forms.ISelectOptionsSearchHandler;
+import org.eclipse.sirius.web.forms.MultiSelect;
+import org.eclipse.sirius.web.forms.Select;
+import org.eclipse.sirius.web.forms.SelectOption;
+import org.eclipse.sirius.web.spring.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.web.spring.collaborative.api.ChangeKind;
+import org.eclipse.sirius.web.spring.collaborative.api.EventHandlerResponse;
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+import org.eclipse.sirius.web.spring.collaborative.forms.api.IFormEventHandler;
+import org.eclipse.sirius.web.spring.collaborative.forms.api.IFormInput;
+import org.eclipse.sirius.web.spring.collaborative.forms.api.IFormQueryService;
+import org.eclipse.sirius.web.spring.collaborative.forms.dto.SelectOptionsInput;
+import org.eclipse.sirius.web.spring.collaborative.forms.dto.SelectOptionsSuccessPayload;
+import org.eclipse.sirius.web.spring.collaborative.forms.messages.ICollaborativeFormMessageService;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The handler used to retrieve a page of the options of a select or a multi-select widget.
+ *
+ * <p>
+ * The options are searched among the candidates of the widget in the current version of the form, only the options
+ * needed to fill the requested page are created.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class SelectOptionsEventHandler implements IFormEventHandler {
+
+    private final IFormQueryService formQueryService;
+
+    private final ICollaborativeFormMessageService messageService;
+
+    private final Counter counter;
+
+    public SelectOptionsEventHandler(IFormQueryService formQueryService, ICollaborativeFormMessageService messageService, MeterRegistry meterRegistry) {
+        this.formQueryService = Objects.requireNonNull(formQueryService);
+        this.messageService = Objects.requireNonNull(messageService);
+
+        // @formatter:off
+        this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
+                .tag(Monitoring.NAME, this.getClass().getSimpleName())
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    @Override
+    public boolean canHandle(IFormInput formInput) {
+        return formInput instanceof SelectOptionsInput;
+    }
+
+    @Override
+    public EventHandlerResponse handle(Form form, IFormInput formInput) {
+        this.counter.increment();
+
+        String message = this.messageService.invalidInput(formInput.getClass().getSimpleName(), SelectOptionsInput.class.getSimpleName());
+        IPayload payload = new ErrorPayload(formInput.getId(), message);
+
+        if (formInput instanceof SelectOptionsInput) {
+            SelectOptionsInput input = (SelectOptionsInput) formInput;
+
+            // @formatter:off
+            Optional<ISelectOptionsSearchHandler> optionalOptionsSearchHandler = this.formQueryService.findWidget(form, input.getSelectId())
+                    .flatMap(this::getOptionsSearchHandler);
+            // @formatter:on
+
+            if (optionalOptionsSearchHandler.isPresent() && input.getOffset() >= 0 && input.getLimit() > 0) {
+                // One more option is requested to know if there is a next page
+                int limit = (int) Math.min(input.getLimit() + 1L, Integer.MAX_VALUE);
+                List<SelectOption> options = optionalOptionsSearchHandler.get().search(input.getFilter(), input.getOffset(), limit);
+
+                boolean hasNextPage = options.size() > input.getLimit();
+                if (hasNextPage) {
+                    options = options.subList(0, input.getLimit());
+                }
+                payload = new SelectOptionsSuccessPayload(formInput.getId(), options, hasNextPage);
+            }
+        }
+
+        return new EventHandlerResponse(new ChangeDescription(ChangeKind.NOTHING, formInput.getRepresentationId()), payload);
+    }
+
+    private Optional<ISelectOptionsSearchHandler> getOptionsSearchHandler(AbstractWidget widget) {
+        Optional<ISelectOptionsSearchHandler> optionalOptionsSearchHandler = Optional.empty();
+        if (widget instanceof Select) {
+            optionalOptionsSearchHandler = Optional.of(((Select) widget).getOptionsSearchHandler());
+        } else if (widget instanceof MultiSelect) {
+            optionalOptionsSearchHandler = Optional.of(((MultiSelect) widget).getOptionsSearchHandler());
+        }
+        return optionalOptionsSearchHandler;
+    }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.forms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.core.api.IObjectService;
+import org.eclipse.sirius.web.forms.Form;
+import org.eclipse.sirius.web.forms.description.FormDescription;
+import org.eclipse.sirius.web.forms.description.PageDescription;
+import org.eclipse.sirius.web.representations.GetOrCreateRandomIdProvider;
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.eclipse.sirius.web.spring.collaborative.api.ISubscriptionManager;
+import org.eclipse.sirius.web.spring.collaborative.forms.api.PropertiesConfiguration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the properties event processor.
+ *
+ * @author agent
+ */
+public class PropertiesEventProcessorTests {
+
+    private static final String FIRST_OBJECT = "first object"; //$NON-NLS-1$
+
+    private static final String SECOND_OBJECT = "second object"; //$NON-NLS-1$
+
+    private static final String OTHER_OBJECT = "other object"; //$NON-NLS-1$
+
+    private final IObjectService objectService = new IObjectService.NoOp() {
+        @Override
+        public String getId(Object object) {
+            return object.toString();
+        }
+
+        @Override
+        public String getFullLabel(Object object) {
+            return object.toString();
+        }
+
+        @Override
+        public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
+            return Optional.of(objectId);
+        }
+    };
+
+    private final FormDescription defaultFormDescription = this.createFormDescription(variableManager -> true);
+
+    private final FormDescription formDescription = this.createFormDescription(variableManager -> !OTHER_OBJECT.equals(variableManager.getVariableScope().get(VariableManager.SELF)));
+
+    private final PropertiesFormDescriptionProvider propertiesFormDescriptionProvider = new PropertiesFormDescriptionProvider(() -> List.of(this.formDescription),
+            () -> this.defaultFormDescription, this.objectService);
+
+    @Test
+    public void testAggregatedFormDescriptionsAreReused() {
+        FormDescription firstFormDescription = this.propertiesFormDescriptionProvider.getFormDescription(FIRST_OBJECT);
+        assertThat(firstFormDescription.getPageDescriptions()).isEqualTo(this.formDescription.getPageDescriptions());
+        assertThat(this.propertiesFormDescriptionProvider.getFormDescription(SECOND_OBJECT)).isSameAs(firstFormDescription);
+        assertThat(this.propertiesFormDescriptionProvider.getFormDescription(OTHER_OBJECT)).isSameAs(this.defaultFormDescription);
+    }
+
+    @Test
+    public void testRetargetToAnotherObject() {
+        UUID propertiesId = UUID.randomUUID();
+        IEditingContext editingContext = new IEditingContext.NoOp();
+        FormEventProcessor formEventProcessor = new FormEventProcessor(editingContext, this.propertiesFormDescriptionProvider.getFormDescription(FIRST_OBJECT), propertiesId, FIRST_OBJECT,
+                List.of(), new ISubscriptionManager.NoOp(), new WidgetSubscriptionManager());
+        PropertiesEventProcessor propertiesEventProcessor = new PropertiesEventProcessor(formEventProcessor, editingContext, FIRST_OBJECT, this.objectService,
+                this.propertiesFormDescriptionProvider);
+
+        IInput input = UUID::randomUUID;
+        Form firstForm = (Form) propertiesEventProcessor.getRepresentation();
+        assertThat(firstForm.getTargetObjectId()).isEqualTo(FIRST_OBJECT);
+
+        propertiesEventProcessor.retarget(new PropertiesConfiguration(propertiesId, FIRST_OBJECT), input);
+        assertThat(propertiesEventProcessor.getRepresentation()).isSameAs(firstForm);
+
+        propertiesEventProcessor.retarget(new PropertiesConfiguration(propertiesId, SECOND_OBJECT), input);
+        Form secondForm = (Form) propertiesEventProcessor.getRepresentation();
+        assertThat(secondForm.getId()).isEqualTo(propertiesId);
+        assertThat(secondForm.getTargetObjectId()).isEqualTo(SECOND_OBJECT);
+        assertThat(secondForm.getLabel()).isEqualTo(SECOND_OBJECT);
+    }
+
+    private FormDescription createFormDescription(Predicate<VariableManager> canCreatePredicate) {
+        // @formatter:off
+        PageDescription pageDescription = PageDescription.newPageDescription(UUID.randomUUID().toString())
+                .idProvider(variableManager -> "page") //$NON-NLS-1$
+                .labelProvider(variableManager -> "page") //$NON-NLS-1$
+                .semanticElementsProvider(variableManager -> List.of(variableManager.getVariableScope().get(VariableManager.SELF)))
+                .groupDescriptions(List.of())
+                .canCreatePredicate(canCreatePredicate)
+                .build();
+
+        return FormDescription.newFormDescription(UUID.randomUUID())
+                .label("form") //$NON-NLS-1$
+                .idProvider(new GetOrCreateRandomIdProvider())
+                .labelProvider(variableManager -> "form") //$NON-NLS-1$
+                .targetObjectIdProvider(variableManager -> variableManager.getVariableScope().get(VariableManager.SELF).toString())
+                .canCreatePredicate(variableManager -> false)
+                .pageDescriptions(List.of(pageDescription))
+                .groupDescriptions(List.of())
+                .build();
+        // @formatter:on
+    }
+}
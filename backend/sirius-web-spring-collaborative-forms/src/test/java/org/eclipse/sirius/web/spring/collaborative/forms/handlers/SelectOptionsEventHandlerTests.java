@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.forms.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.web.core.api.ErrorPayload;
+import org.eclipse.sirius.web.forms.AbstractWidget;
+import org.eclipse.sirius.web.forms.Form;
+import org.eclipse.sirius.web.forms.Group;
+import org.eclipse.sirius.web.forms.Page;
+import org.eclipse.sirius.web.forms.Select;
+import org.eclipse.sirius.web.forms.SelectOption;
+import org.eclipse.sirius.web.representations.Status;
+import org.eclipse.sirius.web.spring.collaborative.api.ChangeKind;
+import org.eclipse.sirius.web.spring.collaborative.api.EventHandlerResponse;
+import org.eclipse.sirius.web.spring.collaborative.forms.api.IFormQueryService;
+import org.eclipse.sirius.web.spring.collaborative.forms.dto.SelectOptionsInput;
+import org.eclipse.sirius.web.spring.collaborative.forms.dto.SelectOptionsSuccessPayload;
+import org.eclipse.sirius.web.spring.collaborative.forms.messages.ICollaborativeFormMessageService;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the select options event handler.
+ *
+ * @author agent
+ */
+public class SelectOptionsEventHandlerTests {
+    private static final UUID FORM_ID = UUID.randomUUID();
+
+    private static final String SELECT_ID = "Select id"; //$NON-NLS-1$
+
+    @Test
+    public void testFirstPage() {
+        var input = new SelectOptionsInput(UUID.randomUUID(), UUID.randomUUID(), FORM_ID, SELECT_ID, null, 0, 10);
+        EventHandlerResponse response = this.createHandler().handle(this.createForm(), input);
+
+        assertThat(response.getChangeDescription().getKind()).isEqualTo(ChangeKind.NOTHING);
+        assertThat(response.getPayload()).isInstanceOf(SelectOptionsSuccessPayload.class);
+
+        SelectOptionsSuccessPayload payload = (SelectOptionsSuccessPayload) response.getPayload();
+        assertThat(payload.getOptions()).extracting(SelectOption::getId).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$//$NON-NLS-6$//$NON-NLS-7$//$NON-NLS-8$//$NON-NLS-9$//$NON-NLS-10$
+        assertThat(payload.isHasNextPage()).isTrue();
+    }
+
+    @Test
+    public void testFilteredLastPage() {
+        var input = new SelectOptionsInput(UUID.randomUUID(), UUID.randomUUID(), FORM_ID, SELECT_ID, "option 1", 5, 10); //$NON-NLS-1$
+        EventHandlerResponse response = this.createHandler().handle(this.createForm(), input);
+
+        assertThat(response.getPayload()).isInstanceOf(SelectOptionsSuccessPayload.class);
+
+        SelectOptionsSuccessPayload payload = (SelectOptionsSuccessPayload) response.getPayload();
+        assertThat(payload.getOptions()).extracting(SelectOption::getId).containsExactly("14", "15", "16", "17", "18", "19"); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$//$NON-NLS-6$
+        assertThat(payload.isHasNextPage()).isFalse();
+    }
+
+    @Test
+    public void testInvalidLimit() {
+        var input = new SelectOptionsInput(UUID.randomUUID(), UUID.randomUUID(), FORM_ID, SELECT_ID, null, 0, 0);
+        EventHandlerResponse response = this.createHandler().handle(this.createForm(), input);
+
+        assertThat(response.getPayload()).isInstanceOf(ErrorPayload.class);
+    }
+
+    private SelectOptionsEventHandler createHandler() {
+        IFormQueryService formQueryService = new IFormQueryService.NoOp() {
+            @Override
+            public Optional<AbstractWidget> findWidget(Form form, String widgetId) {
+                // @formatter:off
+                return form.getPages().stream()
+                        .flatMap(page -> page.getGroups().stream())
+                        .flatMap(group -> group.getWidgets().stream())
+                        .filter(widget -> widget.getId().equals(widgetId))
+                        .findFirst();
+                // @formatter:on
+            }
+        };
+        return new SelectOptionsEventHandler(formQueryService, new ICollaborativeFormMessageService.NoOp(), new SimpleMeterRegistry());
+    }
+
+    private Form createForm() {
+        // @formatter:off
+        List<SelectOption> options = IntStream.range(0, 30)
+                .mapToObj(index -> SelectOption.newSelectOption(String.valueOf(index)).label("Option " + index).build()) //$NON-NLS-1$
+                .collect(Collectors.toList());
+
+        Select select = Select.newSelect(SELECT_ID)
+                .label("label") //$NON-NLS-1$
+                .options(List.of())
+                .optionsCount(options.size())
+                .lazyOptions(true)
+                .optionsSearchHandler((filter, offset, limit) -> options.stream()
+                        .filter(option -> filter == null || option.getLabel().toLowerCase().contains(filter))
+                        .skip(offset)
+                        .limit(limit)
+                        .collect(Collectors.toList()))
+                .newValueHandler(newValue -> Status.OK)
+                .diagnostics(List.of())
+                .build();
+
+        Group group = Group.newGroup("groupId") //$NON-NLS-1$
+                .label("group label") //$NON-NLS-1$
+                .widgets(List.of(select))
+                .build();
+
+        Page page = Page.newPage("pageId") //$NON-NLS-1$
+                .label("page label") //$NON-NLS-1$
+                .groups(List.of(group))
+                .build();
+
+        return Form.newForm(FORM_ID)
+                .targetObjectId("targetObjectId") //$NON-NLS-1$
+                .descriptionId(UUID.randomUUID())
+                .label("form label") //$NON-NLS-1$
+                .pages(List.of(page))
+                .build();
+        // @formatter:on
+    }
+}
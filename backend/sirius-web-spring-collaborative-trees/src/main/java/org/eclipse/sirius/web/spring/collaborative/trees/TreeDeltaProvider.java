@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.trees;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.spring.collaborative.trees.dto.AddedTreeItem;
+import org.eclipse.sirius.web.spring.collaborative.trees.dto.TreeDeltaEventPayload;
+import org.eclipse.sirius.web.trees.Tree;
+import org.eclipse.sirius.web.trees.TreeItem;
+
+/**
+ * Computes the differences between two versions of a tree by comparing the tree items with the same identifier under
+ * the same parent.
+ *
+ * @author agent
+ */
+public class TreeDeltaProvider {
+
+    /**
+     * Computes the differences between two versions of a tree.
+     *
+     * <p>
+     * Nothing is returned if the properties of the tree itself, such as its label, have changed or if some tree items
+     * kept by the refresh are not in the same order anymore. The subscribers should receive the whole tree in this case.
+     * </p>
+     *
+     * @param id
+     *            The identifier of the payload
+     * @param sequenceNumber
+     *            The sequence number of the refresh
+     * @param previousTree
+     *            The previous version of the tree
+     * @param newTree
+     *            The refreshed version of the tree
+     * @return The differences between the two versions of the tree, if they can be described by a delta
+     */
+    public Optional<TreeDeltaEventPayload> getDelta(UUID id, int sequenceNumber, Tree previousTree, Tree newTree) {
+        Optional<TreeDeltaEventPayload> optionalDelta = Optional.empty();
+        if (this.isSameTree(previousTree, newTree)) {
+            List<AddedTreeItem> addedItems = new ArrayList<>();
+            List<TreeItem> updatedItems = new ArrayList<>();
+            Set<String> keptItemIds = new HashSet<>();
+            boolean isOrderKept = this.compareItems(newTree.getId().toString(), newTree.getChildren(), previousTree.getChildren(), keptItemIds, addedItems, updatedItems);
+
+            if (isOrderKept) {
+                List<String> removedItemIds = new ArrayList<>();
+                this.collectRemovedItemIds(previousTree.getChildren(), keptItemIds, removedItemIds);
+
+                // @formatter:off
+                var delta = TreeDeltaEventPayload.newTreeDeltaEventPayload(id)
+                        .treeId(newTree.getId())
+                        .sequenceNumber(sequenceNumber)
+                        .addedItems(addedItems)
+                        .updatedItems(updatedItems)
+                        .removedItemIds(removedItemIds)
+                        .build();
+                // @formatter:on
+                optionalDelta = Optional.of(delta);
+            }
+        }
+        return optionalDelta;
+    }
+
+    private boolean isSameTree(Tree previousTree, Tree newTree) {
+        boolean isSame = Objects.equals(previousTree.getId(), newTree.getId()) && Objects.equals(previousTree.getLabel(), newTree.getLabel());
+        return isSame && Objects.equals(previousTree.getKind(), newTree.getKind()) && Objects.equals(previousTree.getDescriptionId(), newTree.getDescriptionId());
+    }
+
+    /**
+     * Compares the children of a parent in both versions of the tree. A tree item which was not a child of the same
+     * parent in the previous version is added along with all its children, even if it existed somewhere else.
+     *
+     * @return <code>true</code> if the tree items kept are in the same order in both versions, <code>false</code>
+     *         otherwise
+     */
+    private boolean compareItems(String parentId, List<TreeItem> items, List<TreeItem> previousItems, Set<String> keptItemIds, List<AddedTreeItem> addedItems, List<TreeItem> updatedItems) {
+        Map<String, TreeItem> previousItemsById = new HashMap<>();
+        previousItems.forEach(previousItem -> previousItemsById.putIfAbsent(previousItem.getId(), previousItem));
+
+        boolean isOrderKept = true;
+        List<String> itemIds = new ArrayList<>();
+        Set<String> itemIdSet = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            TreeItem item = items.get(i);
+            TreeItem previousItem = previousItemsById.get(item.getId());
+            if (previousItem == null || !keptItemIds.add(item.getId())) {
+                addedItems.add(new AddedTreeItem(parentId, i, item));
+            } else {
+                itemIds.add(item.getId());
+                itemIdSet.add(item.getId());
+                if (!this.isSameItem(previousItem, item)) {
+                    updatedItems.add(TreeItem.newTreeItem(item).children(List.of()).build());
+                }
+                boolean isChildrenOrderKept = this.compareItems(item.getId(), item.getChildren(), previousItem.getChildren(), keptItemIds, addedItems, updatedItems);
+                isOrderKept = isOrderKept && isChildrenOrderKept;
+            }
+        }
+
+        // @formatter:off
+        List<String> previousItemIds = previousItems.stream()
+                .map(TreeItem::getId)
+                .filter(itemIdSet::contains)
+                .collect(Collectors.toList());
+        // @formatter:on
+        return isOrderKept && previousItemIds.equals(itemIds);
+    }
+
+    /**
+     * Collects the identifiers of the tree items removed. The children of a tree item removed are not collected since
+     * they are removed along with it.
+     */
+    private void collectRemovedItemIds(List<TreeItem> previousItems, Set<String> keptItemIds, List<String> removedItemIds) {
+        for (TreeItem previousItem : previousItems) {
+            if (!keptItemIds.contains(previousItem.getId())) {
+                removedItemIds.add(previousItem.getId());
+            } else {
+                this.collectRemovedItemIds(previousItem.getChildren(), keptItemIds, removedItemIds);
+            }
+        }
+    }
+
+    /**
+     * Compares the properties of two versions of a tree item, without their children.
+     */
+    private boolean isSameItem(TreeItem previousItem, TreeItem item) {
+        boolean isSame = Objects.equals(previousItem.getKind(), item.getKind()) && Objects.equals(previousItem.getLabel(), item.getLabel());
+        isSame = isSame && previousItem.isEditable() == item.isEditable() && Objects.equals(previousItem.getImageURL(), item.getImageURL());
+        return isSame && previousItem.isHasChildren() == item.isHasChildren() && previousItem.isExpanded() == item.isExpanded();
+    }
+}
@@ -33,6 +33,7 @@ import org.eclipse.sirius.web.spring.collaborative.trees.api.ITreeEventProcessor
 import org.eclipse.sirius.web.spring.collaborative.trees.api.ITreeInput;
 import org.eclipse.sirius.web.spring.collaborative.trees.api.ITreeService;
 import org.eclipse.sirius.web.spring.collaborative.trees.api.TreeCreationParameters;
+import org.eclipse.sirius.web.spring.collaborative.trees.dto.TreeEventInput;
 import org.eclipse.sirius.web.spring.collaborative.trees.dto.TreeRefreshedEventPayload;
 import org.eclipse.sirius.web.trees.Tree;
 import org.slf4j.Logger;
@@ -51,6 +52,11 @@ import reactor.core.publisher.Sinks.Many;
  * Reacts to the input that target a tree representation and publishes updated versions of the {@link Tree} to
  * interested subscribers.
  *
+ * <p>
+ * By default, the subscribers receive the whole tree after each refresh. The subscribers which have asked for delta
+ * updates receive the whole tree once when they subscribe and then only the tree items which have changed.
+ * </p>
+ *
  * @author pcdavid
  */
 public class TreeEventProcessor implements ITreeEventProcessor {
@@ -67,12 +73,20 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
     private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
 
+    private final Many<IPayload> deltaSink = Sinks.many().multicast().directBestEffort();
+
+    private final TreeDeltaProvider treeDeltaProvider = new TreeDeltaProvider();
+
+    private final Object lock = new Object();
+
     private final Many<Boolean> canBeDisposedSink = Sinks.many().unicast().onBackpressureBuffer();
 
     private final AtomicReference<Tree> currentTree = new AtomicReference<>();
 
     private final Timer timer;
 
+    private int sequenceNumber;
+
     public TreeEventProcessor(ITreeService treeService, TreeCreationParameters treeCreationParameters, List<ITreeEventHandler> treeEventHandlers, ISubscriptionManager subscriptionManager,
             MeterRegistry meterRegistry) {
         this.logger.trace("Creating the tree event processor {}", treeCreationParameters.getEditingContext().getId()); //$NON-NLS-1$
@@ -130,18 +144,42 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
             Tree tree = this.refreshTree();
 
-            this.currentTree.set(tree);
-            EmitResult emitResult = this.sink.tryEmitNext(new TreeRefreshedEventPayload(input.getId(), tree));
-            if (emitResult.isFailure()) {
-                String pattern = "An error has occurred while emitting a TreeRefreshedEventPayload: {}"; //$NON-NLS-1$
-                this.logger.warn(pattern, emitResult);
+            Tree previousTree;
+            int newSequenceNumber;
+            synchronized (this.lock) {
+                previousTree = this.currentTree.getAndSet(tree);
+                this.sequenceNumber++;
+                newSequenceNumber = this.sequenceNumber;
             }
+            this.treeRefreshed(input, newSequenceNumber, previousTree, tree);
 
             long end = System.currentTimeMillis();
             this.timer.record(end - start, TimeUnit.MILLISECONDS);
         }
     }
 
+    private void treeRefreshed(IInput input, int newSequenceNumber, Tree previousTree, Tree newTree) {
+        if (this.sink.currentSubscriberCount() > 0) {
+            this.emit(this.sink, new TreeRefreshedEventPayload(input.getId(), newSequenceNumber, newTree));
+        }
+        if (this.deltaSink.currentSubscriberCount() > 0) {
+            // @formatter:off
+            IPayload payload = this.treeDeltaProvider.getDelta(input.getId(), newSequenceNumber, previousTree, newTree)
+                    .map(IPayload.class::cast)
+                    .orElseGet(() -> new TreeRefreshedEventPayload(input.getId(), newSequenceNumber, newTree));
+            // @formatter:on
+            this.emit(this.deltaSink, payload);
+        }
+    }
+
+    private void emit(Many<IPayload> refreshSink, IPayload payload) {
+        EmitResult emitResult = refreshSink.tryEmitNext(payload);
+        if (emitResult.isFailure()) {
+            String pattern = "An error has occurred while emitting a {}: {}"; //$NON-NLS-1$
+            this.logger.warn(pattern, payload.getClass().getSimpleName(), emitResult);
+        }
+    }
+
     private boolean shouldRefresh(String changeKind) {
         boolean shouldRefresh = false;
 
@@ -173,8 +211,17 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
-        var initialRefresh = Mono.fromCallable(() -> new TreeRefreshedEventPayload(input.getId(), this.currentTree.get()));
-        var refreshEventFlux = Flux.concat(initialRefresh, this.sink.asFlux());
+        var initialRefresh = Mono.fromCallable(() -> {
+            synchronized (this.lock) {
+                return new TreeRefreshedEventPayload(input.getId(), this.sequenceNumber, this.currentTree.get());
+            }
+        });
+
+        Many<IPayload> refreshSink = this.sink;
+        if (input instanceof TreeEventInput && ((TreeEventInput) input).isDeltaUpdates()) {
+            refreshSink = this.deltaSink;
+        }
+        var refreshEventFlux = Flux.concat(initialRefresh, refreshSink.asFlux());
 
         // @formatter:off
         return Flux.merge(
@@ -213,10 +260,12 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
         this.subscriptionManager.dispose();
 
-        EmitResult emitResult = this.sink.tryEmitComplete();
-        if (emitResult.isFailure()) {
-            String pattern = "An error has occurred while marking the publisher as complete: {}"; //$NON-NLS-1$
-            this.logger.warn(pattern, emitResult);
+        for (Many<IPayload> refreshSink : List.of(this.sink, this.deltaSink)) {
+            EmitResult emitResult = refreshSink.tryEmitComplete();
+            if (emitResult.isFailure()) {
+                String pattern = "An error has occurred while marking the publisher as complete: {}"; //$NON-NLS-1$
+                this.logger.warn(pattern, emitResult);
+            }
         }
     }
 
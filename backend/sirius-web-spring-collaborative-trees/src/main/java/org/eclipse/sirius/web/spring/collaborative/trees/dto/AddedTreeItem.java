@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.trees.dto;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.trees.TreeItem;
+
+/**
+ * A tree item added to a tree, along with all its rendered children.
+ *
+ * @author agent
+ */
+@GraphQLObjectType
+public final class AddedTreeItem {
+
+    private final String parentId;
+
+    private final int index;
+
+    private final TreeItem item;
+
+    public AddedTreeItem(String parentId, int index, TreeItem item) {
+        this.parentId = Objects.requireNonNull(parentId);
+        this.index = index;
+        this.item = Objects.requireNonNull(item);
+    }
+
+    /**
+     * Returns the identifier of the parent of the tree item, which is either another tree item or the tree itself.
+     *
+     * @return The identifier of the parent of the tree item
+     */
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public String getParentId() {
+        return this.parentId;
+    }
+
+    /**
+     * Returns the position of the tree item among the children of its parent once all the differences are applied.
+     *
+     * @return The position of the tree item
+     */
+    @GraphQLField
+    @GraphQLNonNull
+    public int getIndex() {
+        return this.index;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public TreeItem getItem() {
+        return this.item;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'parentId: {1}, index: {2}, item: '{'id: {3}'}''}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.parentId, this.index, this.item.getId());
+    }
+}
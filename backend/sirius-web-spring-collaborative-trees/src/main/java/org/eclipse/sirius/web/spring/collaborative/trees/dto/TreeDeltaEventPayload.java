@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.trees.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.Immutable;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.trees.TreeItem;
+
+/**
+ * Payload used to send the differences between the previous version of a tree and its refreshed version.
+ *
+ * <p>
+ * The tree items added are sent with all their rendered children while the tree items updated are sent without their
+ * children, which are described by the other elements of the payload. The tree items removed should be removed before
+ * the tree items added are inserted, in order, at their index. The sequence number is incremented by one for each
+ * refresh of the tree, a subscriber which notices a gap should subscribe again to receive a new snapshot of the tree.
+ * </p>
+ *
+ * @author agent
+ */
+@Immutable
+@GraphQLObjectType
+public final class TreeDeltaEventPayload implements IPayload {
+
+    private UUID id;
+
+    private UUID treeId;
+
+    private int sequenceNumber;
+
+    private List<AddedTreeItem> addedItems;
+
+    private List<TreeItem> updatedItems;
+
+    private List<String> removedItemIds;
+
+    private TreeDeltaEventPayload() {
+        // Prevent instantiation
+    }
+
+    @Override
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getId() {
+        return this.id;
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getTreeId() {
+        return this.treeId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public int getSequenceNumber() {
+        return this.sequenceNumber;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull AddedTreeItem> getAddedItems() {
+        return this.addedItems;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull TreeItem> getUpdatedItems() {
+        return this.updatedItems;
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull String> getRemovedItemIds() {
+        return this.removedItemIds;
+    }
+
+    /**
+     * Indicates if the tree has not changed at all.
+     *
+     * @return <code>true</code> if the payload does not contain any difference, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return this.addedItems.isEmpty() && this.updatedItems.isEmpty() && this.removedItemIds.isEmpty();
+    }
+
+    public static Builder newTreeDeltaEventPayload(UUID id) {
+        return new Builder(id);
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, treeId: {2}, sequenceNumber: {3}, addedItems: {4}, updatedItems: {5}, removedItems: {6}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.treeId, this.sequenceNumber, this.addedItems.size(), this.updatedItems.size(), this.removedItemIds.size());
+    }
+
+    /**
+     * The builder used to create the payload.
+     *
+     * @author agent
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class Builder {
+        private UUID id;
+
+        private UUID treeId;
+
+        private int sequenceNumber;
+
+        private List<AddedTreeItem> addedItems;
+
+        private List<TreeItem> updatedItems;
+
+        private List<String> removedItemIds;
+
+        private Builder(UUID id) {
+            this.id = Objects.requireNonNull(id);
+        }
+
+        public Builder treeId(UUID treeId) {
+            this.treeId = Objects.requireNonNull(treeId);
+            return this;
+        }
+
+        public Builder sequenceNumber(int sequenceNumber) {
+            this.sequenceNumber = sequenceNumber;
+            return this;
+        }
+
+        public Builder addedItems(List<AddedTreeItem> addedItems) {
+            this.addedItems = Objects.requireNonNull(addedItems);
+            return this;
+        }
+
+        public Builder updatedItems(List<TreeItem> updatedItems) {
+            this.updatedItems = Objects.requireNonNull(updatedItems);
+            return this;
+        }
+
+        public Builder removedItemIds(List<String> removedItemIds) {
+            this.removedItemIds = Objects.requireNonNull(removedItemIds);
+            return this;
+        }
+
+        public TreeDeltaEventPayload build() {
+            TreeDeltaEventPayload payload = new TreeDeltaEventPayload();
+            payload.id = Objects.requireNonNull(this.id);
+            payload.treeId = Objects.requireNonNull(this.treeId);
+            payload.sequenceNumber = this.sequenceNumber;
+            payload.addedItems = List.copyOf(Objects.requireNonNull(this.addedItems));
+            payload.updatedItems = List.copyOf(Objects.requireNonNull(this.updatedItems));
+            payload.removedItemIds = List.copyOf(Objects.requireNonNull(this.removedItemIds));
+            return payload;
+        }
+    }
+}
@@ -36,14 +36,21 @@ public final class TreeEventInput implements IInput {
 
     private List<String> expanded;
 
+    private boolean deltaUpdates;
+
     public TreeEventInput() {
         // Used by Jackson
     }
 
     public TreeEventInput(UUID id, UUID editingContextId, List<String> expanded) {
+        this(id, editingContextId, expanded, false);
+    }
+
+    public TreeEventInput(UUID id, UUID editingContextId, List<String> expanded, boolean deltaUpdates) {
         this.id = Objects.requireNonNull(id);
         this.editingContextId = Objects.requireNonNull(editingContextId);
         this.expanded = Objects.requireNonNull(expanded);
+        this.deltaUpdates = deltaUpdates;
     }
 
     @Override
@@ -67,9 +74,20 @@ public final class TreeEventInput implements IInput {
         return this.expanded;
     }
 
+    /**
+     * Indicates if the subscriber wants to receive the differences between two versions of the tree instead of the
+     * whole tree after each refresh.
+     *
+     * @return <code>true</code> to receive {@link TreeDeltaEventPayload}, <code>false</code> otherwise
+     */
+    @GraphQLField
+    public boolean isDeltaUpdates() {
+        return this.deltaUpdates;
+    }
+
     @Override
     public String toString() {
-        String pattern = "{0} '{'id: {1}, editingContextId: {2}, expanded: {3}'}'"; //$NON-NLS-1$
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.editingContextId, this.expanded);
+        String pattern = "{0} '{'id: {1}, editingContextId: {2}, expanded: {3}, deltaUpdates: {4}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.editingContextId, this.expanded, this.deltaUpdates);
     }
 }
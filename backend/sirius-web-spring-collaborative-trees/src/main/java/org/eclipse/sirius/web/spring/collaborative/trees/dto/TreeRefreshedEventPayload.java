@@ -32,10 +32,13 @@ import org.eclipse.sirius.web.trees.Tree;
 public final class TreeRefreshedEventPayload implements IPayload {
     private final UUID id;
 
+    private final int sequenceNumber;
+
     private final Tree tree;
 
-    public TreeRefreshedEventPayload(UUID id, Tree tree) {
+    public TreeRefreshedEventPayload(UUID id, int sequenceNumber, Tree tree) {
         this.id = Objects.requireNonNull(id);
+        this.sequenceNumber = sequenceNumber;
         this.tree = Objects.requireNonNull(tree);
     }
 
@@ -47,6 +50,12 @@ public final class TreeRefreshedEventPayload implements IPayload {
         return this.id;
     }
 
+    @GraphQLField
+    @GraphQLNonNull
+    public int getSequenceNumber() {
+        return this.sequenceNumber;
+    }
+
     @GraphQLField
     @GraphQLNonNull
     public Tree getTree() {
@@ -55,7 +64,7 @@ public final class TreeRefreshedEventPayload implements IPayload {
 
     @Override
     public String toString() {
-        String pattern = "{0} '{'id: {1}, tree: '{'id: {2}, label: {3}'}''}'"; //$NON-NLS-1$
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.tree.getId(), this.tree.getLabel());
+        String pattern = "{0} '{'id: {1}, sequenceNumber: {2}, tree: '{'id: {3}, label: {4}'}''}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.sequenceNumber, this.tree.getId(), this.tree.getLabel());
     }
 }
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.trees;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.spring.collaborative.trees.dto.AddedTreeItem;
+import org.eclipse.sirius.web.spring.collaborative.trees.dto.TreeDeltaEventPayload;
+import org.eclipse.sirius.web.trees.Tree;
+import org.eclipse.sirius.web.trees.TreeItem;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the tree delta provider.
+ *
+ * @author agent
+ */
+public class TreeDeltaProviderTests {
+
+    private final UUID treeId = UUID.randomUUID();
+
+    private final UUID descriptionId = UUID.randomUUID();
+
+    @Test
+    public void testDeltaOfModifiedTree() {
+        TreeItem renamedItem = this.getTreeItem("renamed", List.of()); //$NON-NLS-1$
+        TreeItem removedItem = this.getTreeItem("removed", List.of()); //$NON-NLS-1$
+        TreeItem keptItem = this.getTreeItem("kept", List.of()); //$NON-NLS-1$
+        TreeItem parentItem = this.getTreeItem("parent", List.of(removedItem, keptItem)); //$NON-NLS-1$
+        Tree previousTree = this.getTree(List.of(parentItem, renamedItem));
+
+        TreeItem newRenamedItem = TreeItem.newTreeItem(renamedItem).label("newLabel").build(); //$NON-NLS-1$
+        TreeItem addedItem = this.getTreeItem("added", List.of()); //$NON-NLS-1$
+        TreeItem newParentItem = TreeItem.newTreeItem(parentItem).children(List.of(addedItem, keptItem)).build();
+        Tree newTree = this.getTree(List.of(newParentItem, newRenamedItem));
+
+        Optional<TreeDeltaEventPayload> optionalDelta = new TreeDeltaProvider().getDelta(UUID.randomUUID(), 2, previousTree, newTree);
+        assertThat(optionalDelta).isPresent();
+
+        TreeDeltaEventPayload delta = optionalDelta.get();
+        assertThat(delta.getSequenceNumber()).isEqualTo(2);
+        assertThat(delta.getUpdatedItems()).extracting(TreeItem::getLabel).containsExactly("newLabel"); //$NON-NLS-1$
+        assertThat(delta.getAddedItems()).extracting(AddedTreeItem::getParentId).containsExactly(parentItem.getId());
+        assertThat(delta.getAddedItems()).extracting(AddedTreeItem::getIndex).containsExactly(0);
+        assertThat(delta.getAddedItems()).extracting(AddedTreeItem::getItem).containsExactly(addedItem);
+        assertThat(delta.getRemovedItemIds()).containsExactly(removedItem.getId());
+    }
+
+    @Test
+    public void testEmptyDeltaOfUnchangedTree() {
+        Tree tree = this.getTree(List.of(this.getTreeItem("item", List.of()))); //$NON-NLS-1$
+
+        Optional<TreeDeltaEventPayload> optionalDelta = new TreeDeltaProvider().getDelta(UUID.randomUUID(), 1, tree, tree);
+        assertThat(optionalDelta).isPresent();
+        assertThat(optionalDelta.get().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testNoDeltaOfReorderedTree() {
+        TreeItem firstItem = this.getTreeItem("first", List.of()); //$NON-NLS-1$
+        TreeItem secondItem = this.getTreeItem("second", List.of()); //$NON-NLS-1$
+
+        Tree previousTree = this.getTree(List.of(firstItem, secondItem));
+        Tree newTree = this.getTree(List.of(secondItem, firstItem));
+
+        assertThat(new TreeDeltaProvider().getDelta(UUID.randomUUID(), 1, previousTree, newTree)).isEmpty();
+    }
+
+    private Tree getTree(List<TreeItem> children) {
+        // @formatter:off
+        return Tree.newTree(this.treeId)
+                .descriptionId(this.descriptionId)
+                .label("Explorer") //$NON-NLS-1$
+                .children(children)
+                .build();
+        // @formatter:on
+    }
+
+    private TreeItem getTreeItem(String id, List<TreeItem> children) {
+        // @formatter:off
+        return TreeItem.newTreeItem(id)
+                .kind("kind") //$NON-NLS-1$
+                .label(id)
+                .editable(true)
+                .imageURL("") //$NON-NLS-1$
+                .hasChildren(!children.isEmpty())
+                .expanded(!children.isEmpty())
+                .children(children)
+                .build();
+        // @formatter:on
+    }
+}
@@ -14,6 +14,8 @@ package org.eclipse.sirius.web.spring.collaborative.api;
 
 import java.text.MessageFormat;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -21,6 +23,11 @@ import java.util.UUID;
  * collaborative layer. It helps the various representations event processors among others determine if they are
  * impacted by a change and thus if they should refresh the representation that they are managing.
  *
+ * <p>
+ * A change description may also contain the identifiers of the semantic objects which have been modified. When they
+ * are not known, the change must be considered as potentially impacting any semantic object.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class ChangeDescription {
@@ -29,9 +36,18 @@ public class ChangeDescription {
 
     private final UUID sourceId;
 
+    private final Set<String> changedObjectIds;
+
     public ChangeDescription(String kind, UUID sourceId) {
         this.kind = Objects.requireNonNull(kind);
         this.sourceId = Objects.requireNonNull(sourceId);
+        this.changedObjectIds = null;
+    }
+
+    public ChangeDescription(String kind, UUID sourceId, Set<String> changedObjectIds) {
+        this.kind = Objects.requireNonNull(kind);
+        this.sourceId = Objects.requireNonNull(sourceId);
+        this.changedObjectIds = Set.copyOf(changedObjectIds);
     }
 
     public String getKind() {
@@ -42,6 +58,27 @@ public class ChangeDescription {
         return this.sourceId;
     }
 
+    /**
+     * Returns the identifiers of the semantic objects which have been modified, if they are known.
+     *
+     * @return The identifiers of the semantic objects modified or an empty optional if they are not known
+     */
+    public Optional<Set<String>> getChangedObjectIds() {
+        return Optional.ofNullable(this.changedObjectIds);
+    }
+
+    /**
+     * Indicates if the change may have modified one of the given semantic objects.
+     *
+     * @param objectIds
+     *            The identifiers of some semantic objects
+     * @return <code>true</code> if the change may have modified one of the given objects, <code>false</code>
+     *         otherwise
+     */
+    public boolean mayAffect(Set<String> objectIds) {
+        return this.changedObjectIds == null || objectIds.stream().anyMatch(this.changedObjectIds::contains);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'kind: {1}, sourceId: {2}'}'"; //$NON-NLS-1$
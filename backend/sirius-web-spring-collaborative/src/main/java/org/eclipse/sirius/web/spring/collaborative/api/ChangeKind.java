@@ -27,6 +27,11 @@ public final class ChangeKind {
 
     public static final String REPRESENTATION_RENAMING = "REPRESENTATION_RENAMING"; //$NON-NLS-1$
 
+    /**
+     * Sent to a representation event processor once it has been created, from the thread of its editing context.
+     */
+    public static final String REPRESENTATION_OPENING = "REPRESENTATION_OPENING"; //$NON-NLS-1$
+
     public static final String PROJECT_RENAMING = "PROJECT_RENAMING"; //$NON-NLS-1$
 
     public static final String SEMANTIC_CHANGE = "SEMANTIC_CHANGE"; //$NON-NLS-1$
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.api;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +21,7 @@ import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Handles all of the input events and emit output events of a specific project.
@@ -33,10 +35,31 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
 
     List<IRepresentationEventProcessor> getRepresentationEventProcessors();
 
-    Optional<IPayload> handle(IInput input);
+    /**
+     * Queues the given input to be handled after all the inputs previously received.
+     *
+     * @param input
+     *            The input to handle
+     * @return A mono which will be completed with the payload once the input has been handled or which will be empty
+     *         if the input could not be handled
+     */
+    Mono<IPayload> handle(IInput input);
 
     Flux<IPayload> getOutputEvents();
 
+    /**
+     * Waits, once the processor has been disposed, until the work it has still scheduled has been performed, such as
+     * the inputs waiting in its queue or the pending writes of its editing context.
+     *
+     * @param timeout
+     *            The maximum time to wait
+     * @return <code>true</code> if all the work scheduled has been performed, <code>false</code> if the timeout has
+     *         elapsed before
+     */
+    default boolean awaitTermination(Duration timeout) {
+        return true;
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -70,8 +93,8 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
         }
 
         @Override
-        public Optional<IPayload> handle(IInput input) {
-            return Optional.empty();
+        public Mono<IPayload> handle(IInput input) {
+            return Mono.empty();
         }
 
         @Override
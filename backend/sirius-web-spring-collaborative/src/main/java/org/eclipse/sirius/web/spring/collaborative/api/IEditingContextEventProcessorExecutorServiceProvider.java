@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.api;
+
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+
+/**
+ * Provides the executor service used by an editing context event processor to handle its inputs.
+ *
+ * <p>
+ * The executor service returned must run the tasks submitted one at a time, in order of submission, and it should
+ * reject new tasks with a {@link java.util.concurrent.RejectedExecutionException} once too many of them are waiting.
+ * Implementations are free to run the tasks of several editing contexts on the same threads.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IEditingContextEventProcessorExecutorServiceProvider {
+    ExecutorService getExecutorService(IEditingContext editingContext);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,12 +13,13 @@
 package org.eclipse.sirius.web.spring.collaborative.api;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 
+import reactor.core.publisher.Mono;
+
 /**
  * Registry of all the editing context event handlers.
  *
@@ -27,9 +28,17 @@ import org.eclipse.sirius.web.core.api.IPayload;
 public interface IEditingContextEventProcessorRegistry {
     List<IEditingContextEventProcessor> getEditingContextEventProcessors();
 
-    Optional<IPayload> dispatchEvent(UUID editingContextId, IInput input);
+    Mono<IPayload> dispatchEvent(UUID editingContextId, IInput input);
 
-    Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(UUID editingContextId);
+    /**
+     * Returns the event processor of the given editing context, which is created once subscribed if needed.
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     * @return A mono which will be completed with the event processor or which will be empty if the editing context
+     *         does not exist. It does not block while the editing context is loaded by another caller.
+     */
+    Mono<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(UUID editingContextId);
 
     void disposeEditingContextEventProcessor(UUID editingContextId);
 
@@ -46,13 +55,13 @@ public interface IEditingContextEventProcessorRegistry {
         }
 
         @Override
-        public Optional<IPayload> dispatchEvent(UUID editingContextId, IInput input) {
-            return Optional.empty();
+        public Mono<IPayload> dispatchEvent(UUID editingContextId, IInput input) {
+            return Mono.empty();
         }
 
         @Override
-        public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(UUID editingContextId) {
-            return Optional.empty();
+        public Mono<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(UUID editingContextId) {
+            return Mono.empty();
         }
 
         @Override
@@ -33,6 +33,25 @@ public interface IRepresentationEventProcessor extends IDisposablePublisher {
 
     void refresh(IInput input, ChangeDescription changeDescription);
 
+    /**
+     * Lets the representation event processor update its state when it is acquired again with the given configuration.
+     *
+     * <p>
+     * The configuration has the same identifier as the one used to create the representation event processor but it may
+     * target another semantic element, for example when the selection of a properties view changes. This method is
+     * called on the thread of the editing context, after the inputs which are already waiting in the queue, while the
+     * semantic model cannot be modified. By default, nothing is done.
+     * </p>
+     *
+     * @param configuration
+     *            The configuration used to acquire the representation event processor
+     * @param input
+     *            The input which has triggered the acquisition
+     */
+    default void retarget(IRepresentationConfiguration configuration, IInput input) {
+        // Nothing to update by default
+    }
+
     ISubscriptionManager getSubscriptionManager();
 
     Flux<IPayload> getOutputEvents(IInput input);
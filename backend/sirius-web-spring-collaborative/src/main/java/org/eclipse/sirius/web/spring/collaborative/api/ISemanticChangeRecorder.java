@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.api;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+
+/**
+ * Used to record the semantic objects modified while an input is being handled.
+ *
+ * @author agent
+ */
+public interface ISemanticChangeRecorder {
+
+    void startRecording(IEditingContext editingContext);
+
+    /**
+     * Stops the recording and returns the identifiers of the semantic objects modified since its beginning.
+     *
+     * <p>
+     * The identifiers returned should contain the objects modified but also their containers. An empty optional is
+     * returned if the objects modified cannot be determined precisely.
+     * </p>
+     *
+     * @param editingContext
+     *            The editing context
+     * @return The identifiers of the semantic objects modified or an empty optional if they are not known
+     */
+    Optional<Set<String>> stopRecording(IEditingContext editingContext);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements ISemanticChangeRecorder {
+
+        @Override
+        public void startRecording(IEditingContext editingContext) {
+        }
+
+        @Override
+        public Optional<Set<String>> stopRecording(IEditingContext editingContext) {
+            return Optional.empty();
+        }
+
+    }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.api;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Implemented by the persistence services which defer their writes in order to coalesce them.
+ *
+ * <p>
+ * The callers which own the state written can use it to flush the pending writes once they stop using this state or
+ * from a thread on which this state can be read safely.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IWriteBehindPersistenceService {
+
+    /**
+     * Returns the maximum delay after which a pending write should be flushed.
+     *
+     * @return The maximum delay of a pending write
+     */
+    Duration getFlushInterval();
+
+    /**
+     * Writes the pending state of the element with the given identifier, if any.
+     *
+     * @param id
+     *            The identifier of an editing context or of a representation
+     */
+    void flush(UUID id);
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -23,8 +23,46 @@ public final class Monitoring {
 
     public static final String REPRESENTATION_EVENT_PROCESSOR_REFRESH = "siriusweb_representationeventprocessor_refresh"; //$NON-NLS-1$
 
+    public static final String EDITING_CONTEXT_MAILBOX_SIZE = "siriusweb_editingcontext_mailbox_size"; //$NON-NLS-1$
+
+    public static final String EDITING_CONTEXT_MAILBOX_WAIT = "siriusweb_editingcontext_mailbox_wait"; //$NON-NLS-1$
+
+    public static final String EDITING_CONTEXT_WORKERS = "siriusweb_editingcontext_workers"; //$NON-NLS-1$
+
+    public static final String WRITE_BEHIND_FLUSH = "siriusweb_writebehind_flush"; //$NON-NLS-1$
+
+    public static final String WRITE_BEHIND_PENDING = "siriusweb_writebehind_pending"; //$NON-NLS-1$
+
+    public static final String WRITE_BEHIND_COALESCED = "siriusweb_writebehind_coalesced"; //$NON-NLS-1$
+
+    public static final String AQL_INTERPRETERS_HITS = "siriusweb_aql_interpreters_hits"; //$NON-NLS-1$
+
+    public static final String AQL_INTERPRETERS_MISSES = "siriusweb_aql_interpreters_misses"; //$NON-NLS-1$
+
+    public static final String AQL_INTERPRETERS_SIZE = "siriusweb_aql_interpreters_size"; //$NON-NLS-1$
+
+    public static final String AQL_PARSING = "siriusweb_aql_parsing"; //$NON-NLS-1$
+
+    public static final String TEXT_BOUNDS_HITS = "siriusweb_textbounds_hits"; //$NON-NLS-1$
+
+    public static final String TEXT_BOUNDS_MISSES = "siriusweb_textbounds_misses"; //$NON-NLS-1$
+
+    public static final String TEXT_BOUNDS_SIZE = "siriusweb_textbounds_size"; //$NON-NLS-1$
+
+    public static final String OBJECT_INDEX_SIZE = "siriusweb_objectindex_size"; //$NON-NLS-1$
+
+    public static final String OBJECT_INDEX_BUILD = "siriusweb_objectindex_build"; //$NON-NLS-1$
+
+    public static final String EDITING_CONTEXT_LOADING = "siriusweb_editingcontext_loading"; //$NON-NLS-1$
+
+    public static final String EDITING_CONTEXT_LOADING_COLLAPSED = "siriusweb_editingcontext_loading_collapsed"; //$NON-NLS-1$
+
+    public static final String DIAGRAM_LAYOUT_WORKERS = "siriusweb_diagram_layout_workers"; //$NON-NLS-1$
+
     public static final String NAME = "name"; //$NON-NLS-1$
 
+    public static final String EDITING_CONTEXT_ID = "editingContextId"; //$NON-NLS-1$
+
     private Monitoring() {
         // Prevent instantiation
     }
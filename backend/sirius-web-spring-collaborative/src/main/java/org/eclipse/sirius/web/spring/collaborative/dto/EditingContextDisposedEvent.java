@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * An internal event indicating that the event processor of an editing context has been disposed, in order to let the
+ * services release what they keep for this editing context.
+ *
+ * @author agent
+ */
+public class EditingContextDisposedEvent {
+    private final UUID editingContextId;
+
+    public EditingContextDisposedEvent(UUID editingContextId) {
+        this.editingContextId = Objects.requireNonNull(editingContextId);
+    }
+
+    public UUID getEditingContextId() {
+        return this.editingContextId;
+    }
+}
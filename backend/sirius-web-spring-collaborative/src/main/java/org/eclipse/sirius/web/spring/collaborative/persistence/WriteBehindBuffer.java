@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.persistence;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Keeps the latest state waiting to be written for each element and writes it once requested.
+ *
+ * <p>
+ * A new state replaces the one of the same element which is still pending, the writes of this element are then
+ * coalesced. The writes of a given element are serialized in order to never overwrite a state with an older one.
+ * </p>
+ *
+ * <p>
+ * The number of pending writes is published by {@link WriteBehindPersistenceConfiguration} for all the buffers of the
+ * same kind, since a gauge can only be registered once for a given name.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the state to write
+ * @author agent
+ */
+public class WriteBehindBuffer<T> {
+
+    private static final int LOCK_COUNT = 32;
+
+    private final Map<UUID, PendingWrite<T>> pendingWrites = new ConcurrentHashMap<>();
+
+    private final Object[] locks = new Object[LOCK_COUNT];
+
+    private final Consumer<T> writer;
+
+    private final int flushThreshold;
+
+    private final Counter coalescedWritesCounter;
+
+    private final Timer flushTimer;
+
+    public WriteBehindBuffer(String name, Consumer<T> writer, int flushThreshold, MeterRegistry meterRegistry) {
+        this.writer = Objects.requireNonNull(writer);
+        this.flushThreshold = flushThreshold;
+        for (int i = 0; i < LOCK_COUNT; i++) {
+            this.locks[i] = new Object();
+        }
+
+        // @formatter:off
+        this.coalescedWritesCounter = Counter.builder(Monitoring.WRITE_BEHIND_COALESCED)
+                .tag(Monitoring.NAME, name)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(Monitoring.WRITE_BEHIND_FLUSH)
+                .tag(Monitoring.NAME, name)
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    /**
+     * Records the new state of the given element.
+     *
+     * @param id
+     *            The identifier of the element
+     * @param state
+     *            The new state of the element
+     * @return <code>true</code> if the flush threshold of the element has been reached, <code>false</code> otherwise
+     */
+    public boolean add(UUID id, T state) {
+        PendingWrite<T> pendingWrite = this.pendingWrites.compute(id, (key, previousPendingWrite) -> {
+            int count = Optional.ofNullable(previousPendingWrite).map(PendingWrite::getCount).orElse(0);
+            return new PendingWrite<>(state, count + 1);
+        });
+        if (pendingWrite.getCount() > 1) {
+            this.coalescedWritesCounter.increment();
+        }
+        return pendingWrite.getCount() >= this.flushThreshold;
+    }
+
+    /**
+     * Writes the pending state of the given element, if any.
+     *
+     * @param id
+     *            The identifier of the element
+     */
+    public void flush(UUID id) {
+        synchronized (this.locks[Math.floorMod(id.hashCode(), LOCK_COUNT)]) {
+            PendingWrite<T> pendingWrite = this.pendingWrites.remove(id);
+            if (pendingWrite != null) {
+                this.flushTimer.record(() -> this.writer.accept(pendingWrite.getState()));
+            }
+        }
+    }
+
+    /**
+     * Writes the pending state of all the elements.
+     */
+    public void flushAll() {
+        List.copyOf(this.pendingWrites.keySet()).forEach(this::flush);
+    }
+
+    public int size() {
+        return this.pendingWrites.size();
+    }
+
+    /**
+     * The latest state of an element along with the number of writes requested since the last flush.
+     *
+     * @param <T>
+     *            The type of the state to write
+     * @author agent
+     */
+    private static final class PendingWrite<T> {
+
+        private final T state;
+
+        private final int count;
+
+        PendingWrite(T state, int count) {
+            this.state = state;
+            this.count = count;
+        }
+
+        public T getState() {
+            return this.state;
+        }
+
+        public int getCount() {
+            return this.count;
+        }
+
+    }
+
+}
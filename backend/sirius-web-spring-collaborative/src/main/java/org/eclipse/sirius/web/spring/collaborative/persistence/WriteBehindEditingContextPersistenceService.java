@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.persistence;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.web.spring.collaborative.api.IWriteBehindPersistenceService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decorates an editing context persistence service in order to coalesce the successive writes of an editing context.
+ *
+ * <p>
+ * An editing context is persisted right away once it has been modified <code>flushThreshold</code> times since its
+ * last write. Otherwise, its owner is responsible for calling {@link #flush(UUID)} after the flush interval, from the
+ * thread modifying the editing context, since it would not be safe to read the semantic model from another thread.
+ * </p>
+ *
+ * @author agent
+ */
+public class WriteBehindEditingContextPersistenceService implements IEditingContextPersistenceService, IWriteBehindPersistenceService {
+
+    private final Duration flushInterval;
+
+    private final WriteBehindBuffer<IEditingContext> buffer;
+
+    public WriteBehindEditingContextPersistenceService(IEditingContextPersistenceService delegate, Duration flushInterval, int flushThreshold, MeterRegistry meterRegistry) {
+        Objects.requireNonNull(delegate);
+        this.flushInterval = Objects.requireNonNull(flushInterval);
+        this.buffer = new WriteBehindBuffer<>("editingContext", delegate::persist, flushThreshold, meterRegistry); //$NON-NLS-1$
+    }
+
+    @Override
+    public void persist(IEditingContext editingContext) {
+        if (this.buffer.add(editingContext.getId(), editingContext)) {
+            this.buffer.flush(editingContext.getId());
+        }
+    }
+
+    public int getPendingWriteCount() {
+        return this.buffer.size();
+    }
+
+    @Override
+    public Duration getFlushInterval() {
+        return this.flushInterval;
+    }
+
+    @Override
+    public void flush(UUID id) {
+        this.buffer.flush(id);
+    }
+
+}
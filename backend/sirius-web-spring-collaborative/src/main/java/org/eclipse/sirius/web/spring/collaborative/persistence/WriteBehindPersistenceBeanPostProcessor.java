@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.persistence;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.web.spring.collaborative.api.IWriteBehindPersistenceService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decorates the persistence services contributed by the application with their write-behind counterpart, once the
+ * write-behind persistence has been activated.
+ *
+ * @author agent
+ */
+@Component
+public class WriteBehindPersistenceBeanPostProcessor implements BeanPostProcessor {
+
+    private final boolean isEnabled;
+
+    private final ObjectProvider<WriteBehindPersistenceConfiguration> configurationProvider;
+
+    public WriteBehindPersistenceBeanPostProcessor(@Value("${org.eclipse.sirius.web.persistence.writeBehind.enabled:false}") boolean isEnabled,
+            ObjectProvider<WriteBehindPersistenceConfiguration> configurationProvider) {
+        this.isEnabled = isEnabled;
+        this.configurationProvider = Objects.requireNonNull(configurationProvider);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Object result = bean;
+        if (this.isEnabled && !(bean instanceof IWriteBehindPersistenceService)) {
+            if (bean instanceof IEditingContextPersistenceService) {
+                result = this.configurationProvider.getObject().decorate((IEditingContextPersistenceService) bean);
+            } else if (bean instanceof IRepresentationPersistenceService) {
+                result = this.configurationProvider.getObject().decorate((IRepresentationPersistenceService) bean);
+            }
+        }
+        return result;
+    }
+
+}
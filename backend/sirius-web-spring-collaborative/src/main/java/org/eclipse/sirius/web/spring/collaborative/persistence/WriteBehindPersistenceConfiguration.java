@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.persistence;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Creates the write-behind decorators of the persistence services and flushes them until the application stops.
+ *
+ * <p>
+ * The write-behind persistence is an opt-in mode in which the successive writes of an editing context or of a
+ * representation are coalesced instead of being performed synchronously after each change. A pending write is
+ * performed once the element has been modified <code>flushThreshold</code> times, after the flush interval, when its
+ * event processor is disposed and when the application stops.
+ * </p>
+ *
+ * <p>
+ * The editing contexts are only flushed from the thread of their editing context event processor, including when the
+ * application stops, since their semantic model must not be read by another thread. The representations, which are
+ * immutable, are flushed periodically and when the application stops from any thread.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class WriteBehindPersistenceConfiguration {
+
+    private final Logger logger = LoggerFactory.getLogger(WriteBehindPersistenceConfiguration.class);
+
+    private final Duration flushInterval;
+
+    private final int flushThreshold;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService flushExecutorService;
+
+    private final List<WriteBehindEditingContextPersistenceService> editingContextPersistenceServices = new CopyOnWriteArrayList<>();
+
+    private final List<WriteBehindRepresentationPersistenceService> representationPersistenceServices = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean isDisposed = new AtomicBoolean();
+
+    public WriteBehindPersistenceConfiguration(@Value("${org.eclipse.sirius.web.persistence.writeBehind.flushInterval:1s}") Duration flushInterval,
+            @Value("${org.eclipse.sirius.web.persistence.writeBehind.flushThreshold:20}") int flushThreshold, MeterRegistry meterRegistry) {
+        this.flushInterval = Objects.requireNonNull(flushInterval);
+        this.flushThreshold = Math.max(1, flushThreshold);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.flushExecutorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Write-behind persistence"); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // @formatter:off
+        Gauge.builder(Monitoring.WRITE_BEHIND_PENDING, this.editingContextPersistenceServices, this::getEditingContextPendingWriteCount)
+                .tag(Monitoring.NAME, "editingContext") //$NON-NLS-1$
+                .register(meterRegistry);
+        Gauge.builder(Monitoring.WRITE_BEHIND_PENDING, this.representationPersistenceServices, this::getRepresentationPendingWriteCount)
+                .tag(Monitoring.NAME, "representation") //$NON-NLS-1$
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    private double getEditingContextPendingWriteCount(List<WriteBehindEditingContextPersistenceService> persistenceServices) {
+        return persistenceServices.stream().mapToInt(WriteBehindEditingContextPersistenceService::getPendingWriteCount).sum();
+    }
+
+    private double getRepresentationPendingWriteCount(List<WriteBehindRepresentationPersistenceService> persistenceServices) {
+        return persistenceServices.stream().mapToInt(WriteBehindRepresentationPersistenceService::getPendingWriteCount).sum();
+    }
+
+    /**
+     * Decorates the given service in order to coalesce the writes of each editing context.
+     *
+     * @param editingContextPersistenceService
+     *            The service performing the writes
+     * @return The decorated service
+     */
+    public WriteBehindEditingContextPersistenceService decorate(IEditingContextPersistenceService editingContextPersistenceService) {
+        var writeBehindPersistenceService = new WriteBehindEditingContextPersistenceService(editingContextPersistenceService, this.flushInterval, this.flushThreshold, this.meterRegistry);
+        this.editingContextPersistenceServices.add(writeBehindPersistenceService);
+        return writeBehindPersistenceService;
+    }
+
+    /**
+     * Decorates the given service in order to coalesce the writes of each representation, which will be flushed
+     * periodically.
+     *
+     * @param representationPersistenceService
+     *            The service performing the writes
+     * @return The decorated service
+     */
+    public WriteBehindRepresentationPersistenceService decorate(IRepresentationPersistenceService representationPersistenceService) {
+        var writeBehindPersistenceService = new WriteBehindRepresentationPersistenceService(representationPersistenceService, this.flushInterval, this.flushThreshold, this.meterRegistry);
+        this.representationPersistenceServices.add(writeBehindPersistenceService);
+        this.schedulePeriodicFlush(writeBehindPersistenceService);
+        return writeBehindPersistenceService;
+    }
+
+    private void schedulePeriodicFlush(WriteBehindRepresentationPersistenceService representationPersistenceService) {
+        var delayedExecutor = CompletableFuture.delayedExecutor(this.flushInterval.toMillis(), TimeUnit.MILLISECONDS, this.flushExecutorService);
+        CompletableFuture.runAsync(representationPersistenceService::flushAll, delayedExecutor).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                this.logger.warn(throwable.getMessage(), throwable);
+            }
+            if (!this.isDisposed.get()) {
+                this.schedulePeriodicFlush(representationPersistenceService);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.isDisposed.set(true);
+        this.flushExecutorService.shutdown();
+
+        this.representationPersistenceServices.forEach(WriteBehindRepresentationPersistenceService::flushAll);
+
+        int pendingWriteCount = (int) this.getEditingContextPendingWriteCount(this.editingContextPersistenceServices);
+        if (pendingWriteCount > 0) {
+            this.logger.warn("{} editing contexts have not been flushed by their event processor", pendingWriteCount); //$NON-NLS-1$
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.persistence;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.representations.ISemanticRepresentation;
+import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.web.spring.collaborative.api.IWriteBehindPersistenceService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decorates a representation persistence service in order to coalesce the successive writes of a representation.
+ *
+ * <p>
+ * The first save of a representation is written right away since it may be its creation, which other services could
+ * try to read immediately. The following ones are kept until the representation has been saved
+ * <code>flushThreshold</code> times, until the next periodic flush or until its owner calls {@link #flush(UUID)}. Since
+ * the representations are immutable, they can be written from any thread.
+ * </p>
+ *
+ * @author agent
+ */
+public class WriteBehindRepresentationPersistenceService implements IRepresentationPersistenceService, IWriteBehindPersistenceService {
+
+    private final IRepresentationPersistenceService delegate;
+
+    private final Duration flushInterval;
+
+    private final WriteBehindBuffer<RepresentationSave> buffer;
+
+    private final Set<UUID> savedRepresentationIds = ConcurrentHashMap.newKeySet();
+
+    public WriteBehindRepresentationPersistenceService(IRepresentationPersistenceService delegate, Duration flushInterval, int flushThreshold, MeterRegistry meterRegistry) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.flushInterval = Objects.requireNonNull(flushInterval);
+        this.buffer = new WriteBehindBuffer<>("representation", this::write, flushThreshold, meterRegistry); //$NON-NLS-1$
+    }
+
+    @Override
+    public void save(IEditingContext editingContext, ISemanticRepresentation representation) {
+        UUID representationId = representation.getId();
+        if (this.savedRepresentationIds.add(representationId)) {
+            this.delegate.save(editingContext, representation);
+        } else if (this.buffer.add(representationId, new RepresentationSave(editingContext, representation))) {
+            this.buffer.flush(representationId);
+        }
+    }
+
+    private void write(RepresentationSave representationSave) {
+        this.delegate.save(representationSave.getEditingContext(), representationSave.getRepresentation());
+    }
+
+    public int getPendingWriteCount() {
+        return this.buffer.size();
+    }
+
+    @Override
+    public Duration getFlushInterval() {
+        return this.flushInterval;
+    }
+
+    /**
+     * Writes the pending state of the given representation, which will be written right away the next time it is
+     * saved.
+     *
+     * @param id
+     *            The identifier of the representation
+     */
+    @Override
+    public void flush(UUID id) {
+        this.buffer.flush(id);
+        this.savedRepresentationIds.remove(id);
+    }
+
+    /**
+     * Writes all the representations which are still waiting to be written.
+     */
+    public void flushAll() {
+        this.buffer.flushAll();
+    }
+
+    /**
+     * A save requested while the representation was already known.
+     *
+     * @author agent
+     */
+    private static final class RepresentationSave {
+
+        private final IEditingContext editingContext;
+
+        private final ISemanticRepresentation representation;
+
+        RepresentationSave(IEditingContext editingContext, ISemanticRepresentation representation) {
+            this.editingContext = editingContext;
+            this.representation = representation;
+        }
+
+        public IEditingContext getEditingContext() {
+            return this.editingContext;
+        }
+
+        public ISemanticRepresentation getRepresentation() {
+            return this.representation;
+        }
+
+    }
+
+}
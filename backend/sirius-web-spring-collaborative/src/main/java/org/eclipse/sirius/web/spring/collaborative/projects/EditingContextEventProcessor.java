@@ -12,18 +12,24 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.projects;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.core.api.IEditingContext;
@@ -43,7 +49,11 @@ import org.eclipse.sirius.web.spring.collaborative.api.IEditingContextEventProce
 import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationConfiguration;
 import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationEventProcessor;
 import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.spring.collaborative.api.ISemanticChangeRecorder;
+import org.eclipse.sirius.web.spring.collaborative.api.ISubscriptionManager;
+import org.eclipse.sirius.web.spring.collaborative.api.IWriteBehindPersistenceService;
 import org.eclipse.sirius.web.spring.collaborative.dto.DeleteRepresentationInput;
+import org.eclipse.sirius.web.spring.collaborative.dto.EditingContextDisposedEvent;
 import org.eclipse.sirius.web.spring.collaborative.dto.RenameRepresentationInput;
 import org.eclipse.sirius.web.spring.collaborative.dto.RenameRepresentationSuccessPayload;
 import org.eclipse.sirius.web.spring.collaborative.dto.RepresentationRefreshedEvent;
@@ -51,17 +61,42 @@ import org.eclipse.sirius.web.spring.collaborative.dto.RepresentationRenamedEven
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
 import reactor.core.publisher.Sinks.EmitResult;
 import reactor.core.publisher.Sinks.Many;
 
 /**
- * Handles all the inputs which concern a particular editing context one at a time, in order of arrival, and in a
- * dedicated thread and emit the output events.
+ * Handles all the inputs which concern a particular editing context one at a time, in order of arrival, and emit the
+ * output events.
+ *
+ * <p>
+ * The inputs are stored in the queue of the executor service while they are waiting to be handled. Callers are never
+ * blocked, they receive a {@link Mono} which will be completed with the payload once the input has been handled.
+ * </p>
+ *
+ * <p>
+ * When several inputs are waiting, they can be handled back to back in a batch. The other representations are then
+ * refreshed at most once at the end of the batch instead of after each input and the payloads are sent once they are
+ * up to date. The batch is closed once it is full or, after its last input, once the coalescing window has elapsed
+ * without any new input.
+ * </p>
+ *
+ * <p>
+ * The representations are always rendered on the thread of the editing context, or by other threads holding the read
+ * lock of the semantic model while no input is being handled, and never concurrently with each other. Rendering is not
+ * a read-only operation from the point of view of EMF: the adapter factories and the lazily built indexes attach
+ * adapters to the semantic objects and the lists of adapters are not thread-safe.
+ * </p>
+ *
+ * <p>
+ * If the persistence of the editing context is deferred, the pending writes are flushed from the executor service
+ * after the flush interval and before the executor service is shut down, since the semantic model must not be read by
+ * another thread while it is being modified.
+ * </p>
  *
  * @author sbegaudeau
  * @author pcdavid
@@ -92,23 +127,43 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final IDanglingRepresentationDeletionService danglingRepresentationDeletionService;
 
-    public EditingContextEventProcessor(IEditingContext editingContext, IEditingContextPersistenceService editingContextPersistenceService, ApplicationEventPublisher applicationEventPublisher,
-            IObjectService objectService, List<IEditingContextEventHandler> editingContextEventHandlers, IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory,
-            IDanglingRepresentationDeletionService danglingRepresentationDeletionService) {
-        this.editingContext = Objects.requireNonNull(editingContext);
-        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
-        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
-        this.objectService = Objects.requireNonNull(objectService);
-        this.editingContextEventHandlers = Objects.requireNonNull(editingContextEventHandlers);
-        this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
-        this.danglingRepresentationDeletionService = Objects.requireNonNull(danglingRepresentationDeletionService);
-
-        var delegateExecutorService = Executors.newSingleThreadExecutor((Runnable runnable) -> {
-            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
-            thread.setName("Editing context " + this.editingContext.getId()); //$NON-NLS-1$
-            return thread;
-        });
-        this.executor = new DelegatingSecurityContextExecutorService(delegateExecutorService);
+    private final int maxBatchSize;
+
+    private final Duration coalescingWindow;
+
+    private final AtomicInteger queuedInputCount = new AtomicInteger();
+
+    private final ISemanticChangeRecorder semanticChangeRecorder;
+
+    private final AtomicBoolean isPersistenceFlushScheduled = new AtomicBoolean();
+
+    private final Duration representationDisposalDelay;
+
+    /**
+     * Held for writing while the inputs are handled and the representations refreshed, and for reading while new
+     * representation event processors are created by other threads.
+     */
+    private final ReadWriteLock semanticModelLock = new ReentrantReadWriteLock();
+
+    /**
+     * The inputs handled since the last refresh, only accessed by the tasks of the executor which are run one at a
+     * time.
+     */
+    private RefreshBatch refreshBatch = new RefreshBatch();
+
+    public EditingContextEventProcessor(EditingContextEventProcessorParameters parameters) {
+        this.editingContext = parameters.getEditingContext();
+        this.editingContextPersistenceService = parameters.getEditingContextPersistenceService();
+        this.applicationEventPublisher = parameters.getApplicationEventPublisher();
+        this.objectService = parameters.getObjectService();
+        this.editingContextEventHandlers = parameters.getEditingContextEventHandlers();
+        this.representationEventProcessorComposedFactory = parameters.getRepresentationEventProcessorComposedFactory();
+        this.danglingRepresentationDeletionService = parameters.getDanglingRepresentationDeletionService();
+        this.executor = parameters.getExecutorService();
+        this.maxBatchSize = parameters.getMaxBatchSize();
+        this.coalescingWindow = parameters.getCoalescingWindow();
+        this.semanticChangeRecorder = parameters.getSemanticChangeRecorder();
+        this.representationDisposalDelay = parameters.getRepresentationDisposalDelay();
     }
 
     @Override
@@ -117,25 +172,35 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     }
 
     @Override
-    public Optional<IPayload> handle(IInput input) {
+    public Mono<IPayload> handle(IInput input) {
+        Mono<IPayload> payloadMono = Mono.empty();
         if (this.executor.isShutdown()) {
             this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId()); //$NON-NLS-1$
-            return Optional.empty();
-        }
-
-        Optional<IPayload> optionalPayload = Optional.empty();
-        Future<Optional<EventHandlerResponse>> future = this.executor.submit(() -> this.doHandle(input));
-        try {
-            // Block until the event has been processed
-            Optional<EventHandlerResponse> optionalResponse = future.get();
+        } else {
+            CompletableFuture<Optional<EventHandlerResponse>> responseFuture = new CompletableFuture<>();
+            this.queuedInputCount.incrementAndGet();
+            try {
+                // The input is queued right away to preserve the order of arrival, even if the caller subscribes later
+                CompletableFuture.runAsync(() -> this.doHandle(input, responseFuture), this.executor).whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        responseFuture.completeExceptionally(throwable);
+                    }
+                });
 
-            optionalPayload = optionalResponse.map(EventHandlerResponse::getPayload);
-        } catch (InterruptedException | ExecutionException exception) {
-            this.logger.warn(exception.getMessage(), exception);
+                // @formatter:off
+                payloadMono = Mono.fromFuture(responseFuture)
+                        .flatMap(optionalResponse -> Mono.justOrEmpty(optionalResponse.map(EventHandlerResponse::getPayload)))
+                        .onErrorResume(throwable -> {
+                            this.logger.warn(throwable.getMessage(), throwable);
+                            return Mono.empty();
+                        });
+                // @formatter:on
+            } catch (RejectedExecutionException exception) {
+                this.queuedInputCount.decrementAndGet();
+                this.logger.warn("The input queue of the editing context {} is full, the input {} has been rejected", this.editingContext.getId(), input); //$NON-NLS-1$
+            }
         }
-
-        this.publishEvent(input, optionalPayload);
-        return optionalPayload;
+        return payloadMono;
     }
 
     private void publishEvent(IInput input, Optional<IPayload> optionalPayload) {
@@ -156,20 +221,51 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     /**
      * Finds the proper event handler to perform the task matching the given input event.
      *
-     * @param inputEvent
+     * <p>
+     * The response is added to the current batch and it will only be sent to the caller once the other representations
+     * have been refreshed.
+     * </p>
+     *
+     * @param input
      *            The input event
-     * @return The response computed by the event handler
+     * @param responseFuture
+     *            The future to complete with the response computed by the event handler
      */
-    private Optional<EventHandlerResponse> doHandle(IInput input) {
+    private void doHandle(IInput input, CompletableFuture<Optional<EventHandlerResponse>> responseFuture) {
+        this.queuedInputCount.decrementAndGet();
+
+        try {
+            Lock writeLock = this.semanticModelLock.writeLock();
+            writeLock.lock();
+            try {
+                this.handleInBatch(input, responseFuture);
+            } finally {
+                writeLock.unlock();
+            }
+        } finally {
+            if (this.shouldFlush()) {
+                this.flushBatch();
+            } else if (this.queuedInputCount.get() <= 0 && !this.refreshBatch.isEmpty()) {
+                // The inputs waiting in the queue will schedule the flush once they have been handled
+                this.scheduleBatchFlush(this.refreshBatch);
+            }
+        }
+    }
+
+    private void handleInBatch(IInput input, CompletableFuture<Optional<EventHandlerResponse>> responseFuture) {
         this.logger.trace("Input received: {}", input); //$NON-NLS-1$
 
         Optional<EventHandlerResponse> optionalResponse = Optional.empty();
+        this.semanticChangeRecorder.startRecording(this.editingContext);
 
         UUID representationId = null;
         if (input instanceof IRepresentationInput) {
             IRepresentationInput representationInput = (IRepresentationInput) input;
             representationId = representationInput.getRepresentationId();
 
+            // The representation has to take into account the changes of the current batch before handling its input
+            this.refreshRepresentation(this.refreshBatch, representationId);
+
             optionalResponse = this.handleRepresentationInput(representationInput);
             if (input instanceof RenameRepresentationInput) {
                 this.publishEvent(input, optionalResponse.map(EventHandlerResponse::getPayload));
@@ -178,48 +274,156 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
             optionalResponse = this.handleInput(input);
         }
 
-        if (optionalResponse.isPresent()) {
-            EventHandlerResponse response = optionalResponse.get();
+        Optional<Set<String>> optionalChangedObjectIds = this.semanticChangeRecorder.stopRecording(this.editingContext);
+        optionalResponse = optionalResponse.map(response -> this.withChangedObjectIds(response, optionalChangedObjectIds));
 
+        if (optionalResponse.isPresent()) {
             this.disposeRepresentationIfNeeded();
-            this.refreshOtherRepresentations(input, representationId, response.getChangeDescription());
+        }
+        this.refreshBatch.add(input, representationId, optionalResponse, responseFuture);
+    }
 
-            if (this.shouldPersistTheEditingContext(response.getChangeDescription())) {
-                this.editingContextPersistenceService.persist(this.editingContext);
-            }
-            this.danglingRepresentationDeletionService.deleteDanglingRepresentations(this.editingContext.getId());
+    /**
+     * Completes the description of a semantic change with the identifiers of the semantic objects modified, in order to
+     * let the representations skip their refresh if they do not display any of them.
+     *
+     * @param response
+     *            The response of an event handler
+     * @param optionalChangedObjectIds
+     *            The identifiers of the semantic objects modified, if they are known
+     * @return The response with the semantic objects modified
+     */
+    private EventHandlerResponse withChangedObjectIds(EventHandlerResponse response, Optional<Set<String>> optionalChangedObjectIds) {
+        EventHandlerResponse responseWithChangedObjectIds = response;
+        ChangeDescription changeDescription = response.getChangeDescription();
+        if (optionalChangedObjectIds.isPresent() && ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind()) && changeDescription.getChangedObjectIds().isEmpty()) {
+            var changeDescriptionWithChangedObjectIds = new ChangeDescription(changeDescription.getKind(), changeDescription.getSourceId(), optionalChangedObjectIds.get());
+            responseWithChangedObjectIds = new EventHandlerResponse(changeDescriptionWithChangedObjectIds, response.getPayload());
         }
+        return responseWithChangedObjectIds;
+    }
 
-        return optionalResponse;
+    /**
+     * Indicates if the current batch should be closed right away, either because it is full or because no other input
+     * is waiting to be handled and the batches are not debounced.
+     *
+     * @return <code>true</code> if the current batch should be closed, <code>false</code> otherwise
+     */
+    private boolean shouldFlush() {
+        boolean isFull = this.refreshBatch.size() >= this.maxBatchSize;
+        boolean isIdle = this.coalescingWindow.isZero() && this.queuedInputCount.get() <= 0;
+        return isFull || isIdle;
     }
 
     /**
-     * Refresh all the representations except the one with the given representationId.
+     * Schedules the flush of the given batch on the executor service once the coalescing window has elapsed.
      *
+     * <p>
+     * The flush is debounced: it is only performed if no input has been added to the batch in the meantime. Otherwise,
+     * the last input added has scheduled another flush.
+     * </p>
      *
-     * @param input
-     *            The input which has triggered the refresh sequence
-     * @param representationId
-     *            The identifier of the representation which should not be refreshed
-     * @param changeDescription
-     *            The description of change to consider in order to determine if the representation should be refreshed
+     * @param batch
+     *            The current batch
      */
-    private void refreshOtherRepresentations(IInput input, UUID representationId, ChangeDescription changeDescription) {
-        // @formatter:off
-        this.representationEventProcessors.entrySet().stream()
-            .filter(entry -> !Objects.equals(entry.getKey(), representationId))
-            .map(Entry::getValue)
-            .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
-            .forEach(representationEventProcessor -> {
-                representationEventProcessor.refresh(input, changeDescription);
-                IRepresentation representation = representationEventProcessor.getRepresentation();
-                this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
-             });
-        // @formatter:on
+    private void scheduleBatchFlush(RefreshBatch batch) {
+        int size = batch.size();
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(this.coalescingWindow.toMillis(), TimeUnit.MILLISECONDS);
+        delayedExecutor.execute(() -> {
+            try {
+                this.executor.execute(() -> {
+                    if (this.refreshBatch == batch && batch.size() == size) {
+                        this.flushBatch();
+                    }
+                });
+            } catch (RejectedExecutionException exception) {
+                // The current batch is flushed when the editing context event processor terminates
+                this.logger.debug("The flush of the inputs of the editing context {} could not be scheduled", this.editingContext.getId()); //$NON-NLS-1$
+            }
+        });
+    }
+
+    /**
+     * Closes the current batch, refreshes the representations and then sends the responses to the callers.
+     */
+    private void flushBatch() {
+        RefreshBatch flushedBatch = this.refreshBatch;
+        this.refreshBatch = new RefreshBatch();
+
+        Lock writeLock = this.semanticModelLock.writeLock();
+        writeLock.lock();
+        try {
+            this.flush(flushedBatch);
+        } finally {
+            writeLock.unlock();
+
+            // The dependent stages of the callers may read the semantic model, they must run once the lock is released
+            flushedBatch.complete();
+        }
+    }
+
+    /**
+     * Refreshes all the representations with the changes of the given batch and persists the editing context if
+     * needed. The responses of the batch are sent to the callers by the caller of this method, once the write lock of
+     * the semantic model has been released.
+     *
+     * @param batch
+     *            The batch which has just been closed
+     */
+    private void flush(RefreshBatch batch) {
+        this.representationEventProcessors.keySet().forEach(representationId -> this.refreshRepresentation(batch, representationId));
+
+        if (batch.hasSemanticChange()) {
+            this.editingContextPersistenceService.persist(this.editingContext);
+            this.schedulePersistenceFlush();
+        }
+        if (batch.hasChanges()) {
+            this.danglingRepresentationDeletionService.deleteDanglingRepresentations(this.editingContext.getId());
+        }
     }
 
-    private boolean shouldPersistTheEditingContext(ChangeDescription changeDescription) {
-        return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
+    /**
+     * Schedules the flush of the pending writes of the editing context on its executor service, unless it is already
+     * scheduled or the persistence is not deferred.
+     */
+    private void schedulePersistenceFlush() {
+        if (this.editingContextPersistenceService instanceof IWriteBehindPersistenceService && this.isPersistenceFlushScheduled.compareAndSet(false, true)) {
+            var writeBehindPersistenceService = (IWriteBehindPersistenceService) this.editingContextPersistenceService;
+            Executor delayedExecutor = CompletableFuture.delayedExecutor(writeBehindPersistenceService.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+            delayedExecutor.execute(() -> {
+                try {
+                    this.executor.execute(() -> {
+                        this.isPersistenceFlushScheduled.set(false);
+                        writeBehindPersistenceService.flush(this.editingContext.getId());
+                    });
+                } catch (RejectedExecutionException exception) {
+                    // The next semantic change will schedule a new flush, the pending writes are flushed anyway on dispose
+                    this.isPersistenceFlushScheduled.set(false);
+                    this.logger.debug("The flush of the editing context {} could not be scheduled", this.editingContext.getId()); //$NON-NLS-1$
+                }
+            });
+        }
+    }
+
+    /**
+     * Refreshes the given representation with the changes of the batch which have not been considered yet.
+     *
+     * @param batch
+     *            The batch containing the changes
+     * @param representationId
+     *            The identifier of the representation to refresh
+     */
+    private void refreshRepresentation(RefreshBatch batch, UUID representationId) {
+        Optional<RefreshBatch.Change> optionalChange = batch.consumeChange(representationId);
+        var optionalRepresentationEventProcessor = Optional.ofNullable(this.representationEventProcessors.get(representationId))
+                .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor);
+        if (optionalRepresentationEventProcessor.isPresent() && optionalChange.isPresent()) {
+            IRepresentationEventProcessor representationEventProcessor = optionalRepresentationEventProcessor.get();
+            RefreshBatch.Change change = optionalChange.get();
+            representationEventProcessor.refresh(change.getInput(), change.getChangeDescription());
+            IRepresentation representation = representationEventProcessor.getRepresentation();
+            this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
+        }
     }
 
     /**
@@ -299,26 +503,43 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     @Override
     public <T extends IRepresentationEventProcessor> Optional<T> acquireRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
             IInput input) {
+        // The creation of a representation event processor renders the representation, it must not happen while the semantic model is modified
+        Lock readLock = this.semanticModelLock.readLock();
+        readLock.lock();
+        try {
+            return this.doAcquireRepresentationEventProcessor(representationEventProcessorClass, configuration, input);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private <T extends IRepresentationEventProcessor> Optional<T> doAcquireRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+            IInput input) {
         // @formatter:off
-        var optionalRepresentationEventProcessor = Optional.ofNullable(this.representationEventProcessors.get(configuration.getId()))
-                .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
-                .filter(representationEventProcessorClass::isInstance)
+        var optionalEntry = Optional.ofNullable(this.representationEventProcessors.get(configuration.getId()))
+                .filter(entry -> representationEventProcessorClass.isInstance(entry.getRepresentationEventProcessor()));
+        var optionalRepresentationEventProcessor = optionalEntry.map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
                 .map(representationEventProcessorClass::cast);
         // @formatter:on
 
-        if (!optionalRepresentationEventProcessor.isPresent()) {
+        if (optionalRepresentationEventProcessor.isPresent()) {
+            optionalEntry.get().markAcquired();
+            var representationEventProcessor = optionalRepresentationEventProcessor.get();
+            this.executeIfStillOpened(configuration.getId(), representationEventProcessor, () -> representationEventProcessor.retarget(configuration, input));
+        } else {
             optionalRepresentationEventProcessor = this.representationEventProcessorComposedFactory.createRepresentationEventProcessor(representationEventProcessorClass, configuration,
                     this.editingContext);
             if (optionalRepresentationEventProcessor.isPresent()) {
                 var representationEventProcessor = optionalRepresentationEventProcessor.get();
                 Disposable subscription = representationEventProcessor.canBeDisposed().subscribe(canBeDisposed -> {
                     if (canBeDisposed.booleanValue()) {
-                        this.disposeRepresentation(configuration.getId());
+                        this.scheduleRepresentationDisposal(configuration.getId(), representationEventProcessor);
                     }
                 });
 
                 var representationEventProcessorEntry = new RepresentationEventProcessorEntry(representationEventProcessor, subscription);
                 this.representationEventProcessors.put(configuration.getId(), representationEventProcessorEntry);
+                this.notifyOpening(configuration.getId(), representationEventProcessor, input);
             } else {
                 this.logger.warn("The representation with the id {} does not exist", configuration.getId()); //$NON-NLS-1$
             }
@@ -329,6 +550,57 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         return optionalRepresentationEventProcessor;
     }
 
+    /**
+     * Lets the representation event processor which has just been created perform some work on the thread of the
+     * editing context, after the inputs which are already waiting in the queue.
+     *
+     * @param representationId
+     *            The identifier of the representation
+     * @param representationEventProcessor
+     *            The representation event processor created
+     * @param input
+     *            The input which has triggered the creation of the representation event processor
+     */
+    private void notifyOpening(UUID representationId, IRepresentationEventProcessor representationEventProcessor, IInput input) {
+        this.executeIfStillOpened(representationId, representationEventProcessor,
+                () -> representationEventProcessor.refresh(input, new ChangeDescription(ChangeKind.REPRESENTATION_OPENING, representationId)));
+    }
+
+    /**
+     * Executes the given task on the thread of the editing context, after the inputs which are already waiting in the
+     * queue, if the given representation event processor has not been disposed in the meantime.
+     *
+     * @param representationId
+     *            The identifier of the representation
+     * @param representationEventProcessor
+     *            The representation event processor
+     * @param task
+     *            The task to execute while the semantic model cannot be modified
+     */
+    private void executeIfStillOpened(UUID representationId, IRepresentationEventProcessor representationEventProcessor, Runnable task) {
+        try {
+            this.executor.execute(() -> {
+                Lock writeLock = this.semanticModelLock.writeLock();
+                writeLock.lock();
+                try {
+                    // @formatter:off
+                    var isStillOpened = Optional.ofNullable(this.representationEventProcessors.get(representationId))
+                            .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
+                            .filter(representationEventProcessor::equals)
+                            .isPresent();
+                    // @formatter:on
+                    if (isStillOpened) {
+                        task.run();
+                    }
+                } finally {
+                    writeLock.unlock();
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            this.logger.warn("The representation {} could not be updated", representationId); //$NON-NLS-1$
+        }
+    }
+
     @Override
     public List<IRepresentationEventProcessor> getRepresentationEventProcessors() {
         // @formatter:off
@@ -338,6 +610,61 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         // @formatter:on
     }
 
+    /**
+     * Schedules the disposal of a representation event processor which has no subscriber anymore.
+     *
+     * <p>
+     * A client switching to another subscription may cancel the previous one before acquiring the same representation
+     * event processor again. The disposal is thus performed on the executor service of the editing context after the
+     * representation disposal delay, and only if the representation event processor is still without subscriber and
+     * has not been acquired in the meantime.
+     * </p>
+     *
+     * @param representationId
+     *            The identifier of the representation
+     * @param representationEventProcessor
+     *            The representation event processor without subscriber
+     */
+    private void scheduleRepresentationDisposal(UUID representationId, IRepresentationEventProcessor representationEventProcessor) {
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(this.representationDisposalDelay.toMillis(), TimeUnit.MILLISECONDS);
+        delayedExecutor.execute(() -> {
+            try {
+                this.executor.execute(() -> {
+                    Lock writeLock = this.semanticModelLock.writeLock();
+                    writeLock.lock();
+                    try {
+                        this.disposeRepresentationIfUnused(representationId, representationEventProcessor);
+                    } finally {
+                        writeLock.unlock();
+                    }
+                });
+            } catch (RejectedExecutionException exception) {
+                // The editing context event processor is disposed, along with all its representation event processors
+                this.logger.debug("The disposal of the representation {} could not be scheduled", representationId); //$NON-NLS-1$
+            }
+        });
+    }
+
+    private void disposeRepresentationIfUnused(UUID representationId, IRepresentationEventProcessor representationEventProcessor) {
+        // @formatter:off
+        var optionalEntry = Optional.ofNullable(this.representationEventProcessors.get(representationId))
+                .filter(entry -> entry.getRepresentationEventProcessor().equals(representationEventProcessor));
+        boolean hasNoSubscriber = Optional.ofNullable(representationEventProcessor.getSubscriptionManager())
+                .map(ISubscriptionManager::isEmpty)
+                .orElse(Boolean.TRUE)
+                .booleanValue();
+        // @formatter:on
+
+        if (optionalEntry.isPresent() && hasNoSubscriber) {
+            if (optionalEntry.get().getTimeSinceLastAcquisition().compareTo(this.representationDisposalDelay) >= 0) {
+                this.disposeRepresentation(representationId);
+            } else {
+                // Acquired recently, its new subscriber may not have subscribed yet
+                this.scheduleRepresentationDisposal(representationId, representationEventProcessor);
+            }
+        }
+    }
+
     private void disposeRepresentation(UUID representationId) {
         Optional.ofNullable(this.representationEventProcessors.remove(representationId)).ifPresent(RepresentationEventProcessorEntry::dispose);
 
@@ -364,17 +691,55 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     public void dispose() {
         this.logger.trace("Disposing the editing context event processor {}", this.editingContext.getId()); //$NON-NLS-1$
 
+        try {
+            // Performed after the inputs still waiting in the queue
+            this.executor.execute(this::terminate);
+        } catch (RejectedExecutionException exception) {
+            this.terminate();
+        }
         this.executor.shutdown();
+    }
+
+    /**
+     * Disposes the representation event processors, flushes the pending writes of the editing context and lets the
+     * other services know that they will not be used for this editing context anymore.
+     */
+    private void terminate() {
+        if (!this.refreshBatch.isEmpty()) {
+            this.flushBatch();
+        }
+
+        Lock writeLock = this.semanticModelLock.writeLock();
+        writeLock.lock();
+        try {
+            this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
+            this.representationEventProcessors.clear();
 
-        this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
-        this.representationEventProcessors.clear();
+            if (this.editingContextPersistenceService instanceof IWriteBehindPersistenceService) {
+                var writeBehindPersistenceService = (IWriteBehindPersistenceService) this.editingContextPersistenceService;
+                writeBehindPersistenceService.flush(this.editingContext.getId());
+            }
+        } finally {
+            writeLock.unlock();
+        }
 
         EmitResult emitResult = this.sink.tryEmitComplete();
         if (emitResult.isFailure()) {
             String pattern = "An error has occurred while marking the publisher as complete: {}"; //$NON-NLS-1$
             this.logger.warn(pattern, emitResult);
         }
+        this.applicationEventPublisher.publishEvent(new EditingContextDisposedEvent(this.editingContext.getId()));
+    }
 
+    @Override
+    public boolean awaitTermination(Duration timeout) {
+        boolean isTerminated = false;
+        try {
+            isTerminated = this.executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return isTerminated;
     }
 
 }
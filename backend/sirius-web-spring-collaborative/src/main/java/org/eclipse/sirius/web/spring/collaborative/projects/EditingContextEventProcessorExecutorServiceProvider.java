@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.spring.collaborative.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Provides to each editing context a serial mailbox with a bounded queue of inputs waiting to be handled.
+ *
+ * <p>
+ * All the mailboxes share the same fixed pool of worker threads, the number of threads used thus does not depend on
+ * the number of editing contexts opened.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextEventProcessorExecutorServiceProvider implements IEditingContextEventProcessorExecutorServiceProvider {
+
+    private final int inputQueueCapacity;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadPoolExecutor workerPool;
+
+    public EditingContextEventProcessorExecutorServiceProvider(@Value("${org.eclipse.sirius.web.editingContextEventProcessor.inputQueueCapacity:1000}") int inputQueueCapacity,
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessor.workerPoolSize:16}") int workerPoolSize, MeterRegistry meterRegistry) {
+        this.inputQueueCapacity = inputQueueCapacity;
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workerPool = new ThreadPoolExecutor(workerPoolSize, workerPoolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), (Runnable runnable) -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Editing context worker " + threadCount.incrementAndGet()); //$NON-NLS-1$
+            return thread;
+        });
+        new ExecutorServiceMetrics(this.workerPool, Monitoring.EDITING_CONTEXT_WORKERS, List.of()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public ExecutorService getExecutorService(IEditingContext editingContext) {
+        var mailbox = new EditingContextMailbox(editingContext.getId(), this.workerPool, this.inputQueueCapacity, this.meterRegistry);
+        return new DelegatingSecurityContextExecutorService(mailbox);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.workerPool.shutdown();
+    }
+
+}
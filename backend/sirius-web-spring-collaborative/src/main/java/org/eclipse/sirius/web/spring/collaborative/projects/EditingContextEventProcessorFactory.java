@@ -46,21 +46,39 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
 
     private final IDanglingRepresentationDeletionService representationDeletionService;
 
+    private final EditingContextEventProcessorFactoryConfiguration configuration;
+
     public EditingContextEventProcessorFactory(IEditingContextPersistenceService editingContextPersistenceService, ApplicationEventPublisher applicationEventPublisher, IObjectService objectService,
             List<IEditingContextEventHandler> editingContextEventHandlers, IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory,
-            IDanglingRepresentationDeletionService representationDeletionService) {
+            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryConfiguration configuration) {
         this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
         this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
         this.objectService = Objects.requireNonNull(objectService);
         this.editingContextEventHandlers = Objects.requireNonNull(editingContextEventHandlers);
         this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
         this.representationDeletionService = Objects.requireNonNull(representationDeletionService);
+        this.configuration = Objects.requireNonNull(configuration);
     }
 
     @Override
     public IEditingContextEventProcessor createEditingContextEventProcessor(IEditingContext editingContext) {
-        return new EditingContextEventProcessor(editingContext, this.editingContextPersistenceService, this.applicationEventPublisher, this.objectService, this.editingContextEventHandlers,
-                this.representationEventProcessorComposedFactory, this.representationDeletionService);
+        // @formatter:off
+        var parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters(editingContext)
+                .editingContextPersistenceService(this.editingContextPersistenceService)
+                .applicationEventPublisher(this.applicationEventPublisher)
+                .objectService(this.objectService)
+                .editingContextEventHandlers(this.editingContextEventHandlers)
+                .representationEventProcessorComposedFactory(this.representationEventProcessorComposedFactory)
+                .danglingRepresentationDeletionService(this.representationDeletionService)
+                .executorService(this.configuration.getExecutorServiceProvider().getExecutorService(editingContext))
+                .maxBatchSize(this.configuration.getMaxBatchSize())
+                .coalescingWindow(this.configuration.getCoalescingWindow())
+                .semanticChangeRecorder(this.configuration.getSemanticChangeRecorder())
+                .representationDisposalDelay(this.configuration.getRepresentationDisposalDelay())
+                .build();
+        // @formatter:on
+
+        return new EditingContextEventProcessor(parameters);
     }
 
 }
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.web.spring.collaborative.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.web.spring.collaborative.api.ISemanticChangeRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bundles the services and settings used to schedule the work of the editing context event processors.
+ *
+ * <p>
+ * The inputs of an editing context are handled in batches of up to <code>maxBatchSize</code> inputs and the other
+ * representations are refreshed only once at the end of each batch. A batch which is not full is closed once no input
+ * has been received during the coalescing window, which thus delays the responses by the same amount of time. A
+ * coalescing window of zero closes the batch as soon as no input is waiting and a maximum batch size of 1 refreshes the
+ * representations after each input.
+ * </p>
+ *
+ * <p>
+ * The change-scoped refresh is another opt-in mode in which the semantic objects modified by each input are recorded in
+ * order to let the representation event processors skip the refresh of representations which do not display them. It
+ * requires a {@link ISemanticChangeRecorder}, without one all the representations are refreshed.
+ * </p>
+ *
+ * <p>
+ * A representation event processor without subscribers is kept during the representation disposal delay, so that a
+ * client switching from one subscription to another can reuse it.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextEventProcessorFactoryConfiguration {
+
+    private final IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider;
+
+    private final int maxBatchSize;
+
+    private final Duration coalescingWindow;
+
+    private final ISemanticChangeRecorder semanticChangeRecorder;
+
+    private final Duration representationDisposalDelay;
+
+    public EditingContextEventProcessorFactoryConfiguration(IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider,
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessor.maxBatchSize:64}") int maxBatchSize,
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessor.coalescingWindow:50ms}") Duration coalescingWindow,
+            Optional<ISemanticChangeRecorder> optionalSemanticChangeRecorder,
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessor.changeScopedRefresh:false}") boolean changeScopedRefresh,
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessor.representationDisposalDelay:1s}") Duration representationDisposalDelay) {
+        this.executorServiceProvider = Objects.requireNonNull(executorServiceProvider);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.coalescingWindow = Objects.requireNonNull(coalescingWindow);
+        this.representationDisposalDelay = Objects.requireNonNull(representationDisposalDelay);
+
+        // The semantic change recorder is only provided by some modules, the change-scoped refresh is not available without it
+        if (changeScopedRefresh) {
+            this.semanticChangeRecorder = optionalSemanticChangeRecorder.orElseGet(ISemanticChangeRecorder.NoOp::new);
+        } else {
+            this.semanticChangeRecorder = new ISemanticChangeRecorder.NoOp();
+        }
+    }
+
+    public IEditingContextEventProcessorExecutorServiceProvider getExecutorServiceProvider() {
+        return this.executorServiceProvider;
+    }
+
+    public int getMaxBatchSize() {
+        return this.maxBatchSize;
+    }
+
+    public Duration getCoalescingWindow() {
+        return this.coalescingWindow;
+    }
+
+    public ISemanticChangeRecorder getSemanticChangeRecorder() {
+        return this.semanticChangeRecorder;
+    }
+
+    public Duration getRepresentationDisposalDelay() {
+        return this.representationDisposalDelay;
+    }
+
+}
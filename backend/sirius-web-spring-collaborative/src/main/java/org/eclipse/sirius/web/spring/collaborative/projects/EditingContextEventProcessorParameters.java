@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.sirius.web.annotations.Immutable;
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.web.core.api.IObjectService;
+import org.eclipse.sirius.web.spring.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.web.spring.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.spring.collaborative.api.ISemanticChangeRecorder;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * This class is used because creating an editing context event processor requires sending at once multiple
+ * parameters.
+ *
+ * @author agent
+ */
+@Immutable
+public final class EditingContextEventProcessorParameters {
+
+    private IEditingContext editingContext;
+
+    private IEditingContextPersistenceService editingContextPersistenceService;
+
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private IObjectService objectService;
+
+    private List<IEditingContextEventHandler> editingContextEventHandlers;
+
+    private IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+
+    private IDanglingRepresentationDeletionService danglingRepresentationDeletionService;
+
+    private ExecutorService executorService;
+
+    private int maxBatchSize;
+
+    private Duration coalescingWindow;
+
+    private ISemanticChangeRecorder semanticChangeRecorder;
+
+    private Duration representationDisposalDelay;
+
+    private EditingContextEventProcessorParameters() {
+        // Prevent instantiation
+    }
+
+    public IEditingContext getEditingContext() {
+        return this.editingContext;
+    }
+
+    public IEditingContextPersistenceService getEditingContextPersistenceService() {
+        return this.editingContextPersistenceService;
+    }
+
+    public ApplicationEventPublisher getApplicationEventPublisher() {
+        return this.applicationEventPublisher;
+    }
+
+    public IObjectService getObjectService() {
+        return this.objectService;
+    }
+
+    public List<IEditingContextEventHandler> getEditingContextEventHandlers() {
+        return this.editingContextEventHandlers;
+    }
+
+    public IRepresentationEventProcessorComposedFactory getRepresentationEventProcessorComposedFactory() {
+        return this.representationEventProcessorComposedFactory;
+    }
+
+    public IDanglingRepresentationDeletionService getDanglingRepresentationDeletionService() {
+        return this.danglingRepresentationDeletionService;
+    }
+
+    public ExecutorService getExecutorService() {
+        return this.executorService;
+    }
+
+    public int getMaxBatchSize() {
+        return this.maxBatchSize;
+    }
+
+    public Duration getCoalescingWindow() {
+        return this.coalescingWindow;
+    }
+
+    public ISemanticChangeRecorder getSemanticChangeRecorder() {
+        return this.semanticChangeRecorder;
+    }
+
+    public Duration getRepresentationDisposalDelay() {
+        return this.representationDisposalDelay;
+    }
+
+    public static Builder newEditingContextEventProcessorParameters(IEditingContext editingContext) {
+        return new Builder(editingContext);
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'editingContextId: {1}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.editingContext.getId());
+    }
+
+    /**
+     * The builder of the editing context event processor parameters.
+     *
+     * @author agent
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class Builder {
+        private IEditingContext editingContext;
+
+        private IEditingContextPersistenceService editingContextPersistenceService;
+
+        private ApplicationEventPublisher applicationEventPublisher;
+
+        private IObjectService objectService;
+
+        private List<IEditingContextEventHandler> editingContextEventHandlers;
+
+        private IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+
+        private IDanglingRepresentationDeletionService danglingRepresentationDeletionService;
+
+        private ExecutorService executorService;
+
+        private int maxBatchSize = 1;
+
+        private Duration coalescingWindow = Duration.ZERO;
+
+        private ISemanticChangeRecorder semanticChangeRecorder = new ISemanticChangeRecorder.NoOp();
+
+        private Duration representationDisposalDelay = Duration.ZERO;
+
+        private Builder(IEditingContext editingContext) {
+            this.editingContext = Objects.requireNonNull(editingContext);
+        }
+
+        public Builder editingContextPersistenceService(IEditingContextPersistenceService editingContextPersistenceService) {
+            this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
+            return this;
+        }
+
+        public Builder applicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+            this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
+            return this;
+        }
+
+        public Builder objectService(IObjectService objectService) {
+            this.objectService = Objects.requireNonNull(objectService);
+            return this;
+        }
+
+        public Builder editingContextEventHandlers(List<IEditingContextEventHandler> editingContextEventHandlers) {
+            this.editingContextEventHandlers = Objects.requireNonNull(editingContextEventHandlers);
+            return this;
+        }
+
+        public Builder representationEventProcessorComposedFactory(IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory) {
+            this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
+            return this;
+        }
+
+        public Builder danglingRepresentationDeletionService(IDanglingRepresentationDeletionService danglingRepresentationDeletionService) {
+            this.danglingRepresentationDeletionService = Objects.requireNonNull(danglingRepresentationDeletionService);
+            return this;
+        }
+
+        public Builder executorService(ExecutorService executorService) {
+            this.executorService = Objects.requireNonNull(executorService);
+            return this;
+        }
+
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder coalescingWindow(Duration coalescingWindow) {
+            this.coalescingWindow = Objects.requireNonNull(coalescingWindow);
+            return this;
+        }
+
+        public Builder semanticChangeRecorder(ISemanticChangeRecorder semanticChangeRecorder) {
+            this.semanticChangeRecorder = Objects.requireNonNull(semanticChangeRecorder);
+            return this;
+        }
+
+        public Builder representationDisposalDelay(Duration representationDisposalDelay) {
+            this.representationDisposalDelay = Objects.requireNonNull(representationDisposalDelay);
+            return this;
+        }
+
+        public EditingContextEventProcessorParameters build() {
+            EditingContextEventProcessorParameters parameters = new EditingContextEventProcessorParameters();
+            parameters.editingContext = Objects.requireNonNull(this.editingContext);
+            parameters.editingContextPersistenceService = Objects.requireNonNull(this.editingContextPersistenceService);
+            parameters.applicationEventPublisher = Objects.requireNonNull(this.applicationEventPublisher);
+            parameters.objectService = Objects.requireNonNull(this.objectService);
+            parameters.editingContextEventHandlers = Objects.requireNonNull(this.editingContextEventHandlers);
+            parameters.representationEventProcessorComposedFactory = Objects.requireNonNull(this.representationEventProcessorComposedFactory);
+            parameters.danglingRepresentationDeletionService = Objects.requireNonNull(this.danglingRepresentationDeletionService);
+            parameters.executorService = Objects.requireNonNull(this.executorService);
+            parameters.maxBatchSize = this.maxBatchSize;
+            parameters.coalescingWindow = Objects.requireNonNull(this.coalescingWindow);
+            parameters.semanticChangeRecorder = Objects.requireNonNull(this.semanticChangeRecorder);
+            parameters.representationDisposalDelay = Objects.requireNonNull(this.representationDisposalDelay);
+            return parameters;
+        }
+    }
+}
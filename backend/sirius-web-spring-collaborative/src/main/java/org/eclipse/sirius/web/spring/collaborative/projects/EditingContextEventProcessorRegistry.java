@@ -18,7 +18,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import javax.annotation.PreDestroy;
@@ -30,19 +32,40 @@ import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.spring.collaborative.api.IEditingContextEventProcessor;
 import org.eclipse.sirius.web.spring.collaborative.api.IEditingContextEventProcessorFactory;
 import org.eclipse.sirius.web.spring.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Registry of the editing context event processors.
  *
+ * <p>
+ * The editing contexts are loaded only once even if several inputs target the same editing context at the same time.
+ * The editing context is loaded on the bounded elastic scheduler and all the callers subscribe to the result of this
+ * loading, without blocking their thread. The loading of an editing context does not block the callers targeting other
+ * editing contexts. Once the editing context event
+ * processor has been created, the existence of the editing context is not checked anymore.
+ * </p>
+ *
+ * <p>
+ * The registry is disposed before the write-behind persistence, in order to let the editing context event processors
+ * flush the pending writes of their editing context first.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
+@DependsOn("writeBehindPersistenceConfiguration")
 public class EditingContextEventProcessorRegistry implements IEditingContextEventProcessorRegistry {
 
     private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessorRegistry.class);
@@ -53,13 +76,26 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     private final Duration disposeDelay;
 
+    private final Duration inputTimeout;
+
     private final Map<UUID, EditingContextEventProcessorEntry> editingContextEventProcessors = new ConcurrentHashMap<>();
 
+    private final Map<UUID, CompletableFuture<Optional<IEditingContextEventProcessor>>> loadings = new ConcurrentHashMap<>();
+
+    private final Timer loadingTimer;
+
+    private final Counter collapsedLoadingsCounter;
+
     public EditingContextEventProcessorRegistry(IEditingContextEventProcessorFactory editingContextEventProcessorFactory, IEditingContextSearchService editingContextSearchService,
-            @Value("${org.eclipse.sirius.web.editingContextEventProcessorRegistry.disposeDelay:30s}") Duration disposeDelay) {
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessorRegistry.disposeDelay:30s}") Duration disposeDelay,
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessorRegistry.inputTimeout:60s}") Duration inputTimeout, MeterRegistry meterRegistry) {
         this.editingContextEventProcessorFactory = editingContextEventProcessorFactory;
         this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
         this.disposeDelay = disposeDelay;
+        this.inputTimeout = inputTimeout;
+
+        this.loadingTimer = Timer.builder(Monitoring.EDITING_CONTEXT_LOADING).register(meterRegistry);
+        this.collapsedLoadingsCounter = Counter.builder(Monitoring.EDITING_CONTEXT_LOADING_COLLAPSED).register(meterRegistry);
     }
 
     @Override
@@ -72,40 +108,104 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
     }
 
     @Override
-    public Optional<IPayload> dispatchEvent(UUID editingContextId, IInput input) {
-        return this.getOrCreateEditingContextEventProcessor(editingContextId).flatMap(processor -> processor.handle(input));
+    public Mono<IPayload> dispatchEvent(UUID editingContextId, IInput input) {
+        // @formatter:off
+        return this.getOrCreateEditingContextEventProcessor(editingContextId)
+                .flatMap(processor -> processor.handle(input))
+                .timeout(this.inputTimeout)
+                .onErrorResume(TimeoutException.class, exception -> {
+                    this.logger.warn("The input {} has not been handled by the editing context {} in time", input, editingContextId); //$NON-NLS-1$
+                    return Mono.empty();
+                });
+        // @formatter:on
     }
 
     @Override
-    public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(UUID editingContextId) {
+    public Mono<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(UUID editingContextId) {
+        return Mono.defer(() -> Mono.fromFuture(this.getOrCreateLoading(editingContextId))).flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Returns the loading of the event processor of the given editing context. The editing context is loaded on the
+     * bounded elastic scheduler unless another caller is already loading it, in which case the loading of this other
+     * caller is shared. Each caller receives its own copy of the loading since the cancellation of a subscriber must
+     * not cancel the loading of the others.
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     * @return The loading of the event processor of the editing context
+     */
+    private CompletableFuture<Optional<IEditingContextEventProcessor>> getOrCreateLoading(UUID editingContextId) {
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
+        CompletableFuture<Optional<IEditingContextEventProcessor>> result = CompletableFuture.completedFuture(optionalEditingContextEventProcessor);
+        if (optionalEditingContextEventProcessor.isEmpty()) {
+            CompletableFuture<Optional<IEditingContextEventProcessor>> loading = new CompletableFuture<>();
+            CompletableFuture<Optional<IEditingContextEventProcessor>> existingLoading = this.loadings.putIfAbsent(editingContextId, loading);
+            if (existingLoading != null) {
+                this.collapsedLoadingsCounter.increment();
+                result = existingLoading.copy();
+            } else {
+                // @formatter:off
+                Mono.fromCallable(() -> this.loadEditingContextEventProcessor(editingContextId))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .doFinally(signalType -> {
+                            // The callers waiting for a loading which has failed will not find the editing context
+                            this.loadings.remove(editingContextId, loading);
+                            loading.complete(Optional.empty());
+                        })
+                        .subscribe(loading::complete, throwable -> this.logger.warn(throwable.getMessage(), throwable));
+                // @formatter:on
+                result = loading.copy();
+            }
+        }
+        return result;
+    }
+
+    private Optional<IEditingContextEventProcessor> loadEditingContextEventProcessor(UUID editingContextId) {
+        // The editing context event processor may have been created since our first lookup
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
+        if (optionalEditingContextEventProcessor.isEmpty()) {
+            optionalEditingContextEventProcessor = this.loadingTimer.record(() -> this.createEditingContextEventProcessor(editingContextId));
+        }
+        return optionalEditingContextEventProcessor;
+    }
+
+    private Optional<IEditingContextEventProcessor> getEditingContextEventProcessor(UUID editingContextId) {
+        return Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId)).map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+    }
+
+    /**
+     * Loads the editing context with the given identifier and creates its event processor. This method should only be
+     * called by the single loading of this editing context.
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     * @return The event processor of the editing context or an empty optional if the editing context does not exist
+     */
+    private Optional<IEditingContextEventProcessor> createEditingContextEventProcessor(UUID editingContextId) {
         Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
         if (this.editingContextSearchService.existsById(editingContextId)) {
-            optionalEditingContextEventProcessor = Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
-                    .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
-            if (optionalEditingContextEventProcessor.isEmpty()) {
-                Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
-                if (optionalEditingContext.isPresent()) {
-                    IEditingContext editingContext = optionalEditingContext.get();
-
-                    var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
-                    Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
-                        // We will wait for the delay before trying to dispose the editing context event processor
-                        // We will check if the editing context event processor is still empty
-                        if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
-                            this.disposeEditingContextEventProcessor(editingContextId);
-                        } else {
-                            this.logger.trace("Stopping the disposal of the editing context"); //$NON-NLS-1$
-                        }
-                    });
-
-                    var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
-                    this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
-
-                    optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
-                }
+            Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
+            if (optionalEditingContext.isPresent()) {
+                IEditingContext editingContext = optionalEditingContext.get();
+
+                var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
+                Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
+                    // We will wait for the delay before trying to dispose the editing context event processor
+                    // We will check if the editing context event processor is still empty
+                    if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
+                        this.disposeEditingContextEventProcessor(editingContextId);
+                    } else {
+                        this.logger.trace("Stopping the disposal of the editing context"); //$NON-NLS-1$
+                    }
+                });
+
+                var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
+                this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
+
+                optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
             }
         }
-
         return optionalEditingContextEventProcessor;
     }
 
@@ -116,11 +216,23 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
         this.logger.trace("Editing context event processors count: {}", this.editingContextEventProcessors.size()); //$NON-NLS-1$
     }
 
+    /**
+     * Disposes all the editing context event processors and waits, for at most the input timeout, until they have
+     * handled the inputs still in their queue and flushed the pending writes of their editing context on their own
+     * thread.
+     */
     @PreDestroy
     public void dispose() {
         this.logger.debug("Shutting down all the editing context event processors"); //$NON-NLS-1$
 
+        List<IEditingContextEventProcessor> disposedEditingContextEventProcessors = this.getEditingContextEventProcessors();
         this.editingContextEventProcessors.values().forEach(EditingContextEventProcessorEntry::dispose);
         this.editingContextEventProcessors.clear();
+
+        for (IEditingContextEventProcessor editingContextEventProcessor : disposedEditingContextEventProcessors) {
+            if (!editingContextEventProcessor.awaitTermination(this.inputTimeout)) {
+                this.logger.warn("The editing context event processor {} has not terminated in time", editingContextEventProcessor.getEditingContextId()); //$NON-NLS-1$
+            }
+        }
     }
 }
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The serial mailbox of an editing context.
+ *
+ * <p>
+ * The tasks submitted are stored in a bounded queue and they are run one at a time, in order of submission, by the
+ * threads of a worker pool shared by all the editing contexts. A mailbox never holds a thread while it is empty and it
+ * gives the thread back to the worker pool after each task, so that a busy editing context cannot starve the others.
+ * </p>
+ *
+ * @author agent
+ */
+public class EditingContextMailbox extends AbstractExecutorService {
+
+    private final ThreadPoolExecutor workerPool;
+
+    private final int capacity;
+
+    private final RejectedExecutionHandler rejectedExecutionHandler = new ThreadPoolExecutor.AbortPolicy();
+
+    private final Object lock = new Object();
+
+    private final Queue<MailboxTask> tasks = new ArrayDeque<>();
+
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private final MeterRegistry meterRegistry;
+
+    private final Gauge sizeGauge;
+
+    private final Timer waitTimer;
+
+    private boolean scheduled;
+
+    private boolean shutdown;
+
+    public EditingContextMailbox(UUID editingContextId, ThreadPoolExecutor workerPool, int capacity, MeterRegistry meterRegistry) {
+        this.workerPool = Objects.requireNonNull(workerPool);
+        this.capacity = capacity;
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+
+        // @formatter:off
+        this.sizeGauge = Gauge.builder(Monitoring.EDITING_CONTEXT_MAILBOX_SIZE, this, EditingContextMailbox::size)
+                .tag(Monitoring.EDITING_CONTEXT_ID, editingContextId.toString())
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder(Monitoring.EDITING_CONTEXT_MAILBOX_WAIT)
+                .tag(Monitoring.EDITING_CONTEXT_ID, editingContextId.toString())
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    /**
+     * Returns the number of tasks waiting to be run.
+     *
+     * @return The number of tasks waiting to be run
+     */
+    public int size() {
+        synchronized (this.lock) {
+            return this.tasks.size();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        MailboxTask task = new MailboxTask(Objects.requireNonNull(command), System.nanoTime());
+        boolean isAccepted = false;
+        boolean shouldSchedule = false;
+        synchronized (this.lock) {
+            isAccepted = !this.shutdown && this.tasks.size() < this.capacity;
+            if (isAccepted) {
+                this.tasks.add(task);
+                shouldSchedule = !this.scheduled;
+                this.scheduled = true;
+            }
+        }
+
+        if (!isAccepted) {
+            this.rejectedExecutionHandler.rejectedExecution(command, this.workerPool);
+        } else if (shouldSchedule) {
+            try {
+                this.workerPool.execute(this::runNext);
+            } catch (RejectedExecutionException exception) {
+                synchronized (this.lock) {
+                    this.tasks.remove(task);
+                    this.unschedule();
+                }
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Runs the oldest task of the mailbox and schedules the next one, if any, at the end of the queue of the worker
+     * pool.
+     */
+    private void runNext() {
+        MailboxTask task = null;
+        synchronized (this.lock) {
+            task = this.tasks.poll();
+        }
+
+        try {
+            if (task != null) {
+                this.waitTimer.record(System.nanoTime() - task.getSubmissionTime(), TimeUnit.NANOSECONDS);
+                task.getCommand().run();
+            }
+        } finally {
+            boolean shouldSchedule = false;
+            synchronized (this.lock) {
+                shouldSchedule = !this.tasks.isEmpty();
+                if (!shouldSchedule) {
+                    this.unschedule();
+                }
+            }
+
+            if (shouldSchedule) {
+                this.scheduleNext();
+            }
+        }
+    }
+
+    private void scheduleNext() {
+        try {
+            this.workerPool.execute(this::runNext);
+        } catch (RejectedExecutionException exception) {
+            // The tasks waiting will be scheduled again by the next task submitted, unless the mailbox is shut down
+            synchronized (this.lock) {
+                if (this.shutdown) {
+                    this.tasks.clear();
+                }
+                this.unschedule();
+            }
+        }
+    }
+
+    /**
+     * Lets the next task submitted schedule the mailbox again and terminates the mailbox if it has been shut down and
+     * no task is waiting anymore. Called while holding the lock.
+     */
+    private void unschedule() {
+        this.scheduled = false;
+        if (this.shutdown && this.tasks.isEmpty()) {
+            this.terminate();
+        }
+    }
+
+    private void terminate() {
+        this.meterRegistry.remove(this.sizeGauge);
+        this.meterRegistry.remove(this.waitTimer);
+        this.terminated.countDown();
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (this.lock) {
+            if (!this.shutdown) {
+                this.shutdown = true;
+                if (!this.scheduled) {
+                    this.terminate();
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        synchronized (this.lock) {
+            List<Runnable> commands = this.tasks.stream().map(MailboxTask::getCommand).collect(Collectors.toList());
+            this.tasks.clear();
+            this.shutdown();
+            return commands;
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        synchronized (this.lock) {
+            return this.shutdown;
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.terminated.await(timeout, unit);
+    }
+
+    /**
+     * A task waiting in the mailbox along with the time of its submission.
+     *
+     * @author agent
+     */
+    private static final class MailboxTask {
+        private final Runnable command;
+
+        private final long submissionTime;
+
+        MailboxTask(Runnable command, long submissionTime) {
+            this.command = command;
+            this.submissionTime = submissionTime;
+        }
+
+        public Runnable getCommand() {
+            return this.command;
+        }
+
+        public long getSubmissionTime() {
+            return this.submissionTime;
+        }
+    }
+}
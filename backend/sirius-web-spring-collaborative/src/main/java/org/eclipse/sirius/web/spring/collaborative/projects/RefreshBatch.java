@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.spring.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.web.spring.collaborative.api.ChangeKind;
+import org.eclipse.sirius.web.spring.collaborative.api.EventHandlerResponse;
+
+/**
+ * The inputs handled by an editing context event processor since the last refresh of its representations.
+ *
+ * <p>
+ * The changes performed by the inputs of the batch are coalesced so that each representation is refreshed at most once
+ * per batch, with the last input which has performed a change. The responses are kept until the end of the batch in
+ * order to be sent to the callers once all the representations are up to date.
+ * </p>
+ *
+ * @author agent
+ */
+public class RefreshBatch {
+
+    private final List<HandledInput> handledInputs = new ArrayList<>();
+
+    private final Map<UUID, Integer> refreshedRepresentationIds = new HashMap<>();
+
+    public void add(IInput input, UUID representationId, Optional<EventHandlerResponse> optionalResponse, CompletableFuture<Optional<EventHandlerResponse>> responseFuture) {
+        this.handledInputs.add(new HandledInput(input, representationId, optionalResponse, responseFuture));
+    }
+
+    public int size() {
+        return this.handledInputs.size();
+    }
+
+    public boolean isEmpty() {
+        return this.handledInputs.isEmpty();
+    }
+
+    public boolean hasChanges() {
+        return this.handledInputs.stream().anyMatch(handledInput -> handledInput.getOptionalResponse().isPresent());
+    }
+
+    public boolean hasChange(String changeKind) {
+        // @formatter:off
+        return this.handledInputs.stream()
+                .map(HandledInput::getOptionalResponse)
+                .flatMap(Optional::stream)
+                .anyMatch(response -> Objects.equals(changeKind, response.getChangeDescription().getKind()));
+        // @formatter:on
+    }
+
+    /**
+     * Returns the change which has not been considered yet by the given representation, if any, and marks it as
+     * considered.
+     *
+     * <p>
+     * The changes performed by an input of the representation itself are ignored since the representation has already
+     * been refreshed while handling it. The other changes are merged into a single one, along with the last input
+     * which has performed a change, so that the representation is refreshed at most once per batch:
+     * </p>
+     * <ul>
+     * <li>Changes of the same kind coming from the same source are merged into a change of this kind which has modified
+     * the semantic objects of all of them.</li>
+     * <li>Different changes are merged into a semantic change. The semantic objects modified are only kept if all the
+     * changes are semantic changes whose modified objects are known, otherwise the merged change may have modified any
+     * semantic object and it thus triggers the refresh of any representation.</li>
+     * </ul>
+     *
+     * @param representationId
+     *            The identifier of the representation to refresh
+     * @return The change to consider in order to refresh the representation
+     */
+    public Optional<Change> consumeChange(UUID representationId) {
+        int firstIndex = this.refreshedRepresentationIds.getOrDefault(representationId, 0);
+
+        Change mergedChange = null;
+        for (HandledInput handledInput : this.handledInputs.subList(firstIndex, this.handledInputs.size())) {
+            var optionalResponse = handledInput.getOptionalResponse().filter(response -> !ChangeKind.NOTHING.equals(response.getChangeDescription().getKind()));
+            if (!Objects.equals(handledInput.getRepresentationId(), representationId) && optionalResponse.isPresent()) {
+                ChangeDescription changeDescription = optionalResponse.get().getChangeDescription();
+                if (mergedChange != null) {
+                    changeDescription = this.merge(mergedChange.getChangeDescription(), changeDescription);
+                }
+                mergedChange = new Change(handledInput.getInput(), changeDescription);
+            }
+        }
+        this.refreshedRepresentationIds.put(representationId, this.handledInputs.size());
+
+        return Optional.ofNullable(mergedChange);
+    }
+
+    /**
+     * Merges two changes, the objects modified by both changes are kept if they are known.
+     *
+     * @param previousChangeDescription
+     *            The description of the previous change
+     * @param changeDescription
+     *            The description of the last change
+     * @return The description of both changes
+     */
+    private ChangeDescription merge(ChangeDescription previousChangeDescription, ChangeDescription changeDescription) {
+        boolean isSameChange = previousChangeDescription.getKind().equals(changeDescription.getKind()) && previousChangeDescription.getSourceId().equals(changeDescription.getSourceId());
+        boolean isSemanticChange = ChangeKind.SEMANTIC_CHANGE.equals(previousChangeDescription.getKind()) && ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
+
+        String kind = ChangeKind.SEMANTIC_CHANGE;
+        if (isSameChange) {
+            kind = changeDescription.getKind();
+        }
+
+        var optionalPreviousChangedObjectIds = previousChangeDescription.getChangedObjectIds();
+        var optionalChangedObjectIds = changeDescription.getChangedObjectIds();
+
+        ChangeDescription mergedChangeDescription = new ChangeDescription(kind, changeDescription.getSourceId());
+        if ((isSameChange || isSemanticChange) && optionalPreviousChangedObjectIds.isPresent() && optionalChangedObjectIds.isPresent()) {
+            Set<String> changedObjectIds = new HashSet<>(optionalPreviousChangedObjectIds.get());
+            changedObjectIds.addAll(optionalChangedObjectIds.get());
+            mergedChangeDescription = new ChangeDescription(kind, changeDescription.getSourceId(), changedObjectIds);
+        }
+        return mergedChangeDescription;
+    }
+
+    /**
+     * Sends the responses to the callers, in order of arrival.
+     */
+    public void complete() {
+        this.handledInputs.forEach(handledInput -> handledInput.getResponseFuture().complete(handledInput.getOptionalResponse()));
+    }
+
+    /**
+     * Used to test if a change of the batch should trigger the persistence of the editing context.
+     *
+     * @return <code>true</code> if the batch contains a semantic change, <code>false</code> otherwise
+     */
+    public boolean hasSemanticChange() {
+        return this.hasChange(ChangeKind.SEMANTIC_CHANGE);
+    }
+
+    /**
+     * A change to consider in order to refresh a representation.
+     *
+     * @author agent
+     */
+    public static final class Change {
+        private final IInput input;
+
+        private final ChangeDescription changeDescription;
+
+        Change(IInput input, ChangeDescription changeDescription) {
+            this.input = input;
+            this.changeDescription = changeDescription;
+        }
+
+        public IInput getInput() {
+            return this.input;
+        }
+
+        public ChangeDescription getChangeDescription() {
+            return this.changeDescription;
+        }
+    }
+
+    /**
+     * An input handled during the batch along with its response.
+     *
+     * @author agent
+     */
+    private static final class HandledInput {
+        private final IInput input;
+
+        private final UUID representationId;
+
+        private final Optional<EventHandlerResponse> optionalResponse;
+
+        private final CompletableFuture<Optional<EventHandlerResponse>> responseFuture;
+
+        HandledInput(IInput input, UUID representationId, Optional<EventHandlerResponse> optionalResponse, CompletableFuture<Optional<EventHandlerResponse>> responseFuture) {
+            this.input = input;
+            this.representationId = representationId;
+            this.optionalResponse = optionalResponse;
+            this.responseFuture = responseFuture;
+        }
+
+        public IInput getInput() {
+            return this.input;
+        }
+
+        public UUID getRepresentationId() {
+            return this.representationId;
+        }
+
+        public Optional<EventHandlerResponse> getOptionalResponse() {
+            return this.optionalResponse;
+        }
+
+        public CompletableFuture<Optional<EventHandlerResponse>> getResponseFuture() {
+            return this.responseFuture;
+        }
+    }
+}
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.projects;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationEventProcessor;
@@ -28,6 +29,8 @@ public class RepresentationEventProcessorEntry {
 
     private final Disposable disposable;
 
+    private volatile long lastAcquisitionTime = System.nanoTime();
+
     public RepresentationEventProcessorEntry(IRepresentationEventProcessor representationEventProcessor, Disposable disposable) {
         this.representationEventProcessor = Objects.requireNonNull(representationEventProcessor);
         this.disposable = Objects.requireNonNull(disposable);
@@ -41,6 +44,17 @@ public class RepresentationEventProcessorEntry {
         return this.disposable;
     }
 
+    /**
+     * Records that the representation event processor has just been acquired by a new subscriber.
+     */
+    public void markAcquired() {
+        this.lastAcquisitionTime = System.nanoTime();
+    }
+
+    public Duration getTimeSinceLastAcquisition() {
+        return Duration.ofNanos(System.nanoTime() - this.lastAcquisitionTime);
+    }
+
     public void dispose() {
         this.disposable.dispose();
         this.representationEventProcessor.dispose();
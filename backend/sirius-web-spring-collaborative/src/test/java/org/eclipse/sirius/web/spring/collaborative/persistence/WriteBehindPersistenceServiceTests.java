@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.representations.ISemanticRepresentation;
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the write-behind persistence services.
+ *
+ * @author agent
+ */
+public class WriteBehindPersistenceServiceTests {
+
+    private static final int FLUSH_THRESHOLD = 3;
+
+    @Test
+    public void testEditingContextWritesAreCoalesced() {
+        UUID editingContextId = UUID.randomUUID();
+        IEditingContext editingContext = () -> editingContextId;
+        List<UUID> persistedEditingContextIds = new ArrayList<>();
+        var meterRegistry = new SimpleMeterRegistry();
+
+        var persistenceService = new WriteBehindEditingContextPersistenceService(persistedEditingContext -> persistedEditingContextIds.add(persistedEditingContext.getId()), Duration.ofSeconds(1),
+                FLUSH_THRESHOLD, meterRegistry);
+
+        persistenceService.persist(editingContext);
+        persistenceService.persist(editingContext);
+        assertThat(persistedEditingContextIds).isEmpty();
+        assertThat(persistenceService.getPendingWriteCount()).isEqualTo(1);
+
+        persistenceService.persist(editingContext);
+        assertThat(persistedEditingContextIds).containsExactly(editingContextId);
+
+        persistenceService.persist(editingContext);
+        persistenceService.flush(editingContextId);
+        persistenceService.flush(editingContextId);
+        assertThat(persistedEditingContextIds).containsExactly(editingContextId, editingContextId);
+
+        assertThat(persistenceService.getPendingWriteCount()).isEqualTo(0);
+        assertThat(meterRegistry.get(Monitoring.WRITE_BEHIND_COALESCED).counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get(Monitoring.WRITE_BEHIND_FLUSH).timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testFirstRepresentationSaveIsWrittenThrough() {
+        IEditingContext editingContext = UUID::randomUUID;
+        ISemanticRepresentation representation = this.getRepresentation(UUID.randomUUID());
+        List<ISemanticRepresentation> savedRepresentations = new ArrayList<>();
+
+        var persistenceService = new WriteBehindRepresentationPersistenceService((savedEditingContext, savedRepresentation) -> savedRepresentations.add(savedRepresentation),
+                Duration.ofSeconds(1), FLUSH_THRESHOLD, new SimpleMeterRegistry());
+
+        persistenceService.save(editingContext, representation);
+        assertThat(savedRepresentations).containsExactly(representation);
+
+        ISemanticRepresentation newRepresentation = this.getRepresentation(representation.getId());
+        persistenceService.save(editingContext, representation);
+        persistenceService.save(editingContext, newRepresentation);
+        assertThat(savedRepresentations).containsExactly(representation);
+
+        persistenceService.flushAll();
+        assertThat(savedRepresentations).containsExactly(representation, newRepresentation);
+    }
+
+    @Test
+    public void testPendingWritesOfAllTheDecoratedServicesArePublished() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var configuration = new WriteBehindPersistenceConfiguration(Duration.ofSeconds(1), FLUSH_THRESHOLD, meterRegistry);
+        var firstPersistenceService = configuration.decorate(editingContext -> {
+            // Do nothing
+        });
+        var secondPersistenceService = configuration.decorate(editingContext -> {
+            // Do nothing
+        });
+
+        firstPersistenceService.persist(UUID::randomUUID);
+        secondPersistenceService.persist(UUID::randomUUID);
+        secondPersistenceService.persist(UUID::randomUUID);
+
+        double pendingWriteCount = meterRegistry.get(Monitoring.WRITE_BEHIND_PENDING).tag(Monitoring.NAME, "editingContext").gauge().value(); //$NON-NLS-1$
+        assertThat(pendingWriteCount).isEqualTo(3.0);
+
+        configuration.dispose();
+    }
+
+    private ISemanticRepresentation getRepresentation(UUID id) {
+        return new ISemanticRepresentation() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public UUID getDescriptionId() {
+                return id;
+            }
+
+            @Override
+            public String getLabel() {
+                return ""; //$NON-NLS-1$
+            }
+
+            @Override
+            public String getKind() {
+                return ""; //$NON-NLS-1$
+            }
+
+            @Override
+            public String getTargetObjectId() {
+                return ""; //$NON-NLS-1$
+            }
+        };
+    }
+}
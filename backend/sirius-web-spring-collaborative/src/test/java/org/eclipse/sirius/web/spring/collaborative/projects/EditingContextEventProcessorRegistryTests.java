@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.spring.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+import org.eclipse.sirius.web.spring.collaborative.dto.QueryBasedIntInput;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests of the editing context event processor registry.
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorRegistryTests {
+
+    private final IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+        @Override
+        public boolean existsById(UUID editingContextId) {
+            return true;
+        }
+
+        @Override
+        public Optional<IEditingContext> findById(UUID editingContextId) {
+            return Optional.of(() -> editingContextId);
+        }
+    };
+
+    @Test
+    public void testCallersStopWaitingAfterTheTimeout() {
+        IEditingContextEventProcessor editingContextEventProcessor = new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public Mono<IPayload> handle(IInput input) {
+                return Mono.never();
+            }
+        };
+
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> editingContextEventProcessor, this.editingContextSearchService, Duration.ofSeconds(30), Duration.ofMillis(100),
+                new SimpleMeterRegistry());
+        IPayload payload = registry.dispatchEvent(UUID.randomUUID(), new QueryBasedIntInput(UUID.randomUUID(), "aql:self")).block(Duration.ofSeconds(10)); //$NON-NLS-1$
+        assertThat(payload).isNull();
+
+        registry.dispose();
+    }
+
+    @Test
+    public void testDisposalWaitsForTheProcessorsToTerminate() {
+        List<String> calls = new ArrayList<>();
+        IEditingContextEventProcessor editingContextEventProcessor = new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public void dispose() {
+                calls.add("dispose"); //$NON-NLS-1$
+            }
+
+            @Override
+            public boolean awaitTermination(Duration timeout) {
+                calls.add("awaitTermination " + timeout.toMillis()); //$NON-NLS-1$
+                return true;
+            }
+        };
+
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> editingContextEventProcessor, this.editingContextSearchService, Duration.ofSeconds(30), Duration.ofMillis(100),
+                new SimpleMeterRegistry());
+        assertThat(registry.getOrCreateEditingContextEventProcessor(UUID.randomUUID()).blockOptional(Duration.ofSeconds(10))).isPresent();
+
+        registry.dispose();
+        assertThat(calls).containsExactly("dispose", "awaitTermination 100"); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(registry.getEditingContextEventProcessors()).isEmpty();
+    }
+
+    @Test
+    public void testConcurrentCallersLoadTheEditingContextOnceWithoutBlocking() throws Exception {
+        AtomicInteger existsByIdCount = new AtomicInteger();
+        AtomicInteger findByIdCount = new AtomicInteger();
+        CountDownLatch loadingStarted = new CountDownLatch(1);
+        CountDownLatch loadingAllowed = new CountDownLatch(1);
+        IEditingContextSearchService slowEditingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(UUID editingContextId) {
+                existsByIdCount.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(UUID editingContextId) {
+                findByIdCount.incrementAndGet();
+                loadingStarted.countDown();
+                try {
+                    loadingAllowed.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.of(() -> editingContextId);
+            }
+        };
+
+        var meterRegistry = new SimpleMeterRegistry();
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp(), slowEditingContextSearchService, Duration.ofSeconds(30),
+                Duration.ofSeconds(30), meterRegistry);
+
+        UUID editingContextId = UUID.randomUUID();
+        // The first caller does not wait for the loading either since it is performed on another thread
+        CompletableFuture<IEditingContextEventProcessor> firstCaller = registry.getOrCreateEditingContextEventProcessor(editingContextId).toFuture();
+        assertThat(loadingStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(firstCaller).isNotDone();
+
+        // The second caller subscribes to the loading of the first one without waiting for it
+        CompletableFuture<IEditingContextEventProcessor> secondCaller = registry.getOrCreateEditingContextEventProcessor(editingContextId).toFuture();
+        assertThat(meterRegistry.get(Monitoring.EDITING_CONTEXT_LOADING_COLLAPSED).counter().count()).isEqualTo(1);
+        assertThat(secondCaller).isNotDone();
+        loadingAllowed.countDown();
+
+        IEditingContextEventProcessor editingContextEventProcessor = firstCaller.get(10, TimeUnit.SECONDS);
+        assertThat(editingContextEventProcessor).isNotNull();
+        assertThat(secondCaller.get(10, TimeUnit.SECONDS)).isSameAs(editingContextEventProcessor);
+        assertThat(registry.getOrCreateEditingContextEventProcessor(editingContextId).block(Duration.ofSeconds(10))).isSameAs(editingContextEventProcessor);
+        assertThat(registry.getEditingContextEventProcessors()).hasSize(1);
+        assertThat(findByIdCount.get()).isEqualTo(1);
+        assertThat(existsByIdCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get(Monitoring.EDITING_CONTEXT_LOADING).timer().count()).isEqualTo(1);
+
+        registry.dispose();
+    }
+}
@@ -0,0 +1,604 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.core.api.IObjectService;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.representations.IRepresentation;
+import org.eclipse.sirius.web.spring.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.web.spring.collaborative.api.ChangeKind;
+import org.eclipse.sirius.web.spring.collaborative.api.EventHandlerResponse;
+import org.eclipse.sirius.web.spring.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationConfiguration;
+import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.web.spring.collaborative.api.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.spring.collaborative.api.ISemanticChangeRecorder;
+import org.eclipse.sirius.web.spring.collaborative.api.ISubscriptionManager;
+import org.eclipse.sirius.web.spring.collaborative.dto.EditingContextDisposedEvent;
+import org.eclipse.sirius.web.spring.collaborative.dto.QueryBasedIntInput;
+import org.eclipse.sirius.web.spring.collaborative.dto.QueryBasedIntSuccessPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Unit tests of the editing context event processor.
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final UUID editingContextId = UUID.randomUUID();
+
+    private final IEditingContext editingContext = () -> this.editingContextId;
+
+    private final UUID representationId = UUID.randomUUID();
+
+    private final IRepresentationConfiguration representationConfiguration = () -> this.representationId;
+
+    private final List<ExecutorService> executorServices = new ArrayList<>();
+
+    private final IEditingContextPersistenceService editingContextPersistenceService = editingContextToPersist -> {
+        // Do nothing
+    };
+
+    private final IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory = new IRepresentationEventProcessorComposedFactory() {
+        @Override
+        public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                IEditingContext editingContext) {
+            return Optional.empty();
+        }
+    };
+
+    @AfterEach
+    public void tearDown() {
+        this.executorServices.forEach(ExecutorService::shutdownNow);
+    }
+
+    private EditingContextEventProcessorParameters.Builder newParameters(IEditingContextEventHandler handler, int inputQueueCapacity) {
+        ExecutorService executorService = new EditingContextEventProcessorExecutorServiceProvider(inputQueueCapacity, 1, new SimpleMeterRegistry()).getExecutorService(this.editingContext);
+        this.executorServices.add(executorService);
+
+        // @formatter:off
+        return EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters(this.editingContext)
+                .editingContextPersistenceService(this.editingContextPersistenceService)
+                .applicationEventPublisher(event -> {})
+                .objectService(new IObjectService.NoOp())
+                .editingContextEventHandlers(List.of(handler))
+                .representationEventProcessorComposedFactory(this.representationEventProcessorComposedFactory)
+                .danglingRepresentationDeletionService(editingContextId -> {})
+                .executorService(executorService);
+        // @formatter:on
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(IEditingContextEventHandler handler, int inputQueueCapacity) {
+        return new EditingContextEventProcessor(this.newParameters(handler, inputQueueCapacity).build());
+    }
+
+    @Test
+    public void testInputsAreHandledInOrderOfArrival() {
+        AtomicInteger counter = new AtomicInteger();
+        IEditingContextEventHandler handler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IInput input) {
+                return true;
+            }
+
+            @Override
+            public EventHandlerResponse handle(IEditingContext editingContext, IInput input) {
+                return new EventHandlerResponse(new ChangeDescription(ChangeKind.NOTHING, editingContext.getId()), new QueryBasedIntSuccessPayload(input.getId(), counter.getAndIncrement()));
+            }
+        };
+
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(handler, 100);
+
+        List<Mono<IPayload>> payloads = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            payloads.add(editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self"))); //$NON-NLS-1$
+        }
+
+        for (int i = 0; i < payloads.size(); i++) {
+            IPayload payload = payloads.get(i).block(TIMEOUT);
+            assertThat(payload).isInstanceOf(QueryBasedIntSuccessPayload.class);
+            assertThat(((QueryBasedIntSuccessPayload) payload).getResult()).isEqualTo(i);
+        }
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testInputsAreRejectedWhenTheQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IEditingContextEventHandler handler = new BlockingEditingContextEventHandler(started, release);
+
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(handler, 1);
+
+        Mono<IPayload> first = editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+        assertThat(started.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+        Mono<IPayload> second = editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+        Mono<IPayload> third = editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+        assertThat(third.block(TIMEOUT)).isNull();
+
+        release.countDown();
+        assertThat(first.block(TIMEOUT)).isNotNull();
+        assertThat(second.block(TIMEOUT)).isNotNull();
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testCallersAreNotifiedOnceTheSemanticModelIsUnlocked() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IEditingContextEventHandler handler = new BlockingEditingContextEventHandler(started, release);
+
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(handler, 100);
+
+        CompletableFuture<Boolean> hasAcquired = new CompletableFuture<>();
+        editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self")).subscribe(payload -> { //$NON-NLS-1$
+            // Reading the semantic model from another thread must not wait for the end of the handling of the input
+            Thread thread = new Thread(() -> {
+                editingContextEventProcessor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, this.representationConfiguration, new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+            });
+            thread.start();
+            try {
+                thread.join(TIMEOUT.toMillis());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            hasAcquired.complete(!thread.isAlive());
+        });
+        assertThat(started.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        release.countDown();
+
+        assertThat(hasAcquired.get(TIMEOUT.toMillis() * 2, TimeUnit.MILLISECONDS)).isTrue();
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testRepresentationsAreRefreshedOnceForABatchOfInputs() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IEditingContextEventHandler handler = new BlockingEditingContextEventHandler(started, release, ChangeKind.SEMANTIC_CHANGE);
+
+        AtomicInteger refreshCount = new AtomicInteger();
+        IRepresentationEventProcessor representationEventProcessor = new IRepresentationEventProcessor.NoOp() {
+            @Override
+            public void refresh(IInput input, ChangeDescription changeDescription) {
+                if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
+                    refreshCount.incrementAndGet();
+                }
+            }
+
+            @Override
+            public IRepresentation getRepresentation() {
+                return new TestRepresentation();
+            }
+        };
+        IRepresentationEventProcessorComposedFactory composedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                    IEditingContext editingContext) {
+                return Optional.of(representationEventProcessor).filter(representationEventProcessorClass::isInstance).map(representationEventProcessorClass::cast);
+            }
+        };
+
+        AtomicInteger persistCount = new AtomicInteger();
+        // @formatter:off
+        var parameters = this.newParameters(handler, 100)
+                .representationEventProcessorComposedFactory(composedFactory)
+                .editingContextPersistenceService(editingContextToPersist -> persistCount.incrementAndGet())
+                .maxBatchSize(10)
+                .coalescingWindow(Duration.ofMillis(100))
+                .build();
+        // @formatter:on
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+        editingContextEventProcessor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, this.representationConfiguration, new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+
+        List<Mono<IPayload>> payloads = new ArrayList<>();
+        payloads.add(editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self"))); //$NON-NLS-1$
+        assertThat(started.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        for (int i = 0; i < 5; i++) {
+            payloads.add(editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self"))); //$NON-NLS-1$
+        }
+        release.countDown();
+
+        for (var payload : payloads) {
+            assertThat(payload.block(TIMEOUT)).isInstanceOf(QueryBasedIntSuccessPayload.class);
+        }
+        assertThat(refreshCount.get()).isEqualTo(1);
+        assertThat(persistCount.get()).isEqualTo(1);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testDifferentChangesReceivedDuringTheCoalescingWindowAreRefreshedOnce() throws InterruptedException {
+        CountDownLatch handled = new CountDownLatch(1);
+        List<String> changeKinds = List.of(ChangeKind.REPRESENTATION_CREATION, ChangeKind.SEMANTIC_CHANGE);
+        AtomicInteger handledCount = new AtomicInteger();
+        IEditingContextEventHandler handler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IInput input) {
+                return true;
+            }
+
+            @Override
+            public EventHandlerResponse handle(IEditingContext editingContext, IInput input) {
+                String changeKind = changeKinds.get(handledCount.getAndIncrement());
+                handled.countDown();
+                return new EventHandlerResponse(new ChangeDescription(changeKind, editingContext.getId(), Set.of()), new QueryBasedIntSuccessPayload(input.getId(), 0));
+            }
+        };
+
+        List<ChangeDescription> refreshedChangeDescriptions = new CopyOnWriteArrayList<>();
+        IRepresentationEventProcessor representationEventProcessor = new IRepresentationEventProcessor.NoOp() {
+            @Override
+            public void refresh(IInput input, ChangeDescription changeDescription) {
+                if (!ChangeKind.REPRESENTATION_OPENING.equals(changeDescription.getKind())) {
+                    refreshedChangeDescriptions.add(changeDescription);
+                }
+            }
+
+            @Override
+            public IRepresentation getRepresentation() {
+                return new TestRepresentation();
+            }
+        };
+        IRepresentationEventProcessorComposedFactory composedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                    IEditingContext editingContext) {
+                return Optional.of(representationEventProcessor).filter(representationEventProcessorClass::isInstance).map(representationEventProcessorClass::cast);
+            }
+        };
+
+        // @formatter:off
+        var parameters = this.newParameters(handler, 100)
+                .representationEventProcessorComposedFactory(composedFactory)
+                .maxBatchSize(10)
+                .coalescingWindow(Duration.ofSeconds(1))
+                .build();
+        // @formatter:on
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+        editingContextEventProcessor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, this.representationConfiguration, new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+
+        Mono<IPayload> first = editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+        assertThat(handled.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+        // The first input has been handled while no other input was waiting, the batch stays open during the coalescing window
+        Mono<IPayload> second = editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+
+        assertThat(first.block(TIMEOUT)).isInstanceOf(QueryBasedIntSuccessPayload.class);
+        assertThat(second.block(TIMEOUT)).isInstanceOf(QueryBasedIntSuccessPayload.class);
+        assertThat(refreshedChangeDescriptions).hasSize(1);
+        assertThat(refreshedChangeDescriptions.get(0).getKind()).isEqualTo(ChangeKind.SEMANTIC_CHANGE);
+        assertThat(refreshedChangeDescriptions.get(0).getChangedObjectIds()).isEmpty();
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testRepresentationsAreRefreshedOnTheThreadOfTheEditingContext() {
+        IEditingContextEventHandler handler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IInput input) {
+                return true;
+            }
+
+            @Override
+            public EventHandlerResponse handle(IEditingContext editingContext, IInput input) {
+                return new EventHandlerResponse(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId()), new QueryBasedIntSuccessPayload(input.getId(), 0));
+            }
+        };
+
+        Set<Thread> refreshThreads = ConcurrentHashMap.newKeySet();
+        Set<Thread> retargetThreads = ConcurrentHashMap.newKeySet();
+        IRepresentationEventProcessorComposedFactory composedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                    IEditingContext editingContext) {
+                IRepresentationEventProcessor representationEventProcessor = new IRepresentationEventProcessor.NoOp() {
+                    @Override
+                    public void refresh(IInput input, ChangeDescription changeDescription) {
+                        refreshThreads.add(Thread.currentThread());
+                    }
+
+                    @Override
+                    public void retarget(IRepresentationConfiguration configuration, IInput input) {
+                        retargetThreads.add(Thread.currentThread());
+                    }
+
+                    @Override
+                    public IRepresentation getRepresentation() {
+                        return new TestRepresentation();
+                    }
+                };
+                return Optional.of(representationEventProcessor).filter(representationEventProcessorClass::isInstance).map(representationEventProcessorClass::cast);
+            }
+        };
+
+        // @formatter:off
+        var parameters = this.newParameters(handler, 100)
+                .representationEventProcessorComposedFactory(composedFactory)
+                .build();
+        // @formatter:on
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+        UUID otherRepresentationId = UUID.randomUUID();
+        editingContextEventProcessor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, this.representationConfiguration, new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+        editingContextEventProcessor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, () -> otherRepresentationId, new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+        editingContextEventProcessor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, this.representationConfiguration, new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+
+        IPayload payload = editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self")).block(TIMEOUT); //$NON-NLS-1$
+        assertThat(payload).isInstanceOf(QueryBasedIntSuccessPayload.class);
+        assertThat(refreshThreads).hasSize(1);
+        assertThat(refreshThreads.iterator().next().getName()).startsWith("Editing context worker"); //$NON-NLS-1$
+        assertThat(retargetThreads).containsExactlyElementsOf(refreshThreads);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testDisposalIsPublishedAfterTheInputsQueued() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IEditingContextEventHandler handler = new BlockingEditingContextEventHandler(started, release);
+
+        List<Object> events = new CopyOnWriteArrayList<>();
+        // @formatter:off
+        var parameters = this.newParameters(handler, 100)
+                .applicationEventPublisher(events::add)
+                .build();
+        // @formatter:on
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+
+        Mono<IPayload> payload = editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+        assertThat(started.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        editingContextEventProcessor.dispose();
+        assertThat(events).isEmpty();
+
+        release.countDown();
+        assertThat(payload.block(TIMEOUT)).isInstanceOf(QueryBasedIntSuccessPayload.class);
+        assertThat(editingContextEventProcessor.awaitTermination(TIMEOUT)).isTrue();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0)).isInstanceOf(EditingContextDisposedEvent.class);
+        assertThat(((EditingContextDisposedEvent) events.get(0)).getEditingContextId()).isEqualTo(this.editingContextId);
+    }
+
+    @Test
+    public void testRepresentationAcquiredAgainAfterItsLastSubscriberLeftIsNotDisposed() throws InterruptedException {
+        IEditingContextEventHandler handler = new BlockingEditingContextEventHandler(new CountDownLatch(0), new CountDownLatch(0));
+
+        AtomicBoolean hasSubscriber = new AtomicBoolean(true);
+        AtomicInteger createdCount = new AtomicInteger();
+        CountDownLatch disposed = new CountDownLatch(1);
+        Many<Boolean> canBeDisposedSink = Sinks.many().unicast().onBackpressureBuffer();
+        IRepresentationEventProcessor representationEventProcessor = new IRepresentationEventProcessor.NoOp() {
+            @Override
+            public ISubscriptionManager getSubscriptionManager() {
+                return new ISubscriptionManager.NoOp() {
+                    @Override
+                    public boolean isEmpty() {
+                        return !hasSubscriber.get();
+                    }
+                };
+            }
+
+            @Override
+            public Flux<Boolean> canBeDisposed() {
+                return canBeDisposedSink.asFlux();
+            }
+
+            @Override
+            public void dispose() {
+                disposed.countDown();
+            }
+        };
+        IRepresentationEventProcessorComposedFactory composedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                    IEditingContext editingContext) {
+                createdCount.incrementAndGet();
+                return Optional.of(representationEventProcessor).filter(representationEventProcessorClass::isInstance).map(representationEventProcessorClass::cast);
+            }
+        };
+
+        Duration representationDisposalDelay = Duration.ofMillis(200);
+        // @formatter:off
+        var parameters = this.newParameters(handler, 100)
+                .representationEventProcessorComposedFactory(composedFactory)
+                .representationDisposalDelay(representationDisposalDelay)
+                .build();
+        // @formatter:on
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+        IInput input = new QueryBasedIntInput(UUID.randomUUID(), "aql:self"); //$NON-NLS-1$
+        editingContextEventProcessor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, this.representationConfiguration, input);
+
+        // The client cancels its previous subscription before subscribing again
+        hasSubscriber.set(false);
+        canBeDisposedSink.tryEmitNext(Boolean.TRUE);
+        var optionalRepresentationEventProcessor = editingContextEventProcessor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, this.representationConfiguration, input);
+        hasSubscriber.set(true);
+
+        assertThat(optionalRepresentationEventProcessor).contains(representationEventProcessor);
+        assertThat(disposed.await(representationDisposalDelay.multipliedBy(3).toMillis(), TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(editingContextEventProcessor.getRepresentationEventProcessors()).containsExactly(representationEventProcessor);
+        assertThat(createdCount.get()).isEqualTo(1);
+
+        hasSubscriber.set(false);
+        canBeDisposedSink.tryEmitNext(Boolean.TRUE);
+        assertThat(disposed.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testSemanticChangesContainTheObjectsModified() {
+        IEditingContextEventHandler handler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IInput input) {
+                return true;
+            }
+
+            @Override
+            public EventHandlerResponse handle(IEditingContext editingContext, IInput input) {
+                return new EventHandlerResponse(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId()), new QueryBasedIntSuccessPayload(input.getId(), 0));
+            }
+        };
+        ISemanticChangeRecorder semanticChangeRecorder = new ISemanticChangeRecorder.NoOp() {
+            @Override
+            public Optional<Set<String>> stopRecording(IEditingContext editingContext) {
+                return Optional.of(Set.of("modifiedObjectId")); //$NON-NLS-1$
+            }
+        };
+
+        List<ChangeDescription> changeDescriptions = new CopyOnWriteArrayList<>();
+        IRepresentationEventProcessor representationEventProcessor = new IRepresentationEventProcessor.NoOp() {
+            @Override
+            public void refresh(IInput input, ChangeDescription changeDescription) {
+                if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
+                    changeDescriptions.add(changeDescription);
+                }
+            }
+
+            @Override
+            public IRepresentation getRepresentation() {
+                return new TestRepresentation();
+            }
+        };
+        IRepresentationEventProcessorComposedFactory composedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                    IEditingContext editingContext) {
+                return Optional.of(representationEventProcessor).filter(representationEventProcessorClass::isInstance).map(representationEventProcessorClass::cast);
+            }
+        };
+
+        // @formatter:off
+        var parameters = this.newParameters(handler, 100)
+                .representationEventProcessorComposedFactory(composedFactory)
+                .semanticChangeRecorder(semanticChangeRecorder)
+                .build();
+        // @formatter:on
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+        editingContextEventProcessor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, this.representationConfiguration, new QueryBasedIntInput(UUID.randomUUID(), "aql:self")); //$NON-NLS-1$
+        editingContextEventProcessor.handle(new QueryBasedIntInput(UUID.randomUUID(), "aql:self")).block(TIMEOUT); //$NON-NLS-1$
+
+        assertThat(changeDescriptions).hasSize(1);
+        assertThat(changeDescriptions.get(0).getChangedObjectIds()).contains(Set.of("modifiedObjectId")); //$NON-NLS-1$
+        assertThat(changeDescriptions.get(0).mayAffect(Set.of("modifiedObjectId", "otherObjectId"))).isTrue(); //$NON-NLS-1$ //$NON-NLS-2$
+        assertThat(changeDescriptions.get(0).mayAffect(Set.of("otherObjectId"))).isFalse(); //$NON-NLS-1$
+
+        editingContextEventProcessor.dispose();
+    }
+
+    /**
+     * Event handler which waits to be released before returning its response.
+     *
+     * @author agent
+     */
+    private static final class BlockingEditingContextEventHandler implements IEditingContextEventHandler {
+
+        private final CountDownLatch started;
+
+        private final CountDownLatch release;
+
+        private final String changeKind;
+
+        BlockingEditingContextEventHandler(CountDownLatch started, CountDownLatch release) {
+            this(started, release, ChangeKind.NOTHING);
+        }
+
+        BlockingEditingContextEventHandler(CountDownLatch started, CountDownLatch release, String changeKind) {
+            this.started = started;
+            this.release = release;
+            this.changeKind = changeKind;
+        }
+
+        @Override
+        public boolean canHandle(IInput input) {
+            return true;
+        }
+
+        @Override
+        public EventHandlerResponse handle(IEditingContext editingContext, IInput input) {
+            this.started.countDown();
+            try {
+                this.release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return new EventHandlerResponse(new ChangeDescription(this.changeKind, editingContext.getId()), new QueryBasedIntSuccessPayload(input.getId(), 0));
+        }
+    }
+
+    /**
+     * Representation used to check the refresh of the representation event processors.
+     *
+     * @author agent
+     */
+    private static final class TestRepresentation implements IRepresentation {
+
+        private final UUID id = UUID.randomUUID();
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+
+        @Override
+        public UUID getDescriptionId() {
+            return this.id;
+        }
+
+        @Override
+        public String getLabel() {
+            return "Representation"; //$NON-NLS-1$
+        }
+
+        @Override
+        public String getKind() {
+            return "Representation"; //$NON-NLS-1$
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.sirius.web.spring.collaborative.api.Monitoring;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the editing context mailbox.
+ *
+ * @author agent
+ */
+public class EditingContextMailboxTests {
+
+    private static final int MAILBOX_COUNT = 50;
+
+    private static final int TASK_COUNT = 20;
+
+    private static final int WORKER_COUNT = 4;
+
+    @Test
+    public void testMailboxesRunTheirTasksInOrderOnSharedWorkers() throws InterruptedException {
+        var workerPool = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        var meterRegistry = new SimpleMeterRegistry();
+
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        AtomicBoolean hasOverlap = new AtomicBoolean();
+
+        List<EditingContextMailbox> mailboxes = new ArrayList<>();
+        List<List<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < MAILBOX_COUNT; i++) {
+            var mailbox = new EditingContextMailbox(UUID.randomUUID(), workerPool, TASK_COUNT, meterRegistry);
+            List<Integer> result = new CopyOnWriteArrayList<>();
+            AtomicBoolean isRunning = new AtomicBoolean();
+            for (int j = 0; j < TASK_COUNT; j++) {
+                int index = j;
+                mailbox.execute(() -> {
+                    if (!isRunning.compareAndSet(false, true)) {
+                        hasOverlap.set(true);
+                    }
+                    threads.add(Thread.currentThread());
+                    result.add(index);
+                    isRunning.set(false);
+                });
+            }
+            mailboxes.add(mailbox);
+            results.add(result);
+        }
+
+        for (var mailbox : mailboxes) {
+            mailbox.shutdown();
+            assertThat(mailbox.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(hasOverlap.get()).isFalse();
+        assertThat(threads).hasSizeLessThanOrEqualTo(WORKER_COUNT);
+        for (var result : results) {
+            assertThat(result).hasSize(TASK_COUNT).isSorted();
+        }
+        assertThat(meterRegistry.find(Monitoring.EDITING_CONTEXT_MAILBOX_SIZE).gauges()).isEmpty();
+
+        workerPool.shutdown();
+    }
+
+    @Test
+    public void testMailboxIsEmptyAfterShutdownNow() {
+        var workerPool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        var mailbox = new EditingContextMailbox(UUID.randomUUID(), workerPool, 10, new SimpleMeterRegistry());
+
+        workerPool.shutdown();
+        assertThat(mailbox.isShutdown()).isFalse();
+        assertThat(mailbox.shutdownNow()).isEmpty();
+        assertThat(mailbox.isShutdown()).isTrue();
+        assertThat(mailbox.isTerminated()).isTrue();
+        assertThat(mailbox.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testMailboxCanBeTerminatedAfterItsTaskHasBeenRejectedByTheWorkerPool() {
+        var workerPool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        var mailbox = new EditingContextMailbox(UUID.randomUUID(), workerPool, 10, new SimpleMeterRegistry());
+
+        workerPool.shutdown();
+        assertThatThrownBy(() -> mailbox.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(mailbox.size()).isEqualTo(0);
+
+        mailbox.shutdown();
+        assertThat(mailbox.isTerminated()).isTrue();
+    }
+}
@@ -103,6 +103,10 @@ public final class TreeItem {
         return new Builder(id);
     }
 
+    public static Builder newTreeItem(TreeItem treeItem) {
+        return new Builder(treeItem);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'id: {1}, kind: {2}, label: {3}, editable: {4}, imageURL: {5}, hasChildren: {6}, expanded: {7}, childCount: {8}'}'"; //$NON-NLS-1$
@@ -136,6 +140,17 @@ public final class TreeItem {
             this.id = Objects.requireNonNull(id);
         }
 
+        private Builder(TreeItem treeItem) {
+            this.id = treeItem.getId();
+            this.kind = treeItem.getKind();
+            this.label = treeItem.getLabel();
+            this.editable = treeItem.isEditable();
+            this.imageURL = treeItem.getImageURL();
+            this.hasChildren = treeItem.isHasChildren();
+            this.expanded = treeItem.isExpanded();
+            this.children = treeItem.getChildren();
+        }
+
         public Builder kind(String kind) {
             this.kind = Objects.requireNonNull(kind);
             return this;
@@ -15,7 +15,9 @@ package org.eclipse.sirius.web.trees.renderer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.representations.VariableManager;
 import org.eclipse.sirius.web.trees.Tree;
@@ -25,6 +27,12 @@ import org.eclipse.sirius.web.trees.description.TreeDescription;
 /**
  * Renderer used to create the tree from its description and some variables.
  *
+ * <p>
+ * Only the children of the tree items whose identifier is in the {@link #EXPANDED} variable are rendered. The children
+ * of the other tree items are not computed at all, the {@link TreeDescription#getHasChildrenProvider() has children
+ * provider} is used instead to indicate if they could be expanded.
+ * </p>
+ *
  * @author hmarchadour
  */
 public class TreeRenderer {
@@ -35,9 +43,19 @@ public class TreeRenderer {
 
     private TreeDescription treeDescription;
 
+    private Set<String> expandedIds;
+
     public TreeRenderer(VariableManager variableManager, TreeDescription treeDescription) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.treeDescription = Objects.requireNonNull(treeDescription);
+
+        // @formatter:off
+        this.expandedIds = variableManager.get(EXPANDED, List.class).stream()
+                .flatMap(List<?>::stream)
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .collect(Collectors.toUnmodifiableSet());
+        // @formatter:on
     }
 
     public Tree render() {
@@ -69,15 +87,20 @@ public class TreeRenderer {
         String label = this.treeDescription.getLabelProvider().apply(treeItemVariableManager);
         boolean editable = this.treeDescription.getEditableProvider().apply(treeItemVariableManager);
         String imageURL = this.treeDescription.getImageURLProvider().apply(treeItemVariableManager);
-        Boolean hasChildren = this.treeDescription.getHasChildrenProvider().apply(treeItemVariableManager);
-
-        List<Object> children = this.treeDescription.getChildrenProvider().apply(treeItemVariableManager);
-        boolean expanded = !children.isEmpty();
-        for (Object child : children) {
-            VariableManager childVariableManager = treeItemVariableManager.createChild();
-            childVariableManager.put(VariableManager.SELF, child);
-            childrenTreeItems.add(this.renderTreeItem(childVariableManager));
+
+        boolean hasChildren;
+        if (this.expandedIds.contains(id)) {
+            List<Object> children = this.treeDescription.getChildrenProvider().apply(treeItemVariableManager);
+            for (Object child : children) {
+                VariableManager childVariableManager = treeItemVariableManager.createChild();
+                childVariableManager.put(VariableManager.SELF, child);
+                childrenTreeItems.add(this.renderTreeItem(childVariableManager));
+            }
+            hasChildren = !children.isEmpty();
+        } else {
+            hasChildren = this.treeDescription.getHasChildrenProvider().apply(treeItemVariableManager);
         }
+        boolean expanded = !childrenTreeItems.isEmpty();
 
         // @formatter:off
         return TreeItem.newTreeItem(id)
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.trees.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.eclipse.sirius.web.trees.Tree;
+import org.eclipse.sirius.web.trees.TreeItem;
+import org.eclipse.sirius.web.trees.description.TreeDescription;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the tree renderer.
+ *
+ * @author agent
+ */
+public class TreeRendererTests {
+
+    private static final String ROOT = "root"; //$NON-NLS-1$
+
+    private static final String CHILD = "rootChild"; //$NON-NLS-1$
+
+    @Test
+    public void testOnlyExpandedTreeItemsAreRendered() {
+        List<String> computedChildren = new ArrayList<>();
+
+        // @formatter:off
+        TreeDescription treeDescription = TreeDescription.newTreeDescription(UUID.randomUUID())
+                .label("Explorer") //$NON-NLS-1$
+                .idProvider(variableManager -> UUID.randomUUID())
+                .treeItemIdProvider(this::getSelf)
+                .kindProvider(variableManager -> "kind") //$NON-NLS-1$
+                .labelProvider(this::getSelf)
+                .editableProvider(variableManager -> true)
+                .imageURLProvider(variableManager -> "") //$NON-NLS-1$
+                .elementsProvider(variableManager -> List.of(ROOT))
+                .childrenProvider(variableManager -> {
+                    String self = this.getSelf(variableManager);
+                    computedChildren.add(self);
+                    return List.of(CHILD);
+                })
+                .hasChildrenProvider(variableManager -> true)
+                .canCreatePredicate(variableManager -> true)
+                .build();
+        // @formatter:on
+
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(TreeRenderer.EXPANDED, List.of(ROOT));
+        Tree tree = new TreeRenderer(variableManager, treeDescription).render();
+
+        assertThat(computedChildren).containsExactly(ROOT);
+        assertThat(tree.getChildren()).hasSize(1);
+
+        TreeItem rootItem = tree.getChildren().get(0);
+        assertThat(rootItem.isExpanded()).isTrue();
+        assertThat(rootItem.isHasChildren()).isTrue();
+        assertThat(rootItem.getChildren()).extracting(TreeItem::getId).containsExactly(CHILD);
+
+        TreeItem childItem = rootItem.getChildren().get(0);
+        assertThat(childItem.isExpanded()).isFalse();
+        assertThat(childItem.isHasChildren()).isTrue();
+        assertThat(childItem.getChildren()).isEmpty();
+    }
+
+    private String getSelf(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, String.class).orElse(""); //$NON-NLS-1$
+    }
+}
@@ -80,7 +80,7 @@ export const PropertiesWebSocketContainer = ({
     PropertiesWebSocketContainerEvent
   >(propertiesWebSocketContainerMachine);
   const { toast, propertiesWebSocketContainer } = value as SchemaValue;
-  const { id, currentSelection, form, subscribers, widgetSubscriptions, message } = context;
+  const { id, propertiesId, currentSelection, form, subscribers, widgetSubscriptions, message } = context;
   const { registry } = useContext(RepresentationContext);
 
   /**
@@ -100,6 +100,7 @@ export const PropertiesWebSocketContainer = ({
         id,
         editingContextId,
         objectId: currentSelection?.id,
+        propertiesId,
       },
     },
     fetchPolicy: 'no-cache',
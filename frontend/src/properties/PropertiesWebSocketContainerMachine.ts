@@ -50,6 +50,7 @@ export type SchemaValue = {
 
 export interface PropertiesWebSocketContainerContext {
   id: string;
+  propertiesId: string | null;
   currentSelection: Selection | null;
   form: Form | null;
   subscribers: Subscriber[];
@@ -91,6 +92,7 @@ export const propertiesWebSocketContainerMachine = Machine<
     type: 'parallel',
     context: {
       id: uuid(),
+      propertiesId: null,
       currentSelection: null,
       form: null,
       subscribers: [],
@@ -232,9 +234,11 @@ export const propertiesWebSocketContainerMachine = Machine<
       },
     },
     actions: {
-      switchSelection: assign((_, event) => {
+      switchSelection: assign((context, event) => {
         const { selection } = event as SwitchSelectionEvent;
-        return { id: uuid(), currentSelection: selection };
+        // The properties id is kept for all the selections so that the server can reuse the same form
+        const propertiesId = context.propertiesId ?? uuid();
+        return { id: uuid(), propertiesId, currentSelection: selection };
       }),
       clearForm: assign((_, event) => {
         return { form: null };